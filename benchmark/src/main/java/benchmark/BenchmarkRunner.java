@@ -0,0 +1,59 @@
+package benchmark;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+
+/**
+ * 运行基准测试，默认带gc profiler，最后按bar换算成 ns/bar 和 B/bar
+ * <p>
+ * 命令行参数与JMH一致，例如只跑Ema和Kdj、只用1万和100万长度:
+ * java -jar target/benchmarks.jar "Ema|Kdj" -p length=10000,1000000
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws Exception {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+
+        Collection<RunResult> results = new Runner(options).run();
+
+        System.out.println();
+        System.out.printf("%-70s %10s %8s %14s %12s%n", "Benchmark", "length", "period", "ns/bar", "B/bar");
+        for (RunResult result : results) {
+            BenchmarkParams params = result.getParams();
+            String length = params.getParam("length");
+            if (length == null) {
+                continue;
+            }
+            String period = params.getParam("period");
+            double bars = Double.parseDouble(length);
+
+            // Throughput模式，score是ops/s
+            double opsPerSecond = result.getPrimaryResult().getScore();
+            double nsPerBar = 1e9 / opsPerSecond / bars;
+            double bytesPerBar = Double.NaN;
+            // JMH的getSecondaryResults返回raw的Map<String, Result>，按key取出后用Result<?>
+            for (String name : result.getSecondaryResults().keySet()) {
+                if (name.endsWith("gc.alloc.rate.norm")) {
+                    Result<?> allocation = result.getSecondaryResults().get(name);
+                    bytesPerBar = allocation.getScore() / bars;
+                }
+            }
+
+            System.out.printf("%-70s %10s %8s %14.3f %12.3f%n", params.getBenchmark(), length,
+                    period == null ? "-" : period, nsPerBar, bytesPerBar);
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package benchmark;
+
+import indicator.Helper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Helper的全部public static方法
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class HelperBenchmark {
+
+    @Benchmark
+    public double[] checkSameSize(SeriesState s) {
+        Helper.checkSameSize(s.open, s.high, s.low, s.close);
+        return s.close;
+    }
+
+    @Benchmark
+    public double[] multiplyBy(SeriesState s) {
+        return Helper.multiplyBy(s.close, 1.5);
+    }
+
+    @Benchmark
+    public double[] multiply(SeriesState s) {
+        return Helper.multiply(s.high, s.low);
+    }
+
+    @Benchmark
+    public double[] divideBy(SeriesState s) {
+        return Helper.divideBy(s.close, 3);
+    }
+
+    @Benchmark
+    public double[] divide(SeriesState s) {
+        return Helper.divide(s.high, s.low);
+    }
+
+    @Benchmark
+    public double[] add(SeriesState s) {
+        return Helper.add(s.high, s.low);
+    }
+
+    @Benchmark
+    public double[] addBy(SeriesState s) {
+        return Helper.addBy(s.close, 1);
+    }
+
+    @Benchmark
+    public double[] subtract(SeriesState s) {
+        return Helper.subtract(s.high, s.low);
+    }
+
+    @Benchmark
+    public double[] diff(SeriesState s) {
+        return Helper.diff(s.close, 1);
+    }
+
+    @Benchmark
+    public double[] percentDiff(SeriesState s) {
+        return Helper.percentDiff(s.close, 1);
+    }
+
+    @Benchmark
+    public double[] shiftRightAndFillBy(SeriesState s, PeriodState p) {
+        return Helper.shiftRightAndFillBy(p.period, s.close[0], s.close);
+    }
+
+    @Benchmark
+    public double[] shiftRight(SeriesState s, PeriodState p) {
+        return Helper.shiftRight(p.period, s.close);
+    }
+
+    // 标量方法，按length次调用计算，便于与数组方法比较ns/bar
+    @Benchmark
+    public double roundDigits(SeriesState s) {
+        double sum = 0;
+        for (double v : s.close) {
+            sum += Helper.roundDigits(v, 3);
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public double[] roundDigitsAll(SeriesState s) {
+        return Helper.roundDigitsAll(s.close, 3);
+    }
+
+    @Benchmark
+    public double[] generateNumbers(SeriesState s) {
+        return Helper.generateNumbers(0, s.length, 1);
+    }
+
+    @Benchmark
+    public double[] asDouble(SeriesState s) {
+        return Helper.asDouble(s.volume);
+    }
+
+    @Benchmark
+    public double[] pow(SeriesState s) {
+        return Helper.pow(s.close, -1);
+    }
+
+    @Benchmark
+    public double[] extractSign(SeriesState s) {
+        return Helper.extractSign(s.open);
+    }
+
+    @Benchmark
+    public double[] keepPositives(SeriesState s) {
+        return Helper.keepPositives(s.x);
+    }
+
+    @Benchmark
+    public double[] keepNegatives(SeriesState s) {
+        return Helper.keepNegatives(s.x);
+    }
+
+    @Benchmark
+    public double[] sqrt(SeriesState s) {
+        return Helper.sqrt(s.close);
+    }
+
+    @Benchmark
+    public double[] abs(SeriesState s) {
+        return Helper.abs(s.close);
+    }
+}
@@ -0,0 +1,90 @@
+package benchmark;
+
+import indicator.MomentumIndicators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MomentumIndicators的全部public static方法
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MomentumIndicatorsBenchmark {
+
+    @Benchmark
+    public Object AwesomeOscillator(SeriesState s) {
+        return MomentumIndicators.AwesomeOscillator(s.low, s.high);
+    }
+
+    @Benchmark
+    public Object ChaikinOscillator(SeriesState s, PeriodState p) {
+        return MomentumIndicators.ChaikinOscillator(p.period, p.period * 2, s.low, s.high, s.close, s.volume);
+    }
+
+    @Benchmark
+    public Object DefaultChaikinOscillator(SeriesState s) {
+        return MomentumIndicators.DefaultChaikinOscillator(s.low, s.high, s.close, s.volume);
+    }
+
+    @Benchmark
+    public Object IchimokuCloud(SeriesState s) {
+        return MomentumIndicators.IchimokuCloud(s.high, s.low, s.close);
+    }
+
+    @Benchmark
+    public Object PercentagePriceOscillator(SeriesState s, PeriodState p) {
+        return MomentumIndicators.PercentagePriceOscillator(p.period, p.period * 2, 9, s.close);
+    }
+
+    @Benchmark
+    public Object DefaultPercentagePriceOscillator(SeriesState s) {
+        return MomentumIndicators.DefaultPercentagePriceOscillator(s.close);
+    }
+
+    @Benchmark
+    public Object PercentageVolumeOscillator(SeriesState s, PeriodState p) {
+        return MomentumIndicators.PercentageVolumeOscillator(p.period, p.period * 2, 9, s.volume);
+    }
+
+    @Benchmark
+    public Object DefaultPercentageVolumeOscillator(SeriesState s) {
+        return MomentumIndicators.DefaultPercentageVolumeOscillator(s.volume);
+    }
+
+    @Benchmark
+    public Object Rsi(SeriesState s) {
+        return MomentumIndicators.Rsi(s.close);
+    }
+
+    @Benchmark
+    public Object Rsi2(SeriesState s) {
+        return MomentumIndicators.Rsi2(s.close);
+    }
+
+    @Benchmark
+    public Object RsiPeriod(SeriesState s, PeriodState p) {
+        return MomentumIndicators.RsiPeriod(p.period, s.close);
+    }
+
+    @Benchmark
+    public Object StochasticOscillator(SeriesState s) {
+        return MomentumIndicators.StochasticOscillator(s.high, s.low, s.close);
+    }
+
+    @Benchmark
+    public Object WilliamsR(SeriesState s) {
+        return MomentumIndicators.WilliamsR(s.low, s.high, s.close);
+    }
+}
@@ -0,0 +1,16 @@
+package benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 指标周期参数，只有带period的方法使用
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+@State(Scope.Benchmark)
+public class PeriodState {
+    @Param({"14", "50"})
+    public int period;
+}
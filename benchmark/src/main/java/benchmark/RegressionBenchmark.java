@@ -0,0 +1,45 @@
+package benchmark;
+
+import indicator.Regression;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Regression的全部public static方法
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class RegressionBenchmark {
+
+    @Benchmark
+    public Object LeastSquare(SeriesState s) {
+        return Regression.LeastSquare(s.x, s.close);
+    }
+
+    @Benchmark
+    public Object MovingLeastSquare(SeriesState s, PeriodState p) {
+        return Regression.MovingLeastSquare(p.period, s.x, s.close);
+    }
+
+    @Benchmark
+    public Object LinearRegressionUsingLeastSquare(SeriesState s) {
+        return Regression.LinearRegressionUsingLeastSquare(s.x, s.close);
+    }
+
+    @Benchmark
+    public Object MovingLinearRegressionUsingLeastSquare(SeriesState s, PeriodState p) {
+        return Regression.MovingLinearRegressionUsingLeastSquare(p.period, s.x, s.close);
+    }
+}
@@ -0,0 +1,69 @@
+package benchmark;
+
+import model.ChartBar;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static indicator.Helper.*;
+import static indicator.TrendIndicators.sma;
+import static indicator.VolatilityIndicators.Std;
+
+/**
+ * 基准测试的行情数据 - 固定种子的随机游走，长度由length参数决定
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+@State(Scope.Benchmark)
+public class SeriesState {
+    @Param({"1000", "10000", "100000", "1000000", "10000000"})
+    public int length;
+
+    public ChartBar chartBar;
+    public double[] open;
+    public double[] high;
+    public double[] low;
+    public double[] close;
+    public long[] volume;
+    public double[] x;
+    public double[] middleBand;
+    public double[] upperBand;
+    public double[] lowerBand;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(20221007);
+        chartBar = new ChartBar(length);
+        // 指标和策略都不读datetime，用同一个字符串占位，避免千万级的String对象
+        Arrays.fill(chartBar.datetime, "2022-10-07");
+
+        double price = 100;
+        for (int i = 0; i < length; i++) {
+            price = Math.max(1, price * (1 + random.nextGaussian() * 0.01));
+            double o = price;
+            double c = price * (1 + random.nextGaussian() * 0.01);
+            chartBar.open[i] = o;
+            chartBar.close[i] = c;
+            chartBar.high[i] = Math.max(o, c) * (1 + random.nextDouble() * 0.01);
+            chartBar.low[i] = Math.min(o, c) * (1 - random.nextDouble() * 0.01);
+            chartBar.volume[i] = 100000 + random.nextInt(3000000);
+        }
+
+        open = chartBar.open;
+        high = chartBar.high;
+        low = chartBar.low;
+        close = chartBar.close;
+        volume = chartBar.volume;
+        x = generateNumbers(0, length, 1);
+
+        middleBand = sma(20, close);
+        double[] std2 = multiplyBy(Std(20, close), 2);
+        upperBand = add(middleBand, std2);
+        lowerBand = subtract(middleBand, std2);
+    }
+}
@@ -0,0 +1,167 @@
+package benchmark;
+
+import model.Action;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import strategy.AllStrategy;
+import strategy.MomentumStrategies;
+import strategy.SeparateStrategy;
+import strategy.Strategy;
+import strategy.TrendStrategies;
+import strategy.VolatilityStrategies;
+import strategy.VolumeStrategies;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 全部内置策略，以及AllStrategy、SeparateStrategy复合策略
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class StrategyBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Composite {
+        Strategy all;
+        Strategy separate;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            // README里的例子
+            all = AllStrategy.create(
+                    TrendStrategies::ChandeForecastOscillatorStrategy,
+                    TrendStrategies::MacdStrategy,
+                    TrendStrategies.MakeKdjStrategy(9, 3, 3));
+            separate = new SeparateStrategy(TrendStrategies::MacdStrategy, MomentumStrategies::DefaultRsiStrategy);
+        }
+    }
+
+    @Benchmark
+    public Action[] ChandeForecastOscillatorStrategy(SeriesState s) {
+        return TrendStrategies.ChandeForecastOscillatorStrategy(s.chartBar);
+    }
+
+    @Benchmark
+    public Action[] MovingChandeForecastOscillatorStrategy(SeriesState s, PeriodState p) {
+        return TrendStrategies.MovingChandeForecastOscillatorStrategy(p.period, s.chartBar);
+    }
+
+    @Benchmark
+    public Action[] KdjStrategy(SeriesState s, PeriodState p) {
+        return TrendStrategies.KdjStrategy(p.period, 3, 3, s.chartBar);
+    }
+
+    @Benchmark
+    public Action[] DefaultKdjStrategy(SeriesState s) {
+        return TrendStrategies.DefaultKdjStrategy(s.chartBar);
+    }
+
+    @Benchmark
+    public Action[] MacdStrategy(SeriesState s) {
+        return TrendStrategies.MacdStrategy(s.chartBar);
+    }
+
+    @Benchmark
+    public Action[] TrendStrategy(SeriesState s) {
+        return TrendStrategies.TrendStrategy(s.chartBar, 3);
+    }
+
+    @Benchmark
+    public Action[] VwmaStrategy(SeriesState s, PeriodState p) {
+        return TrendStrategies.VwmaStrategy(s.chartBar, p.period);
+    }
+
+    @Benchmark
+    public Action[] DefaultVwmaStrategy(SeriesState s) {
+        return TrendStrategies.DefaultVwmaStrategy(s.chartBar);
+    }
+
+    @Benchmark
+    public Action[] AwesomeOscillatorStrategy(SeriesState s) {
+        return MomentumStrategies.AwesomeOscillatorStrategy(s.chartBar);
+    }
+
+    @Benchmark
+    public Action[] RsiStrategy(SeriesState s) {
+        return MomentumStrategies.RsiStrategy(s.chartBar, 80, 20);
+    }
+
+    @Benchmark
+    public Action[] DefaultRsiStrategy(SeriesState s) {
+        return MomentumStrategies.DefaultRsiStrategy(s.chartBar);
+    }
+
+    @Benchmark
+    public Action[] Rsi2Strategy(SeriesState s) {
+        return MomentumStrategies.Rsi2Strategy(s.chartBar);
+    }
+
+    @Benchmark
+    public Action[] WilliamsRStrategy(SeriesState s) {
+        return MomentumStrategies.WilliamsRStrategy(s.chartBar);
+    }
+
+    @Benchmark
+    public Action[] BollingerBandsStrategy(SeriesState s) {
+        return VolatilityStrategies.BollingerBandsStrategy(s.chartBar);
+    }
+
+    @Benchmark
+    public Action[] ProjectionOscillatorStrategy(SeriesState s, PeriodState p) {
+        return VolatilityStrategies.ProjectionOscillatorStrategy(p.period, 3, s.chartBar);
+    }
+
+    @Benchmark
+    public Action[] MoneyFlowIndexStrategy(SeriesState s) {
+        return VolumeStrategies.MoneyFlowIndexStrategy(s.chartBar);
+    }
+
+    @Benchmark
+    public Action[] ForceIndexStrategy(SeriesState s) {
+        return VolumeStrategies.ForceIndexStrategy(s.chartBar);
+    }
+
+    @Benchmark
+    public Action[] EaseOfMovementStrategy(SeriesState s) {
+        return VolumeStrategies.EaseOfMovementStrategy(s.chartBar);
+    }
+
+    @Benchmark
+    public Action[] VolumeWeightedAveragePriceStrategy(SeriesState s) {
+        return VolumeStrategies.VolumeWeightedAveragePriceStrategy(s.chartBar);
+    }
+
+    @Benchmark
+    public Action[] NegativeVolumeIndexStrategy(SeriesState s) {
+        return VolumeStrategies.NegativeVolumeIndexStrategy(s.chartBar);
+    }
+
+    @Benchmark
+    public Action[] ChaikinMoneyFlowStrategy(SeriesState s) {
+        return VolumeStrategies.ChaikinMoneyFlowStrategy(s.chartBar);
+    }
+
+    @Benchmark
+    public Action[] AllStrategy(SeriesState s, Composite c) {
+        return c.all.run(s.chartBar);
+    }
+
+    @Benchmark
+    public Action[] SeparateStrategy(SeriesState s, Composite c) {
+        return c.separate.run(s.chartBar);
+    }
+}
@@ -0,0 +1,167 @@
+package benchmark;
+
+import indicator.TrendIndicators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TrendIndicators的全部public static方法
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class TrendIndicatorsBenchmark {
+
+    @Benchmark
+    public Object AbsolutePriceOscillator(SeriesState s, PeriodState p) {
+        return TrendIndicators.AbsolutePriceOscillator(p.period, p.period * 2, s.close);
+    }
+
+    @Benchmark
+    public Object DefaultAbsolutePriceOscillator(SeriesState s) {
+        return TrendIndicators.DefaultAbsolutePriceOscillator(s.close);
+    }
+
+    @Benchmark
+    public Object Aroon(SeriesState s) {
+        return TrendIndicators.Aroon(s.high, s.low);
+    }
+
+    @Benchmark
+    public Object BalanceOfPower(SeriesState s) {
+        return TrendIndicators.BalanceOfPower(s.open, s.high, s.low, s.close);
+    }
+
+    @Benchmark
+    public Object ChandeForecastOscillator(SeriesState s) {
+        return TrendIndicators.ChandeForecastOscillator(s.close);
+    }
+
+    @Benchmark
+    public Object CommunityChannelIndex(SeriesState s, PeriodState p) {
+        return TrendIndicators.CommunityChannelIndex(p.period, s.high, s.low, s.close);
+    }
+
+    @Benchmark
+    public Object DefaultCommunityChannelIndex(SeriesState s) {
+        return TrendIndicators.DefaultCommunityChannelIndex(s.high, s.low, s.close);
+    }
+
+    @Benchmark
+    public Object Dema(SeriesState s, PeriodState p) {
+        return TrendIndicators.Dema(p.period, s.close);
+    }
+
+    @Benchmark
+    public Object Ema(SeriesState s, PeriodState p) {
+        return TrendIndicators.Ema(p.period, s.close);
+    }
+
+    @Benchmark
+    public Object Macd(SeriesState s) {
+        return TrendIndicators.Macd(s.close);
+    }
+
+    @Benchmark
+    public Object MassIndex(SeriesState s) {
+        return TrendIndicators.MassIndex(s.high, s.low);
+    }
+
+    @Benchmark
+    public Object MovingChandeForecastOscillator(SeriesState s, PeriodState p) {
+        return TrendIndicators.MovingChandeForecastOscillator(p.period, s.close);
+    }
+
+    @Benchmark
+    public Object Max(SeriesState s, PeriodState p) {
+        return TrendIndicators.Max(p.period, s.high);
+    }
+
+    @Benchmark
+    public Object Min(SeriesState s, PeriodState p) {
+        return TrendIndicators.Min(p.period, s.low);
+    }
+
+    @Benchmark
+    public Object ParabolicSar(SeriesState s) {
+        return TrendIndicators.ParabolicSar(s.high, s.low, s.close);
+    }
+
+    @Benchmark
+    public Object Qstick(SeriesState s, PeriodState p) {
+        return TrendIndicators.Qstick(p.period, s.open, s.close);
+    }
+
+    @Benchmark
+    public Object Kdj(SeriesState s, PeriodState p) {
+        return TrendIndicators.Kdj(p.period, 3, 3, s.high, s.low, s.close);
+    }
+
+    @Benchmark
+    public Object DefaultKdj(SeriesState s) {
+        return TrendIndicators.DefaultKdj(s.high, s.low, s.close);
+    }
+
+    @Benchmark
+    public Object Rma(SeriesState s, PeriodState p) {
+        return TrendIndicators.Rma(p.period, s.close);
+    }
+
+    @Benchmark
+    public Object sma(SeriesState s, PeriodState p) {
+        return TrendIndicators.sma(p.period, s.close);
+    }
+
+    @Benchmark
+    public Object Since(SeriesState s) {
+        return TrendIndicators.Since(s.close);
+    }
+
+    @Benchmark
+    public Object Sum(SeriesState s, PeriodState p) {
+        return TrendIndicators.Sum(p.period, s.close);
+    }
+
+    @Benchmark
+    public Object Tema(SeriesState s, PeriodState p) {
+        return TrendIndicators.Tema(p.period, s.close);
+    }
+
+    @Benchmark
+    public Object Trima(SeriesState s, PeriodState p) {
+        return TrendIndicators.Trima(p.period, s.close);
+    }
+
+    @Benchmark
+    public Object Trix(SeriesState s, PeriodState p) {
+        return TrendIndicators.Trix(p.period, s.close);
+    }
+
+    @Benchmark
+    public Object TypicalPrice(SeriesState s) {
+        return TrendIndicators.TypicalPrice(s.low, s.high, s.close);
+    }
+
+    // Vortex在i=0时读取low[-1]，目前总是抛异常，暂不测试
+
+    @Benchmark
+    public Object Vwma(SeriesState s, PeriodState p) {
+        return TrendIndicators.Vwma(p.period, s.close, s.volume);
+    }
+
+    @Benchmark
+    public Object DefaultVwma(SeriesState s) {
+        return TrendIndicators.DefaultVwma(s.close, s.volume);
+    }
+}
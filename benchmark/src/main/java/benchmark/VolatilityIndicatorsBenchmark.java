@@ -0,0 +1,90 @@
+package benchmark;
+
+import indicator.VolatilityIndicators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VolatilityIndicators的全部public static方法
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class VolatilityIndicatorsBenchmark {
+
+    @Benchmark
+    public Object AccelerationBands(SeriesState s) {
+        return VolatilityIndicators.AccelerationBands(s.high, s.low, s.close);
+    }
+
+    @Benchmark
+    public Object Atr(SeriesState s, PeriodState p) {
+        return VolatilityIndicators.Atr(p.period, s.high, s.low, s.close);
+    }
+
+    @Benchmark
+    public Object BollingerBandWidth(SeriesState s) {
+        return VolatilityIndicators.BollingerBandWidth(s.middleBand, s.upperBand, s.lowerBand);
+    }
+
+    @Benchmark
+    public Object BollingerBands(SeriesState s) {
+        return VolatilityIndicators.BollingerBands(s.close);
+    }
+
+    @Benchmark
+    public Object ChandelierExit(SeriesState s) {
+        return VolatilityIndicators.ChandelierExit(s.high, s.low, s.close);
+    }
+
+    @Benchmark
+    public Object Std(SeriesState s, PeriodState p) {
+        return VolatilityIndicators.Std(p.period, s.close);
+    }
+
+    @Benchmark
+    public Object StdFromSma(SeriesState s) {
+        return VolatilityIndicators.StdFromSma(20, s.close, s.middleBand);
+    }
+
+    @Benchmark
+    public Object ProjectionOscillator(SeriesState s, PeriodState p) {
+        return VolatilityIndicators.ProjectionOscillator(p.period, 3, s.high, s.low, s.close);
+    }
+
+    @Benchmark
+    public Object UlcerIndex(SeriesState s, PeriodState p) {
+        return VolatilityIndicators.UlcerIndex(p.period, s.close);
+    }
+
+    @Benchmark
+    public Object DefaultUlcerIndex(SeriesState s) {
+        return VolatilityIndicators.DefaultUlcerIndex(s.close);
+    }
+
+    @Benchmark
+    public Object DonchianChannel(SeriesState s, PeriodState p) {
+        return VolatilityIndicators.DonchianChannel(p.period, s.close);
+    }
+
+    @Benchmark
+    public Object KeltnerChannel(SeriesState s, PeriodState p) {
+        return VolatilityIndicators.KeltnerChannel(p.period, s.high, s.low, s.close);
+    }
+
+    @Benchmark
+    public Object DefaultKeltnerChannel(SeriesState s) {
+        return VolatilityIndicators.DefaultKeltnerChannel(s.high, s.low, s.close);
+    }
+}
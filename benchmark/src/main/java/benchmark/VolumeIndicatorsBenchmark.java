@@ -0,0 +1,90 @@
+package benchmark;
+
+import indicator.VolumeIndicators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * VolumeIndicators的全部public static方法
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class VolumeIndicatorsBenchmark {
+
+    @Benchmark
+    public Object AccumulationDistribution(SeriesState s) {
+        return VolumeIndicators.AccumulationDistribution(s.high, s.low, s.close, s.volume);
+    }
+
+    @Benchmark
+    public Object Obv(SeriesState s) {
+        return VolumeIndicators.Obv(s.close, s.volume);
+    }
+
+    @Benchmark
+    public Object MoneyFlowIndex(SeriesState s, PeriodState p) {
+        return VolumeIndicators.MoneyFlowIndex(p.period, s.high, s.low, s.close, s.volume);
+    }
+
+    @Benchmark
+    public Object DefaultMoneyFlowIndex(SeriesState s) {
+        return VolumeIndicators.DefaultMoneyFlowIndex(s.high, s.low, s.close, s.volume);
+    }
+
+    @Benchmark
+    public Object ForceIndex(SeriesState s, PeriodState p) {
+        return VolumeIndicators.ForceIndex(p.period, s.close, s.volume);
+    }
+
+    @Benchmark
+    public Object DefaultForceIndex(SeriesState s) {
+        return VolumeIndicators.DefaultForceIndex(s.close, s.volume);
+    }
+
+    @Benchmark
+    public Object EaseOfMovement(SeriesState s, PeriodState p) {
+        return VolumeIndicators.EaseOfMovement(p.period, s.high, s.low, s.volume);
+    }
+
+    @Benchmark
+    public Object DefaultEaseOfMovement(SeriesState s) {
+        return VolumeIndicators.DefaultEaseOfMovement(s.high, s.low, s.volume);
+    }
+
+    @Benchmark
+    public Object VolumePriceTrend(SeriesState s) {
+        return VolumeIndicators.VolumePriceTrend(s.close, s.volume);
+    }
+
+    @Benchmark
+    public Object VolumeWeightedAveragePrice(SeriesState s, PeriodState p) {
+        return VolumeIndicators.VolumeWeightedAveragePrice(p.period, s.close, s.volume);
+    }
+
+    @Benchmark
+    public Object DefaultVolumeWeightedAveragePrice(SeriesState s) {
+        return VolumeIndicators.DefaultVolumeWeightedAveragePrice(s.close, s.volume);
+    }
+
+    @Benchmark
+    public Object NegativeVolumeIndex(SeriesState s) {
+        return VolumeIndicators.NegativeVolumeIndex(s.close, s.volume);
+    }
+
+    @Benchmark
+    public Object ChaikinMoneyFlow(SeriesState s) {
+        return VolumeIndicators.ChaikinMoneyFlow(s.high, s.low, s.close, s.volume);
+    }
+}
@@ -0,0 +1,121 @@
+package backtest;
+
+import model.Action;
+import model.ChartBar;
+import model.DateAction;
+import model.SignalSeries;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 按策略信号回测
+ * <p>
+ * bar i收盘时的信号在bar i + 1开盘成交，没有未来函数：BUY持有多头，SELL平仓（允许做空时持有空头），HOLD保持仓位。
+ * 权益按收盘价逐根bar计算，开盘成交时按成交金额扣手续费。
+ * 只遍历一遍bar，metrics不分配与bar数量相关的内存，适合大量参数组合的批量回测；
+ * run额外输出成交列表和权益曲线。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Backtest {
+    public static final int TRADING_DAYS = 252;
+
+    private final double commission;
+    private final boolean allowShort;
+    private final int periodsPerYear;
+
+    // long only, no commission, daily bars
+    public Backtest() {
+        this(0, false, TRADING_DAYS);
+    }
+
+    // commission is the fraction of the traded value paid on each position change
+    public Backtest(double commission, boolean allowShort, int periodsPerYear) {
+        this.commission = commission;
+        this.allowShort = allowShort;
+        this.periodsPerYear = periodsPerYear;
+    }
+
+    public BacktestResult run(ChartBar chartBar, Action[] actions) {
+        return run(chartBar, SignalSeries.from(actions));
+    }
+
+    // Trades, equity curve and metrics of the signals.
+    public BacktestResult run(ChartBar chartBar, SignalSeries signals) {
+        checkSize(chartBar, signals.size(), signals.size());
+        double[] equity = new double[chartBar.size()];
+        List<DateAction> trades = new ArrayList<>();
+        Metrics metrics = run(chartBar, signals.values(), 0, equity, trades);
+        return new BacktestResult(trades, equity, metrics);
+    }
+
+    // Metrics only.
+    public Metrics metrics(ChartBar chartBar, SignalSeries signals) {
+        return metrics(chartBar, signals.values(), 0);
+    }
+
+    // Metrics of the signals starting at offset, for example a row of ParameterSweep.Result.values().
+    public Metrics metrics(ChartBar chartBar, byte[] signals, int offset) {
+        if (offset < 0) {
+            throw new RuntimeException("negative offset " + offset);
+        }
+        checkSize(chartBar, signals.length - offset, chartBar.size());
+        return run(chartBar, signals, offset, null, null);
+    }
+
+    private static void checkSize(ChartBar chartBar, int signals, int expected) {
+        if (signals < expected || chartBar.size() != expected) {
+            throw new RuntimeException("not all same size");
+        }
+    }
+
+    private Metrics run(ChartBar chartBar, byte[] signals, int offset, double[] equity, List<DateAction> trades) {
+        int n = chartBar.size();
+        double value = 1, peak = 1, maxDrawdown = 0, turnover = 0;
+        // Welford mean and variance of the bar returns
+        double mean = 0, m2 = 0;
+        int position = 0, count = 0;
+
+        for (int i = 0; i < n; i++) {
+            double open = chartBar.open(i);
+            double close = chartBar.close(i);
+            double growth = 1;
+
+            if (i > 0) {
+                // 昨收到今开按原仓位，今开按上一根bar的信号调仓
+                growth = 1 + position * (open / chartBar.close(i - 1) - 1);
+
+                int signal = signals[offset + i - 1];
+                int target = signal == 0 ? position : allowShort ? signal : Math.max(signal, 0);
+                int change = target - position;
+                if (change != 0) {
+                    growth *= 1 - commission * Math.abs(change);
+                    turnover += Math.abs(change);
+                    count++;
+                    position = target;
+                    if (trades != null) {
+                        trades.add(new DateAction(chartBar.datetime(i), open, change > 0 ? Action.BUY : Action.SELL));
+                    }
+                }
+            }
+            growth *= 1 + position * (close / open - 1);
+
+            value *= growth;
+            if (equity != null) {
+                equity[i] = value;
+            }
+            peak = Math.max(peak, value);
+            maxDrawdown = Math.max(maxDrawdown, 1 - value / peak);
+
+            double r = growth - 1;
+            double delta = r - mean;
+            mean += delta / (i + 1);
+            m2 += delta * (r - mean);
+        }
+
+        double std = n > 1 ? Math.sqrt(m2 / (n - 1)) : 0;
+        double sharpe = std > 0 ? mean / std * Math.sqrt(periodsPerYear) : 0;
+        return new Metrics(value - 1, sharpe, maxDrawdown, turnover, count);
+    }
+}
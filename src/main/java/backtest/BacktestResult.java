@@ -0,0 +1,24 @@
+package backtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import model.DateAction;
+
+import java.util.List;
+
+/**
+ * 回测结果：成交列表、权益曲线和汇总指标
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BacktestResult {
+    // one DateAction for each position change, at the open price of the bar
+    List<DateAction> trades;
+    // equity at the close of each bar, starting from 1
+    double[] equity;
+    Metrics metrics;
+}
@@ -0,0 +1,26 @@
+package backtest;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 回测的汇总指标
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Metrics {
+    // final equity / initial equity - 1
+    double totalReturn;
+    // mean / std of the bar returns, annualized by sqrt(periodsPerYear)
+    double sharpe;
+    // largest fall from a peak of the equity, as a fraction of the peak
+    double maxDrawdown;
+    // sum of |position change|, a round trip of a long position is 2
+    double turnover;
+    // number of position changes
+    int trades;
+}
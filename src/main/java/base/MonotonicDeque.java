@@ -0,0 +1,104 @@
+package base;
+
+/**
+ * 单调双端队列 - 滑动窗口求最大/最小值
+ * <p>
+ * 窗口为最近period个值（包含当前值），每次push均摊O(1)。
+ * 队列内只保存可能成为极值的候选值及其序号，用原始double[]存储，不装箱。
+ * 相等的值保留最新的一个，所以index()返回窗口内最近一次出现极值的位置。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class MonotonicDeque {
+    private final int period;
+    private final boolean max;
+    // 环形缓冲 - 候选值和它们的序号
+    private final double[] values;
+    private final long[] indexes;
+    private int head;
+    private int size;
+    // 已push的值的个数，也是下一个值的序号
+    private long count;
+
+    private MonotonicDeque(int period, boolean max) {
+        if (period <= 0) {
+            throw new RuntimeException("period must be positive");
+        }
+        this.period = period;
+        this.max = max;
+        this.values = new double[period];
+        this.indexes = new long[period];
+    }
+
+    // Moving max for the given period.
+    public static MonotonicDeque max(int period) {
+        return new MonotonicDeque(period, true);
+    }
+
+    // Moving min for the given period.
+    public static MonotonicDeque min(int period) {
+        return new MonotonicDeque(period, false);
+    }
+
+    // Pushes the next value, returns the extremum of the window.
+    public double push(double value) {
+        // 移出窗口外的值 - 每次最多一个
+        if (size > 0 && indexes[head] <= count - period) {
+            head = next(head);
+            size--;
+        }
+
+        // 移除被新值支配的候选值
+        while (size > 0) {
+            int tail = head + size - 1;
+            if (tail >= period) {
+                tail -= period;
+            }
+            if (max ? values[tail] <= value : values[tail] >= value) {
+                size--;
+            } else {
+                break;
+            }
+        }
+
+        int tail = head + size;
+        if (tail >= period) {
+            tail -= period;
+        }
+        values[tail] = value;
+        indexes[tail] = count;
+        size++;
+        count++;
+
+        return values[head];
+    }
+
+    // Extremum value of the window. NaN if nothing pushed.
+    public double value() {
+        return size == 0 ? Double.NaN : values[head];
+    }
+
+    // Index of the extremum value. -1 if nothing pushed.
+    public long index() {
+        return size == 0 ? -1 : indexes[head];
+    }
+
+    // Number of values pushed.
+    public long count() {
+        return count;
+    }
+
+    public int period() {
+        return period;
+    }
+
+    public void reset() {
+        head = 0;
+        size = 0;
+        count = 0;
+    }
+
+    private int next(int i) {
+        return i + 1 == period ? 0 : i + 1;
+    }
+}
@@ -0,0 +1,437 @@
+package data;
+
+import model.ChartBar;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * ChartBar的CSV读写，格式与ChartBar.title()、row(int)相同：datetime,open,high,low,close,volume
+ * <p>
+ * 读：从ReadableByteChannel按块读入字节，直接在字节上找逗号、解析数字，不用String.split，
+ * 每行只为datetime创建一个String（只用RowConsumer时一个都不创建）。第一行是标题时跳过。
+ * 写：数字直接格式化到字节缓冲区，结果与String.format("%.3f")相同。
+ * datetime只支持ASCII字符。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class ChartBarCsv {
+    private static final int BUFFER_SIZE = 1 << 20;
+    private static final int DECIMALS = 3;
+    // 一个数字最多占的字节数：Double.MAX_VALUE按%.3f格式化是309位整数 + 符号、小数点和3位小数
+    private static final int MAX_NUMBER = 320;
+    private static final byte[] TITLE = "datetime,open,high,low,close,volume\n".getBytes(StandardCharsets.US_ASCII);
+
+    private static final double[] POW10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10,
+            1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    // receives one row, datetime is only valid during the call
+    @FunctionalInterface
+    public interface RowConsumer {
+        void accept(CharSequence datetime, double open, double high, double low, double close, long volume);
+    }
+
+    // Reads all rows into a ChartBar.
+    public static ChartBar read(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return read(channel);
+        }
+    }
+
+    // Reads all rows into a ChartBar.
+    public static ChartBar read(ReadableByteChannel channel) throws IOException {
+        Builder builder = new Builder();
+        read(channel, builder);
+        return builder.build();
+    }
+
+    // Reads the rows one by one.
+    public static void read(ReadableByteChannel channel, RowConsumer consumer) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        byte[] bytes = buffer.array();
+        Ascii datetime = new Ascii(bytes);
+        int start = 0, end = 0;
+        long line = 0;
+        boolean eof = false;
+
+        while (true) {
+            int newline = indexOf(bytes, start, end, (byte) '\n');
+            if (newline < 0) {
+                if (eof) {
+                    if (start < end) {
+                        int lineEnd = bytes[end - 1] == '\r' ? end - 1 : end;
+                        parseLine(bytes, start, lineEnd, ++line, datetime, consumer);
+                    }
+                    return;
+                }
+                System.arraycopy(bytes, start, bytes, 0, end - start);
+                end -= start;
+                start = 0;
+                if (end == bytes.length) {
+                    throw new RuntimeException("line too long at " + (line + 1));
+                }
+                buffer.limit(bytes.length).position(end);
+                int n = channel.read(buffer);
+                if (n < 0) {
+                    eof = true;
+                } else {
+                    end += n;
+                }
+                continue;
+            }
+
+            int lineEnd = newline > start && bytes[newline - 1] == '\r' ? newline - 1 : newline;
+            parseLine(bytes, start, lineEnd, ++line, datetime, consumer);
+            start = newline + 1;
+        }
+    }
+
+    private static void parseLine(byte[] bytes, int from, int to, long line, Ascii datetime, RowConsumer consumer) {
+        if (from == to) {
+            return;
+        }
+        // title
+        if (line == 1 && bytes[from] >= 'a' && bytes[from] <= 'z') {
+            return;
+        }
+
+        int c1 = indexOf(bytes, from, to, (byte) ',');
+        int c2 = indexOf(bytes, c1 + 1, to, (byte) ',');
+        int c3 = indexOf(bytes, c2 + 1, to, (byte) ',');
+        int c4 = indexOf(bytes, c3 + 1, to, (byte) ',');
+        int c5 = indexOf(bytes, c4 + 1, to, (byte) ',');
+        if (c1 < 0 || c2 < 0 || c3 < 0 || c4 < 0 || c5 < 0 || indexOf(bytes, c5 + 1, to, (byte) ',') >= 0) {
+            throw new RuntimeException("bad csv line " + line);
+        }
+
+        datetime.set(from, c1);
+        consumer.accept(datetime,
+                parseDouble(bytes, c1 + 1, c2),
+                parseDouble(bytes, c2 + 1, c3),
+                parseDouble(bytes, c3 + 1, c4),
+                parseDouble(bytes, c4 + 1, c5),
+                parseLong(bytes, c5 + 1, to));
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to, byte b) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == b) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // Parses a decimal number. When the digits fit in 15 and the exponent in 22,
+    // the mantissa and the power of ten are both exact doubles and one multiplication
+    // or division rounds correctly; other forms fall back to Double.parseDouble.
+    static double parseDouble(byte[] bytes, int from, int to) {
+        int i = from;
+        boolean negative = false;
+        if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            i++;
+        }
+
+        long mantissa = 0;
+        int digits = 0, exponent = 0;
+        boolean any = false;
+        for (; i < to && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+            any = true;
+            if (mantissa != 0 || bytes[i] != '0') {
+                mantissa = mantissa * 10 + (bytes[i] - '0');
+                digits++;
+            }
+            if (digits > 15) {
+                return fallbackDouble(bytes, from, to);
+            }
+        }
+        if (i < to && bytes[i] == '.') {
+            for (i++; i < to && bytes[i] >= '0' && bytes[i] <= '9'; i++) {
+                any = true;
+                if (mantissa != 0 || bytes[i] != '0') {
+                    mantissa = mantissa * 10 + (bytes[i] - '0');
+                    digits++;
+                }
+                exponent--;
+                if (digits > 15) {
+                    return fallbackDouble(bytes, from, to);
+                }
+            }
+        }
+        if (i < to && (bytes[i] == 'e' || bytes[i] == 'E')) {
+            i++;
+            boolean negativeExponent = false;
+            if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+                negativeExponent = bytes[i] == '-';
+                i++;
+            }
+            int e = 0;
+            int start = i;
+            for (; i < to && bytes[i] >= '0' && bytes[i] <= '9' && e < 10000; i++) {
+                e = e * 10 + (bytes[i] - '0');
+            }
+            if (i == start) {
+                return fallbackDouble(bytes, from, to);
+            }
+            exponent += negativeExponent ? -e : e;
+        }
+        if (!any || i != to) {
+            return fallbackDouble(bytes, from, to);
+        }
+
+        double value;
+        if (mantissa == 0) {
+            value = 0;
+        } else if (exponent >= 0 && exponent < POW10.length) {
+            value = mantissa * POW10[exponent];
+        } else if (exponent < 0 && -exponent < POW10.length) {
+            value = mantissa / POW10[-exponent];
+        } else {
+            return fallbackDouble(bytes, from, to);
+        }
+        return negative ? -value : value;
+    }
+
+    private static double fallbackDouble(byte[] bytes, int from, int to) {
+        return Double.parseDouble(new String(bytes, from, to - from, StandardCharsets.US_ASCII));
+    }
+
+    static long parseLong(byte[] bytes, int from, int to) {
+        int i = from;
+        boolean negative = false;
+        if (i < to && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            i++;
+        }
+        // 18位以内不会溢出
+        if (i == to || to - i > 18) {
+            return Long.parseLong(new String(bytes, from, to - from, StandardCharsets.US_ASCII));
+        }
+
+        long value = 0;
+        for (; i < to; i++) {
+            int digit = bytes[i] - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("bad number " + new String(bytes, from, to - from, StandardCharsets.US_ASCII));
+            }
+            value = value * 10 + digit;
+        }
+        return negative ? -value : value;
+    }
+
+    // Writes the title and all rows.
+    public static void write(Path path, ChartBar chartBar) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(channel, chartBar);
+        }
+    }
+
+    // Writes the title and all rows.
+    public static void write(WritableByteChannel channel, ChartBar chartBar) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        byte[] bytes = buffer.array();
+        System.arraycopy(TITLE, 0, bytes, 0, TITLE.length);
+        int position = TITLE.length;
+
+        for (int i = 0; i < chartBar.size(); i++) {
+            String datetime = chartBar.datetime(i);
+            if (bytes.length - position < datetime.length() + 5 * MAX_NUMBER) {
+                flush(channel, buffer, position);
+                position = 0;
+                if (bytes.length < datetime.length() + 5 * MAX_NUMBER) {
+                    throw new RuntimeException("datetime too long at " + i);
+                }
+            }
+
+            for (int j = 0; j < datetime.length(); j++) {
+                char c = datetime.charAt(j);
+                if (c > 127) {
+                    throw new RuntimeException("non ascii datetime at " + i);
+                }
+                bytes[position++] = (byte) c;
+            }
+            bytes[position++] = ',';
+            position = putFixed(bytes, position, chartBar.open(i), DECIMALS);
+            bytes[position++] = ',';
+            position = putFixed(bytes, position, chartBar.high(i), DECIMALS);
+            bytes[position++] = ',';
+            position = putFixed(bytes, position, chartBar.low(i), DECIMALS);
+            bytes[position++] = ',';
+            position = putFixed(bytes, position, chartBar.close(i), DECIMALS);
+            bytes[position++] = ',';
+            position = putLong(bytes, position, chartBar.volume(i));
+            bytes[position++] = '\n';
+        }
+        flush(channel, buffer, position);
+    }
+
+    private static void flush(WritableByteChannel channel, ByteBuffer buffer, int position) throws IOException {
+        buffer.limit(position).position(0);
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // Formats like String.format("%.<decimals>f"), which rounds the shortest decimal
+    // representation half up. Away from a tie the binary value rounds the same way;
+    // values within a few ulps of a tie, and large values, go through BigDecimal.
+    static int putFixed(byte[] bytes, int position, double value, int decimals) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return putAscii(bytes, position, Double.toString(value));
+        }
+
+        boolean negative = Double.doubleToRawLongBits(value) < 0;
+        double abs = Math.abs(value);
+        double scaled = abs * POW10[decimals];
+        if (scaled >= 1e15) {
+            return putSlow(bytes, position, negative, abs, decimals);
+        }
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+        if (Math.abs(fraction - 0.5) <= 4 * Math.ulp(scaled)) {
+            return putSlow(bytes, position, negative, abs, decimals);
+        }
+
+        long rounded = (long) floor + (fraction > 0.5 ? 1 : 0);
+        if (negative) {
+            bytes[position++] = '-';
+        }
+        long unit = (long) POW10[decimals];
+        position = putLong(bytes, position, rounded / unit);
+        if (decimals > 0) {
+            bytes[position++] = '.';
+            long fractionDigits = rounded % unit;
+            for (int d = decimals - 1; d >= 0; d--) {
+                bytes[position + d] = (byte) ('0' + fractionDigits % 10);
+                fractionDigits /= 10;
+            }
+            position += decimals;
+        }
+        return position;
+    }
+
+    private static int putSlow(byte[] bytes, int position, boolean negative, double abs, int decimals) {
+        if (negative) {
+            bytes[position++] = '-';
+        }
+        return putAscii(bytes, position, BigDecimal.valueOf(abs).setScale(decimals, RoundingMode.HALF_UP).toPlainString());
+    }
+
+    private static int putAscii(byte[] bytes, int position, String s) {
+        for (int i = 0; i < s.length(); i++) {
+            bytes[position++] = (byte) s.charAt(i);
+        }
+        return position;
+    }
+
+    static int putLong(byte[] bytes, int position, long value) {
+        if (value == Long.MIN_VALUE) {
+            return putAscii(bytes, position, Long.toString(value));
+        }
+        if (value < 0) {
+            bytes[position++] = '-';
+            value = -value;
+        }
+        int length = 1;
+        for (long v = value; v >= 10; v /= 10) {
+            length++;
+        }
+        for (int i = position + length - 1; i >= position; i--) {
+            bytes[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+        return position + length;
+    }
+
+    // datetime of the current row, backed by the read buffer
+    private static final class Ascii implements CharSequence {
+        private final byte[] bytes;
+        private int from;
+        private int to;
+
+        Ascii(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        void set(int from, int to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public int length() {
+            return to - from;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) (bytes[from + index] & 0xff);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(bytes, from, to - from, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    // collects rows into growing columns
+    private static final class Builder implements RowConsumer {
+        private String[] datetime = new String[1024];
+        private double[] open = new double[1024];
+        private double[] high = new double[1024];
+        private double[] low = new double[1024];
+        private double[] close = new double[1024];
+        private long[] volume = new long[1024];
+        private int size;
+
+        @Override
+        public void accept(CharSequence datetime, double open, double high, double low, double close, long volume) {
+            if (size == this.open.length) {
+                int capacity = size * 2;
+                this.datetime = Arrays.copyOf(this.datetime, capacity);
+                this.open = Arrays.copyOf(this.open, capacity);
+                this.high = Arrays.copyOf(this.high, capacity);
+                this.low = Arrays.copyOf(this.low, capacity);
+                this.close = Arrays.copyOf(this.close, capacity);
+                this.volume = Arrays.copyOf(this.volume, capacity);
+            }
+            this.datetime[size] = datetime.toString();
+            this.open[size] = open;
+            this.high[size] = high;
+            this.low[size] = low;
+            this.close[size] = close;
+            this.volume[size] = volume;
+            size++;
+        }
+
+        ChartBar build() {
+            ChartBar chartBar = new ChartBar();
+            chartBar.datetime = Arrays.copyOf(datetime, size);
+            chartBar.open = Arrays.copyOf(open, size);
+            chartBar.high = Arrays.copyOf(high, size);
+            chartBar.low = Arrays.copyOf(low, size);
+            chartBar.close = Arrays.copyOf(close, size);
+            chartBar.volume = Arrays.copyOf(volume, size);
+            return chartBar;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package data;
+
+import model.ChartBar;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * ChartBar的列式二进制文件格式
+ * <p>
+ * 小端字节序，64字节的文件头之后依次是time、open、high、low、close、volume六列，每列count个8字节的值：
+ * <pre>
+ * 0   int  MAGIC
+ * 4   int  VERSION
+ * 8   long count
+ * 16  int  列数，固定为6
+ * 20  ...  保留，写0
+ * 64  long[count]   time，epoch毫秒
+ *     double[count] open
+ *     double[count] high
+ *     double[count] low
+ *     double[count] close
+ *     long[count]   volume
+ * </pre>
+ * 每列都是8字节对齐的，可以直接映射成DoubleBuffer/LongBuffer读取，见MappedChartBar。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class ChartBarFile {
+    public static final int MAGIC = 0x52414243;
+    public static final int VERSION = 1;
+    public static final int HEADER_SIZE = 64;
+    public static final int COLUMNS = 6;
+
+    // column order in the file
+    static final int TIME = 0;
+    static final int OPEN = 1;
+    static final int HIGH = 2;
+    static final int LOW = 3;
+    static final int CLOSE = 4;
+    static final int VOLUME = 5;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    // Offset of the column in a file with count bars.
+    static long columnOffset(int column, long count) {
+        return HEADER_SIZE + column * count * 8;
+    }
+
+    // Writes the chart bar with its time axis, see ChartBar.time(int).
+    public static void write(Path path, ChartBar chartBar) throws IOException {
+        long[] time = chartBar.calendarIndex == null && !chartBar.isView() ? chartBar.time : null;
+        if (time == null) {
+            time = new long[chartBar.size()];
+            for (int i = 0; i < time.length; i++) {
+                time[i] = chartBar.time(i);
+            }
+        }
+        write(path, time, chartBar);
+    }
+
+    // Writes the chart bar with the epoch millis of each bar.
+    public static void write(Path path, long[] time, ChartBar chartBar) throws IOException {
+        int count = time.length;
+        int from = chartBar.offset, to = chartBar.end();
+        if (chartBar.size() != count || chartBar.open.length < to || chartBar.high.length < to
+                || chartBar.low.length < to || chartBar.volume.length < to) {
+            throw new RuntimeException("not all same size");
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            buffer.putInt(MAGIC).putInt(VERSION).putLong(count).putInt(COLUMNS);
+            while (buffer.position() < HEADER_SIZE) {
+                buffer.put((byte) 0);
+            }
+
+            buffer = write(channel, buffer, time, 0, count);
+            buffer = write(channel, buffer, chartBar.open, from, to);
+            buffer = write(channel, buffer, chartBar.high, from, to);
+            buffer = write(channel, buffer, chartBar.low, from, to);
+            buffer = write(channel, buffer, chartBar.close, from, to);
+            buffer = write(channel, buffer, chartBar.volume, from, to);
+            flush(channel, buffer);
+        }
+    }
+
+    private static ByteBuffer write(FileChannel channel, ByteBuffer buffer, long[] values, int from, int to)
+            throws IOException {
+        for (int i = from; i < to; i++) {
+            if (buffer.remaining() < 8) {
+                flush(channel, buffer);
+            }
+            buffer.putLong(values[i]);
+        }
+        return buffer;
+    }
+
+    private static ByteBuffer write(FileChannel channel, ByteBuffer buffer, double[] values, int from, int to)
+            throws IOException {
+        for (int i = from; i < to; i++) {
+            if (buffer.remaining() < 8) {
+                flush(channel, buffer);
+            }
+            buffer.putDouble(values[i]);
+        }
+        return buffer;
+    }
+
+    private static void flush(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    // Reads and checks the header, returns the count of bars.
+    static long readHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        while (header.hasRemaining()) {
+            if (channel.read(header, header.position()) < 0) {
+                throw new RuntimeException("truncated header");
+            }
+        }
+        header.flip();
+
+        if (header.getInt() != MAGIC) {
+            throw new RuntimeException("not a chart bar file");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new RuntimeException("unsupported version " + version);
+        }
+        long count = header.getLong();
+        if (header.getInt() != COLUMNS) {
+            throw new RuntimeException("unsupported column count");
+        }
+        if (count < 0 || channel.size() < columnOffset(COLUMNS, count)) {
+            throw new RuntimeException("truncated file");
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,188 @@
+package data;
+
+import model.ChartBar;
+import model.Column;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 内存映射的ChartBar文件（格式见ChartBarFile）
+ * <p>
+ * 打开时只读文件头，每列映射成一个DoubleBuffer/LongBuffer，不复制数据，由操作系统按需换页。
+ * 指标的输入是double[]，用copy/toChartBar把需要的区间复制出来；只读一部分区间时只有这部分会被读入内存。
+ * 每列最多Integer.MAX_VALUE / 8根bar。可以在多个线程里同时读。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class MappedChartBar {
+    private final int size;
+    private final LongBuffer time;
+    private final DoubleBuffer open;
+    private final DoubleBuffer high;
+    private final DoubleBuffer low;
+    private final DoubleBuffer close;
+    private final LongBuffer volume;
+
+    private MappedChartBar(FileChannel channel, int size) throws IOException {
+        this.size = size;
+        this.time = map(channel, ChartBarFile.TIME, size).asLongBuffer();
+        this.open = map(channel, ChartBarFile.OPEN, size).asDoubleBuffer();
+        this.high = map(channel, ChartBarFile.HIGH, size).asDoubleBuffer();
+        this.low = map(channel, ChartBarFile.LOW, size).asDoubleBuffer();
+        this.close = map(channel, ChartBarFile.CLOSE, size).asDoubleBuffer();
+        this.volume = map(channel, ChartBarFile.VOLUME, size).asLongBuffer();
+    }
+
+    private static ByteBuffer map(FileChannel channel, int column, int size) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, ChartBarFile.columnOffset(column, size), size * 8L)
+                .order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    // Maps the file, the mapping stays valid after the file is closed.
+    public static MappedChartBar open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long count = ChartBarFile.readHeader(channel);
+            if (count > Integer.MAX_VALUE / 8) {
+                throw new RuntimeException("too many bars " + count);
+            }
+            return new MappedChartBar(channel, (int) count);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long time(int i) {
+        return time.get(i);
+    }
+
+    public double open(int i) {
+        return open.get(i);
+    }
+
+    public double high(int i) {
+        return high.get(i);
+    }
+
+    public double low(int i) {
+        return low.get(i);
+    }
+
+    public double close(int i) {
+        return close.get(i);
+    }
+
+    public long volume(int i) {
+        return volume.get(i);
+    }
+
+    // Read-only view of the time column.
+    public LongBuffer timeColumn() {
+        return time.asReadOnlyBuffer();
+    }
+
+    // Read-only view of the price column.
+    public DoubleBuffer column(Column column) {
+        return buffer(column).asReadOnlyBuffer();
+    }
+
+    // Read-only view of the volume column.
+    public LongBuffer volumeColumn() {
+        return volume.asReadOnlyBuffer();
+    }
+
+    private DoubleBuffer buffer(Column column) {
+        switch (column) {
+            case OPEN:
+                return open;
+            case HIGH:
+                return high;
+            case LOW:
+                return low;
+            default:
+                return close;
+        }
+    }
+
+    // Copies time[from, to).
+    public long[] copyTime(int from, int to) {
+        long[] values = new long[to - from];
+        ((LongBuffer) time.duplicate().position(from)).get(values);
+        return values;
+    }
+
+    // Copies column[from, to).
+    public double[] copy(Column column, int from, int to) {
+        double[] values = new double[to - from];
+        ((DoubleBuffer) buffer(column).duplicate().position(from)).get(values);
+        return values;
+    }
+
+    // Copies volume[from, to).
+    public long[] copyVolume(int from, int to) {
+        long[] values = new long[to - from];
+        ((LongBuffer) volume.duplicate().position(from)).get(values);
+        return values;
+    }
+
+    // Copies bars [from, to) into a ChartBar, formats the time with the formatter,
+    // the formatter must have a zone.
+    public ChartBar toChartBar(int from, int to, DateTimeFormatter formatter) {
+        ChartBar chartBar = new ChartBar();
+        chartBar.datetime = new String[to - from];
+        for (int i = from; i < to; i++) {
+            chartBar.datetime[i - from] = formatter.format(Instant.ofEpochMilli(time.get(i)));
+        }
+        chartBar.open = copy(Column.OPEN, from, to);
+        chartBar.high = copy(Column.HIGH, from, to);
+        chartBar.low = copy(Column.LOW, from, to);
+        chartBar.close = copy(Column.CLOSE, from, to);
+        chartBar.volume = copyVolume(from, to);
+
+        return chartBar;
+    }
+
+    public ChartBar toChartBar(DateTimeFormatter formatter) {
+        return toChartBar(0, size, formatter);
+    }
+
+    // Copies bars [from, to) into a ChartBar with the epoch millis time axis.
+    public ChartBar toChartBar(int from, int to) {
+        ChartBar chartBar = new ChartBar();
+        chartBar.time = copyTime(from, to);
+        chartBar.open = copy(Column.OPEN, from, to);
+        chartBar.high = copy(Column.HIGH, from, to);
+        chartBar.low = copy(Column.LOW, from, to);
+        chartBar.close = copy(Column.CLOSE, from, to);
+        chartBar.volume = copyVolume(from, to);
+
+        return chartBar;
+    }
+
+    // Index of the bar at the time, or -(insertion point) - 1 if absent, like Arrays.binarySearch.
+    public int indexOf(long time) {
+        int low = 0, high = size - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long t = this.time.get(middle);
+            if (t < time) {
+                low = middle + 1;
+            } else if (t > time) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+}
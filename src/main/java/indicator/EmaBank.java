@@ -0,0 +1,121 @@
+package indicator;
+
+/**
+ * 同一个输入上多个周期的Ema/Rma，一次遍历算完
+ * <p>
+ * 对每个输入值依次更新所有周期的状态，输入只读一遍，结果与逐个调用TrendIndicators.Ema/Rma逐位一致。
+ * 结果可以写到每个周期一个数组，也可以写到按bar交错的矩阵：result[i * periods.length + p]。
+ * 流式计算见indicator.stream.EmaBank。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class EmaBank {
+
+    // Ema(period1) and Ema(period2) of values[from, to) into result1 and result2.
+    public static void Ema(int period1, int period2, double[] values, int from, int to,
+                           double[] result1, double[] result2) {
+        if (to <= from) {
+            return;
+        }
+        double k1 = 2.00 / (1 + period1), l1 = 1 - k1;
+        double k2 = 2.00 / (1 + period2), l2 = 1 - k2;
+        double e1 = values[from], e2 = values[from];
+        result1[0] = e1;
+        result2[0] = e2;
+        for (int i = 1; i < to - from; i++) {
+            double v = values[from + i];
+            e1 = (v * k1) + (e1 * l1);
+            e2 = (v * k2) + (e2 * l2);
+            result1[i] = e1;
+            result2[i] = e2;
+        }
+    }
+
+    // Ema of values[from, to) for each period, into results[p].
+    public static void Ema(int[] periods, double[] values, int from, int to, double[][] results) {
+        if (to <= from) {
+            return;
+        }
+        int m = periods.length;
+        double[] k = new double[m], l = new double[m], e = new double[m];
+        for (int p = 0; p < m; p++) {
+            k[p] = 2.00 / (1 + periods[p]);
+            l[p] = 1 - k[p];
+            e[p] = values[from];
+            results[p][0] = e[p];
+        }
+        for (int i = 1; i < to - from; i++) {
+            double v = values[from + i];
+            for (int p = 0; p < m; p++) {
+                e[p] = (v * k[p]) + (e[p] * l[p]);
+                results[p][i] = e[p];
+            }
+        }
+    }
+
+    // Ema of values[from, to) for each period, into the interleaved result[i * periods.length + p].
+    public static double[] EmaInterleaved(int[] periods, double[] values, int from, int to, double[] result) {
+        int m = periods.length;
+        double[] k = new double[m], l = new double[m];
+        for (int p = 0; p < m; p++) {
+            k[p] = 2.00 / (1 + periods[p]);
+            l[p] = 1 - k[p];
+        }
+        for (int i = 0; i < to - from; i++) {
+            double v = values[from + i];
+            int row = i * m;
+            if (i > 0) {
+                for (int p = 0; p < m; p++) {
+                    result[row + p] = (v * k[p]) + (result[row - m + p] * l[p]);
+                }
+            } else {
+                for (int p = 0; p < m; p++) {
+                    result[p] = v;
+                }
+            }
+        }
+
+        return result;
+    }
+
+    // Rma of values[from, to) for each period, into results[p].
+    public static void Rma(int[] periods, double[] values, int from, int to, double[][] results) {
+        int m = periods.length;
+        double[] sum = new double[m];
+        for (int i = 0; i < to - from; i++) {
+            double v = values[from + i];
+            for (int p = 0; p < m; p++) {
+                int period = periods[p];
+                if (i < period) {
+                    sum[p] += v;
+                    results[p][i] = sum[p] / (i + 1);
+                } else {
+                    sum[p] = results[p][i - 1] * (period - 1) + v;
+                    results[p][i] = sum[p] / period;
+                }
+            }
+        }
+    }
+
+    // Rma of values[from, to) for each period, into the interleaved result[i * periods.length + p].
+    public static double[] RmaInterleaved(int[] periods, double[] values, int from, int to, double[] result) {
+        int m = periods.length;
+        double[] sum = new double[m];
+        for (int i = 0; i < to - from; i++) {
+            double v = values[from + i];
+            int row = i * m;
+            for (int p = 0; p < m; p++) {
+                int period = periods[p];
+                if (i < period) {
+                    sum[p] += v;
+                    result[row + p] = sum[p] / (i + 1);
+                } else {
+                    sum[p] = result[row - m + p] * (period - 1) + v;
+                    result[row + p] = sum[p] / period;
+                }
+            }
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,248 @@
+package indicator;
+
+import base.MonotonicDeque;
+import base.Pair;
+
+/**
+ * float版本的核心指标 - 输入输出都是float[]，内存和带宽是double版本的一半
+ * <p>
+ * 与double版本的公式、窗口和带区间的重载相同；中间的累加都用double，只有输入和结果是float，
+ * 所以误差只来自float的舍入（单位舍入u = 2^-24，约6e-8），不会随序列长度累积。
+ * 与对原始double输入计算的double版本相比，设窗口内|x|的最大值为M：
+ * <ul>
+ * <li>Max、Min：结果就是某个输入舍入到float，相对误差不超过u</li>
+ * <li>sma、Ema、Rma：权重之和为1的加权平均，|误差| &lt;= 2u·M</li>
+ * <li>Sum：|误差| &lt;= u·period·M + u·|Sum|</li>
+ * <li>Std：|误差| &lt;= 2u·M + u·Std；价格高、波动小时相对误差会很大（M = 1e4时绝对误差约1e-3）</li>
+ * <li>Atr：true range的|误差| &lt;= 4u·M（M取high、low、closing），Atr同样</li>
+ * <li>RsiPeriod：rsi的|误差| &lt;= 100·4u·M / (平均涨幅 + 平均跌幅)，几乎不动的序列上会变大</li>
+ * </ul>
+ * 输入本身就是float（比如FloatChartBar）时，以上误差只剩结果的舍入u·|结果|。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class FloatIndicators {
+
+    // Simple Moving Average (SMA).
+    public static float[] sma(int period, float[] values) {
+        return sma(period, values, 0, values.length, new float[values.length]);
+    }
+
+    // sma of values[from, to) into out.
+    public static float[] sma(int period, float[] values, int from, int to, float[] result) {
+        double sum = 0.00;
+
+        for (int i = 0; i < to - from; i++) {
+            int count = i + 1;
+            sum += values[from + i];
+
+            if (i >= period) {
+                sum -= values[from + i - period];
+                count = period;
+            }
+
+            result[i] = (float) (sum / count);
+        }
+
+        return result;
+    }
+
+    // Exponential Moving Average (EMA).
+    public static float[] Ema(int period, float[] values) {
+        return Ema(period, values, 0, values.length, new float[values.length]);
+    }
+
+    // Ema of values[from, to) into out.
+    public static float[] Ema(int period, float[] values, int from, int to, float[] result) {
+        double k = 2.00 / (1 + period);
+        double ema = 0;
+        for (int i = 0; i < to - from; i++) {
+            if (i > 0) {
+                ema = (values[from + i] * k) + (ema * (1 - k));
+            } else {
+                ema = values[from + i];
+            }
+            result[i] = (float) ema;
+        }
+
+        return result;
+    }
+
+    // Rolling Moving Average (RMA).
+    public static float[] Rma(int period, float[] values) {
+        return Rma(period, values, 0, values.length, new float[values.length]);
+    }
+
+    // Rma of values[from, to) into out.
+    public static float[] Rma(int period, float[] values, int from, int to, float[] result) {
+        double sum = 0.00;
+        double rma = 0.00;
+
+        for (int i = 0; i < to - from; i++) {
+            int count = i + 1;
+
+            if (i < period) {
+                sum += values[from + i];
+            } else {
+                sum = rma * (period - 1) + values[from + i];
+                count = period;
+            }
+
+            rma = sum / count;
+            result[i] = (float) rma;
+        }
+
+        return result;
+    }
+
+    // Moving sum for the given period.
+    public static float[] Sum(int period, float[] values) {
+        return Sum(period, values, 0, values.length, new float[values.length]);
+    }
+
+    // Sum of values[from, to) into out.
+    public static float[] Sum(int period, float[] values, int from, int to, float[] result) {
+        double sum = 0.0;
+
+        for (int i = 0; i < to - from; i++) {
+            sum += values[from + i];
+            if (i >= period) {
+                sum -= values[from + i - period];
+            }
+            result[i] = (float) sum;
+        }
+
+        return result;
+    }
+
+    // Moving max for the given period.
+    public static float[] Max(int period, float[] values) {
+        return Max(period, values, 0, values.length, new float[values.length]);
+    }
+
+    // Max of values[from, to) into out.
+    public static float[] Max(int period, float[] values, int from, int to, float[] result) {
+        MonotonicDeque deque = MonotonicDeque.max(period);
+
+        for (int i = 0; i < to - from; i++) {
+            result[i] = (float) deque.push(values[from + i]);
+        }
+
+        return result;
+    }
+
+    // Moving min for the given period.
+    public static float[] Min(int period, float[] values) {
+        return Min(period, values, 0, values.length, new float[values.length]);
+    }
+
+    // Min of values[from, to) into out.
+    public static float[] Min(int period, float[] values, int from, int to, float[] result) {
+        MonotonicDeque deque = MonotonicDeque.min(period);
+
+        for (int i = 0; i < to - from; i++) {
+            result[i] = (float) deque.push(values[from + i]);
+        }
+
+        return result;
+    }
+
+    // Standard deviation.
+    public static float[] Std(int period, float[] values) {
+        return Std(period, values, 0, values.length, new float[values.length]);
+    }
+
+    // Std of values[from, to) into out, 0 before the first full window.
+    public static float[] Std(int period, float[] values, int from, int to, float[] std) {
+        RollingMoments moments = new RollingMoments(period);
+        for (int i = 0; i < to - from; i++) {
+            moments.update(values[from + i]);
+            std[i] = i < period - 1 ? 0.0f : (float) moments.getStd();
+        }
+
+        return std;
+    }
+
+    // RsiPeriod allows to calculate the RSI indicator with a non-standard period.
+    //
+    // Returns rs, rsi
+    public static Pair<float[], float[]> RsiPeriod(int period, float[] closing) {
+        float[] rs = new float[closing.length];
+        float[] rsi = new float[closing.length];
+        RsiPeriod(period, closing, 0, closing.length, rs, rsi);
+
+        return Pair.of(rs, rsi);
+    }
+
+    // RsiPeriod of closing[from, to) into rs and rsi.
+    // The Rma of gains and losses are computed in the same pass, no scratch buffers.
+    public static void RsiPeriod(int period, float[] closing, int from, int to, float[] rs, float[] rsi) {
+        double sumGains = 0, sumLosses = 0;
+        double meanGains = 0, meanLosses = 0;
+
+        for (int i = 0; i < to - from; i++) {
+            double gain = 0, loss = 0;
+            if (i > 0) {
+                double difference = (double) closing[from + i] - closing[from + i - 1];
+                if (difference > 0) {
+                    gain = difference;
+                } else {
+                    loss = -difference;
+                }
+            }
+
+            int count = i + 1;
+            if (i < period) {
+                sumGains += gain;
+                sumLosses += loss;
+            } else {
+                sumGains = meanGains * (period - 1) + gain;
+                sumLosses = meanLosses * (period - 1) + loss;
+                count = period;
+            }
+            meanGains = sumGains / count;
+            meanLosses = sumLosses / count;
+
+            double r = meanGains / meanLosses;
+            rs[i] = (float) r;
+            rsi[i] = (float) (100 - (100 / (1 + r)));
+        }
+    }
+
+    // Average True Range (ATR).
+    //
+    // Returns tr, atr
+    public static Pair<float[], float[]> Atr(int period, float[] high, float[] low, float[] closing) {
+        float[] tr = new float[closing.length];
+        float[] atr = new float[closing.length];
+        Atr(period, high, low, closing, 0, closing.length, tr, atr);
+
+        return Pair.of(tr, atr);
+    }
+
+    // Atr of [from, to) into tr and atr.
+    // The true range leaving the sma window is recomputed from the inputs, so tr is only written.
+    public static void Atr(int period, float[] high, float[] low, float[] closing, int from, int to,
+                           float[] tr, float[] atr) {
+        double sum = 0.00;
+
+        for (int i = 0; i < to - from; i++) {
+            int count = i + 1;
+            double range = trueRange(high, low, closing, from + i);
+            sum += range;
+
+            if (i >= period) {
+                sum -= trueRange(high, low, closing, from + i - period);
+                count = period;
+            }
+
+            tr[i] = (float) range;
+            atr[i] = (float) (sum / count);
+        }
+    }
+
+    private static double trueRange(float[] high, float[] low, float[] closing, int j) {
+        double h = high[j], l = low[j], c = closing[j];
+        return Math.max(h - l, Math.max(h - c, c - l));
+    }
+}
@@ -21,10 +21,7 @@ public class Helper {
     // Multiply values by multipler.
     public static double[] multiplyBy(double[] values, double multiplier) {
         double[] result = new double[values.length];
-
-        for (int i = 0; i < values.length; i++) {
-            result[i] = values[i] * multiplier;
-        }
+        Kernels.multiplyBy(values, 0, multiplier, result, 0, result.length);
 
         return result;
     }
@@ -34,9 +31,7 @@ public class Helper {
         checkSameSize(values1, values2);
 
         double[] result = new double[values1.length];
-        for (int i = 0; i < result.length; i++) {
-            result[i] = values1[i] * values2[i];
-        }
+        Kernels.mul(values1, 0, values2, 0, result, 0, result.length);
 
         return result;
     }
@@ -51,9 +46,7 @@ public class Helper {
         checkSameSize(values1, values2);
 
         double[] result = new double[values1.length];
-        for (int i = 0; i < result.length; i++) {
-            result[i] = values1[i] / values2[i];
-        }
+        Kernels.div(values1, 0, values2, 0, result, 0, result.length);
 
         return result;
     }
@@ -63,9 +56,7 @@ public class Helper {
         checkSameSize(values1, values2);
 
         double[] result = new double[values1.length];
-        for (int i = 0; i < result.length; i++) {
-            result[i] = values1[i] + values2[i];
-        }
+        Kernels.add(values1, 0, values2, 0, result, 0, result.length);
 
         return result;
     }
@@ -73,9 +64,7 @@ public class Helper {
     // Add addition to values.
     public static double[] addBy(double[] values, double addition) {
         double[] result = new double[values.length];
-        for (int i = 0; i < result.length; i++) {
-            result[i] = values[i] + addition;
-        }
+        Kernels.addBy(values, 0, addition, result, 0, result.length);
 
         return result;
     }
@@ -144,7 +133,12 @@ public class Helper {
     public static double[] generateNumbers(double begin, double end, double step) {
         int n = (int) Math.round((end - begin) / step);
 
-        double[] numbers = new double[n];
+        return generateNumbers(begin, end, step, new double[n]);
+    }
+
+    // Generate numbers into out.
+    public static double[] generateNumbers(double begin, double end, double step, double[] numbers) {
+        int n = (int) Math.round((end - begin) / step);
 
         for (int i = 0; i < n; i++) {
             numbers[i] = begin + (step * i);
@@ -167,10 +161,7 @@ public class Helper {
     // Calculate power of base with exponent.
     public static double[] pow(double[] base, double exponent) {
         double[] result = new double[base.length];
-
-        for (int i = 0; i < result.length; i++) {
-            result[i] = Math.pow(base[i], exponent);
-        }
+        Kernels.pow(base, 0, exponent, result, 0, result.length);
 
         return result;
     }
@@ -178,14 +169,7 @@ public class Helper {
     // Extact sign.
     public static double[] extractSign(double[] values) {
         double[] result = new double[values.length];
-
-        for (int i = 0; i < result.length; i++) {
-            if (values[i] >= 0) {
-                result[i] = 1;
-            } else {
-                result[i] = -1;
-            }
-        }
+        Kernels.sign(values, 0, result, 0, result.length);
 
         return result;
     }
@@ -193,14 +177,7 @@ public class Helper {
     // Keep positives.
     public static double[] keepPositives(double[] values) {
         double[] result = new double[values.length];
-
-        for (int i = 0; i < values.length; i++) {
-            if (values[i] > 0) {
-                result[i] = values[i];
-            } else {
-                result[i] = 0;
-            }
-        }
+        Kernels.positives(values, 0, result, 0, result.length);
 
         return result;
     }
@@ -208,14 +185,7 @@ public class Helper {
     // Keep negatives.
     public static double[] keepNegatives(double[] values) {
         double[] result = new double[values.length];
-
-        for (int i = 0; i < values.length; i++) {
-            if (values[i] < 0) {
-                result[i] = values[i];
-            } else {
-                result[i] = 0;
-            }
-        }
+        Kernels.negatives(values, 0, result, 0, result.length);
 
         return result;
     }
@@ -223,10 +193,7 @@ public class Helper {
     // Sqrt of given values.
     public static double[] sqrt(double[] values) {
         double[] result = new double[values.length];
-
-        for (int i = 0; i < values.length; i++) {
-            result[i] = Math.sqrt(values[i]);
-        }
+        Kernels.sqrt(values, 0, result, 0, result.length);
 
         return result;
     }
@@ -234,10 +201,7 @@ public class Helper {
     // Abs of given values.
     public static double[] abs(double[] values) {
         double[] result = new double[values.length];
-
-        for (int i = 0; i < values.length; i++) {
-            result[i] = Math.abs(values[i]);
-        }
+        Kernels.abs(values, 0, result, 0, result.length);
 
         return result;
     }
@@ -0,0 +1,94 @@
+package indicator;
+
+/**
+ * 逐元素运算的内核，Helper、Vec和VolatilityIndicators的逐元素循环都调用这里
+ * <p>
+ * jar是multi-release的：Java 8上是标量循环；Java 17及以上并且启动时加了--add-modules jdk.incubator.vector，
+ * 换成META-INF/versions/17下用Vector API实现的版本，一次处理一个向量（AVX2上4个double，AVX-512上8个）。
+ * 两个实现的结果逐位一致。-Dindicator.simd=false可以关掉向量实现。
+ * <p>
+ * 每个方法处理n个元素：输入从a[ai]、b[bi]开始，结果从result[ri]开始，结果可以与输入是同一个数组。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public final class Kernels {
+    private static final ScalarKernels KERNELS = KernelsProvider.get();
+
+    private Kernels() {
+    }
+
+    // Whether the Vector API kernels are in use.
+    public static boolean isVectorized() {
+        return KERNELS.getClass() != ScalarKernels.class;
+    }
+
+    // result = a + b
+    public static void add(double[] a, int ai, double[] b, int bi, double[] result, int ri, int n) {
+        KERNELS.add(a, ai, b, bi, result, ri, n);
+    }
+
+    // result = a - b
+    public static void sub(double[] a, int ai, double[] b, int bi, double[] result, int ri, int n) {
+        KERNELS.sub(a, ai, b, bi, result, ri, n);
+    }
+
+    // result = a * b
+    public static void mul(double[] a, int ai, double[] b, int bi, double[] result, int ri, int n) {
+        KERNELS.mul(a, ai, b, bi, result, ri, n);
+    }
+
+    // result = a / b
+    public static void div(double[] a, int ai, double[] b, int bi, double[] result, int ri, int n) {
+        KERNELS.div(a, ai, b, bi, result, ri, n);
+    }
+
+    // result = a + s
+    public static void addBy(double[] a, int ai, double s, double[] result, int ri, int n) {
+        KERNELS.addBy(a, ai, s, result, ri, n);
+    }
+
+    // result = a * s
+    public static void multiplyBy(double[] a, int ai, double s, double[] result, int ri, int n) {
+        KERNELS.multiplyBy(a, ai, s, result, ri, n);
+    }
+
+    // result = Math.pow(a, exponent)
+    public static void pow(double[] a, int ai, double exponent, double[] result, int ri, int n) {
+        KERNELS.pow(a, ai, exponent, result, ri, n);
+    }
+
+    // result = Math.sqrt(a)
+    public static void sqrt(double[] a, int ai, double[] result, int ri, int n) {
+        KERNELS.sqrt(a, ai, result, ri, n);
+    }
+
+    // result = Math.abs(a)
+    public static void abs(double[] a, int ai, double[] result, int ri, int n) {
+        KERNELS.abs(a, ai, result, ri, n);
+    }
+
+    // result = a >= 0 ? 1 : -1
+    public static void sign(double[] a, int ai, double[] result, int ri, int n) {
+        KERNELS.sign(a, ai, result, ri, n);
+    }
+
+    // result = a > 0 ? a : 0
+    public static void positives(double[] a, int ai, double[] result, int ri, int n) {
+        KERNELS.positives(a, ai, result, ri, n);
+    }
+
+    // result = a < 0 ? a : 0
+    public static void negatives(double[] a, int ai, double[] result, int ri, int n) {
+        KERNELS.negatives(a, ai, result, ri, n);
+    }
+
+    // True range of bars [from, from + n): max(high - low, high - closing, closing - low).
+    public static void trueRange(double[] high, double[] low, double[] closing, int from, double[] result, int ri, int n) {
+        KERNELS.trueRange(high, low, closing, from, result, ri, n);
+    }
+
+    // Band width of bars [from, from + n): (upper - lower) / middle.
+    public static void bandWidth(double[] upper, double[] lower, double[] middle, int from, double[] result, int ri, int n) {
+        KERNELS.bandWidth(upper, lower, middle, from, result, ri, n);
+    }
+}
@@ -0,0 +1,16 @@
+package indicator;
+
+/**
+ * 选择Kernels的实现。Java 8上只有标量实现，multi-release jar的META-INF/versions/17下有替换这个类的版本
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+final class KernelsProvider {
+
+    private KernelsProvider() {
+    }
+
+    static ScalarKernels get() {
+        return new ScalarKernels();
+    }
+}
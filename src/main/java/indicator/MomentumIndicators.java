@@ -9,6 +9,8 @@ import static indicator.TrendIndicators.*;
 import static indicator.VolumeIndicators.AccumulationDistribution;
 
 /**
+ * 带区间和输出数组的重载与TrendIndicators相同。
+ *
  * @author jinfeng.hu  @Date 2022/10/8
  **/
 public class MomentumIndicators {
@@ -20,11 +22,21 @@ public class MomentumIndicators {
     //
     // Returns ao.
     public static double[] AwesomeOscillator(double[] low, double[] high) {
-        double[] medianPrice = divideBy(add(low, high), 2);
-        double[] sma5 = sma(5, medianPrice);
-        double[] sma34 = sma(34, medianPrice);
-        double[] ao = subtract(sma5, sma34);
+        checkSameSize(low, high);
+        return AwesomeOscillator(low, high, 0, low.length, new double[low.length], new Workspace());
+    }
+
+    // AwesomeOscillator of [from, to) into out.
+    public static double[] AwesomeOscillator(double[] low, double[] high, int from, int to, double[] ao, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        double[] medianPrice = Vec.of(low, from, to).add(Vec.of(high, from, to)).divideBy(2).into(workspace.take(n), workspace);
+        double[] sma5 = sma(5, medianPrice, 0, n, workspace.take(n));
+        double[] sma34 = sma(34, medianPrice, 0, n, workspace.take(n));
+        Vec.of(sma5, 0, n).sub(Vec.of(sma34, 0, n)).into(ao, workspace);
 
+        workspace.release(mark);
         return ao;
     }
 
@@ -38,12 +50,29 @@ public class MomentumIndicators {
     //
     // Returns co, ad.
     public static Pair<double[], double[]> ChaikinOscillator(int fastPeriod, int slowPeriod, double[] low, double[] high, double[] closing, long[] volume) {
-        double[] ad = AccumulationDistribution(high, low, closing, volume);
-        double[] co = subtract(Ema(fastPeriod, ad), Ema(slowPeriod, ad));
+        checkSameSize(high, low, closing);
+
+        double[] co = new double[closing.length];
+        double[] ad = new double[closing.length];
+        ChaikinOscillator(fastPeriod, slowPeriod, low, high, closing, volume, 0, closing.length, co, ad, new Workspace());
 
         return Pair.of(co, ad);
     }
 
+    // ChaikinOscillator of [from, to) into co and ad.
+    public static void ChaikinOscillator(int fastPeriod, int slowPeriod, double[] low, double[] high, double[] closing, long[] volume,
+                                         int from, int to, double[] co, double[] ad, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        AccumulationDistribution(high, low, closing, volume, from, to, ad);
+        double[] fast = workspace.take(n), slow = workspace.take(n);
+        EmaBank.Ema(fastPeriod, slowPeriod, ad, 0, n, fast, slow);
+        Vec.of(fast, 0, n).sub(Vec.of(slow, 0, n)).into(co, workspace);
+
+        workspace.release(mark);
+    }
+
     // The DefaultChaikinOscillator function calculates Chaikin
     // Oscillator with the most frequently used fast and short
     // periods, 3 and 10.
@@ -66,15 +95,44 @@ public class MomentumIndicators {
     public static Quintuple<double[], double[], double[], double[], double[]> IchimokuCloud(double[] high, double[] low, double[] closing) {
         checkSameSize(high, low, closing);
 
-        double[] conversionLine = divideBy(add(Max(9, high), Min(9, low)), 2);
-        double[] baseLine = divideBy(add(Max(26, high), Min(26, low)), 2);
-        double[] leadingSpanA = divideBy(add(conversionLine, baseLine), 2);
-        double[] leadingSpanB = divideBy(add(Max(52, high), Min(52, low)), 2);
-        double[] laggingLine = shiftRight(26, closing);
+        int n = closing.length;
+        double[] conversionLine = new double[n];
+        double[] baseLine = new double[n];
+        double[] leadingSpanA = new double[n];
+        double[] leadingSpanB = new double[n];
+        double[] laggingLine = new double[n];
+        IchimokuCloud(high, low, closing, 0, n, conversionLine, baseLine, leadingSpanA, leadingSpanB, laggingLine, new Workspace());
 
         return Quintuple.of(conversionLine, baseLine, leadingSpanA, leadingSpanB, laggingLine);
     }
 
+    // IchimokuCloud of [from, to) into the five lines.
+    public static void IchimokuCloud(double[] high, double[] low, double[] closing, int from, int to,
+                                     double[] conversionLine, double[] baseLine, double[] leadingSpanA,
+                                     double[] leadingSpanB, double[] laggingLine, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+        double[] highest = workspace.take(n);
+        double[] lowest = workspace.take(n);
+
+        midpoint(9, high, low, from, to, highest, lowest, conversionLine, workspace);
+        midpoint(26, high, low, from, to, highest, lowest, baseLine, workspace);
+        Vec.of(conversionLine, 0, n).add(Vec.of(baseLine, 0, n)).divideBy(2).into(leadingSpanA, workspace);
+        midpoint(52, high, low, from, to, highest, lowest, leadingSpanB, workspace);
+        Vec.of(closing, from, to).shift(26).into(laggingLine, workspace);
+
+        workspace.release(mark);
+    }
+
+    // (Max(period, high) + Min(period, low)) / 2
+    private static void midpoint(int period, double[] high, double[] low, int from, int to,
+                                 double[] highest, double[] lowest, double[] result, Workspace workspace) {
+        int n = to - from;
+        Max(period, high, from, to, highest);
+        Min(period, low, from, to, lowest);
+        Vec.of(highest, 0, n).add(Vec.of(lowest, 0, n)).divideBy(2).into(result, workspace);
+    }
+
     // Percentage Price Oscillator (PPO). It is a momentum oscillator for the price.
     // It is used to indicate the ups and downs based on the price. A breakout is
     // confirmed when PPO is positive.
@@ -85,15 +143,37 @@ public class MomentumIndicators {
     //
     // Returns ppo, signal, histogram
     public static Triple<double[], double[], double[]> PercentagePriceOscillator(int fastPeriod, int slowPeriod, int signalPeriod, double[] price) {
-        double[] fastEma = Ema(fastPeriod, price);
-        double[] slowEma = Ema(slowPeriod, price);
-        double[] ppo = multiplyBy(divide(subtract(fastEma, slowEma), slowEma), 100);
-        double[] signal = Ema(signalPeriod, ppo);
-        double[] histogram = subtract(ppo, signal);
+        double[] ppo = new double[price.length];
+        double[] signal = new double[price.length];
+        double[] histogram = new double[price.length];
+        PercentagePriceOscillator(fastPeriod, slowPeriod, signalPeriod, price, 0, price.length, ppo, signal, histogram, new Workspace());
 
         return Triple.of(ppo, signal, histogram);
     }
 
+    // PercentagePriceOscillator of price[from, to) into ppo, signal and histogram.
+    public static void PercentagePriceOscillator(int fastPeriod, int slowPeriod, int signalPeriod, double[] price, int from, int to,
+                                                 double[] ppo, double[] signal, double[] histogram, Workspace workspace) {
+        percentageOscillator(fastPeriod, slowPeriod, signalPeriod, price, from, to, ppo, signal, histogram, workspace);
+    }
+
+    // ((EMA(fastPeriod) - EMA(slowPeriod)) / EMA(slowPeriod)) * 100, its signal and histogram.
+    private static void percentageOscillator(int fastPeriod, int slowPeriod, int signalPeriod, double[] values, int from, int to,
+                                             double[] po, double[] signal, double[] histogram, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        double[] slow = workspace.take(n), fast = workspace.take(n);
+        EmaBank.Ema(slowPeriod, fastPeriod, values, from, to, slow, fast);
+        Vec slowEma = Vec.of(slow, 0, n);
+        Vec fastEma = Vec.of(fast, 0, n);
+        fastEma.sub(slowEma).div(slowEma).multiplyBy(100).into(po, workspace);
+        Ema(signalPeriod, po, 0, n, signal);
+        Vec.of(po, 0, n).sub(Vec.of(signal, 0, n)).into(histogram, workspace);
+
+        workspace.release(mark);
+    }
+
     // Default Percentage Price Oscillator calculates it with the default periods of 12, 26, 9.
     //
     // Returns ppo, signal, histogram
@@ -111,16 +191,26 @@ public class MomentumIndicators {
     //
     // Returns pvo, signal, histogram
     public static Triple<double[], double[], double[]> PercentageVolumeOscillator(int fastPeriod, int slowPeriod, int signalPeriod, long[] volume) {
-        double[] volumeAsFloat = asDouble(volume);
-        double[] fastEma = Ema(fastPeriod, volumeAsFloat);
-        double[] slowEma = Ema(slowPeriod, volumeAsFloat);
-        double[] pvo = multiplyBy(divide(subtract(fastEma, slowEma), slowEma), 100);
-        double[] signal = Ema(signalPeriod, pvo);
-        double[] histogram = subtract(pvo, signal);
+        double[] pvo = new double[volume.length];
+        double[] signal = new double[volume.length];
+        double[] histogram = new double[volume.length];
+        PercentageVolumeOscillator(fastPeriod, slowPeriod, signalPeriod, volume, 0, volume.length, pvo, signal, histogram, new Workspace());
 
         return Triple.of(pvo, signal, histogram);
     }
 
+    // PercentageVolumeOscillator of volume[from, to) into pvo, signal and histogram.
+    public static void PercentageVolumeOscillator(int fastPeriod, int slowPeriod, int signalPeriod, long[] volume, int from, int to,
+                                                  double[] pvo, double[] signal, double[] histogram, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        double[] volumeAsFloat = Vec.of(volume, from, to).into(workspace.take(n), workspace);
+        percentageOscillator(fastPeriod, slowPeriod, signalPeriod, volumeAsFloat, 0, n, pvo, signal, histogram, workspace);
+
+        workspace.release(mark);
+    }
+
     // Default Percentage Volume Oscillator calculates it with the default periods of 12, 26, 9.
     //
     // Returns pvo, signal, histogram
@@ -149,11 +239,27 @@ public class MomentumIndicators {
 
     // RsiPeriod allows to calculate the RSI indicator with a non-standard period.
     public static Pair<double[], double[]> RsiPeriod(int period, double[] closing) {
-        double[] gains = new double[closing.length];
-        double[] losses = new double[closing.length];
+        double[] rsi = new double[closing.length];
+        double[] rs = new double[closing.length];
+        RsiPeriod(period, closing, 0, closing.length, rs, rsi, new Workspace());
+
+        return Pair.of(rs, rsi);
+    }
 
-        for (int i = 1; i < closing.length; i++) {
-            double difference = closing[i] - closing[i - 1];
+    // RsiPeriod of closing[from, to) into rs and rsi.
+    public static void RsiPeriod(int period, double[] closing, int from, int to, double[] rs, double[] rsi, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+        double[] gains = workspace.take(n);
+        double[] losses = workspace.take(n);
+
+        if (n > 0) {
+            gains[0] = 0;
+            losses[0] = 0;
+        }
+
+        for (int i = 1; i < n; i++) {
+            double difference = closing[from + i] - closing[from + i - 1];
 
             if (difference > 0) {
                 gains[i] = difference;
@@ -164,18 +270,15 @@ public class MomentumIndicators {
             }
         }
 
-        double[] meanGains = Rma(period, gains);
-        double[] meanLosses = Rma(period, losses);
-
-        double[] rsi = new double[closing.length];
-        double[] rs = new double[closing.length];
+        double[] meanGains = Rma(period, gains, 0, n, workspace.take(n));
+        double[] meanLosses = Rma(period, losses, 0, n, workspace.take(n));
 
-        for (int i = 0; i < rsi.length; i++) {
+        for (int i = 0; i < n; i++) {
             rs[i] = meanGains[i] / meanLosses[i];
             rsi[i] = 100 - (100 / (1 + rs[i]));
         }
 
-        return Pair.of(rs, rsi);
+        workspace.release(mark);
     }
 
     // Stochastic Oscillator. It is a momentum indicator that shows the location of the closing
@@ -188,15 +291,28 @@ public class MomentumIndicators {
     public static Pair<double[], double[]> StochasticOscillator(double[] high, double[] low, double[] closing) {
         checkSameSize(high, low, closing);
 
-        double[] highestHigh14 = Max(14, high);
-        double[] lowestLow14 = Min(14, low);
-
-        double[] k = multiplyBy(divide(subtract(closing, lowestLow14), subtract(highestHigh14, lowestLow14)), 100);
-        double[] d = sma(3, k);
+        double[] k = new double[closing.length];
+        double[] d = new double[closing.length];
+        StochasticOscillator(high, low, closing, 0, closing.length, k, d, new Workspace());
 
         return Pair.of(k, d);
     }
 
+    // StochasticOscillator of [from, to) into k and d.
+    public static void StochasticOscillator(double[] high, double[] low, double[] closing, int from, int to,
+                                            double[] k, double[] d, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        Vec highestHigh14 = Vec.of(Max(14, high, from, to, workspace.take(n)), 0, n);
+        Vec lowestLow14 = Vec.of(Min(14, low, from, to, workspace.take(n)), 0, n);
+
+        Vec.of(closing, from, to).sub(lowestLow14).div(highestHigh14.sub(lowestLow14)).multiplyBy(100).into(k, workspace);
+        sma(3, k, 0, n, d);
+
+        workspace.release(mark);
+    }
+
     // Williams R. Determine overbought and oversold.
     //
     // WR = (Highest High - Closing) / (Highest High - Lowest Low) * -100.
@@ -205,17 +321,24 @@ public class MomentumIndicators {
     //
     // Returns wr.
     public static double[] WilliamsR(double[] low, double[] high, double[] closing) {
-        int period = 14;
+        return WilliamsR(low, high, closing, 0, closing.length, new double[closing.length], new Workspace());
+    }
 
-        double[] highestHigh = Max(period, high);
-        double[] lowestLow = Min(period, low);
+    // WilliamsR of [from, to) into out.
+    public static double[] WilliamsR(double[] low, double[] high, double[] closing, int from, int to,
+                                     double[] result, Workspace workspace) {
+        int period = 14;
+        int n = to - from;
+        int mark = workspace.mark();
 
-        double[] result = new double[closing.length];
+        double[] highestHigh = Max(period, high, from, to, workspace.take(n));
+        double[] lowestLow = Min(period, low, from, to, workspace.take(n));
 
-        for (int i = 0; i < closing.length; i++) {
-            result[i] = (highestHigh[i] - closing[i]) / (highestHigh[i] - lowestLow[i]) * (-100);
+        for (int i = 0; i < n; i++) {
+            result[i] = (highestHigh[i] - closing[from + i]) / (highestHigh[i] - lowestLow[i]) * (-100);
         }
 
+        workspace.release(mark);
         return result;
     }
 
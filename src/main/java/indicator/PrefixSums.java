@@ -0,0 +1,153 @@
+package indicator;
+
+/**
+ * 前缀和：一次遍历后O(1)求任意窗口的和、均值、方差
+ * <p>
+ * 保存values和values²的累计和（减去第一个值，让累计和保持较小），窗口[i - period + 1, i]的和是两个前缀和之差，
+ * 所以多个窗口长度的sma、Sum、Std只需要遍历一遍输入。窗口长度与sma、Sum一致：
+ * 前period - 1个bar用已有的i + 1个值。
+ * <p>
+ * 长序列的前缀和很大，相减会损失精度；compensated时用Neumaier求和，把每个前缀和保存为hi + lo两个double，
+ * 窗口和的误差与窗口内的值同一量级。结果与sma等逐个累加的实现只在最后几位不同。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class PrefixSums {
+    private final int size;
+    // the values are accumulated as values - shift, which keeps the sums small and the variance accurate
+    private final double shift;
+    // sum[i] is the sum of the first i values, lo is the rounding error of sum when compensated
+    private final double[] sum;
+    private final double[] sumLo;
+    private final double[] sum2;
+    private final double[] sum2Lo;
+
+    private PrefixSums(int size, double shift, boolean compensated) {
+        this.size = size;
+        this.shift = shift;
+        this.sum = new double[size + 1];
+        this.sum2 = new double[size + 1];
+        this.sumLo = compensated ? new double[size + 1] : null;
+        this.sum2Lo = compensated ? new double[size + 1] : null;
+    }
+
+    public static PrefixSums of(double[] values) {
+        return of(values, 0, values.length, false);
+    }
+
+    // Prefix sums of values[from, to), the index i of the methods is values[from + i].
+    public static PrefixSums of(double[] values, int from, int to, boolean compensated) {
+        double shift = to > from ? values[from] : 0;
+        PrefixSums prefix = new PrefixSums(to - from, shift, compensated);
+        if (compensated) {
+            accumulate(values, from, to, shift, false, prefix.sum, prefix.sumLo);
+            accumulate(values, from, to, shift, true, prefix.sum2, prefix.sum2Lo);
+        } else {
+            double s = 0, s2 = 0;
+            for (int i = 0; i < to - from; i++) {
+                double v = values[from + i] - shift;
+                s += v;
+                s2 += v * v;
+                prefix.sum[i + 1] = s;
+                prefix.sum2[i + 1] = s2;
+            }
+        }
+        return prefix;
+    }
+
+    // Neumaier summation, hi + lo is the compensated prefix sum.
+    private static void accumulate(double[] values, int from, int to, double shift, boolean square,
+                                   double[] hi, double[] lo) {
+        double s = 0, c = 0;
+        for (int i = 0; i < to - from; i++) {
+            double v = values[from + i] - shift;
+            if (square) {
+                v *= v;
+            }
+            double t = s + v;
+            if (Math.abs(s) >= Math.abs(v)) {
+                c += (s - t) + v;
+            } else {
+                c += (v - t) + s;
+            }
+            s = t;
+            double h = s + c;
+            hi[i + 1] = h;
+            lo[i + 1] = (s - h) + c;
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isCompensated() {
+        return sumLo != null;
+    }
+
+    // number of values in the window of period ending at i
+    private static int count(int i, int period) {
+        return Math.min(period, i + 1);
+    }
+
+    private static double window(double[] hi, double[] lo, int i, int period) {
+        int end = i + 1, start = end - count(i, period);
+        double s = hi[end] - hi[start];
+        return lo == null ? s : s + (lo[end] - lo[start]);
+    }
+
+    // sum of the window of period ending at i
+    public double sum(int i, int period) {
+        return window(sum, sumLo, i, period) + count(i, period) * shift;
+    }
+
+    // mean of the window of period ending at i
+    public double mean(int i, int period) {
+        return shift + window(sum, sumLo, i, period) / count(i, period);
+    }
+
+    // population variance of the window of period ending at i
+    public double variance(int i, int period) {
+        int count = count(i, period);
+        double mean = window(sum, sumLo, i, period) / count;
+        return Math.max(0, window(sum2, sum2Lo, i, period) / count - mean * mean);
+    }
+
+    // Sum(period) into result, like TrendIndicators.Sum.
+    public double[] sum(int period, double[] result) {
+        for (int i = 0; i < size; i++) {
+            result[i] = sum(i, period);
+        }
+        return result;
+    }
+
+    // sma(period) into result, like TrendIndicators.sma.
+    public double[] sma(int period, double[] result) {
+        for (int i = 0; i < size; i++) {
+            result[i] = mean(i, period);
+        }
+        return result;
+    }
+
+    // Std(period) into result, like VolatilityIndicators.Std: 0 before the first full window.
+    public double[] std(int period, double[] result) {
+        for (int i = 0; i < size; i++) {
+            result[i] = i < period - 1 ? 0.0 : Math.sqrt(variance(i, period));
+        }
+        return result;
+    }
+
+    // sma of each period into results[p].
+    public void sma(int[] periods, double[][] results) {
+        for (int p = 0; p < periods.length; p++) {
+            sma(periods[p], results[p]);
+        }
+    }
+
+    // Std of each period into results[p].
+    public void std(int[] periods, double[][] results) {
+        for (int p = 0; p < periods.length; p++) {
+            std(periods[p], results[p]);
+        }
+    }
+}
@@ -18,16 +18,25 @@ public class Regression {
     // b = (sumY - m * sumX) / n
     public static Pair<Double, Double> LeastSquare(double[] x, double[] y) {
         checkSameSize(x, y);
+        return LeastSquare(x, y, 0, x.length);
+    }
+
+    // LeastSquare of [from, to).
+    public static Pair<Double, Double> LeastSquare(double[] x, double[] y, int from, int to) {
+        return leastSquare(x, from, y, from, to - from);
+    }
 
+    // Least square in one pass, x and y start at their own offsets.
+    private static Pair<Double, Double> leastSquare(double[] x, int xFrom, double[] y, int yFrom, int n) {
         double sumX = 0, sumX2 = 0, sumY = 0, sumXY = 0;
-        for (int i = 0; i < x.length; i++) {
-            sumX += x[i];
-            sumX2 += x[i] * x[i];
-            sumY += y[i];
-            sumXY += x[i] * y[i];
+        for (int i = 0; i < n; i++) {
+            double xi = x[xFrom + i], yi = y[yFrom + i];
+            sumX += xi;
+            sumX2 += xi * xi;
+            sumY += yi;
+            sumXY += xi * yi;
         }
 
-        int n = x.length;
         double m = ((n * sumXY) - (sumX * sumY)) / ((n * sumX2) - (sumX * sumX));
         double b = (sumY - (m * sumX)) / n;
 
@@ -46,41 +55,63 @@ public class Regression {
         checkSameSize(x, y);
         double[] m = new double[x.length];
         double[] b = new double[x.length];
+        MovingLeastSquare(period, x, y, 0, x.length, m, b);
+
+        return Pair.of(m, b);
+    }
+
+    // MovingLeastSquare of [from, to) into m and b.
+    public static void MovingLeastSquare(int period, double[] x, double[] y, int from, int to, double[] m, double[] b) {
+        movingLeastSquare(period, x, from, y, from, to - from, m, b);
+    }
 
+    // Moving least square, x and y start at their own offsets.
+    static void movingLeastSquare(int period, double[] x, int xFrom, double[] y, int yFrom, int length,
+                                  double[] m, double[] b) {
         double sumX = 0, sumX2 = 0, sumY = 0, sumXY = 0;
-        for (int i = 0; i < x.length; i++) {
-            sumX += x[i];
-            sumX2 += x[i] * x[i];
-            sumY += y[i];
-            sumXY += x[i] * y[i];
+        for (int i = 0; i < length; i++) {
+            double xi = x[xFrom + i], yi = y[yFrom + i];
+            sumX += xi;
+            sumX2 += xi * xi;
+            sumY += yi;
+            sumXY += xi * yi;
 
             int n = i + 1;
             if (i >= period) {
-                sumX -= x[i - period];
-                sumX2 -= x[i - period] * x[i - period];
-                sumY -= y[i - period];
-                sumXY -= x[i - period] * y[i - period];
+                double xp = x[xFrom + i - period], yp = y[yFrom + i - period];
+                sumX -= xp;
+                sumX2 -= xp * xp;
+                sumY -= yp;
+                sumXY -= xp * yp;
                 n = period;
             }
 
             m[i] = ((n * sumXY) - (sumX * sumY)) / ((n * sumX2) - (sumX * sumX));
             b[i] = (sumY - (m[i] * sumX)) / n;
         }
-
-        return Pair.of(m, b);
     }
 
     // Linear regression using least square method.
     //
     // y = mx + b
     public static double[] LinearRegressionUsingLeastSquare(double[] x, double[] y) {
-        Pair<Double, Double> pair = LeastSquare(x, y);
+        checkSameSize(x, y);
+        return LinearRegressionUsingLeastSquare(x, y, 0, x.length, new double[x.length]);
+    }
+
+    // LinearRegressionUsingLeastSquare of [from, to) into out.
+    public static double[] LinearRegressionUsingLeastSquare(double[] x, double[] y, int from, int to, double[] r) {
+        return linearRegression(x, from, y, from, to - from, r);
+    }
+
+    // Linear regression, x and y start at their own offsets.
+    static double[] linearRegression(double[] x, int xFrom, double[] y, int yFrom, int n, double[] r) {
+        Pair<Double, Double> pair = leastSquare(x, xFrom, y, yFrom, n);
         double m = pair.getLeft();
         double b = pair.getRight();
 
-        double[] r = new double[x.length];
-        for (int i = 0; i < r.length; i++) {
-            r[i] = (m * x[i]) + b;
+        for (int i = 0; i < n; i++) {
+            r[i] = (m * x[xFrom + i]) + b;
         }
 
         return r;
@@ -90,16 +121,29 @@ public class Regression {
     //
     // y = mx + b
     public static double[] MovingLinearRegressionUsingLeastSquare(int period, double[] x, double[] y) {
-        Pair<double[], double[]> pair = MovingLeastSquare(period, x, y);
-        double[] m = pair.getLeft();
-        double[] b = pair.getRight();
+        checkSameSize(x, y);
+        return MovingLinearRegressionUsingLeastSquare(period, x, y, 0, x.length, new double[x.length], new Workspace());
+    }
+
+    // MovingLinearRegressionUsingLeastSquare of [from, to) into out.
+    public static double[] MovingLinearRegressionUsingLeastSquare(int period, double[] x, double[] y, int from, int to,
+                                                                  double[] r, Workspace workspace) {
+        return movingLinearRegression(period, x, from, y, from, to - from, r, workspace);
+    }
 
-        double[] r = new double[x.length];
+    // Moving linear regression, x and y start at their own offsets.
+    static double[] movingLinearRegression(int period, double[] x, int xFrom, double[] y, int yFrom, int n,
+                                           double[] r, Workspace workspace) {
+        int mark = workspace.mark();
+        double[] m = workspace.take(n);
+        double[] b = workspace.take(n);
+        movingLeastSquare(period, x, xFrom, y, yFrom, n, m, b);
 
-        for (int i = 0; i < r.length; i++) {
-            r[i] = (m[i] * x[i]) + b[i];
+        for (int i = 0; i < n; i++) {
+            r[i] = (m[i] * x[xFrom + i]) + b[i];
         }
 
+        workspace.release(mark);
         return r;
     }
 
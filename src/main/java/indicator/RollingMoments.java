@@ -0,0 +1,134 @@
+package indicator;
+
+/**
+ * 滑动窗口的均值、方差、偏度、峰度 - 一次遍历，数值稳定
+ * <p>
+ * 保存窗口的均值和中心矩M2、M3、M4，新值进入、旧值离开时用Welford/Pébay的递推公式更新，
+ * 不像sum(x²)/n - mean²那样在高价位的长序列上损失精度或者得到负的方差。
+ * 每经过period个值按窗口重新精确计算一次中心矩，递推的舍入误差不会累积。
+ * 窗口未满时使用已有的值，与sma一致。
+ * 既可以逐个update做流式计算，也被Std、BollingerBands、ZScore等批量指标使用，两者结果逐位一致。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class RollingMoments {
+    private final int period;
+    private final double[] window;
+    private long count;
+    private int n;
+    private double mean;
+    private double m2;
+    private double m3;
+    private double m4;
+
+    public RollingMoments(int period) {
+        if (period <= 0) {
+            throw new RuntimeException("period must be positive");
+        }
+        this.period = period;
+        this.window = new double[period];
+    }
+
+    // Adds the value, the oldest value leaves when the window is full.
+    public RollingMoments update(double value) {
+        int slot = (int) (count % period);
+        if (n == period) {
+            remove(window[slot]);
+        }
+        window[slot] = value;
+        add(value);
+        count++;
+
+        if (n == period && slot == period - 1) {
+            recompute();
+        }
+        return this;
+    }
+
+    private void add(double x) {
+        long n1 = n;
+        n++;
+        double delta = x - mean;
+        double deltaN = delta / n;
+        double deltaN2 = deltaN * deltaN;
+        double term1 = delta * deltaN * n1;
+        mean += deltaN;
+        m4 += term1 * deltaN2 * ((double) n * n - 3 * n + 3) + 6 * deltaN2 * m2 - 4 * deltaN * m3;
+        m3 += term1 * deltaN * (n - 2) - 3 * deltaN * m2;
+        m2 += term1;
+    }
+
+    // inverse of add
+    private void remove(double y) {
+        if (n == 1) {
+            n = 0;
+            mean = m2 = m3 = m4 = 0;
+            return;
+        }
+        double previous = mean - (y - mean) / (n - 1);
+        double delta = y - previous;
+        double deltaN = delta / n;
+        double deltaN2 = deltaN * deltaN;
+        double term1 = delta * deltaN * (n - 1);
+        m2 -= term1;
+        m3 -= term1 * deltaN * (n - 2) - 3 * deltaN * m2;
+        m4 -= term1 * deltaN2 * ((double) n * n - 3 * n + 3) + 6 * deltaN2 * m2 - 4 * deltaN * m3;
+        mean = previous;
+        n--;
+    }
+
+    // two pass central moments of the full window
+    private void recompute() {
+        double sum = 0;
+        for (double x : window) {
+            sum += x;
+        }
+        double mean = sum / period;
+        double s1 = 0, s2 = 0, s3 = 0, s4 = 0;
+        for (double x : window) {
+            double d = x - mean;
+            double d2 = d * d;
+            s1 += d;
+            s2 += d2;
+            s3 += d2 * d;
+            s4 += d2 * d2;
+        }
+        // s1 corrects the rounding error of the mean
+        this.mean = mean + s1 / period;
+        this.m2 = s2 - s1 * s1 / period;
+        this.m3 = s3;
+        this.m4 = s4;
+    }
+
+    // number of values in the window
+    public int size() {
+        return n;
+    }
+
+    public boolean isFull() {
+        return n == period;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    // population variance
+    public double getVariance() {
+        return n == 0 ? 0.0 : Math.max(m2, 0) / n;
+    }
+
+    public double getStd() {
+        return Math.sqrt(getVariance());
+    }
+
+    // population skewness, 0 when the values are all the same
+    public double getSkewness() {
+        return m2 <= 0 ? 0.0 : Math.sqrt(n) * m3 / Math.pow(m2, 1.5);
+    }
+
+    // excess kurtosis, 0 when the values are all the same
+    public double getKurtosis() {
+        return m2 <= 0 ? 0.0 : n * m4 / (m2 * m2) - 3;
+    }
+}
@@ -0,0 +1,97 @@
+package indicator;
+
+/**
+ * 逐元素运算的标量实现，也是VectorKernels处理不满一个向量的尾部时用的实现
+ * <p>
+ * 每个方法处理n个元素：输入从a[ai]、b[bi]开始，结果从result[ri]开始，结果可以与输入是同一个数组。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+class ScalarKernels {
+
+    void add(double[] a, int ai, double[] b, int bi, double[] result, int ri, int n) {
+        for (int i = 0; i < n; i++) {
+            result[ri + i] = a[ai + i] + b[bi + i];
+        }
+    }
+
+    void sub(double[] a, int ai, double[] b, int bi, double[] result, int ri, int n) {
+        for (int i = 0; i < n; i++) {
+            result[ri + i] = a[ai + i] - b[bi + i];
+        }
+    }
+
+    void mul(double[] a, int ai, double[] b, int bi, double[] result, int ri, int n) {
+        for (int i = 0; i < n; i++) {
+            result[ri + i] = a[ai + i] * b[bi + i];
+        }
+    }
+
+    void div(double[] a, int ai, double[] b, int bi, double[] result, int ri, int n) {
+        for (int i = 0; i < n; i++) {
+            result[ri + i] = a[ai + i] / b[bi + i];
+        }
+    }
+
+    void addBy(double[] a, int ai, double s, double[] result, int ri, int n) {
+        for (int i = 0; i < n; i++) {
+            result[ri + i] = a[ai + i] + s;
+        }
+    }
+
+    void multiplyBy(double[] a, int ai, double s, double[] result, int ri, int n) {
+        for (int i = 0; i < n; i++) {
+            result[ri + i] = a[ai + i] * s;
+        }
+    }
+
+    void pow(double[] a, int ai, double exponent, double[] result, int ri, int n) {
+        for (int i = 0; i < n; i++) {
+            result[ri + i] = Math.pow(a[ai + i], exponent);
+        }
+    }
+
+    void sqrt(double[] a, int ai, double[] result, int ri, int n) {
+        for (int i = 0; i < n; i++) {
+            result[ri + i] = Math.sqrt(a[ai + i]);
+        }
+    }
+
+    void abs(double[] a, int ai, double[] result, int ri, int n) {
+        for (int i = 0; i < n; i++) {
+            result[ri + i] = Math.abs(a[ai + i]);
+        }
+    }
+
+    void sign(double[] a, int ai, double[] result, int ri, int n) {
+        for (int i = 0; i < n; i++) {
+            result[ri + i] = a[ai + i] >= 0 ? 1 : -1;
+        }
+    }
+
+    void positives(double[] a, int ai, double[] result, int ri, int n) {
+        for (int i = 0; i < n; i++) {
+            result[ri + i] = a[ai + i] > 0 ? a[ai + i] : 0;
+        }
+    }
+
+    void negatives(double[] a, int ai, double[] result, int ri, int n) {
+        for (int i = 0; i < n; i++) {
+            result[ri + i] = a[ai + i] < 0 ? a[ai + i] : 0;
+        }
+    }
+
+    void trueRange(double[] high, double[] low, double[] closing, int from, double[] result, int ri, int n) {
+        for (int i = 0; i < n; i++) {
+            int j = from + i;
+            result[ri + i] = Math.max(high[j] - low[j], Math.max(high[j] - closing[j], closing[j] - low[j]));
+        }
+    }
+
+    void bandWidth(double[] upper, double[] lower, double[] middle, int from, double[] result, int ri, int n) {
+        for (int i = 0; i < n; i++) {
+            int j = from + i;
+            result[ri + i] = (upper[j] - lower[j]) / middle[j];
+        }
+    }
+}
@@ -1,12 +1,15 @@
 package indicator;
 
-import base.Tree;
+import base.MonotonicDeque;
 import base.Pair;
 import base.Triple;
 
 import static indicator.Helper.*;
 
 /**
+ * 每个指标都有一个带区间和输出数组的重载，计算values[from, to)，结果写入out[0, to - from)，
+ * 中间结果使用Workspace里的缓冲区，不分配内存。out不能是输入数组。
+ *
  * @author jinfeng.hu  @Date 2022-10-07
  **/
 public class TrendIndicators {
@@ -24,10 +27,20 @@ public class TrendIndicators {
     //
     // Returns apo.
     public static double[] AbsolutePriceOscillator(int fastPeriod, int slowPeriod, double[] values) {
-        double[] fast = Ema(fastPeriod, values);
-        double[] slow = Ema(slowPeriod, values);
-        double[] apo = subtract(fast, slow);
+        return AbsolutePriceOscillator(fastPeriod, slowPeriod, values, 0, values.length, new double[values.length], new Workspace());
+    }
+
+    // AbsolutePriceOscillator of values[from, to) into out.
+    public static double[] AbsolutePriceOscillator(int fastPeriod, int slowPeriod, double[] values, int from, int to,
+                                                   double[] apo, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
 
+        double[] fast = workspace.take(n), slow = workspace.take(n);
+        EmaBank.Ema(fastPeriod, slowPeriod, values, from, to, fast, slow);
+        Vec.of(fast, 0, n).sub(Vec.of(slow, 0, n)).into(apo, workspace);
+
+        workspace.release(mark);
         return apo;
     }
 
@@ -53,19 +66,43 @@ public class TrendIndicators {
     public static Pair<double[], double[]> Aroon(double[] high, double[] low) {
         checkSameSize(high, low);
 
-        int[] sinceLastHigh25 = Since(Max(25, high));
-        int[] sinceLastLow25 = Since(Min(25, low));
         double[] aroonUp = new double[high.length];
         double[] aroonDown = new double[high.length];
-
-        for (int i = 0; i < aroonUp.length; i++) {
-            aroonUp[i] = ((25 - sinceLastHigh25[i]) / 25.000) * 100;
-            aroonDown[i] = ((25 - sinceLastLow25[i]) / 25.000) * 100;
-        }
+        Aroon(high, low, 0, high.length, aroonUp, aroonDown, new Workspace());
 
         return Pair.of(aroonUp, aroonDown);
     }
 
+    // Aroon of [from, to) into aroonUp and aroonDown.
+    public static void Aroon(double[] high, double[] low, int from, int to,
+                             double[] aroonUp, double[] aroonDown, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+        double[] extremum = workspace.take(n);
+
+        aroon(Max(25, high, from, to, extremum), n, aroonUp);
+        aroon(Min(25, low, from, to, extremum), n, aroonDown);
+
+        workspace.release(mark);
+    }
+
+    // ((25 - Since(extremum)) / 25) * 100
+    private static void aroon(double[] extremum, int n, double[] result) {
+        double lastValue = 0.000;
+        int sinceLast = 0;
+
+        for (int i = 0; i < n; i++) {
+            if (extremum[i] != lastValue) {
+                lastValue = extremum[i];
+                sinceLast = 0;
+            } else {
+                sinceLast++;
+            }
+
+            result[i] = ((25 - sinceLast) / 25.000) * 100;
+        }
+    }
+
     // The BalanceOfPower function calculates the strength of buying and selling
     // pressure. Positive value indicates an upward trend, and negative value
     // indicates a downward trend. Zero indicates a balance between the two.
@@ -74,10 +111,18 @@ public class TrendIndicators {
     //
     // Returns bop.
     public static double[] BalanceOfPower(double[] opening, double[] high, double[] low, double[] closing) {
-        double[] bop = divide(subtract(closing, opening), subtract(high, low));
+        double[] bop = Vec.of(closing).sub(opening).div(Vec.of(high).sub(low)).toArray();
         return bop;
     }
 
+    // BalanceOfPower of [from, to) into out.
+    public static double[] BalanceOfPower(double[] opening, double[] high, double[] low, double[] closing,
+                                          int from, int to, double[] bop, Workspace workspace) {
+        return Vec.of(closing, from, to).sub(Vec.of(opening, from, to))
+                .div(Vec.of(high, from, to).sub(Vec.of(low, from, to)))
+                .into(bop, workspace);
+    }
+
     // The Chande Forecast Oscillator developed by Tushar Chande The Forecast
     // Oscillator plots the percentage difference between the closing price and
     // the n-period linear regression forecasted price. The oscillator is above
@@ -89,10 +134,20 @@ public class TrendIndicators {
     //
     // Returns cfo.
     public static double[] ChandeForecastOscillator(double[] closing) {
-        double[] x = generateNumbers(0, closing.length, 1);
-        double[] r = Regression.LinearRegressionUsingLeastSquare(x, closing);
-        double[] cfo = multiplyBy(divide(subtract(closing, r), closing), 100);
+        return ChandeForecastOscillator(closing, 0, closing.length, new double[closing.length], new Workspace());
+    }
+
+    // ChandeForecastOscillator of closing[from, to) into out.
+    public static double[] ChandeForecastOscillator(double[] closing, int from, int to, double[] cfo, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
 
+        double[] x = generateNumbers(0, n, 1, workspace.take(n));
+        double[] r = Regression.linearRegression(x, 0, closing, from, n, workspace.take(n));
+        Vec c = Vec.of(closing, from, to);
+        c.sub(Vec.of(r, 0, n)).div(c).multiplyBy(100).into(cfo, workspace);
+
+        workspace.release(mark);
         return cfo;
     }
 
@@ -106,12 +161,25 @@ public class TrendIndicators {
     //
     // Returns cmi.
     public static double[] CommunityChannelIndex(int period, double[] high, double[] low, double[] closing) {
-        double[] tp = TypicalPrice(low, high, closing).getLeft();
-        double[] ma = sma(period, tp);
-        double[] md = sma(period, abs(subtract(tp, ma)));
-        double[] cci = divide(subtract(tp, ma), multiplyBy(md, 0.015));
+        checkSameSize(high, low, closing);
+        return CommunityChannelIndex(period, high, low, closing, 0, closing.length, new double[closing.length], new Workspace());
+    }
+
+    // CommunityChannelIndex of [from, to) into out.
+    public static double[] CommunityChannelIndex(int period, double[] high, double[] low, double[] closing,
+                                                 int from, int to, double[] cci, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        double[] tp = typicalPrice(low, high, closing, from, to, workspace.take(n));
+        double[] ma = sma(period, tp, 0, n, workspace.take(n));
+        Vec deviation = Vec.of(tp, 0, n).sub(Vec.of(ma, 0, n));
+        double[] absDeviation = deviation.abs().into(workspace.take(n), workspace);
+        double[] md = sma(period, absDeviation, 0, n, workspace.take(n));
+        deviation.div(Vec.of(md, 0, n).multiplyBy(0.015)).into(cci, workspace);
         cci[0] = 0;
 
+        workspace.release(mark);
         return cci;
     }
 
@@ -126,23 +194,35 @@ public class TrendIndicators {
     //
     // Returns dema.
     public static double[] Dema(int period, double[] values) {
-        double[] ema1 = Ema(period, values);
-        double[] ema2 = Ema(period, ema1);
-        double[] dema = subtract(multiplyBy(ema1, 2), ema2);
+        return Dema(period, values, 0, values.length, new double[values.length], new Workspace());
+    }
 
+    // Dema of values[from, to) into out.
+    public static double[] Dema(int period, double[] values, int from, int to, double[] dema, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        double[] ema1 = Ema(period, values, from, to, workspace.take(n));
+        double[] ema2 = Ema(period, ema1, 0, n, workspace.take(n));
+        Vec.of(ema1, 0, n).multiplyBy(2).sub(Vec.of(ema2, 0, n)).into(dema, workspace);
+
+        workspace.release(mark);
         return dema;
     }
 
     // Exponential Moving Average (EMA).
     public static double[] Ema(int period, double[] values) {
-        double[] result = new double[values.length];
+        return Ema(period, values, 0, values.length, new double[values.length]);
+    }
 
+    // Ema of values[from, to) into out.
+    public static double[] Ema(int period, double[] values, int from, int to, double[] result) {
         double k = 2.00 / (1 + period);
-        for (int i = 0; i < values.length; i++) {
+        for (int i = 0; i < to - from; i++) {
             if (i > 0) {
-                result[i] = (values[i] * k) + (result[i - 1] * (1 - k));
+                result[i] = (values[from + i] * k) + (result[i - 1] * (1 - k));
             } else {
-                result[i] = values[i];
+                result[i] = values[from + i];
             }
         }
 
@@ -156,14 +236,26 @@ public class TrendIndicators {
     //
     // Returns MACD, signal.
     public static Pair<double[], double[]> Macd(double[] close) {
-        double[] ema12 = Ema(12, close);
-        double[] ema26 = Ema(26, close);
-        double[] macd = subtract(ema12, ema26);
-        double[] signal = Ema(9, macd);
+        double[] macd = new double[close.length];
+        double[] signal = new double[close.length];
+        Macd(close, 0, close.length, macd, signal, new Workspace());
 
         return Pair.of(macd, signal);
     }
 
+    // Macd of close[from, to) into macd and signal.
+    public static void Macd(double[] close, int from, int to, double[] macd, double[] signal, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        double[] ema12 = workspace.take(n), ema26 = workspace.take(n);
+        EmaBank.Ema(12, 26, close, from, to, ema12, ema26);
+        Vec.of(ema12, 0, n).sub(Vec.of(ema26, 0, n)).into(macd, workspace);
+        Ema(9, macd, 0, n, signal);
+
+        workspace.release(mark);
+    }
+
     // The Mass Index (MI) uses the high-low range to identify trend reversals
     // based on range expansions.
     //
@@ -174,11 +266,22 @@ public class TrendIndicators {
     //
     // Returns mi.
     public static double[] MassIndex(double[] high, double[] low) {
-        double[] ema1 = Ema(9, subtract(high, low));
-        double[] ema2 = Ema(9, ema1);
-        double[] ratio = divide(ema1, ema2);
-        double[] mi = Sum(25, ratio);
+        checkSameSize(high, low);
+        return MassIndex(high, low, 0, high.length, new double[high.length], new Workspace());
+    }
+
+    // MassIndex of [from, to) into out.
+    public static double[] MassIndex(double[] high, double[] low, int from, int to, double[] mi, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        double[] range = Vec.of(high, from, to).sub(Vec.of(low, from, to)).into(workspace.take(n), workspace);
+        double[] ema1 = Ema(9, range, 0, n, workspace.take(n));
+        double[] ema2 = Ema(9, ema1, 0, n, workspace.take(n));
+        double[] ratio = Vec.of(ema1, 0, n).div(Vec.of(ema2, 0, n)).into(range, workspace);
+        Sum(25, ratio, 0, n, mi);
 
+        workspace.release(mark);
         return mi;
     }
 
@@ -196,28 +299,35 @@ public class TrendIndicators {
     //
     // Returns cfo.
     public static double[] MovingChandeForecastOscillator(int period, double[] closing) {
-        double[] x = generateNumbers(0, closing.length, 1);
-        double[] r = Regression.MovingLinearRegressionUsingLeastSquare(period, x, closing);
+        return MovingChandeForecastOscillator(period, closing, 0, closing.length, new double[closing.length], new Workspace());
+    }
+
+    // MovingChandeForecastOscillator of closing[from, to) into out.
+    public static double[] MovingChandeForecastOscillator(int period, double[] closing, int from, int to,
+                                                          double[] cfo, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
 
-        double[] cfo = multiplyBy(divide(subtract(closing, r), closing), 100);
+        double[] x = generateNumbers(0, n, 1, workspace.take(n));
+        double[] r = Regression.movingLinearRegression(period, x, 0, closing, from, n, workspace.take(n), workspace);
+        Vec c = Vec.of(closing, from, to);
+        c.sub(Vec.of(r, 0, n)).div(c).multiplyBy(100).into(cfo, workspace);
 
+        workspace.release(mark);
         return cfo;
     }
 
     // Moving max for the given period.
     public static double[] Max(int period, double[] values) {
-        double[] result = new double[values.length];
-        double[] buffer = new double[period];
-        Tree bst = Tree.New();
-        for (int i = 0; i < values.length; i++) {
-            bst.insert(values[i]);
+        return Max(period, values, 0, values.length, new double[values.length]);
+    }
 
-            if (i >= period) {
-                bst.remove(buffer[i % period]);
-            }
+    // Max of values[from, to) into out.
+    public static double[] Max(int period, double[] values, int from, int to, double[] result) {
+        MonotonicDeque deque = MonotonicDeque.max(period);
 
-            buffer[i % period] = values[i];
-            result[i] = bst.max().doubleValue();
+        for (int i = 0; i < to - from; i++) {
+            result[i] = deque.push(values[from + i]);
         }
 
         return result;
@@ -225,19 +335,15 @@ public class TrendIndicators {
 
     // Moving min for the given period.
     public static double[] Min(int period, double[] values) {
-        double[] result = new double[values.length];
-        double[] buffer = new double[period];
-        Tree bst = Tree.New();
+        return Min(period, values, 0, values.length, new double[values.length]);
+    }
 
-        for (int i = 0; i < values.length; i++) {
-            bst.insert(values[i]);
+    // Min of values[from, to) into out.
+    public static double[] Min(int period, double[] values, int from, int to, double[] result) {
+        MonotonicDeque deque = MonotonicDeque.min(period);
 
-            if (i >= period) {
-                bst.remove(buffer[i % period]);
-            }
-
-            buffer[i % period] = values[i];
-            result[i] = bst.min().doubleValue();
+        for (int i = 0; i < to - from; i++) {
+            result[i] = deque.push(values[from + i]);
         }
 
         return result;
@@ -273,47 +379,55 @@ public class TrendIndicators {
 
         TrendEnum[] trendEnum = new TrendEnum[high.length];
         double[] psar = new double[high.length];
+        ParabolicSar(high, low, closing, 0, high.length, psar, trendEnum);
 
+        return Pair.of(psar, trendEnum);
+    }
+
+    // ParabolicSar of [from, to) into psar and trend.
+    public static void ParabolicSar(double[] high, double[] low, double[] closing, int from, int to,
+                                    double[] psar, TrendEnum[] trendEnum) {
         double af, ep;
 
         trendEnum[0] = TrendEnum.Falling;
-        psar[0] = high[0];
+        psar[0] = high[from];
         af = psarAfStep;
-        ep = low[0];
+        ep = low[from];
 
         for (int i = 1;
-             i < psar.length;
+             i < to - from;
              i++) {
+            int j = from + i;
             psar[i] = psar[i - 1] - ((psar[i - 1] - ep) * af);
 
             if (trendEnum[i - 1] == TrendEnum.Falling) {
-                psar[i] = Math.max(psar[i], high[i - 1]);
+                psar[i] = Math.max(psar[i], high[j - 1]);
                 if (i > 1) {
-                    psar[i] = Math.max(psar[i], high[i - 2]);
+                    psar[i] = Math.max(psar[i], high[j - 2]);
                 }
 
-                if (high[i] >= psar[i]) {
+                if (high[j] >= psar[i]) {
                     psar[i] = ep;
                 }
             } else {
-                psar[i] = Math.min(psar[i], low[i - 1]);
+                psar[i] = Math.min(psar[i], low[j - 1]);
                 if (i > 1) {
-                    psar[i] = Math.min(psar[i], low[i - 2]);
+                    psar[i] = Math.min(psar[i], low[j - 2]);
                 }
 
-                if (low[i] <= psar[i]) {
+                if (low[j] <= psar[i]) {
                     psar[i] = ep;
                 }
             }
 
             double prevEp = ep;
 
-            if (psar[i] > closing[i]) {
+            if (psar[i] > closing[j]) {
                 trendEnum[i] = TrendEnum.Falling;
-                ep = Math.min(ep, low[i]);
+                ep = Math.min(ep, low[j]);
             } else {
                 trendEnum[i] = TrendEnum.Rising;
-                ep = Math.max(ep, high[i]);
+                ep = Math.max(ep, high[j]);
             }
 
             if (trendEnum[i] != trendEnum[i - 1]) {
@@ -322,8 +436,6 @@ public class TrendIndicators {
                 af += psarAfStep;
             }
         }
-
-        return Pair.of(psar, trendEnum);
     }
 
     // The Qstick function calculates the ratio of recent up and down bars.
@@ -332,7 +444,20 @@ public class TrendIndicators {
     //
     // Returns qs.
     public static double[] Qstick(int period, double[] opening, double[] closing) {
-        double[] qs = sma(period, subtract(closing, opening));
+        checkSameSize(opening, closing);
+        return Qstick(period, opening, closing, 0, closing.length, new double[closing.length], new Workspace());
+    }
+
+    // Qstick of [from, to) into out.
+    public static double[] Qstick(int period, double[] opening, double[] closing, int from, int to,
+                                  double[] qs, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        double[] body = Vec.of(closing, from, to).sub(Vec.of(opening, from, to)).into(workspace.take(n), workspace);
+        sma(period, body, 0, n, qs);
+
+        workspace.release(mark);
         return qs;
     }
 
@@ -355,18 +480,50 @@ public class TrendIndicators {
     // Returns k, d, j.
     public static Triple<double[], double[], double[]> Kdj(int rPeriod, int kPeriod, int dPeriod,
                                                            double[] high, double[] low, double[] closing) {
-        double[] highest = Max(rPeriod, high);
-        double[] lowest = Min(rPeriod, low);
-
-        double[] rsv = multiplyBy(divide(subtract(closing, lowest), subtract(highest, lowest)), 100);
+        checkSameSize(high, low, closing);
 
-        double[] k = sma(kPeriod, rsv);
-        double[] d = sma(dPeriod, k);
-        double[] j = subtract(multiplyBy(k, 3), multiplyBy(d, 2));
+        double[] k = new double[closing.length];
+        double[] d = new double[closing.length];
+        double[] j = new double[closing.length];
+        Kdj(rPeriod, kPeriod, dPeriod, high, low, closing, 0, closing.length, k, d, j, new Workspace());
 
         return Triple.of(k, d, j);
     }
 
+    // Kdj of [from, to) into k, d and j.
+    public static void Kdj(int rPeriod, int kPeriod, int dPeriod, double[] high, double[] low, double[] closing,
+                           int from, int to, double[] k, double[] d, double[] j, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        double[] rsv = Rsv(rPeriod, high, low, closing, from, to, workspace.take(n), workspace);
+
+        sma(kPeriod, rsv, 0, n, k);
+        sma(dPeriod, k, 0, n, d);
+        Vec.of(k, 0, n).multiplyBy(3).sub(Vec.of(d, 0, n).multiplyBy(2)).into(j, workspace);
+
+        workspace.release(mark);
+    }
+
+    // Raw stochastic value of [from, to) into rsv, the first step of Kdj.
+    // It only depends on rPeriod, so it can be shared by Kdj with different kPeriod and dPeriod.
+    //
+    // RSV = ((Closing - Min(Low, rPeriod))
+    //       / (Max(High, rPeriod) - Min(Low, rPeriod))) * 100
+    public static double[] Rsv(int rPeriod, double[] high, double[] low, double[] closing,
+                               int from, int to, double[] rsv, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        Vec highest = Vec.of(Max(rPeriod, high, from, to, workspace.take(n)), 0, n);
+        Vec lowest = Vec.of(Min(rPeriod, low, from, to, workspace.take(n)), 0, n);
+
+        Vec.of(closing, from, to).sub(lowest).div(highest.sub(lowest)).multiplyBy(100).into(rsv, workspace);
+
+        workspace.release(mark);
+        return rsv;
+    }
+
     // The DefaultKdj function calculates KDJ based on default periods
     // consisting of rPeriod of 9, kPeriod of 3, and dPeriod of 3.
     //
@@ -382,16 +539,20 @@ public class TrendIndicators {
     //
     // Returns r.
     public static double[] Rma(int period, double[] values) {
-        double[] result = new double[values.length];
+        return Rma(period, values, 0, values.length, new double[values.length]);
+    }
+
+    // Rma of values[from, to) into out.
+    public static double[] Rma(int period, double[] values, int from, int to, double[] result) {
         double sum = 0.00;
 
-        for (int i = 0; i < values.length; i++) {
+        for (int i = 0; i < to - from; i++) {
             int count = i + 1;
 
             if (i < period) {
-                sum += values[i];
+                sum += values[from + i];
             } else {
-                sum = result[i - 1] * (period - 1) + values[i];
+                sum = result[i - 1] * (period - 1) + values[from + i];
                 count = period;
             }
 
@@ -403,15 +564,19 @@ public class TrendIndicators {
 
     // Simple Moving Average (SMA).
     public static double[] sma(int period, double[] values) {
-        double[] result = new double[values.length];
+        return sma(period, values, 0, values.length, new double[values.length]);
+    }
+
+    // sma of values[from, to) into out.
+    public static double[] sma(int period, double[] values, int from, int to, double[] result) {
         double sum = 0.00;
 
-        for (int i = 0; i < values.length; i++) {
+        for (int i = 0; i < to - from; i++) {
             int count = i + 1;
-            sum += values[i];
+            sum += values[from + i];
 
             if (i >= period) {
-                sum -= values[i - period];
+                sum -= values[from + i - period];
                 count = period;
             }
 
@@ -423,13 +588,16 @@ public class TrendIndicators {
 
     // Since last values change.
     public static int[] Since(double[] values) {
-        int[] result = new int[values.length];
+        return Since(values, 0, values.length, new int[values.length]);
+    }
 
+    // Since of values[from, to) into out.
+    public static int[] Since(double[] values, int from, int to, int[] result) {
         double lastValue = 0.000; // TODO
         int sinceLast = 0;
 
-        for (int i = 0; i < values.length; i++) {
-            double value = values[i];
+        for (int i = 0; i < to - from; i++) {
+            double value = values[from + i];
 
             if (value != lastValue) {
                 lastValue = value;
@@ -446,13 +614,17 @@ public class TrendIndicators {
 
     // Moving sum for the given period.
     public static double[] Sum(int period, double[] values) {
-        double[] result = new double[values.length];
+        return Sum(period, values, 0, values.length, new double[values.length]);
+    }
+
+    // Sum of values[from, to) into out.
+    public static double[] Sum(int period, double[] values, int from, int to, double[] result) {
         double sum = 0.0;
 
-        for (int i = 0; i < values.length; i++) {
-            sum += values[i];
+        for (int i = 0; i < to - from; i++) {
+            sum += values[from + i];
             if (i >= period) {
-                sum -= values[i - period];
+                sum -= values[from + i - period];
             }
             result[i] = sum;
         }
@@ -469,12 +641,22 @@ public class TrendIndicators {
     //
     // Returns tema.
     public static double[] Tema(int period, double[] values) {
-        double[] ema1 = Ema(period, values);
-        double[] ema2 = Ema(period, ema1);
-        double[] ema3 = Ema(period, ema2);
+        return Tema(period, values, 0, values.length, new double[values.length], new Workspace());
+    }
 
-        double[] tema = add(subtract(multiplyBy(ema1, 3), multiplyBy(ema2, 3)), ema3);
+    // Tema of values[from, to) into out.
+    public static double[] Tema(int period, double[] values, int from, int to, double[] tema, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
 
+        double[] ema1 = Ema(period, values, from, to, workspace.take(n));
+        double[] ema2 = Ema(period, ema1, 0, n, workspace.take(n));
+        double[] ema3 = Ema(period, ema2, 0, n, workspace.take(n));
+
+        Vec.of(ema1, 0, n).multiplyBy(3).sub(Vec.of(ema2, 0, n).multiplyBy(3)).add(Vec.of(ema3, 0, n))
+                .into(tema, workspace);
+
+        workspace.release(mark);
         return tema;
     }
 
@@ -487,6 +669,11 @@ public class TrendIndicators {
     //
     // Returns trima.
     public static double[] Trima(int period, double[] values) {
+        return Trima(period, values, 0, values.length, new double[values.length], new Workspace());
+    }
+
+    // Trima of values[from, to) into out.
+    public static double[] Trima(int period, double[] values, int from, int to, double[] trima, Workspace workspace) {
         int n1, n2;
 
         if (period % 2 == 0) {
@@ -497,7 +684,12 @@ public class TrendIndicators {
             n2 = n1;
         }
 
-        double[] trima = sma(n1, sma(n2, values));
+        int n = to - from;
+        int mark = workspace.mark();
+
+        sma(n1, sma(n2, values, from, to, workspace.take(n)), 0, n, trima);
+
+        workspace.release(mark);
         return trima;
     }
 
@@ -513,12 +705,21 @@ public class TrendIndicators {
     //
     // Returns trix.
     public static double[] Trix(int period, double[] values) {
-        double[] ema1 = Ema(period, values);
-        double[] ema2 = Ema(period, ema1);
-        double[] ema3 = Ema(period, ema2);
-        double[] previous = shiftRightAndFillBy(1, ema3[0], ema3);
-        double[] trix = divide(subtract(ema3, previous), previous);
+        return Trix(period, values, 0, values.length, new double[values.length], new Workspace());
+    }
 
+    // Trix of values[from, to) into out.
+    public static double[] Trix(int period, double[] values, int from, int to, double[] trix, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        double[] ema1 = Ema(period, values, from, to, workspace.take(n));
+        double[] ema2 = Ema(period, ema1, 0, n, workspace.take(n));
+        double[] ema3 = Ema(period, ema2, 0, n, workspace.take(n));
+        Vec previous = Vec.of(ema3, 0, n).shift(1, ema3[0]);
+        Vec.of(ema3, 0, n).sub(previous).div(previous).into(trix, workspace);
+
+        workspace.release(mark);
         return trix;
     }
 
@@ -530,14 +731,31 @@ public class TrendIndicators {
     // Returns typical price, 20-Period SMA.
     public static Pair<double[], double[]> TypicalPrice(double[] low, double[] high, double[] closing) {
         checkSameSize(high, low, closing);
-        double[] sma20 = sma(20, closing);
+
         double[] ta = new double[closing.length];
+        double[] sma20 = new double[closing.length];
+        TypicalPrice(low, high, closing, 0, closing.length, ta, sma20);
 
-        for (int i = 0; i < ta.length; i++) {
-            ta[i] = (high[i] + low[i] + closing[i]) / 3;
+        return Pair.of(ta, sma20);
+    }
+
+    // TypicalPrice of [from, to) into typical price and 20-Period SMA.
+    // sma20 can be null when only the typical price is needed.
+    public static void TypicalPrice(double[] low, double[] high, double[] closing, int from, int to,
+                                    double[] ta, double[] sma20) {
+        if (sma20 != null) {
+            sma(20, closing, from, to, sma20);
         }
+        typicalPrice(low, high, closing, from, to, ta);
+    }
 
-        return Pair.of(ta, sma20);
+    // Typical Price without the 20-Period SMA.
+    static double[] typicalPrice(double[] low, double[] high, double[] closing, int from, int to, double[] ta) {
+        for (int i = 0; i < to - from; i++) {
+            ta[i] = (high[from + i] + low[from + i] + closing[from + i]) / 3;
+        }
+
+        return ta;
     }
 
     // Vortex Indicator. It provides two oscillators that capture positive and
@@ -608,9 +826,47 @@ public class TrendIndicators {
     //
     // Returns vwma
     public static double[] Vwma(int period, double[] closing, long[] volume) {
-        double[] floatVolume = asDouble(volume);
-        double[] vwma = divide(Sum(period, multiply(closing, floatVolume)), Sum(period, floatVolume));
+        if (closing.length != volume.length) {
+            throw new RuntimeException("not all same size");
+        }
+
+        return Vwma(period, closing, volume, 0, closing.length, new double[closing.length], new Workspace());
+    }
+
+    // Vwma of [from, to) into out.
+    public static double[] Vwma(int period, double[] closing, long[] volume, int from, int to,
+                                double[] vwma, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        double[] floatVolume = Vec.of(volume, from, to).into(workspace.take(n), workspace);
+        double[] priceVolume = Vec.of(closing, from, to).mul(Vec.of(floatVolume, 0, n)).into(workspace.take(n), workspace);
+        Vwma(period, priceVolume, floatVolume, n, vwma, workspace);
+
+        workspace.release(mark);
+        return vwma;
+    }
+
+    // The PriceVolume function calculates closing * volume and volume as
+    // double of [from, to), the inputs of Vwma that do not depend on the period.
+    //
+    // Returns priceVolume, floatVolume
+    public static Pair<double[], double[]> PriceVolume(double[] closing, long[] volume, int from, int to) {
+        double[] floatVolume = Vec.of(volume, from, to).toArray();
+        double[] priceVolume = Vec.of(closing, from, to).mul(floatVolume).toArray();
+        return Pair.of(priceVolume, floatVolume);
+    }
+
+    // Vwma of the first n values of the PriceVolume results into out, same as Vwma of the closing and volume.
+    public static double[] Vwma(int period, double[] priceVolume, double[] floatVolume, int n,
+                                double[] vwma, Workspace workspace) {
+        int mark = workspace.mark();
+
+        Vec sumPriceVolume = Vec.of(Sum(period, priceVolume, 0, n, workspace.take(n)), 0, n);
+        Vec sumVolume = Vec.of(Sum(period, floatVolume, 0, n, workspace.take(n)), 0, n);
+        sumPriceVolume.div(sumVolume).into(vwma, workspace);
 
+        workspace.release(mark);
         return vwma;
     }
 
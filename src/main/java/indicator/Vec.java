@@ -0,0 +1,444 @@
+package indicator;
+
+import java.util.ArrayDeque;
+
+/**
+ * 惰性向量表达式
+ * <p>
+ * Helper的每个方法都会分配一个完整长度的double[]，指标里链式调用时产生大量临时数组。
+ * Vec只记录表达式树，toArray()/into()时按块（CHUNK个元素）在一次遍历里求值，
+ * 中间结果只存在于块大小的缓冲区里，整个表达式只写一次输出数组。
+ * <pre>
+ * double[] bop = Vec.of(closing).sub(opening).div(Vec.of(high).sub(low)).toArray();
+ * </pre>
+ * 每个运算与Helper中对应方法的计算顺序相同，结果逐位一致：
+ * sub即subtract，divideBy(d)即乘以1/d，pow使用Math.pow。
+ * <p>
+ * 只支持逐元素运算和shift，窗口类计算（sma、Ema、Sum等）需要先toArray()。
+ * 表达式不可变，同一个节点可以在表达式里出现多次，也可以被多个线程同时求值。
+ * 需要完全不分配内存时，用into(out, workspace)复用Workspace里的块缓冲区。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public abstract class Vec {
+    // 每块的元素个数，8KB一块，中间结果留在L1缓存
+    static final int CHUNK = 1024;
+
+    private static final int ADD = 0;
+    private static final int SUB = 1;
+    private static final int MUL = 2;
+    private static final int DIV = 3;
+
+    private static final int ADD_BY = 0;
+    private static final int MULTIPLY_BY = 1;
+    private static final int POW = 2;
+
+    private static final int SQRT = 0;
+    private static final int ABS = 1;
+    private static final int SIGN = 2;
+    private static final int POSITIVES = 3;
+    private static final int NEGATIVES = 4;
+
+    final int length;
+
+    Vec(int length) {
+        this.length = length;
+    }
+
+    // Vec of the given values, values are not copied.
+    public static Vec of(double[] values) {
+        return of(values, 0, values.length);
+    }
+
+    // Vec of values[from, to), values are not copied.
+    public static Vec of(double[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        return new Leaf(values, from, to - from);
+    }
+
+    // Vec of the given values converted to double.
+    public static Vec of(long[] values) {
+        return of(values, 0, values.length);
+    }
+
+    // Vec of values[from, to) converted to double.
+    public static Vec of(long[] values, int from, int to) {
+        checkRange(values.length, from, to);
+        return new LongLeaf(values, from, to - from);
+    }
+
+    public int length() {
+        return length;
+    }
+
+    // Add other to values.
+    public Vec add(Vec other) {
+        return new Binary(ADD, this, other);
+    }
+
+    public Vec add(double[] other) {
+        return add(of(other));
+    }
+
+    // Subtract other from values.
+    public Vec sub(Vec other) {
+        return new Binary(SUB, this, other);
+    }
+
+    public Vec sub(double[] other) {
+        return sub(of(other));
+    }
+
+    // Multiply values and other.
+    public Vec mul(Vec other) {
+        return new Binary(MUL, this, other);
+    }
+
+    public Vec mul(double[] other) {
+        return mul(of(other));
+    }
+
+    // Divide values by other.
+    public Vec div(Vec other) {
+        return new Binary(DIV, this, other);
+    }
+
+    public Vec div(double[] other) {
+        return div(of(other));
+    }
+
+    // Add addition to values.
+    public Vec addBy(double addition) {
+        return new Scalar(ADD_BY, this, addition);
+    }
+
+    // Multiply values by multiplier.
+    public Vec multiplyBy(double multiplier) {
+        return new Scalar(MULTIPLY_BY, this, multiplier);
+    }
+
+    // Divide values by divider, same as Helper.divideBy.
+    public Vec divideBy(double divider) {
+        return multiplyBy(1 / divider);
+    }
+
+    // Calculate power of values with exponent.
+    public Vec pow(double exponent) {
+        return new Scalar(POW, this, exponent);
+    }
+
+    public Vec sqrt() {
+        return new Unary(SQRT, this);
+    }
+
+    public Vec abs() {
+        return new Unary(ABS, this);
+    }
+
+    // 1 for values >= 0, otherwise -1.
+    public Vec sign() {
+        return new Unary(SIGN, this);
+    }
+
+    // Keep positives, others are 0.
+    public Vec positives() {
+        return new Unary(POSITIVES, this);
+    }
+
+    // Keep negatives, others are 0.
+    public Vec negatives() {
+        return new Unary(NEGATIVES, this);
+    }
+
+    // Shift right for period and fills with value.
+    public Vec shift(int period, double fill) {
+        return new Shift(this, period, fill);
+    }
+
+    // Shift right for period and fills with 0.
+    public Vec shift(int period) {
+        return shift(period, 0);
+    }
+
+    // Difference between current and before values, same as Helper.diff.
+    public Vec diff(int before) {
+        return sub(shift(before));
+    }
+
+    // Evaluates into a new array.
+    public double[] toArray() {
+        return into(new double[length]);
+    }
+
+    // Evaluates into out[0, length), returns out.
+    public double[] into(double[] out) {
+        return into(out, new Chunks());
+    }
+
+    // Evaluates into out[0, length) with the chunk buffers of the workspace, returns out.
+    public double[] into(double[] out, Workspace workspace) {
+        return into(out, workspace.chunks());
+    }
+
+    private double[] into(double[] out, Chunks chunks) {
+        if (out.length < length) {
+            throw new RuntimeException("out is too small");
+        }
+
+        for (int from = 0; from < length; from += CHUNK) {
+            int n = Math.min(CHUNK, length - from);
+            double[] chunk = chunk(from, n, chunks);
+            System.arraycopy(chunk, base(from), out, from, n);
+            release(chunk, chunks);
+        }
+
+        return out;
+    }
+
+    // Computes values [from, from + n), returns the array holding them starting at base(from).
+    abstract double[] chunk(int from, int n, Chunks chunks);
+
+    // Index of value from in the array returned by chunk.
+    int base(int from) {
+        return 0;
+    }
+
+    boolean leaf() {
+        return false;
+    }
+
+    void release(double[] chunk, Chunks chunks) {
+        if (!leaf()) {
+            chunks.release(chunk);
+        }
+    }
+
+    private static void checkRange(int length, int from, int to) {
+        if (from < 0 || from > to || to > length) {
+            throw new RuntimeException("range out of bounds");
+        }
+    }
+
+    private static void checkSameSize(Vec left, Vec right) {
+        if (left.length != right.length) {
+            throw new RuntimeException("not all same size");
+        }
+    }
+
+    // 一次求值用到的块缓冲区，用完放回
+    static final class Chunks {
+        private final ArrayDeque<double[]> free = new ArrayDeque<>();
+
+        double[] take() {
+            double[] chunk = free.poll();
+            return chunk == null ? new double[CHUNK] : chunk;
+        }
+
+        void release(double[] chunk) {
+            free.push(chunk);
+        }
+    }
+
+    private static final class Leaf extends Vec {
+        private final double[] values;
+        private final int offset;
+
+        Leaf(double[] values, int offset, int length) {
+            super(length);
+            this.values = values;
+            this.offset = offset;
+        }
+
+        @Override
+        double[] chunk(int from, int n, Chunks chunks) {
+            return values;
+        }
+
+        @Override
+        int base(int from) {
+            return offset + from;
+        }
+
+        @Override
+        boolean leaf() {
+            return true;
+        }
+    }
+
+    private static final class LongLeaf extends Vec {
+        private final long[] values;
+        private final int offset;
+
+        LongLeaf(long[] values, int offset, int length) {
+            super(length);
+            this.values = values;
+            this.offset = offset;
+        }
+
+        @Override
+        double[] chunk(int from, int n, Chunks chunks) {
+            double[] result = chunks.take();
+            int start = offset + from;
+            for (int i = 0; i < n; i++) {
+                result[i] = values[start + i];
+            }
+            return result;
+        }
+    }
+
+    private static final class Binary extends Vec {
+        private final int op;
+        private final Vec left;
+        private final Vec right;
+
+        Binary(int op, Vec left, Vec right) {
+            super(left.length);
+            checkSameSize(left, right);
+            this.op = op;
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        double[] chunk(int from, int n, Chunks chunks) {
+            double[] a = left.chunk(from, n, chunks);
+            double[] b = right.chunk(from, n, chunks);
+            int ai = left.base(from);
+            int bi = right.base(from);
+
+            // 优先原地写入子节点的缓冲区
+            double[] result;
+            if (!left.leaf()) {
+                result = a;
+                right.release(b, chunks);
+            } else if (!right.leaf()) {
+                result = b;
+            } else {
+                result = chunks.take();
+            }
+
+            switch (op) {
+                case ADD:
+                    Kernels.add(a, ai, b, bi, result, 0, n);
+                    break;
+                case SUB:
+                    Kernels.sub(a, ai, b, bi, result, 0, n);
+                    break;
+                case MUL:
+                    Kernels.mul(a, ai, b, bi, result, 0, n);
+                    break;
+                default:
+                    Kernels.div(a, ai, b, bi, result, 0, n);
+                    break;
+            }
+
+            return result;
+        }
+    }
+
+    private static final class Scalar extends Vec {
+        private final int op;
+        private final Vec values;
+        private final double scalar;
+
+        Scalar(int op, Vec values, double scalar) {
+            super(values.length);
+            this.op = op;
+            this.values = values;
+            this.scalar = scalar;
+        }
+
+        @Override
+        double[] chunk(int from, int n, Chunks chunks) {
+            double[] a = values.chunk(from, n, chunks);
+            int ai = values.base(from);
+            double[] result = values.leaf() ? chunks.take() : a;
+            double s = scalar;
+
+            switch (op) {
+                case ADD_BY:
+                    Kernels.addBy(a, ai, s, result, 0, n);
+                    break;
+                case MULTIPLY_BY:
+                    Kernels.multiplyBy(a, ai, s, result, 0, n);
+                    break;
+                default:
+                    Kernels.pow(a, ai, s, result, 0, n);
+                    break;
+            }
+
+            return result;
+        }
+    }
+
+    private static final class Unary extends Vec {
+        private final int op;
+        private final Vec values;
+
+        Unary(int op, Vec values) {
+            super(values.length);
+            this.op = op;
+            this.values = values;
+        }
+
+        @Override
+        double[] chunk(int from, int n, Chunks chunks) {
+            double[] a = values.chunk(from, n, chunks);
+            int ai = values.base(from);
+            double[] result = values.leaf() ? chunks.take() : a;
+
+            switch (op) {
+                case SQRT:
+                    Kernels.sqrt(a, ai, result, 0, n);
+                    break;
+                case ABS:
+                    Kernels.abs(a, ai, result, 0, n);
+                    break;
+                case SIGN:
+                    Kernels.sign(a, ai, result, 0, n);
+                    break;
+                case POSITIVES:
+                    Kernels.positives(a, ai, result, 0, n);
+                    break;
+                default:
+                    Kernels.negatives(a, ai, result, 0, n);
+                    break;
+            }
+
+            return result;
+        }
+    }
+
+    // 逐元素运算与位置无关，所以右移就是在左移后的区间上对子表达式求值
+    private static final class Shift extends Vec {
+        private final Vec values;
+        private final int period;
+        private final double fill;
+
+        Shift(Vec values, int period, double fill) {
+            super(values.length);
+            this.values = values;
+            this.period = period;
+            this.fill = fill;
+        }
+
+        @Override
+        double[] chunk(int from, int n, Chunks chunks) {
+            double[] result = chunks.take();
+
+            int filled = Math.max(0, Math.min(n, period - from));
+            for (int i = 0; i < filled; i++) {
+                result[i] = fill;
+            }
+
+            if (filled < n) {
+                int start = from + filled - period;
+                double[] a = values.chunk(start, n - filled, chunks);
+                System.arraycopy(a, values.base(start), result, filled, n - filled);
+                values.release(a, chunks);
+            }
+
+            return result;
+        }
+    }
+}
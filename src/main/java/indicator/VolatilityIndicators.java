@@ -8,6 +8,8 @@ import static indicator.TrendIndicators.Ema;
 import static indicator.TrendIndicators.sma;
 
 /**
+ * 带区间和输出数组的重载与TrendIndicators相同。
+ *
  * @author jinfeng.hu  @Date 2022-10-07
  **/
 public class VolatilityIndicators {
@@ -23,15 +25,32 @@ public class VolatilityIndicators {
     public static Triple<double[], double[], double[]> AccelerationBands(double[] high, double[] low, double[] closing) {
         checkSameSize(high, low, closing);
 
-        double[] k = divide(subtract(high, low), add(high, low));
-
-        double[] upperBand = sma(20, multiply(high, addBy(multiplyBy(k, 4), 1)));
-        double[] middleBand = sma(20, closing);
-        double[] lowerBand = sma(20, multiply(low, addBy(multiplyBy(k, -4), 1)));
+        double[] upperBand = new double[closing.length];
+        double[] middleBand = new double[closing.length];
+        double[] lowerBand = new double[closing.length];
+        AccelerationBands(high, low, closing, 0, closing.length, upperBand, middleBand, lowerBand, new Workspace());
 
         return Triple.of(upperBand, middleBand, lowerBand);
     }
 
+    // AccelerationBands of [from, to) into the three bands.
+    public static void AccelerationBands(double[] high, double[] low, double[] closing, int from, int to,
+                                         double[] upperBand, double[] middleBand, double[] lowerBand, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+        double[] band = workspace.take(n);
+
+        Vec h = Vec.of(high, from, to);
+        Vec l = Vec.of(low, from, to);
+        Vec k = h.sub(l).div(h.add(l));
+
+        sma(20, h.mul(k.multiplyBy(4).addBy(1)).into(band, workspace), 0, n, upperBand);
+        sma(20, closing, from, to, middleBand);
+        sma(20, l.mul(k.multiplyBy(-4).addBy(1)).into(band, workspace), 0, n, lowerBand);
+
+        workspace.release(mark);
+    }
+
     // Average True Range (ATR). It is a technical analysis indicator that measures market
     // volatility by decomposing the entire range of stock prices for that period.
     //
@@ -43,14 +62,20 @@ public class VolatilityIndicators {
         checkSameSize(high, low, closing);
 
         double[] tr = new double[closing.length];
-        for (int i = 0; i < tr.length; i++) {
-            tr[i] = Math.max(high[i] - low[i], Math.max(high[i] - closing[i], closing[i] - low[i]));
-        }
+        double[] atr = new double[closing.length];
+        Atr(period, high, low, closing, 0, closing.length, tr, atr);
 
-        double[] atr = sma(period, tr);
         return Pair.of(tr, atr);
     }
 
+    // Atr of [from, to) into tr and atr.
+    public static void Atr(int period, double[] high, double[] low, double[] closing, int from, int to,
+                           double[] tr, double[] atr) {
+        Kernels.trueRange(high, low, closing, from, tr, 0, to - from);
+
+        sma(period, tr, 0, to - from, atr);
+    }
+
     // Bollinger Band Width. It measures the percentage difference between the
     // upper band and the lower band. It decreases as Bollinger Bands narrows
     // and increases as Bollinger Bands widens
@@ -63,16 +88,35 @@ public class VolatilityIndicators {
     // Returns bandWidth, bandWidthEma90
     public static Pair<double[], double[]> BollingerBandWidth(double[] middleBand, double[] upperBand, double[] lowerBand) {
         checkSameSize(middleBand, upperBand, lowerBand);
-        double[] bandWidth = new double[middleBand.length];
-        for (int i = 0; i < bandWidth.length; i++) {
-            bandWidth[i] = (upperBand[i] - lowerBand[i]) / middleBand[i];
-        }
 
-        double[] bandWidthEma90 = Ema(90, bandWidth);
+        double[] bandWidth = new double[middleBand.length];
+        double[] bandWidthEma90 = new double[middleBand.length];
+        BollingerBandWidth(middleBand, upperBand, lowerBand, 0, middleBand.length, bandWidth, bandWidthEma90);
 
         return Pair.of(bandWidth, bandWidthEma90);
     }
 
+    // BollingerBandWidth of [from, to) into bandWidth and bandWidthEma90.
+    public static void BollingerBandWidth(double[] middleBand, double[] upperBand, double[] lowerBand, int from, int to,
+                                          double[] bandWidth, double[] bandWidthEma90) {
+        Kernels.bandWidth(upperBand, lowerBand, middleBand, from, bandWidth, 0, to - from);
+
+        Ema(90, bandWidth, 0, to - from, bandWidthEma90);
+    }
+
+    // BollingerBandWidth of the BollingerBands of closing[from, to) into bandWidth and bandWidthEma90.
+    public static void BollingerBandWidth(double[] closing, int from, int to,
+                                          double[] bandWidth, double[] bandWidthEma90, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        double[] middleBand = workspace.take(n), upperBand = workspace.take(n), lowerBand = workspace.take(n);
+        BollingerBands(closing, from, to, middleBand, upperBand, lowerBand, workspace);
+        BollingerBandWidth(middleBand, upperBand, lowerBand, 0, n, bandWidth, bandWidthEma90);
+
+        workspace.release(mark);
+    }
+
     // Bollinger Bands.
     //
     // Middle Band = 20-Period SMA.
@@ -81,15 +125,29 @@ public class VolatilityIndicators {
     //
     // Returns middle band, upper band, lower band.
     public static Triple<double[], double[], double[]> BollingerBands(double[] closing) {
-        double[] middleBand = sma(20, closing);
+        double[] middleBand = new double[closing.length];
+        double[] upperBand = new double[closing.length];
+        double[] lowerBand = new double[closing.length];
+        BollingerBands(closing, 0, closing.length, middleBand, upperBand, lowerBand, new Workspace());
 
-        double[] std = StdFromSma(20, closing, middleBand);
-        double[] std2 = multiplyBy(std, 2);
+        return Triple.of(middleBand, upperBand, lowerBand);
+    }
 
-        double[] upperBand = add(middleBand, std2);
-        double[] lowerBand = subtract(middleBand, std2);
+    // BollingerBands of closing[from, to) into the three bands.
+    public static void BollingerBands(double[] closing, int from, int to,
+                                      double[] middleBand, double[] upperBand, double[] lowerBand, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
 
-        return Triple.of(middleBand, upperBand, lowerBand);
+        sma(20, closing, from, to, middleBand);
+
+        double[] std = Std(20, closing, from, to, workspace.take(n));
+        Vec std2 = Vec.of(std, 0, n).multiplyBy(2);
+
+        Vec.of(middleBand, 0, n).add(std2).into(upperBand, workspace);
+        Vec.of(middleBand, 0, n).sub(std2).into(lowerBand, workspace);
+
+        workspace.release(mark);
     }
 
     // Chandelier Exit. It sets a trailing stop-loss based on the Average True Value (ATR).
@@ -99,38 +157,123 @@ public class VolatilityIndicators {
     //
     // Returns chandelierExitLong, chandelierExitShort
     public static Pair<double[], double[]> ChandelierExit(double[] high, double[] low, double[] closing) {
-        double[] atr22 = Atr(22, high, low, closing).getRight();
-        double[] highestHigh22 = TrendIndicators.Max(22, high);
-        double[] lowestLow22 = TrendIndicators.Min(22, low);
+        checkSameSize(high, low, closing);
 
         double[] chandelierExitLong = new double[closing.length];
         double[] chandelierExitShort = new double[closing.length];
+        ChandelierExit(high, low, closing, 0, closing.length, chandelierExitLong, chandelierExitShort, new Workspace());
+
+        return Pair.of(chandelierExitLong, chandelierExitShort);
+    }
 
-        for (int i = 0; i < chandelierExitLong.length; i++) {
+    // ChandelierExit of [from, to) into chandelierExitLong and chandelierExitShort.
+    public static void ChandelierExit(double[] high, double[] low, double[] closing, int from, int to,
+                                      double[] chandelierExitLong, double[] chandelierExitShort, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        double[] atr22 = workspace.take(n);
+        Atr(22, high, low, closing, from, to, workspace.take(n), atr22);
+        double[] highestHigh22 = TrendIndicators.Max(22, high, from, to, workspace.take(n));
+        double[] lowestLow22 = TrendIndicators.Min(22, low, from, to, workspace.take(n));
+
+        for (int i = 0; i < n; i++) {
             chandelierExitLong[i] = highestHigh22[i] - (atr22[i] * 3);
             chandelierExitShort[i] = lowestLow22[i] + (atr22[i] * 3);
         }
 
-        return Pair.of(chandelierExitLong, chandelierExitShort);
+        workspace.release(mark);
     }
 
     // Standard deviation.
     public static double[] Std(int period, double[] values) {
-        return StdFromSma(period, values, sma(period, values));
+        return Std(period, values, 0, values.length, new double[values.length]);
+    }
+
+    // Std with a workspace, the workspace is not used and only kept for the signature.
+    public static double[] Std(int period, double[] values, int from, int to, double[] std, Workspace workspace) {
+        return Std(period, values, from, to, std);
+    }
+
+    // Std of values[from, to) into out, 0 before the first full window.
+    // Computed with RollingMoments, stable on long high priced series.
+    public static double[] Std(int period, double[] values, int from, int to, double[] std) {
+        RollingMoments moments = new RollingMoments(period);
+        for (int i = 0; i < to - from; i++) {
+            moments.update(values[from + i]);
+            std[i] = i < period - 1 ? 0.0 : moments.getStd();
+        }
+
+        return std;
+    }
+
+    // Rolling mean, variance, skewness and excess kurtosis of values[from, to), see RollingMoments.
+    // The outputs that are not needed can be null.
+    public static void RollingMoments(int period, double[] values, int from, int to,
+                                      double[] mean, double[] variance, double[] skewness, double[] kurtosis) {
+        RollingMoments moments = new RollingMoments(period);
+        for (int i = 0; i < to - from; i++) {
+            moments.update(values[from + i]);
+            if (mean != null) {
+                mean[i] = moments.getMean();
+            }
+            if (variance != null) {
+                variance[i] = moments.getVariance();
+            }
+            if (skewness != null) {
+                skewness[i] = moments.getSkewness();
+            }
+            if (kurtosis != null) {
+                kurtosis[i] = moments.getKurtosis();
+            }
+        }
+    }
+
+    // Z-Score. How many standard deviations the value is away from the mean of the period.
+    //
+    // Z-Score = (Value - Mean(period)) / Std(period)
+    //
+    // Returns zScore, 0 before the first full window and when std is 0.
+    public static double[] ZScore(int period, double[] values) {
+        return ZScore(period, values, 0, values.length, new double[values.length]);
+    }
+
+    // ZScore of values[from, to) into out.
+    public static double[] ZScore(int period, double[] values, int from, int to, double[] zScore) {
+        RollingMoments moments = new RollingMoments(period);
+        for (int i = 0; i < to - from; i++) {
+            double value = values[from + i];
+            double std = moments.update(value).getStd();
+            zScore[i] = i < period - 1 || std == 0 ? 0.0 : (value - moments.getMean()) / std;
+        }
+
+        return zScore;
     }
 
     // Standard deviation from the given SMA.
+    // sqrt(sum2 / period - sma²) loses precision on long high priced series, Std uses RollingMoments instead.
     public static double[] StdFromSma(int period, double[] values, double[] sma) {
-        double[] result = new double[values.length];
+        return StdFromSma(period, values, sma, 0, values.length, new double[values.length]);
+    }
+
+    // StdFromSma of [from, to) into out.
+    public static double[] StdFromSma(int period, double[] values, double[] sma, int from, int to, double[] result) {
+        return stdFromSma(period, values, from, sma, from, to - from, result);
+    }
 
+    // Standard deviation from the given SMA, values and sma start at their own offsets.
+    static double[] stdFromSma(int period, double[] values, int valuesFrom, double[] sma, int smaFrom, int n,
+                               double[] result) {
         double sum2 = 0.0;
-        for (int i = 0; i < values.length; i++) {
-            sum2 += values[i] * values[i];
+        for (int i = 0; i < n; i++) {
+            double value = values[valuesFrom + i];
+            sum2 += value * value;
             if (i < period - 1) {
                 result[i] = 0.0;
             } else {
-                result[i] = Math.sqrt(sum2 / period - sma[i] * sma[i]);
-                double w = values[i - (period - 1)];
+                double mean = sma[smaFrom + i];
+                result[i] = Math.sqrt(sum2 / period - mean * mean);
+                double w = values[valuesFrom + i - (period - 1)];
                 sum2 -= w * w;
             }
         }
@@ -151,20 +294,47 @@ public class VolatilityIndicators {
     //
     // Returns po, spo.
     public static Pair<double[], double[]> ProjectionOscillator(int period, int smooth, double[] high, double[] low, double[] closing) {
-        double[] x = generateNumbers(0, closing.length, 1);
-        double[] mHigh = Regression.MovingLeastSquare(period, x, high).getLeft();
-        double[] mLow = Regression.MovingLeastSquare(period, x, low).getLeft();
+        checkSameSize(high, low, closing);
 
-        double[] vHigh = add(high, multiply(mHigh, x));
-        double[] vLow = add(low, multiply(mLow, x));
+        double[] po = new double[closing.length];
+        double[] spo = new double[closing.length];
+        ProjectionOscillator(period, smooth, high, low, closing, 0, closing.length, po, spo, new Workspace());
 
-        double[] pu = TrendIndicators.Max(period, vHigh);
-        double[] pl = TrendIndicators.Min(period, vLow);
+        return Pair.of(po, spo);
+    }
 
-        double[] po = divide(multiplyBy(subtract(closing, pl), 100), subtract(pu, pl));
-        double[] spo = Ema(smooth, po);
+    // ProjectionOscillator of [from, to) into po and spo.
+    public static void ProjectionOscillator(int period, int smooth, double[] high, double[] low, double[] closing,
+                                            int from, int to, double[] po, double[] spo, Workspace workspace) {
+        ProjectionOscillator(period, high, low, closing, from, to, po, workspace);
+        Ema(smooth, po, 0, to - from, spo);
+    }
 
-        return Pair.of(po, spo);
+    // PO of [from, to) into po, without the smoothing.
+    // It only depends on period, so it can be shared by different smooth periods.
+    public static double[] ProjectionOscillator(int period, double[] high, double[] low, double[] closing,
+                                                int from, int to, double[] po, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        double[] x = generateNumbers(0, n, 1, workspace.take(n));
+        double[] mHigh = workspace.take(n);
+        double[] mLow = workspace.take(n);
+        double[] b = workspace.take(n);
+        Regression.movingLeastSquare(period, x, 0, high, from, n, mHigh, b);
+        Regression.movingLeastSquare(period, x, 0, low, from, n, mLow, b);
+
+        Vec vx = Vec.of(x, 0, n);
+        double[] vHigh = Vec.of(high, from, to).add(Vec.of(mHigh, 0, n).mul(vx)).into(mHigh, workspace);
+        double[] vLow = Vec.of(low, from, to).add(Vec.of(mLow, 0, n).mul(vx)).into(mLow, workspace);
+
+        Vec pu = Vec.of(TrendIndicators.Max(period, vHigh, 0, n, x), 0, n);
+        Vec pl = Vec.of(TrendIndicators.Min(period, vLow, 0, n, b), 0, n);
+
+        Vec.of(closing, from, to).sub(pl).multiplyBy(100).div(pu.sub(pl)).into(po, workspace);
+
+        workspace.release(mark);
+        return po;
     }
 
     // The Ulcer Index (UI) measures downside risk. The index increases in value
@@ -178,11 +348,21 @@ public class VolatilityIndicators {
     //
     // Returns ui.
     public static double[] UlcerIndex(int period, double[] closing) {
-        double[] highClosing = TrendIndicators.Max(period, closing);
-        double[] percentageDrawdown = multiplyBy(divide(subtract(closing, highClosing), highClosing), 100);
-        double[] squaredAverage = sma(period, multiply(percentageDrawdown, percentageDrawdown));
-        double[] ui = sqrt(squaredAverage);
+        return UlcerIndex(period, closing, 0, closing.length, new double[closing.length], new Workspace());
+    }
+
+    // UlcerIndex of closing[from, to) into out.
+    public static double[] UlcerIndex(int period, double[] closing, int from, int to, double[] ui, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
 
+        double[] highClosing = TrendIndicators.Max(period, closing, from, to, workspace.take(n));
+        Vec percentageDrawdown = Vec.of(closing, from, to).sub(Vec.of(highClosing, 0, n)).div(Vec.of(highClosing, 0, n)).multiplyBy(100);
+        double[] squared = percentageDrawdown.mul(percentageDrawdown).into(workspace.take(n), workspace);
+        double[] squaredAverage = sma(period, squared, 0, n, workspace.take(n));
+        Vec.of(squaredAverage, 0, n).sqrt().into(ui, workspace);
+
+        workspace.release(mark);
         return ui;
     }
 
@@ -204,13 +384,23 @@ public class VolatilityIndicators {
     //
     // Returns upperChannel, middleChannel, lowerChannel.
     public static Triple<double[], double[], double[]> DonchianChannel(int period, double[] closing) {
-        double[] upperChannel = TrendIndicators.Max(period, closing);
-        double[] lowerChannel = TrendIndicators.Min(period, closing);
-        double[] middleChannel = divideBy(add(upperChannel, lowerChannel), 2);
+        double[] upperChannel = new double[closing.length];
+        double[] middleChannel = new double[closing.length];
+        double[] lowerChannel = new double[closing.length];
+        DonchianChannel(period, closing, 0, closing.length, upperChannel, middleChannel, lowerChannel, new Workspace());
 
         return Triple.of(upperChannel, middleChannel, lowerChannel);
     }
 
+    // DonchianChannel of closing[from, to) into the three channels.
+    public static void DonchianChannel(int period, double[] closing, int from, int to, double[] upperChannel,
+                                       double[] middleChannel, double[] lowerChannel, Workspace workspace) {
+        int n = to - from;
+        TrendIndicators.Max(period, closing, from, to, upperChannel);
+        TrendIndicators.Min(period, closing, from, to, lowerChannel);
+        Vec.of(upperChannel, 0, n).add(Vec.of(lowerChannel, 0, n)).divideBy(2).into(middleChannel, workspace);
+    }
+
     // The Keltner Channel (KC) provides volatility-based bands that are placed
     // on either side of an asset's price and can aid in determining the
     // direction of a trend.
@@ -221,16 +411,33 @@ public class VolatilityIndicators {
     //
     // Returns upperBand, middleLine, lowerBand.
     public static Triple<double[], double[], double[]> KeltnerChannel(int period, double[] high, double[] low, double[] closing) {
-        double[] atr = Atr(period, high, low, closing).getRight();
-        double[] atr2 = multiplyBy(atr, 2);
+        checkSameSize(high, low, closing);
 
-        double[] middleLine = Ema(period, closing);
-        double[] upperBand = add(middleLine, atr2);
-        double[] lowerBand = subtract(middleLine, atr2);
+        double[] upperBand = new double[closing.length];
+        double[] middleLine = new double[closing.length];
+        double[] lowerBand = new double[closing.length];
+        KeltnerChannel(period, high, low, closing, 0, closing.length, upperBand, middleLine, lowerBand, new Workspace());
 
         return Triple.of(upperBand, middleLine, lowerBand);
     }
 
+    // KeltnerChannel of [from, to) into the three lines.
+    public static void KeltnerChannel(int period, double[] high, double[] low, double[] closing, int from, int to,
+                                      double[] upperBand, double[] middleLine, double[] lowerBand, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        double[] atr = workspace.take(n);
+        Atr(period, high, low, closing, from, to, workspace.take(n), atr);
+        Vec atr2 = Vec.of(atr, 0, n).multiplyBy(2);
+
+        Ema(period, closing, from, to, middleLine);
+        Vec.of(middleLine, 0, n).add(atr2).into(upperBand, workspace);
+        Vec.of(middleLine, 0, n).sub(atr2).into(lowerBand, workspace);
+
+        workspace.release(mark);
+    }
+
     // The default keltner channel with the default period of 20.
     public static Triple<double[], double[], double[]> DefaultKeltnerChannel(double[] high, double[] low, double[] closing) {
         return KeltnerChannel(20, high, low, closing);
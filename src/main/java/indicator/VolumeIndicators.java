@@ -4,6 +4,8 @@ import static indicator.Helper.*;
 import static indicator.TrendIndicators.*;
 
 /**
+ * 带区间和输出数组的重载与TrendIndicators相同。
+ *
  * @author jinfeng.hu  @Date 2022/10/8
  **/
 public class VolumeIndicators {
@@ -21,13 +23,16 @@ public class VolumeIndicators {
     // Returns ad.
     public static double[] AccumulationDistribution(double[] high, double[] low, double[] closing, long[] volume) {
         checkSameSize(high, low, closing);
+        return AccumulationDistribution(high, low, closing, volume, 0, closing.length, new double[closing.length]);
+    }
 
-        double[] ad = new double[closing.length];
-        for (int i = 0; i < ad.length; i++) {
-            if (i > 0) {
-                ad[i] = ad[i - 1];
-            }
-            ad[i] += volume[i] * (((closing[i] - low[i]) - (high[i] - closing[i])) / (high[i] - low[i]));
+    // AccumulationDistribution of [from, to) into out.
+    public static double[] AccumulationDistribution(double[] high, double[] low, double[] closing, long[] volume,
+                                                    int from, int to, double[] ad) {
+        for (int i = 0; i < to - from; i++) {
+            int j = from + i;
+            ad[i] = i > 0 ? ad[i - 1] : 0;
+            ad[i] += volume[j] * (((closing[j] - low[j]) - (high[j] - closing[j])) / (high[j] - low[j]));
         }
 
         return ad;
@@ -46,15 +51,23 @@ public class VolumeIndicators {
             throw new RuntimeException("not all same size");
         }
 
-        long[] obv = new long[volume.length];
+        return Obv(closing, volume, 0, volume.length, new long[volume.length]);
+    }
+
+    // Obv of [from, to) into out.
+    public static long[] Obv(double[] closing, long[] volume, int from, int to, long[] obv) {
+        if (to > from) {
+            obv[0] = 0;
+        }
 
-        for (int i = 1; i < obv.length; i++) {
+        for (int i = 1; i < to - from; i++) {
+            int j = from + i;
             obv[i] = obv[i - 1];
 
-            if (closing[i] > closing[i - 1]) {
-                obv[i] += volume[i];
-            } else if (closing[i] < closing[i - 1]) {
-                obv[i] -= volume[i];
+            if (closing[j] > closing[j - 1]) {
+                obv[i] += volume[j];
+            } else if (closing[j] < closing[j - 1]) {
+                obv[i] -= volume[j];
             }
         }
 
@@ -71,21 +84,35 @@ public class VolumeIndicators {
     //
     // Retruns money flow index values.
     public static double[] MoneyFlowIndex(int period, double[] high, double[] low, double[] closing, long[] volume) {
-        double[] typicalPrice = TypicalPrice(low, high, closing).getLeft();
-        double[] rawMoneyFlow = multiply(typicalPrice, asDouble(volume));
+        checkSameSize(high, low, closing);
+        if (closing.length != volume.length) {
+            throw new RuntimeException("not all same size");
+        }
+
+        return MoneyFlowIndex(period, high, low, closing, volume, 0, closing.length, new double[closing.length], new Workspace());
+    }
+
+    // MoneyFlowIndex of [from, to) into out.
+    public static double[] MoneyFlowIndex(int period, double[] high, double[] low, double[] closing, long[] volume,
+                                          int from, int to, double[] moneyFlowIndex, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
 
-        double[] signs = extractSign(diff(rawMoneyFlow, 1));
-        double[] moneyFlow = multiply(signs, rawMoneyFlow);
+        double[] typicalPrice = typicalPrice(low, high, closing, from, to, workspace.take(n));
+        Vec rawMoneyFlow = Vec.of(typicalPrice, 0, n).mul(Vec.of(volume, from, to));
 
-        double[] positiveMoneyFlow = keepPositives(moneyFlow);
-        double[] negativeMoneyFlow = keepNegatives(moneyFlow);
+        Vec signs = rawMoneyFlow.diff(1).sign();
+        Vec moneyFlow = signs.mul(rawMoneyFlow);
 
-        double[] moneyRatio = divide(
-                Sum(period, positiveMoneyFlow),
-                Sum(period, multiplyBy(negativeMoneyFlow, -1)));
+        double[] positiveMoneyFlow = moneyFlow.positives().into(workspace.take(n), workspace);
+        double[] negativeMoneyFlow = moneyFlow.negatives().multiplyBy(-1).into(workspace.take(n), workspace);
 
-        double[] moneyFlowIndex = addBy(multiplyBy(pow(addBy(moneyRatio, 1), -1), -100), 100);
+        Vec moneyRatio = Vec.of(Sum(period, positiveMoneyFlow, 0, n, workspace.take(n)), 0, n)
+                .div(Vec.of(Sum(period, negativeMoneyFlow, 0, n, workspace.take(n)), 0, n));
 
+        moneyRatio.addBy(1).pow(-1).multiplyBy(-100).addBy(100).into(moneyFlowIndex, workspace);
+
+        workspace.release(mark);
         return moneyFlowIndex;
     }
 
@@ -101,7 +128,24 @@ public class VolumeIndicators {
     //
     // Returns force index.
     public static double[] ForceIndex(int period, double[] closing, long[] volume) {
-        return Ema(period, multiply(diff(closing, 1), asDouble(volume)));
+        if (closing.length != volume.length) {
+            throw new RuntimeException("not all same size");
+        }
+
+        return ForceIndex(period, closing, volume, 0, closing.length, new double[closing.length], new Workspace());
+    }
+
+    // ForceIndex of [from, to) into out.
+    public static double[] ForceIndex(int period, double[] closing, long[] volume, int from, int to,
+                                      double[] forceIndex, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        double[] force = Vec.of(closing, from, to).diff(1).mul(Vec.of(volume, from, to)).into(workspace.take(n), workspace);
+        Ema(period, force, 0, n, forceIndex);
+
+        workspace.release(mark);
+        return forceIndex;
     }
 
     // The default Force Index (FI) with window size of 13.
@@ -119,9 +163,27 @@ public class VolumeIndicators {
     //
     // Returns ease of movement values.
     public static double[] EaseOfMovement(int period, double[] high, double[] low, long[] volume) {
-        double[] distanceMoved = diff(divideBy(add(high, low), 2), 1);
-        double[] boxRatio = divide(divideBy(asDouble(volume), 100000000), subtract(high, low));
-        double[] emv = sma(period, divide(distanceMoved, boxRatio));
+        checkSameSize(high, low);
+        if (high.length != volume.length) {
+            throw new RuntimeException("not all same size");
+        }
+
+        return EaseOfMovement(period, high, low, volume, 0, high.length, new double[high.length], new Workspace());
+    }
+
+    // EaseOfMovement of [from, to) into out.
+    public static double[] EaseOfMovement(int period, double[] high, double[] low, long[] volume, int from, int to,
+                                          double[] emv, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        Vec h = Vec.of(high, from, to);
+        Vec l = Vec.of(low, from, to);
+        Vec distanceMoved = h.add(l).divideBy(2).diff(1);
+        Vec boxRatio = Vec.of(volume, from, to).divideBy(100000000).div(h.sub(l));
+        sma(period, distanceMoved.div(boxRatio).into(workspace.take(n), workspace), 0, n, emv);
+
+        workspace.release(mark);
         return emv;
     }
 
@@ -137,9 +199,26 @@ public class VolumeIndicators {
     //
     // Returns volume price trend values.
     public static double[] VolumePriceTrend(double[] closing, long[] volume) {
-        double[] previousClosing = shiftRightAndFillBy(1, closing[0], closing);
-        double[] vpt = multiply(asDouble(volume), divide(subtract(closing, previousClosing), previousClosing));
-        return Sum(vpt.length, vpt);
+        if (closing.length != volume.length) {
+            throw new RuntimeException("not all same size");
+        }
+
+        return VolumePriceTrend(closing, volume, 0, closing.length, new double[closing.length], new Workspace());
+    }
+
+    // VolumePriceTrend of [from, to) into out.
+    public static double[] VolumePriceTrend(double[] closing, long[] volume, int from, int to,
+                                            double[] result, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        Vec c = Vec.of(closing, from, to);
+        Vec previousClosing = c.shift(1, closing[from]);
+        double[] vpt = Vec.of(volume, from, to).mul(c.sub(previousClosing).div(previousClosing)).into(workspace.take(n), workspace);
+        Sum(n, vpt, 0, n, result);
+
+        workspace.release(mark);
+        return result;
     }
 
     // The Volume Weighted Average Price (VWAP) provides the average price
@@ -149,8 +228,13 @@ public class VolumeIndicators {
     //
     // Returns vwap values.
     public static double[] VolumeWeightedAveragePrice(int period, double[] closing, long[] volume) {
-        double[] v = asDouble(volume);
-        return divide(Sum(period, multiply(closing, v)), Sum(period, v));
+        return Vwma(period, closing, volume);
+    }
+
+    // VolumeWeightedAveragePrice of [from, to) into out.
+    public static double[] VolumeWeightedAveragePrice(int period, double[] closing, long[] volume, int from, int to,
+                                                      double[] vwap, Workspace workspace) {
+        return Vwma(period, closing, volume, from, to, vwap, workspace);
     }
 
     // Default volume weighted average price with period of 14.
@@ -175,15 +259,20 @@ public class VolumeIndicators {
             throw new RuntimeException("not all same size");
         }
 
-        double[] nvi = new double[closing.length];
+        return NegativeVolumeIndex(closing, volume, 0, closing.length, new double[closing.length]);
+    }
+
+    // NegativeVolumeIndex of [from, to) into out.
+    public static double[] NegativeVolumeIndex(double[] closing, long[] volume, int from, int to, double[] nvi) {
+        for (int i = 0; i < to - from; i++) {
+            int j = from + i;
 
-        for (int i = 0; i < nvi.length; i++) {
             if (i == 0) {
                 nvi[i] = NVI_STARTING_VALUE;
-            } else if (volume[i - 1] < volume[i]) {
+            } else if (volume[j - 1] < volume[j]) {
                 nvi[i] = nvi[i - 1];
             } else {
-                nvi[i] = nvi[i - 1] + (((closing[i] - closing[i - 1]) / closing[i - 1]) * nvi[i - 1]);
+                nvi[i] = nvi[i - 1] + (((closing[j] - closing[j - 1]) / closing[j - 1]) * nvi[i - 1]);
             }
         }
 
@@ -198,16 +287,34 @@ public class VolumeIndicators {
     // Chaikin Money Flow = Sum(20, Money Flow Volume) / Sum(20, Volume)
     //
     public static double[] ChaikinMoneyFlow(double[] high, double[] low, double[] closing, long[] volume) {
-        double[] moneyFlowMultiplier = divide(
-                subtract(subtract(closing, low), subtract(high, closing)),
-                subtract(high, low));
+        checkSameSize(high, low, closing);
+        if (closing.length != volume.length) {
+            throw new RuntimeException("not all same size");
+        }
+
+        return ChaikinMoneyFlow(high, low, closing, volume, 0, closing.length, new double[closing.length], new Workspace());
+    }
+
+    // ChaikinMoneyFlow of [from, to) into out.
+    public static double[] ChaikinMoneyFlow(double[] high, double[] low, double[] closing, long[] volume, int from, int to,
+                                            double[] cmf, Workspace workspace) {
+        int n = to - from;
+        int mark = workspace.mark();
+
+        Vec h = Vec.of(high, from, to);
+        Vec l = Vec.of(low, from, to);
+        Vec c = Vec.of(closing, from, to);
+        Vec v = Vec.of(volume, from, to);
+        Vec moneyFlowMultiplier = c.sub(l).sub(h.sub(c)).div(h.sub(l));
 
-        double[] moneyFlowVolume = Helper.multiply(moneyFlowMultiplier, asDouble(volume));
+        double[] moneyFlowVolume = moneyFlowMultiplier.mul(v).into(workspace.take(n), workspace);
+        double[] floatVolume = v.into(workspace.take(n), workspace);
 
-        double[] cmf = divide(
-                Sum(CMF_DEFAULT_PERIOD, moneyFlowVolume),
-                Sum(CMF_DEFAULT_PERIOD, asDouble(volume)));
+        Vec.of(Sum(CMF_DEFAULT_PERIOD, moneyFlowVolume, 0, n, workspace.take(n)), 0, n)
+                .div(Vec.of(Sum(CMF_DEFAULT_PERIOD, floatVolume, 0, n, workspace.take(n)), 0, n))
+                .into(cmf, workspace);
 
+        workspace.release(mark);
         return cmf;
     }
 
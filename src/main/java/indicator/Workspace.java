@@ -0,0 +1,58 @@
+package indicator;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 指标计算的临时缓冲区
+ * <p>
+ * 带输出数组的指标重载从Workspace里取中间结果需要的数组，算完后放回，
+ * 所以同一个Workspace反复计算同样长度的序列时不再分配内存。
+ * 缓冲区按栈的方式使用：
+ * <pre>
+ * int mark = workspace.mark();
+ * double[] tmp = workspace.take(n);
+ * ...
+ * workspace.release(mark);
+ * </pre>
+ * take返回的数组长度可能大于n，内容是上次使用留下的值。
+ * Workspace不是线程安全的，每个线程使用自己的Workspace；
+ * 计算中途抛出异常后，调用reset()再继续使用。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Workspace {
+    private final List<double[]> buffers = new ArrayList<>();
+    private final Vec.Chunks chunks = new Vec.Chunks();
+    private int top;
+
+    // Buffer with at least length elements.
+    public double[] take(int length) {
+        if (top == buffers.size()) {
+            buffers.add(new double[length]);
+        } else if (buffers.get(top).length < length) {
+            buffers.set(top, new double[length]);
+        }
+
+        return buffers.get(top++);
+    }
+
+    // Current position, pass to release.
+    public int mark() {
+        return top;
+    }
+
+    // Releases the buffers taken after mark.
+    public void release(int mark) {
+        top = mark;
+    }
+
+    // Releases all buffers.
+    public void reset() {
+        top = 0;
+    }
+
+    Vec.Chunks chunks() {
+        return chunks;
+    }
+}
@@ -0,0 +1,32 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Absolute Price Oscillator (APO) - 流式计算，与TrendIndicators.AbsolutePriceOscillator逐位一致
+ * <p>
+ * APO = Ema(fastPeriod, values) - Ema(slowPeriod, values)
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class AbsolutePriceOscillator {
+    private final Ema fast;
+    private final Ema slow;
+    @Getter
+    private double value;
+
+    // The most frequently used fast and short periods are 14 and 30.
+    public AbsolutePriceOscillator() {
+        this(14, 30);
+    }
+
+    public AbsolutePriceOscillator(int fastPeriod, int slowPeriod) {
+        this.fast = new Ema(fastPeriod);
+        this.slow = new Ema(slowPeriod);
+    }
+
+    public double update(double value) {
+        this.value = fast.update(value) - slow.update(value);
+        return this.value;
+    }
+}
@@ -0,0 +1,35 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Acceleration Bands - 流式计算，与VolatilityIndicators.AccelerationBands逐位一致
+ * <p>
+ * Upper Band = SMA(High * (1 + 4 * (High - Low) / (High + Low)))
+ * Middle Band = SMA(Closing)
+ * Lower Band = SMA(Low * (1 - 4 * (High - Low) / (High + Low)))
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class AccelerationBands {
+    private final Sma upper = new Sma(20);
+    private final Sma middle = new Sma(20);
+    private final Sma lower = new Sma(20);
+    @Getter
+    private double upperBand;
+    @Getter
+    private double middleBand;
+    @Getter
+    private double lowerBand;
+
+    // Returns upper band.
+    public double update(double high, double low, double closing) {
+        double k = (high - low) / (high + low);
+
+        upperBand = upper.update(high * ((k * 4) + 1));
+        middleBand = middle.update(closing);
+        lowerBand = lower.update(low * ((k * -4) + 1));
+
+        return upperBand;
+    }
+}
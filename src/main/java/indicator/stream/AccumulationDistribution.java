@@ -0,0 +1,22 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Accumulation/Distribution Indicator (A/D) - 流式计算，与VolumeIndicators.AccumulationDistribution逐位一致
+ * <p>
+ * MFM = ((Closing - Low) - (High - Closing)) / (High - Low)
+ * MFV = MFM * Period Volume
+ * AD = Previous AD + CMFV
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class AccumulationDistribution {
+    @Getter
+    private double value;
+
+    public double update(double high, double low, double closing, long volume) {
+        value += volume * (((closing - low) - (high - closing)) / (high - low));
+        return value;
+    }
+}
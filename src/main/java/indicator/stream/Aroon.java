@@ -0,0 +1,33 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Aroon Indicator - 流式计算，与TrendIndicators.Aroon逐位一致
+ * <p>
+ * Aroon Up = ((25 - Period Since Last 25 Period High) / 25) * 100
+ * Aroon Down = ((25 - Period Since Last 25 Period Low) / 25) * 100
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Aroon {
+    private final Max high25 = new Max(25);
+    private final Min low25 = new Min(25);
+    private final Since sinceLastHigh25 = new Since();
+    private final Since sinceLastLow25 = new Since();
+    @Getter
+    private double aroonUp;
+    @Getter
+    private double aroonDown;
+
+    // Returns aroonUp.
+    public double update(double high, double low) {
+        int sinceHigh = sinceLastHigh25.update(high25.update(high));
+        int sinceLow = sinceLastLow25.update(low25.update(low));
+
+        aroonUp = ((25 - sinceHigh) / 25.000) * 100;
+        aroonDown = ((25 - sinceLow) / 25.000) * 100;
+
+        return aroonUp;
+    }
+}
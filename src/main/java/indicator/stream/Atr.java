@@ -0,0 +1,31 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Average True Range (ATR) - 流式计算，与VolatilityIndicators.Atr逐位一致
+ * <p>
+ * TR = Max((High - Low), (High - Closing), (Closing - Low))
+ * ATR = SMA TR
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Atr {
+    private final Sma sma;
+    @Getter
+    private double tr;
+    @Getter
+    private double atr;
+
+    public Atr(int period) {
+        this.sma = new Sma(period);
+    }
+
+    // Returns atr.
+    public double update(double high, double low, double closing) {
+        tr = Math.max(high - low, Math.max(high - closing, closing - low));
+        atr = sma.update(tr);
+
+        return atr;
+    }
+}
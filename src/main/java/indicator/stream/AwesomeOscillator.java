@@ -0,0 +1,25 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Awesome Oscillator - 流式计算，与MomentumIndicators.AwesomeOscillator逐位一致
+ * <p>
+ * Median Price = ((Low + High) / 2).
+ * AO = 5-Period SMA - 34-Period SMA.
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class AwesomeOscillator {
+    private final Sma sma5 = new Sma(5);
+    private final Sma sma34 = new Sma(34);
+    @Getter
+    private double value;
+
+    public double update(double low, double high) {
+        double medianPrice = (low + high) * (1 / 2.0);
+        value = sma5.update(medianPrice) - sma34.update(medianPrice);
+
+        return value;
+    }
+}
@@ -0,0 +1,20 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Balance Of Power (BOP) - 流式计算，与TrendIndicators.BalanceOfPower逐位一致
+ * <p>
+ * BOP = (Closing - Opening) / (High - Low)
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class BalanceOfPower {
+    @Getter
+    private double value;
+
+    public double update(double opening, double high, double low, double closing) {
+        value = (closing - opening) / (high - low);
+        return value;
+    }
+}
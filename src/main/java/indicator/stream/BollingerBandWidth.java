@@ -0,0 +1,26 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Bollinger Band Width - 流式计算，与VolatilityIndicators.BollingerBandWidth逐位一致
+ * <p>
+ * Band Width = (Upper Band - Lower Band) / Middle Band
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class BollingerBandWidth {
+    private final Ema ema90 = new Ema(90);
+    @Getter
+    private double bandWidth;
+    @Getter
+    private double bandWidthEma90;
+
+    // Returns bandWidth.
+    public double update(double middleBand, double upperBand, double lowerBand) {
+        bandWidth = (upperBand - lowerBand) / middleBand;
+        bandWidthEma90 = ema90.update(bandWidth);
+
+        return bandWidth;
+    }
+}
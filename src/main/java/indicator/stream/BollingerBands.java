@@ -0,0 +1,34 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Bollinger Bands - 流式计算，与VolatilityIndicators.BollingerBands逐位一致
+ * <p>
+ * Middle Band = 20-Period SMA.
+ * Upper Band = 20-Period SMA + 2 (20-Period Std)
+ * Lower Band = 20-Period SMA - 2 (20-Period Std)
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class BollingerBands {
+    private final Sma sma = new Sma(20);
+    private final Std std = new Std(20);
+    @Getter
+    private double middleBand;
+    @Getter
+    private double upperBand;
+    @Getter
+    private double lowerBand;
+
+    // Returns middle band.
+    public double update(double closing) {
+        middleBand = sma.update(closing);
+        double std2 = std.update(closing) * 2;
+
+        upperBand = middleBand + std2;
+        lowerBand = middleBand - std2;
+
+        return middleBand;
+    }
+}
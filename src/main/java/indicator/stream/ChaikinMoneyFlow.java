@@ -0,0 +1,29 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Chaikin Money Flow (CMF) - 流式计算，与VolumeIndicators.ChaikinMoneyFlow逐位一致
+ * <p>
+ * Money Flow Multiplier = ((Closing - Low) - (High - Closing)) / (High - Low)
+ * Money Flow Volume = Money Flow Multiplier * Volume
+ * Chaikin Money Flow = Sum(20, Money Flow Volume) / Sum(20, Volume)
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class ChaikinMoneyFlow {
+    private static final int CMF_DEFAULT_PERIOD = 20;
+
+    private final Sum moneyFlowVolume = new Sum(CMF_DEFAULT_PERIOD);
+    private final Sum volumes = new Sum(CMF_DEFAULT_PERIOD);
+    @Getter
+    private double value;
+
+    public double update(double high, double low, double closing, long volume) {
+        double moneyFlowMultiplier = ((closing - low) - (high - closing)) / (high - low);
+        double v = volume;
+
+        value = moneyFlowVolume.update(moneyFlowMultiplier * v) / volumes.update(v);
+        return value;
+    }
+}
@@ -0,0 +1,40 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Chaikin Oscillator - 流式计算，与MomentumIndicators.ChaikinOscillator逐位一致
+ * <p>
+ * CO = Ema(fastPeriod, AD) - Ema(slowPeriod, AD)
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class ChaikinOscillator {
+    private final AccumulationDistribution ad = new AccumulationDistribution();
+    private final Ema fast;
+    private final Ema slow;
+    @Getter
+    private double co;
+
+    // The most frequently used fast and short periods, 3 and 10.
+    public ChaikinOscillator() {
+        this(3, 10);
+    }
+
+    public ChaikinOscillator(int fastPeriod, int slowPeriod) {
+        this.fast = new Ema(fastPeriod);
+        this.slow = new Ema(slowPeriod);
+    }
+
+    // Returns co.
+    public double update(double low, double high, double closing, long volume) {
+        double value = ad.update(high, low, closing, volume);
+        co = fast.update(value) - slow.update(value);
+
+        return co;
+    }
+
+    public double getAd() {
+        return ad.getValue();
+    }
+}
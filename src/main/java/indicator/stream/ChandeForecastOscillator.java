@@ -0,0 +1,39 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Chande Forecast Oscillator (CFO) - 流式计算
+ * <p>
+ * 批量版本对全部历史做一次线性回归，所以每来一个新值，历史上所有的值都会变化。
+ * 流式版本只维护回归需要的累加和，每次返回的是"用截止到当前的全部历史跑
+ * TrendIndicators.ChandeForecastOscillator"得到的最后一个值，与之逐位一致。
+ * <p>
+ * R = Linreg(Closing)
+ * CFO = ((Closing - R) / Closing) * 100
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class ChandeForecastOscillator {
+    private long count;
+    private double sumX, sumX2, sumY, sumXY;
+    @Getter
+    private double value;
+
+    public double update(double closing) {
+        double x = count;
+        sumX += x;
+        sumX2 += x * x;
+        sumY += closing;
+        sumXY += x * closing;
+        count++;
+
+        long n = count;
+        double m = ((n * sumXY) - (sumX * sumY)) / ((n * sumX2) - (sumX * sumX));
+        double b = (sumY - (m * sumX)) / n;
+        double r = (m * x) + b;
+
+        value = ((closing - r) / closing) * 100;
+        return value;
+    }
+}
@@ -0,0 +1,31 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Chandelier Exit - 流式计算，与VolatilityIndicators.ChandelierExit逐位一致
+ * <p>
+ * Chandelier Exit Long = 22-Period SMA High - ATR(22) * 3
+ * Chandelier Exit Short = 22-Period SMA Low + ATR(22) * 3
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class ChandelierExit {
+    private final Atr atr22 = new Atr(22);
+    private final Max highestHigh22 = new Max(22);
+    private final Min lowestLow22 = new Min(22);
+    @Getter
+    private double chandelierExitLong;
+    @Getter
+    private double chandelierExitShort;
+
+    // Returns chandelierExitLong.
+    public double update(double high, double low, double closing) {
+        double atr = atr22.update(high, low, closing);
+
+        chandelierExitLong = highestHigh22.update(high) - (atr * 3);
+        chandelierExitShort = lowestLow22.update(low) + (atr * 3);
+
+        return chandelierExitLong;
+    }
+}
@@ -0,0 +1,41 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Community Channel Index (CMI) - 流式计算，与TrendIndicators.CommunityChannelIndex逐位一致
+ * <p>
+ * Moving Average = Sma(Period, Typical Price)
+ * Mean Deviation = Sma(Period, Abs(Typical Price - Moving Average))
+ * CMI = (Typical Price - Moving Average) / (0.015 * Mean Deviation)
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class CommunityChannelIndex {
+    private final Sma ma;
+    private final Sma md;
+    private long count;
+    @Getter
+    private double value;
+
+    // The default community channel index with the period of 20.
+    public CommunityChannelIndex() {
+        this(20);
+    }
+
+    public CommunityChannelIndex(int period) {
+        this.ma = new Sma(period);
+        this.md = new Sma(period);
+    }
+
+    public double update(double high, double low, double closing) {
+        double tp = (high + low + closing) / 3;
+        double deviation = tp - ma.update(tp);
+        double meanDeviation = md.update(Math.abs(deviation));
+
+        value = count == 0 ? 0 : deviation / (meanDeviation * 0.015);
+        count++;
+
+        return value;
+    }
+}
@@ -0,0 +1,30 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Double Exponential Moving Average (DEMA) - 流式计算，与TrendIndicators.Dema逐位一致
+ * <p>
+ * DEMA = (2 * EMA(values)) - EMA(EMA(values))
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Dema {
+    private final Ema ema1;
+    private final Ema ema2;
+    @Getter
+    private double value;
+
+    public Dema(int period) {
+        this.ema1 = new Ema(period);
+        this.ema2 = new Ema(period);
+    }
+
+    public double update(double value) {
+        double e1 = ema1.update(value);
+        double e2 = ema2.update(e1);
+        this.value = (e1 * 2) - e2;
+
+        return this.value;
+    }
+}
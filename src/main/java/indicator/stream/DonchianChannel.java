@@ -0,0 +1,37 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Donchian Channel (DC) - 流式计算，与VolatilityIndicators.DonchianChannel逐位一致
+ * <p>
+ * Upper Channel = Mmax(period, closings)
+ * Lower Channel = Mmin(period, closings)
+ * Middle Channel = (Upper Channel + Lower Channel) / 2
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class DonchianChannel {
+    private final Max max;
+    private final Min min;
+    @Getter
+    private double upperChannel;
+    @Getter
+    private double middleChannel;
+    @Getter
+    private double lowerChannel;
+
+    public DonchianChannel(int period) {
+        this.max = new Max(period);
+        this.min = new Min(period);
+    }
+
+    // Returns upperChannel.
+    public double update(double closing) {
+        upperChannel = max.update(closing);
+        lowerChannel = min.update(closing);
+        middleChannel = (upperChannel + lowerChannel) * (1 / 2.0);
+
+        return upperChannel;
+    }
+}
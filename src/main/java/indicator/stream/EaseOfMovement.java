@@ -0,0 +1,41 @@
+package indicator.stream;
+
+/**
+ * Ease of Movement (EMV) - 流式计算，与VolumeIndicators.EaseOfMovement逐位一致
+ * <p>
+ * Distance Moved = ((High + Low) / 2) - ((Priod High + Prior Low) /2)
+ * Box Ratio = ((Volume / 100000000) / (High - Low))
+ * EMV(1) = Distance Moved / Box Ratio
+ * EMV(14) = SMA(14, EMV(1))
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class EaseOfMovement {
+    private static final double HALF = 1 / 2.0;
+    private static final double SCALE = 1 / 100000000.0;
+
+    private final Sma sma;
+    private double previous;
+
+    // The default Ease of Movement with the default period of 14.
+    public EaseOfMovement() {
+        this(14);
+    }
+
+    public EaseOfMovement(int period) {
+        this.sma = new Sma(period);
+    }
+
+    public double update(double high, double low, long volume) {
+        double median = (high + low) * HALF;
+        double distanceMoved = median - previous;
+        previous = median;
+
+        double boxRatio = (volume * SCALE) / (high - low);
+        return sma.update(distanceMoved / boxRatio);
+    }
+
+    public double getValue() {
+        return sma.getValue();
+    }
+}
@@ -0,0 +1,34 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Exponential Moving Average (EMA) - 流式计算，与TrendIndicators.Ema逐位一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Ema {
+    private final double k;
+    private long count;
+    @Getter
+    private double value;
+
+    public Ema(int period) {
+        this.k = 2.00 / (1 + period);
+    }
+
+    public double update(double value) {
+        if (count > 0) {
+            this.value = (value * k) + (this.value * (1 - k));
+        } else {
+            this.value = value;
+        }
+        count++;
+
+        return this.value;
+    }
+
+    public long count() {
+        return count;
+    }
+}
@@ -0,0 +1,67 @@
+package indicator.stream;
+
+/**
+ * 多个周期的Ema或Rma - 流式计算，每个值只更新一次所有周期，与TrendIndicators.Ema/Rma逐位一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class EmaBank {
+    private final int[] periods;
+    private final boolean rma;
+    private final double[] k;
+    private final double[] sum;
+    private final double[] values;
+    private long count;
+
+    private EmaBank(int[] periods, boolean rma) {
+        this.periods = periods.clone();
+        this.rma = rma;
+        this.k = new double[periods.length];
+        this.sum = new double[periods.length];
+        this.values = new double[periods.length];
+        for (int p = 0; p < periods.length; p++) {
+            k[p] = 2.00 / (1 + periods[p]);
+        }
+    }
+
+    public static EmaBank ema(int... periods) {
+        return new EmaBank(periods, false);
+    }
+
+    public static EmaBank rma(int... periods) {
+        return new EmaBank(periods, true);
+    }
+
+    // Updates all periods, returns the values in the order of the periods.
+    // The returned array is reused by the next update.
+    public double[] update(double value) {
+        for (int p = 0; p < periods.length; p++) {
+            if (rma) {
+                int period = periods[p];
+                if (count < period) {
+                    sum[p] += value;
+                    values[p] = sum[p] / (count + 1);
+                } else {
+                    sum[p] = values[p] * (period - 1) + value;
+                    values[p] = sum[p] / period;
+                }
+            } else if (count > 0) {
+                values[p] = (value * k[p]) + (values[p] * (1 - k[p]));
+            } else {
+                values[p] = value;
+            }
+        }
+        count++;
+
+        return values;
+    }
+
+    // current value of the p-th period
+    public double getValue(int p) {
+        return values[p];
+    }
+
+    public long count() {
+        return count;
+    }
+}
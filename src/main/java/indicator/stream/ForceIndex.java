@@ -0,0 +1,33 @@
+package indicator.stream;
+
+/**
+ * Force Index (FI) - 流式计算，与VolumeIndicators.ForceIndex逐位一致
+ * <p>
+ * Force Index = EMA(period, (Current - Previous) * Volume)
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class ForceIndex {
+    private final Ema ema;
+    private double previous;
+
+    // The default Force Index (FI) with window size of 13.
+    public ForceIndex() {
+        this(13);
+    }
+
+    public ForceIndex(int period) {
+        this.ema = new Ema(period);
+    }
+
+    public double update(double closing, long volume) {
+        double difference = closing - previous;
+        previous = closing;
+
+        return ema.update(difference * volume);
+    }
+
+    public double getValue() {
+        return ema.getValue();
+    }
+}
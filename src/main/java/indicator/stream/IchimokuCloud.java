@@ -0,0 +1,54 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Ichimoku Cloud - 流式计算，与MomentumIndicators.IchimokuCloud逐位一致
+ * <p>
+ * Tenkan-sen (Conversion Line) = (9-Period High + 9-Period Low) / 2
+ * Kijun-sen (Base Line) = (26-Period High + 26-Period Low) / 2
+ * Senkou Span A (Leading Span A) = (Conversion Line + Base Line) / 2
+ * Senkou Span B (Leading Span B) = (52-Period High + 52-Period Low) / 2
+ * Chikou Span (Lagging Span) = Closing plotted 26 days in the past.
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class IchimokuCloud {
+    private static final double HALF = 1 / 2.0;
+
+    private final Max high9 = new Max(9);
+    private final Min low9 = new Min(9);
+    private final Max high26 = new Max(26);
+    private final Min low26 = new Min(26);
+    private final Max high52 = new Max(52);
+    private final Min low52 = new Min(52);
+    private final double[] closings = new double[26];
+    // number of updates, and the ring cursor of the closing 26 bars ago once the ring is full
+    private long count;
+    private int j;
+    @Getter
+    private double conversionLine;
+    @Getter
+    private double baseLine;
+    @Getter
+    private double leadingSpanA;
+    @Getter
+    private double leadingSpanB;
+    @Getter
+    private double laggingLine;
+
+    // Returns conversionLine.
+    public double update(double high, double low, double closing) {
+        conversionLine = (high9.update(high) + low9.update(low)) * HALF;
+        baseLine = (high26.update(high) + low26.update(low)) * HALF;
+        leadingSpanA = (conversionLine + baseLine) * HALF;
+        leadingSpanB = (high52.update(high) + low52.update(low)) * HALF;
+
+        laggingLine = count < closings.length ? 0 : closings[j];
+        closings[j] = closing;
+        j = j + 1 == closings.length ? 0 : j + 1;
+        count++;
+
+        return conversionLine;
+    }
+}
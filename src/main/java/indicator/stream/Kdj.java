@@ -0,0 +1,52 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * KDJ, also known as the Random Index - 流式计算，与TrendIndicators.Kdj逐位一致
+ * <p>
+ * RSV = ((Closing - Min(Low, rPeriod))
+ * / (Max(High, rPeriod) - Min(Low, rPeriod))) * 100
+ * K = Sma(RSV, kPeriod)
+ * D = Sma(K, dPeriod)
+ * J = (3 * K) - (2 * D)
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Kdj {
+    private final Max highest;
+    private final Min lowest;
+    private final Sma kSma;
+    private final Sma dSma;
+    @Getter
+    private double k;
+    @Getter
+    private double d;
+    @Getter
+    private double j;
+
+    // Default periods consisting of rPeriod of 9, kPeriod of 3, and dPeriod of 3.
+    public Kdj() {
+        this(9, 3, 3);
+    }
+
+    public Kdj(int rPeriod, int kPeriod, int dPeriod) {
+        this.highest = new Max(rPeriod);
+        this.lowest = new Min(rPeriod);
+        this.kSma = new Sma(kPeriod);
+        this.dSma = new Sma(dPeriod);
+    }
+
+    // Returns k.
+    public double update(double high, double low, double closing) {
+        double hh = highest.update(high);
+        double ll = lowest.update(low);
+        double rsv = ((closing - ll) / (hh - ll)) * 100;
+
+        k = kSma.update(rsv);
+        d = dSma.update(k);
+        j = (k * 3) - (d * 2);
+
+        return k;
+    }
+}
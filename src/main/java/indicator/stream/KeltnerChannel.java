@@ -0,0 +1,44 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Keltner Channel (KC) - 流式计算，与VolatilityIndicators.KeltnerChannel逐位一致
+ * <p>
+ * Middle Line = EMA(period, closings)
+ * Upper Band = EMA(period, closings) + 2 * ATR(period, highs, lows, closings)
+ * Lower Band = EMA(period, closings) - 2 * ATR(period, highs, lows, closings)
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class KeltnerChannel {
+    private final Atr atr;
+    private final Ema ema;
+    @Getter
+    private double upperBand;
+    @Getter
+    private double middleLine;
+    @Getter
+    private double lowerBand;
+
+    // The default keltner channel with the default period of 20.
+    public KeltnerChannel() {
+        this(20);
+    }
+
+    public KeltnerChannel(int period) {
+        this.atr = new Atr(period);
+        this.ema = new Ema(period);
+    }
+
+    // Returns upperBand.
+    public double update(double high, double low, double closing) {
+        double atr2 = atr.update(high, low, closing) * 2;
+
+        middleLine = ema.update(closing);
+        upperBand = middleLine + atr2;
+        lowerBand = middleLine - atr2;
+
+        return upperBand;
+    }
+}
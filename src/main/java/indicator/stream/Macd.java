@@ -0,0 +1,29 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Moving Average Convergence Divergence (MACD) - 流式计算，与TrendIndicators.Macd逐位一致
+ * <p>
+ * MACD = 12-Period EMA - 26-Period EMA.
+ * Signal = 9-Period EMA of MACD.
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Macd {
+    private final Ema ema12 = new Ema(12);
+    private final Ema ema26 = new Ema(26);
+    private final Ema ema9 = new Ema(9);
+    @Getter
+    private double macd;
+    @Getter
+    private double signal;
+
+    // Returns macd.
+    public double update(double close) {
+        macd = ema12.update(close) - ema26.update(close);
+        signal = ema9.update(macd);
+
+        return macd;
+    }
+}
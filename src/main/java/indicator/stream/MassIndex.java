@@ -0,0 +1,29 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Mass Index (MI) - 流式计算，与TrendIndicators.MassIndex逐位一致
+ * <p>
+ * Singe EMA = EMA(9, Highs - Lows)
+ * Double EMA = EMA(9, Single EMA)
+ * Ratio = Single EMA / Double EMA
+ * MI = Sum(25, Ratio)
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class MassIndex {
+    private final Ema ema1 = new Ema(9);
+    private final Ema ema2 = new Ema(9);
+    private final Sum sum = new Sum(25);
+    @Getter
+    private double value;
+
+    public double update(double high, double low) {
+        double e1 = ema1.update(high - low);
+        double e2 = ema2.update(e1);
+        value = sum.update(e1 / e2);
+
+        return value;
+    }
+}
@@ -0,0 +1,29 @@
+package indicator.stream;
+
+import base.MonotonicDeque;
+
+/**
+ * Moving max - 流式计算，与TrendIndicators.Max一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Max {
+    private final MonotonicDeque deque;
+
+    public Max(int period) {
+        this.deque = MonotonicDeque.max(period);
+    }
+
+    public double update(double value) {
+        return deque.push(value);
+    }
+
+    public double getValue() {
+        return deque.value();
+    }
+
+    // Index of the max value, counts from the first update.
+    public long getIndex() {
+        return deque.index();
+    }
+}
@@ -0,0 +1,29 @@
+package indicator.stream;
+
+import base.MonotonicDeque;
+
+/**
+ * Moving min - 流式计算，与TrendIndicators.Min一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Min {
+    private final MonotonicDeque deque;
+
+    public Min(int period) {
+        this.deque = MonotonicDeque.min(period);
+    }
+
+    public double update(double value) {
+        return deque.push(value);
+    }
+
+    public double getValue() {
+        return deque.value();
+    }
+
+    // Index of the min value, counts from the first update.
+    public long getIndex() {
+        return deque.index();
+    }
+}
@@ -0,0 +1,47 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Money Flow Index (MFI) - 流式计算，与VolumeIndicators.MoneyFlowIndex逐位一致
+ * <p>
+ * Raw Money Flow = Typical Price * Volume
+ * Money Ratio = Positive Money Flow / Negative Money Flow
+ * Money Flow Index = 100 - (100 / (1 + Money Ratio))
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class MoneyFlowIndex {
+    private final Sum positiveMoneyFlow;
+    private final Sum negativeMoneyFlow;
+    private double previous;
+    @Getter
+    private double value;
+
+    // Default money flow index with period 14.
+    public MoneyFlowIndex() {
+        this(14);
+    }
+
+    public MoneyFlowIndex(int period) {
+        this.positiveMoneyFlow = new Sum(period);
+        this.negativeMoneyFlow = new Sum(period);
+    }
+
+    public double update(double high, double low, double closing, long volume) {
+        double typicalPrice = (high + low + closing) / 3;
+        double rawMoneyFlow = typicalPrice * volume;
+
+        double sign = rawMoneyFlow - previous >= 0 ? 1 : -1;
+        double moneyFlow = sign * rawMoneyFlow;
+        previous = rawMoneyFlow;
+
+        double positive = moneyFlow > 0 ? moneyFlow : 0;
+        double negative = moneyFlow < 0 ? moneyFlow : 0;
+
+        double moneyRatio = positiveMoneyFlow.update(positive) / negativeMoneyFlow.update(negative * -1);
+        value = (Math.pow(moneyRatio + 1, -1) * -100) + 100;
+
+        return value;
+    }
+}
@@ -0,0 +1,31 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Moving Chande Forecast Oscillator - 流式计算，与TrendIndicators.MovingChandeForecastOscillator逐位一致
+ * <p>
+ * R = Linreg(Closing)
+ * CFO = ((Closing - R) / Closing) * 100
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class MovingChandeForecastOscillator {
+    private final MovingLeastSquare mls;
+    private long count;
+    @Getter
+    private double value;
+
+    public MovingChandeForecastOscillator(int period) {
+        this.mls = new MovingLeastSquare(period);
+    }
+
+    public double update(double closing) {
+        double x = count++;
+        mls.update(x, closing);
+        double r = mls.regression(x);
+
+        value = ((closing - r) / closing) * 100;
+        return value;
+    }
+}
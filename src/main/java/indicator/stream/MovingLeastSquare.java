@@ -0,0 +1,61 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Moving least square over a period - 流式计算，与Regression.MovingLeastSquare逐位一致
+ * <p>
+ * y = mx + b
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class MovingLeastSquare {
+    private final int period;
+    private final double[] xBuffer;
+    private final double[] yBuffer;
+    // number of updates, and the ring cursor of the oldest value once the window is full
+    private long count;
+    private int j;
+    private double sumX, sumX2, sumY, sumXY;
+    @Getter
+    private double m;
+    @Getter
+    private double b;
+
+    public MovingLeastSquare(int period) {
+        this.period = period;
+        this.xBuffer = new double[period];
+        this.yBuffer = new double[period];
+    }
+
+    // Returns m.
+    public double update(double x, double y) {
+        sumX += x;
+        sumX2 += x * x;
+        sumY += y;
+        sumXY += x * y;
+
+        int n = count >= period ? period : (int) count + 1;
+        if (count >= period) {
+            double px = xBuffer[j], py = yBuffer[j];
+            sumX -= px;
+            sumX2 -= px * px;
+            sumY -= py;
+            sumXY -= px * py;
+        }
+        xBuffer[j] = x;
+        yBuffer[j] = y;
+        j = j + 1 == period ? 0 : j + 1;
+        count++;
+
+        m = ((n * sumXY) - (sumX * sumY)) / ((n * sumX2) - (sumX * sumX));
+        b = (sumY - (m * sumX)) / n;
+
+        return m;
+    }
+
+    // Linear regression of x, y = mx + b
+    public double regression(double x) {
+        return (m * x) + b;
+    }
+}
@@ -0,0 +1,33 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Negative Volume Index (NVI) - 流式计算，与VolumeIndicators.NegativeVolumeIndex逐位一致
+ * <p>
+ * If Volume is greather than Previous Volume: NVI = Previous NVI
+ * Otherwise: NVI = Previous NVI + (((Closing - Previous Closing) / Previous Closing) * Previous NVI)
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class NegativeVolumeIndex {
+    private static final int NVI_STARTING_VALUE = 1000;
+
+    private long count;
+    private double previousClosing;
+    private long previousVolume;
+    @Getter
+    private double value;
+
+    public double update(double closing, long volume) {
+        if (count++ == 0) {
+            value = NVI_STARTING_VALUE;
+        } else if (previousVolume >= volume) {
+            value = value + (((closing - previousClosing) / previousClosing) * value);
+        }
+        previousClosing = closing;
+        previousVolume = volume;
+
+        return value;
+    }
+}
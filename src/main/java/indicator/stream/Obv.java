@@ -0,0 +1,28 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * On-Balance Volume (OBV) - 流式计算，与VolumeIndicators.Obv一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Obv {
+    private long count;
+    private double previous;
+    @Getter
+    private long value;
+
+    public long update(double closing, long volume) {
+        if (count++ > 0) {
+            if (closing > previous) {
+                value += volume;
+            } else if (closing < previous) {
+                value -= volume;
+            }
+        }
+        previous = closing;
+
+        return value;
+    }
+}
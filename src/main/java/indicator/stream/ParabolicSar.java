@@ -0,0 +1,82 @@
+package indicator.stream;
+
+import indicator.TrendEnum;
+import lombok.Getter;
+
+/**
+ * Parabolic SAR - 流式计算，与TrendIndicators.ParabolicSar逐位一致
+ * <p>
+ * PSAR = PSAR[i - 1] - ((PSAR[i - 1] - EP) * AF)
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class ParabolicSar {
+    private static final double psarAfStep = 0.02;
+    private static final double psarAfMax = 0.20;
+
+    private long count;
+    private double af, ep;
+    // high[i-1], high[i-2], low[i-1], low[i-2]
+    private double high1, high2, low1, low2;
+    @Getter
+    private double psar;
+    @Getter
+    private TrendEnum trend;
+
+    // Returns psar.
+    public double update(double high, double low, double closing) {
+        if (count == 0) {
+            trend = TrendEnum.Falling;
+            psar = high;
+            af = psarAfStep;
+            ep = low;
+        } else {
+            psar = psar - ((psar - ep) * af);
+
+            if (trend == TrendEnum.Falling) {
+                psar = Math.max(psar, high1);
+                if (count > 1) {
+                    psar = Math.max(psar, high2);
+                }
+
+                if (high >= psar) {
+                    psar = ep;
+                }
+            } else {
+                psar = Math.min(psar, low1);
+                if (count > 1) {
+                    psar = Math.min(psar, low2);
+                }
+
+                if (low <= psar) {
+                    psar = ep;
+                }
+            }
+
+            double prevEp = ep;
+            TrendEnum prevTrend = trend;
+
+            if (psar > closing) {
+                trend = TrendEnum.Falling;
+                ep = Math.min(ep, low);
+            } else {
+                trend = TrendEnum.Rising;
+                ep = Math.max(ep, high);
+            }
+
+            if (trend != prevTrend) {
+                af = psarAfStep;
+            } else if (prevEp != ep && af < psarAfMax) {
+                af += psarAfStep;
+            }
+        }
+
+        high2 = high1;
+        high1 = high;
+        low2 = low1;
+        low1 = low;
+        count++;
+
+        return psar;
+    }
+}
@@ -0,0 +1,46 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Percentage Price Oscillator (PPO) - 流式计算，与MomentumIndicators.PercentagePriceOscillator逐位一致
+ * <p>
+ * PPO = ((EMA(fastPeriod, prices) - EMA(slowPeriod, prices)) / EMA(longPeriod, prices)) * 100
+ * Signal = EMA(9, PPO)
+ * Histogram = PPO - Signal
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class PercentagePriceOscillator {
+    private final Ema fast;
+    private final Ema slow;
+    private final Ema signalEma;
+    @Getter
+    private double ppo;
+    @Getter
+    private double signal;
+    @Getter
+    private double histogram;
+
+    // The default periods of 12, 26, 9.
+    public PercentagePriceOscillator() {
+        this(12, 26, 9);
+    }
+
+    public PercentagePriceOscillator(int fastPeriod, int slowPeriod, int signalPeriod) {
+        this.fast = new Ema(fastPeriod);
+        this.slow = new Ema(slowPeriod);
+        this.signalEma = new Ema(signalPeriod);
+    }
+
+    // Returns ppo.
+    public double update(double price) {
+        double fastEma = fast.update(price);
+        double slowEma = slow.update(price);
+        ppo = ((fastEma - slowEma) / slowEma) * 100;
+        signal = signalEma.update(ppo);
+        histogram = ppo - signal;
+
+        return ppo;
+    }
+}
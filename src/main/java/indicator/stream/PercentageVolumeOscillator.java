@@ -0,0 +1,40 @@
+package indicator.stream;
+
+/**
+ * Percentage Volume Oscillator (PVO) - 流式计算，与MomentumIndicators.PercentageVolumeOscillator逐位一致
+ * <p>
+ * PVO = ((EMA(fastPeriod, volumes) - EMA(slowPeriod, volumes)) / EMA(longPeriod, volumes)) * 100
+ * Signal = EMA(9, PVO)
+ * Histogram = PVO - Signal
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class PercentageVolumeOscillator {
+    private final PercentagePriceOscillator ppo;
+
+    // The default periods of 12, 26, 9.
+    public PercentageVolumeOscillator() {
+        this(12, 26, 9);
+    }
+
+    public PercentageVolumeOscillator(int fastPeriod, int slowPeriod, int signalPeriod) {
+        this.ppo = new PercentagePriceOscillator(fastPeriod, slowPeriod, signalPeriod);
+    }
+
+    // Returns pvo.
+    public double update(long volume) {
+        return ppo.update(volume);
+    }
+
+    public double getPvo() {
+        return ppo.getPpo();
+    }
+
+    public double getSignal() {
+        return ppo.getSignal();
+    }
+
+    public double getHistogram() {
+        return ppo.getHistogram();
+    }
+}
@@ -0,0 +1,49 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Projection Oscillator (PO) - 流式计算，与VolatilityIndicators.ProjectionOscillator逐位一致
+ * <p>
+ * PL = Min(period, (high + MLS(period, x, high)))
+ * PU = Max(period, (low + MLS(period, x, low)))
+ * PO = 100 * (Closing - PL) / (PU - PL)
+ * SPO = EMA(smooth, PO)
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class ProjectionOscillator {
+    private final MovingLeastSquare mlsHigh;
+    private final MovingLeastSquare mlsLow;
+    private final Max pu;
+    private final Min pl;
+    private final Ema ema;
+    private long count;
+    @Getter
+    private double po;
+    @Getter
+    private double spo;
+
+    public ProjectionOscillator(int period, int smooth) {
+        this.mlsHigh = new MovingLeastSquare(period);
+        this.mlsLow = new MovingLeastSquare(period);
+        this.pu = new Max(period);
+        this.pl = new Min(period);
+        this.ema = new Ema(smooth);
+    }
+
+    // Returns po.
+    public double update(double high, double low, double closing) {
+        double x = count++;
+        double vHigh = high + (mlsHigh.update(x, high) * x);
+        double vLow = low + (mlsLow.update(x, low) * x);
+
+        double upper = pu.update(vHigh);
+        double lower = pl.update(vLow);
+
+        po = ((closing - lower) * 100) / (upper - lower);
+        spo = ema.update(po);
+
+        return po;
+    }
+}
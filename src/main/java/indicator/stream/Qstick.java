@@ -0,0 +1,24 @@
+package indicator.stream;
+
+/**
+ * Qstick - 流式计算，与TrendIndicators.Qstick逐位一致
+ * <p>
+ * QS = Sma(Closing - Opening)
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Qstick {
+    private final Sma sma;
+
+    public Qstick(int period) {
+        this.sma = new Sma(period);
+    }
+
+    public double update(double opening, double closing) {
+        return sma.update(closing - opening);
+    }
+
+    public double getValue() {
+        return sma.getValue();
+    }
+}
@@ -0,0 +1,41 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Rolling Moving Average (RMA) - 流式计算，与TrendIndicators.Rma逐位一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Rma {
+    private final int period;
+    private long count;
+    private double sum;
+    @Getter
+    private double value;
+
+    public Rma(int period) {
+        this.period = period;
+    }
+
+    public double update(double value) {
+        int n;
+
+        if (count < period) {
+            sum += value;
+            n = (int) count + 1;
+        } else {
+            sum = this.value * (period - 1) + value;
+            n = period;
+        }
+
+        count++;
+        this.value = sum / n;
+
+        return this.value;
+    }
+
+    public long count() {
+        return count;
+    }
+}
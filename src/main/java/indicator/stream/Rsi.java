@@ -0,0 +1,52 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Relative Strength Index (RSI) - 流式计算，与MomentumIndicators.RsiPeriod逐位一致
+ * <p>
+ * RS = Average Gain / Average Loss
+ * RSI = 100 - (100 / (1 + RS))
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Rsi {
+    private final Rma meanGains;
+    private final Rma meanLosses;
+    private long count;
+    private double previous;
+    @Getter
+    private double rs;
+    @Getter
+    private double rsi;
+
+    // Default period 14.
+    public Rsi() {
+        this(14);
+    }
+
+    public Rsi(int period) {
+        this.meanGains = new Rma(period);
+        this.meanLosses = new Rma(period);
+    }
+
+    // Returns rsi.
+    public double update(double closing) {
+        double gain = 0, loss = 0;
+        if (count++ > 0) {
+            double difference = closing - previous;
+
+            if (difference > 0) {
+                gain = difference;
+            } else {
+                loss = -difference;
+            }
+        }
+        previous = closing;
+
+        rs = meanGains.update(gain) / meanLosses.update(loss);
+        rsi = 100 - (100 / (1 + rs));
+
+        return rsi;
+    }
+}
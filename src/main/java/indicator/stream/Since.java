@@ -0,0 +1,25 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Since last values change - 流式计算，与TrendIndicators.Since一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Since {
+    private double lastValue = 0.000;
+    @Getter
+    private int value;
+
+    public int update(double value) {
+        if (value != lastValue) {
+            lastValue = value;
+            this.value = 0;
+        } else {
+            this.value++;
+        }
+
+        return this.value;
+    }
+}
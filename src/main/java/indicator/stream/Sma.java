@@ -0,0 +1,47 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Simple Moving Average (SMA) - 流式计算，与TrendIndicators.sma逐位一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Sma {
+    private final int period;
+    private final double[] buffer;
+    // number of updates, and the ring cursor of the oldest value once the window is full
+    private long count;
+    private int j;
+    private double sum;
+    @Getter
+    private double value;
+
+    public Sma(int period) {
+        this.period = period;
+        this.buffer = new double[period];
+    }
+
+    public double update(double value) {
+        int n;
+        sum += value;
+
+        if (count >= period) {
+            sum -= buffer[j];
+            n = period;
+        } else {
+            n = (int) count + 1;
+        }
+
+        buffer[j] = value;
+        j = j + 1 == period ? 0 : j + 1;
+        count++;
+        this.value = sum / n;
+
+        return this.value;
+    }
+
+    public long count() {
+        return count;
+    }
+}
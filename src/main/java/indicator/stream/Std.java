@@ -0,0 +1,32 @@
+package indicator.stream;
+
+import indicator.RollingMoments;
+
+/**
+ * Standard deviation - 流式计算，与VolatilityIndicators.Std逐位一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Std {
+    private final int period;
+    private final RollingMoments moments;
+    private long count;
+    private double value;
+
+    public Std(int period) {
+        this.period = period;
+        this.moments = new RollingMoments(period);
+    }
+
+    public double update(double value) {
+        moments.update(value);
+        this.value = count < period - 1 ? 0.0 : moments.getStd();
+        count++;
+
+        return this.value;
+    }
+
+    public double getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,42 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Standard deviation from the given SMA - 流式计算，与VolatilityIndicators.StdFromSma逐位一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class StdFromSma {
+    private final int period;
+    private final double[] buffer;
+    // number of updates, and the ring cursor of the newest value
+    private long count;
+    private int j;
+    private double sum2;
+    @Getter
+    private double value;
+
+    public StdFromSma(int period) {
+        this.period = period;
+        this.buffer = new double[period];
+    }
+
+    public double update(double value, double sma) {
+        sum2 += value * value;
+        buffer[j] = value;
+        j = j + 1 == period ? 0 : j + 1;
+
+        if (count < period - 1) {
+            this.value = 0.0;
+        } else {
+            this.value = Math.sqrt(sum2 / period - sma * sma);
+            // the oldest value of the window is next to the newest one
+            double w = buffer[j];
+            sum2 -= w * w;
+        }
+        count++;
+
+        return this.value;
+    }
+}
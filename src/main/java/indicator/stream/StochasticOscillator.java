@@ -0,0 +1,32 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Stochastic Oscillator - 流式计算，与MomentumIndicators.StochasticOscillator逐位一致
+ * <p>
+ * K = (Closing - Lowest Low) / (Highest High - Lowest Low) * 100
+ * D = 3-Period SMA of K
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class StochasticOscillator {
+    private final Max highestHigh14 = new Max(14);
+    private final Min lowestLow14 = new Min(14);
+    private final Sma sma3 = new Sma(3);
+    @Getter
+    private double k;
+    @Getter
+    private double d;
+
+    // Returns k.
+    public double update(double high, double low, double closing) {
+        double hh = highestHigh14.update(high);
+        double ll = lowestLow14.update(low);
+
+        k = ((closing - ll) / (hh - ll)) * 100;
+        d = sma3.update(k);
+
+        return k;
+    }
+}
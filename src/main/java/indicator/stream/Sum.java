@@ -0,0 +1,41 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Moving sum - 流式计算，与TrendIndicators.Sum逐位一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Sum {
+    private final int period;
+    private final double[] buffer;
+    // number of updates, and the ring cursor of the oldest value once the window is full
+    private long count;
+    private int j;
+    @Getter
+    private double value;
+
+    public Sum(int period) {
+        this.period = period;
+        this.buffer = new double[period];
+    }
+
+    public double update(double value) {
+        this.value += value;
+
+        if (count >= period) {
+            this.value -= buffer[j];
+        }
+
+        buffer[j] = value;
+        j = j + 1 == period ? 0 : j + 1;
+        count++;
+
+        return this.value;
+    }
+
+    public long count() {
+        return count;
+    }
+}
@@ -0,0 +1,33 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Triple Exponential Moving Average (TEMA) - 流式计算，与TrendIndicators.Tema逐位一致
+ * <p>
+ * TEMA = (3 * EMA1) - (3 * EMA2) + EMA3
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Tema {
+    private final Ema ema1;
+    private final Ema ema2;
+    private final Ema ema3;
+    @Getter
+    private double value;
+
+    public Tema(int period) {
+        this.ema1 = new Ema(period);
+        this.ema2 = new Ema(period);
+        this.ema3 = new Ema(period);
+    }
+
+    public double update(double value) {
+        double e1 = ema1.update(value);
+        double e2 = ema2.update(e1);
+        double e3 = ema3.update(e2);
+        this.value = ((e1 * 3) - (e2 * 3)) + e3;
+
+        return this.value;
+    }
+}
@@ -0,0 +1,34 @@
+package indicator.stream;
+
+/**
+ * Triangular Moving Average (TRIMA) - 流式计算，与TrendIndicators.Trima逐位一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Trima {
+    private final Sma sma1;
+    private final Sma sma2;
+
+    public Trima(int period) {
+        int n1, n2;
+
+        if (period % 2 == 0) {
+            n1 = period / 2;
+            n2 = n1 + 1;
+        } else {
+            n1 = (period + 1) / 2;
+            n2 = n1;
+        }
+
+        this.sma1 = new Sma(n1);
+        this.sma2 = new Sma(n2);
+    }
+
+    public double update(double value) {
+        return sma1.update(sma2.update(value));
+    }
+
+    public double getValue() {
+        return sma1.getValue();
+    }
+}
@@ -0,0 +1,37 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Triple Exponential Average (TRIX) - 流式计算，与TrendIndicators.Trix逐位一致
+ * <p>
+ * TRIX = (EMA3 - Previous EMA3) / Previous EMA3
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Trix {
+    private final Ema ema1;
+    private final Ema ema2;
+    private final Ema ema3;
+    private long count;
+    private double previous;
+    @Getter
+    private double value;
+
+    public Trix(int period) {
+        this.ema1 = new Ema(period);
+        this.ema2 = new Ema(period);
+        this.ema3 = new Ema(period);
+    }
+
+    public double update(double value) {
+        double e3 = ema3.update(ema2.update(ema1.update(value)));
+        if (count++ == 0) {
+            previous = e3;
+        }
+        this.value = (e3 - previous) / previous;
+        previous = e3;
+
+        return this.value;
+    }
+}
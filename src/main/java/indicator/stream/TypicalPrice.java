@@ -0,0 +1,26 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Typical Price - 流式计算，与TrendIndicators.TypicalPrice逐位一致
+ * <p>
+ * Typical Price = (High + Low + Closing) / 3
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class TypicalPrice {
+    private final Sma sma = new Sma(20);
+    @Getter
+    private double typicalPrice;
+    @Getter
+    private double sma20;
+
+    // Returns typical price.
+    public double update(double low, double high, double closing) {
+        sma20 = sma.update(closing);
+        typicalPrice = (high + low + closing) / 3;
+
+        return typicalPrice;
+    }
+}
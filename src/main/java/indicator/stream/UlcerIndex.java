@@ -0,0 +1,38 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Ulcer Index (UI) - 流式计算，与VolatilityIndicators.UlcerIndex逐位一致
+ * <p>
+ * High Closings = Max(period, Closings)
+ * Percentage Drawdown = 100 * ((Closings - High Closings) / High Closings)
+ * Squared Average = Sma(period, Percent Drawdown * Percent Drawdown)
+ * Ulcer Index = Sqrt(Squared Average)
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class UlcerIndex {
+    private final Max highClosing;
+    private final Sma squaredAverage;
+    @Getter
+    private double value;
+
+    // The default ulcer index with the default period of 14.
+    public UlcerIndex() {
+        this(14);
+    }
+
+    public UlcerIndex(int period) {
+        this.highClosing = new Max(period);
+        this.squaredAverage = new Sma(period);
+    }
+
+    public double update(double closing) {
+        double hc = highClosing.update(closing);
+        double percentageDrawdown = ((closing - hc) / hc) * 100;
+        value = Math.sqrt(squaredAverage.update(percentageDrawdown * percentageDrawdown));
+
+        return value;
+    }
+}
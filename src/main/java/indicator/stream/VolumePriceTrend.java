@@ -0,0 +1,27 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Volume Price Trend (VPT) - 流式计算，与VolumeIndicators.VolumePriceTrend逐位一致
+ * <p>
+ * VPT = Previous VPT + (Volume * (Current Closing - Previous Closing) / Previous Closing)
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class VolumePriceTrend {
+    private long count;
+    private double previous;
+    @Getter
+    private double value;
+
+    public double update(double closing, long volume) {
+        if (count++ == 0) {
+            previous = closing;
+        }
+        value += volume * ((closing - previous) / previous);
+        previous = closing;
+
+        return value;
+    }
+}
@@ -0,0 +1,29 @@
+package indicator.stream;
+
+/**
+ * Volume Weighted Average Price (VWAP) - 流式计算，与VolumeIndicators.VolumeWeightedAveragePrice逐位一致
+ * <p>
+ * VWAP = Sum(Closing * Volume) / Sum(Volume)
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class VolumeWeightedAveragePrice {
+    private final Vwma vwma;
+
+    // Default volume weighted average price with period of 14.
+    public VolumeWeightedAveragePrice() {
+        this(14);
+    }
+
+    public VolumeWeightedAveragePrice(int period) {
+        this.vwma = new Vwma(period);
+    }
+
+    public double update(double closing, long volume) {
+        return vwma.update(closing, volume);
+    }
+
+    public double getValue() {
+        return vwma.getValue();
+    }
+}
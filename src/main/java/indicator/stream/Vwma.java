@@ -0,0 +1,34 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Volume Weighted Moving Average (VWMA) - 流式计算，与TrendIndicators.Vwma逐位一致
+ * <p>
+ * VWMA = Sum(Price * Volume) / Sum(Volume) for a given Period.
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Vwma {
+    private final Sum priceVolume;
+    private final Sum volume;
+    @Getter
+    private double value;
+
+    // The default VWMA with a period of 20.
+    public Vwma() {
+        this(20);
+    }
+
+    public Vwma(int period) {
+        this.priceVolume = new Sum(period);
+        this.volume = new Sum(period);
+    }
+
+    public double update(double closing, long volume) {
+        double v = volume;
+        value = priceVolume.update(closing * v) / this.volume.update(v);
+
+        return value;
+    }
+}
@@ -0,0 +1,25 @@
+package indicator.stream;
+
+import lombok.Getter;
+
+/**
+ * Williams R - 流式计算，与MomentumIndicators.WilliamsR逐位一致
+ * <p>
+ * WR = (Highest High - Closing) / (Highest High - Lowest Low) * -100.
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class WilliamsR {
+    private final Max highestHigh = new Max(14);
+    private final Min lowestLow = new Min(14);
+    @Getter
+    private double value;
+
+    public double update(double low, double high, double closing) {
+        double hh = highestHigh.update(high);
+        double ll = lowestLow.update(low);
+        value = (hh - closing) / (hh - ll) * (-100);
+
+        return value;
+    }
+}
@@ -0,0 +1,32 @@
+package indicator.stream;
+
+import indicator.RollingMoments;
+import lombok.Getter;
+
+/**
+ * Z-Score - 流式计算，与VolatilityIndicators.ZScore逐位一致
+ * <p>
+ * Z-Score = (Value - Mean(period)) / Std(period)
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class ZScore {
+    private final int period;
+    private final RollingMoments moments;
+    private long count;
+    @Getter
+    private double value;
+
+    public ZScore(int period) {
+        this.period = period;
+        this.moments = new RollingMoments(period);
+    }
+
+    public double update(double value) {
+        double std = moments.update(value).getStd();
+        this.value = count < period - 1 || std == 0 ? 0.0 : (value - moments.getMean()) / std;
+        count++;
+
+        return this.value;
+    }
+}
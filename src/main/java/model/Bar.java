@@ -8,6 +8,8 @@ import lombok.Data;
 @Data
 public class Bar {
     public String datetime;
+    // epoch millis
+    public long time;
     public double open;
     public double close;
     public double high;
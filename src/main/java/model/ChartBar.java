@@ -3,20 +3,42 @@ package model;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+
 /**
  * Description: chart bar
+ * <p>
+ * bar的时间有三种保存方式，按优先级：
+ * calendar + calendarIndex（共用交易日历的序号，每根bar 4字节），time（epoch毫秒，每根bar 8字节），
+ * datetime（字符串，兼容原来的用法）。time和calendar都是递增的，可以用indexOf、between按时间二分查找。
+ * 只有datetime时不能按时间查找。
+ * <p>
+ * view(from, to)返回共享数组的视图，bar i对应数组的下标offset + i，length是bar的数量（-1表示到数组末尾）。
+ * 按下标读取用open(i)、close(i)等方法，直接读数组字段时要加上offset；指标用带区间的重载计算[offset, end())。
  *
  * @author jinfeng.hu  @Date 2022-10-06
  **/
 @Data
 @NoArgsConstructor
 public class ChartBar {
+    // 没有datetime时格式化time用的格式，UTC
+    public static final DateTimeFormatter DATETIME_FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneOffset.UTC);
+
     public String[] datetime;
+    public long[] time;
+    public TradingCalendar calendar;
+    public int[] calendarIndex;
     public double[] open;
     public double[] high;
     public double[] low;
     public double[] close;
     public long[] volume;
+    public int offset;
+    public int length = -1;
 
     public ChartBar(int size) {
         this.datetime = new String[size];
@@ -27,27 +49,194 @@ public class ChartBar {
         this.volume = new long[size];
     }
 
+    // ChartBar with the epoch millis time axis and without datetime.
+    public static ChartBar withTime(int size) {
+        ChartBar chartBar = new ChartBar();
+        chartBar.time = new long[size];
+        chartBar.open = new double[size];
+        chartBar.high = new double[size];
+        chartBar.low = new double[size];
+        chartBar.close = new double[size];
+        chartBar.volume = new long[size];
+        return chartBar;
+    }
+
+    // number of bars
+    public int size() {
+        return length >= 0 ? length : close.length - offset;
+    }
+
+    // index in the arrays after the last bar
+    public int end() {
+        return offset + size();
+    }
+
+    public boolean isView() {
+        return offset != 0 || length >= 0;
+    }
+
+    // View of bars [from, to) sharing the arrays of this chart bar, nothing is copied.
+    public ChartBar view(int from, int to) {
+        if (from < 0 || to > size() || from > to) {
+            throw new RuntimeException("range out of bounds");
+        }
+        ChartBar chartBar = new ChartBar();
+        chartBar.datetime = datetime;
+        chartBar.time = time;
+        chartBar.calendar = calendar;
+        chartBar.calendarIndex = calendarIndex;
+        chartBar.open = open;
+        chartBar.high = high;
+        chartBar.low = low;
+        chartBar.close = close;
+        chartBar.volume = volume;
+        chartBar.offset = offset + from;
+        chartBar.length = to - from;
+        return chartBar;
+    }
+
+    // View of the bars with fromTime <= time < toTime.
+    public ChartBar viewBetween(long fromTime, long toTime) {
+        int from = lowerBound(fromTime);
+        return view(from, Math.max(from, lowerBound(toTime)));
+    }
+
+    public double open(int i) {
+        return open[offset + i];
+    }
+
+    public double high(int i) {
+        return high[offset + i];
+    }
+
+    public double low(int i) {
+        return low[offset + i];
+    }
+
+    public double close(int i) {
+        return close[offset + i];
+    }
+
+    public long volume(int i) {
+        return volume[offset + i];
+    }
+
+    public boolean hasTime() {
+        return calendarIndex != null || time != null;
+    }
+
+    // epoch millis of bar i
+    public long time(int i) {
+        if (calendarIndex != null) {
+            return calendar.time(calendarIndex[offset + i]);
+        }
+        if (time == null) {
+            throw new RuntimeException("no time axis");
+        }
+        return time[offset + i];
+    }
+
+    // datetime of bar i, formatted from the time when there is no datetime
+    public String datetime(int i) {
+        if (datetime != null && (datetime[offset + i] != null || !hasTime())) {
+            return datetime[offset + i];
+        }
+        return DATETIME_FORMATTER.format(Instant.ofEpochMilli(time(i)));
+    }
+
+    // Index of the bar at the time, or -(insertion point) - 1 if absent, like Arrays.binarySearch.
+    public int indexOf(long time) {
+        int low = 0, high = size() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            long t = time(middle);
+            if (t < time) {
+                low = middle + 1;
+            } else if (t > time) {
+                high = middle - 1;
+            } else {
+                return middle;
+            }
+        }
+        return -(low + 1);
+    }
+
+    // first bar at or after the time
+    private int lowerBound(long time) {
+        int index = indexOf(time);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    // Copies bars [from, to).
+    public ChartBar slice(int from, int to) {
+        if (from < 0 || to > size() || from > to) {
+            throw new RuntimeException("range out of bounds");
+        }
+        from += offset;
+        to += offset;
+        ChartBar chartBar = new ChartBar();
+        chartBar.datetime = datetime == null ? null : Arrays.copyOfRange(datetime, from, to);
+        chartBar.time = time == null ? null : Arrays.copyOfRange(time, from, to);
+        chartBar.calendar = calendar;
+        chartBar.calendarIndex = calendarIndex == null ? null : Arrays.copyOfRange(calendarIndex, from, to);
+        chartBar.open = Arrays.copyOfRange(open, from, to);
+        chartBar.high = Arrays.copyOfRange(high, from, to);
+        chartBar.low = Arrays.copyOfRange(low, from, to);
+        chartBar.close = Arrays.copyOfRange(close, from, to);
+        chartBar.volume = Arrays.copyOfRange(volume, from, to);
+        return chartBar;
+    }
+
+    // Copies the bars with fromTime <= time < toTime.
+    public ChartBar between(long fromTime, long toTime) {
+        int from = lowerBound(fromTime);
+        return slice(from, Math.max(from, lowerBound(toTime)));
+    }
+
+    // Same bars with the time stored as indexes of the shared calendar, without datetime and time.
+    // The price and volume arrays are shared with this chart bar.
+    // A view is copied first.
+    public ChartBar encode(TradingCalendar calendar) {
+        if (isView()) {
+            return slice(0, size()).encode(calendar);
+        }
+        long[] times = new long[size()];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = time(i);
+        }
+
+        ChartBar chartBar = new ChartBar();
+        chartBar.calendar = calendar;
+        chartBar.calendarIndex = calendar.encode(times);
+        chartBar.open = open;
+        chartBar.high = high;
+        chartBar.low = low;
+        chartBar.close = close;
+        chartBar.volume = volume;
+        return chartBar;
+    }
+
     //
     public String title() {
         return "datetime,open,high,low,close,volume";
     }
-    
+
     public String row(int i) {
         return String.format("%s,%.3f,%.3f,%.3f,%.3f,%d",
-                datetime[i], open[i], high[i], low[i], close[i], volume[i]);
+                datetime(i), open(i), high(i), low(i), close(i), volume(i));
     }
 
     // date,ohlcv
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
-        for (int i = 0; i < this.getDatetime().length; i++) {
-            sb.append(this.getDatetime()[i]).append(",")
-                    .append(this.getOpen()[i]).append(",")
-                    .append(this.getHigh()[i]).append(",")
-                    .append(this.getLow()[i]).append(",")
-                    .append(this.getClose()[i]).append(",")
-                    .append(this.getVolume()[i]).append("\n");
+        for (int i = 0; i < size(); i++) {
+            sb.append(datetime(i)).append(",")
+                    .append(open(i)).append(",")
+                    .append(high(i)).append(",")
+                    .append(low(i)).append(",")
+                    .append(close(i)).append(",")
+                    .append(volume(i)).append("\n");
         }
         return sb.toString();
     }
@@ -0,0 +1,41 @@
+package model;
+
+/**
+ * ChartBar的价格列
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public enum Column {
+    OPEN,
+    HIGH,
+    LOW,
+    CLOSE;
+
+    // values of the column
+    public double[] of(ChartBar chartBar) {
+        switch (this) {
+            case OPEN:
+                return chartBar.open;
+            case HIGH:
+                return chartBar.high;
+            case LOW:
+                return chartBar.low;
+            default:
+                return chartBar.close;
+        }
+    }
+
+    // values of the column of the float chart bar
+    public float[] of(FloatChartBar chartBar) {
+        switch (this) {
+            case OPEN:
+                return chartBar.open;
+            case HIGH:
+                return chartBar.high;
+            case LOW:
+                return chartBar.low;
+            default:
+                return chartBar.close;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * float列的ChartBar - 筛选用的紧凑精度
+ * <p>
+ * 价格和成交量保存为float，内存和带宽是ChartBar的一半，用indicator.FloatIndicators计算。
+ * float有24位有效数字，相对误差不超过2^-24（约6e-8）：价格在1e4以下时误差小于0.001；
+ * 成交量在2^24（约1677万）以内是精确的，更大时按相同的相对误差舍入。
+ * time（epoch毫秒）是可选的，没有datetime。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+@Data
+@NoArgsConstructor
+public class FloatChartBar {
+    public long[] time;
+    public float[] open;
+    public float[] high;
+    public float[] low;
+    public float[] close;
+    public float[] volume;
+
+    public FloatChartBar(int size) {
+        this.open = new float[size];
+        this.high = new float[size];
+        this.low = new float[size];
+        this.close = new float[size];
+        this.volume = new float[size];
+    }
+
+    // Rounds the bars of the chart bar (or view) to float, the time is kept when there is a time axis.
+    public static FloatChartBar of(ChartBar chartBar) {
+        int size = chartBar.size();
+        FloatChartBar floatChartBar = new FloatChartBar(size);
+        if (chartBar.hasTime()) {
+            floatChartBar.time = new long[size];
+        }
+        for (int i = 0; i < size; i++) {
+            if (floatChartBar.time != null) {
+                floatChartBar.time[i] = chartBar.time(i);
+            }
+            floatChartBar.open[i] = (float) chartBar.open(i);
+            floatChartBar.high[i] = (float) chartBar.high(i);
+            floatChartBar.low[i] = (float) chartBar.low(i);
+            floatChartBar.close[i] = (float) chartBar.close(i);
+            floatChartBar.volume[i] = (float) chartBar.volume(i);
+        }
+        return floatChartBar;
+    }
+
+    // number of bars
+    public int size() {
+        return close.length;
+    }
+
+    public boolean hasTime() {
+        return time != null;
+    }
+
+    // ChartBar with the float values widened to double, the volume is rounded.
+    public ChartBar toChartBar() {
+        int size = size();
+        ChartBar chartBar;
+        if (hasTime()) {
+            chartBar = ChartBar.withTime(size);
+            System.arraycopy(time, 0, chartBar.time, 0, size);
+        } else {
+            chartBar = new ChartBar(size);
+        }
+        for (int i = 0; i < size; i++) {
+            chartBar.open[i] = open[i];
+            chartBar.high[i] = high[i];
+            chartBar.low[i] = low[i];
+            chartBar.close[i] = close[i];
+            chartBar.volume[i] = Math.round((double) volume[i]);
+        }
+        return chartBar;
+    }
+}
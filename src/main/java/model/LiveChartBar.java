@@ -0,0 +1,141 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * 实时追加的ChartBar，最多保留maxHistory根bar
+ * <p>
+ * 每列是一个环形缓冲区，数组长度是2 * maxHistory，每个值同时写在slot和slot + maxHistory两个位置，
+ * 所以最近的bar在数组里总是连续的，view()不复制就能交给批量指标和策略计算。
+ * 保存的bar不到maxHistory时数组按2倍增长，满了以后append、updateLast都是O(1)且不分配内存。
+ * view()返回的视图共享数组，只在下一次append或updateLast之前有效。不是线程安全的。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class LiveChartBar {
+    private static final int INITIAL_CAPACITY = 64;
+
+    private final int maxHistory;
+    private int capacity;
+    // number of bars ever appended
+    private long count;
+
+    private String[] datetime;
+    private long[] time;
+    private double[] open;
+    private double[] high;
+    private double[] low;
+    private double[] close;
+    private long[] volume;
+
+    public LiveChartBar(int maxHistory) {
+        if (maxHistory <= 0) {
+            throw new RuntimeException("max history must be positive");
+        }
+        this.maxHistory = maxHistory;
+        this.capacity = Math.min(INITIAL_CAPACITY, maxHistory);
+        allocate(capacity == maxHistory ? 2 * capacity : capacity);
+    }
+
+    private void allocate(int length) {
+        datetime = datetime == null ? new String[length] : Arrays.copyOf(datetime, length);
+        time = time == null ? new long[length] : Arrays.copyOf(time, length);
+        open = open == null ? new double[length] : Arrays.copyOf(open, length);
+        high = high == null ? new double[length] : Arrays.copyOf(high, length);
+        low = low == null ? new double[length] : Arrays.copyOf(low, length);
+        close = close == null ? new double[length] : Arrays.copyOf(close, length);
+        volume = volume == null ? new long[length] : Arrays.copyOf(volume, length);
+    }
+
+    // 还没有满时扩容，扩到maxHistory时把已有的bar复制到后半段
+    private void ensureRoom() {
+        if (count < capacity || capacity == maxHistory) {
+            return;
+        }
+        capacity = Math.min(capacity * 2, maxHistory);
+        if (capacity < maxHistory) {
+            allocate(capacity);
+            return;
+        }
+        int size = (int) count;
+        allocate(2 * maxHistory);
+        System.arraycopy(datetime, 0, datetime, maxHistory, size);
+        System.arraycopy(time, 0, time, maxHistory, size);
+        System.arraycopy(open, 0, open, maxHistory, size);
+        System.arraycopy(high, 0, high, maxHistory, size);
+        System.arraycopy(low, 0, low, maxHistory, size);
+        System.arraycopy(close, 0, close, maxHistory, size);
+        System.arraycopy(volume, 0, volume, maxHistory, size);
+    }
+
+    private void set(int slot, Bar bar) {
+        datetime[slot] = bar.datetime;
+        time[slot] = bar.time;
+        open[slot] = bar.open;
+        high[slot] = bar.high;
+        low[slot] = bar.low;
+        close[slot] = bar.close;
+        volume[slot] = bar.volume;
+        if (capacity == maxHistory) {
+            int mirror = slot + maxHistory;
+            datetime[mirror] = bar.datetime;
+            time[mirror] = bar.time;
+            open[mirror] = bar.open;
+            high[mirror] = bar.high;
+            low[mirror] = bar.low;
+            close[mirror] = bar.close;
+            volume[mirror] = bar.volume;
+        }
+    }
+
+    // Appends a new bar, drops the oldest one when there are maxHistory bars.
+    public void append(Bar bar) {
+        ensureRoom();
+        set((int) (count % capacity), bar);
+        count++;
+    }
+
+    // Replaces the last bar, for the bar that is still forming.
+    public void updateLast(Bar bar) {
+        if (count == 0) {
+            throw new RuntimeException("no bar to update");
+        }
+        set((int) ((count - 1) % capacity), bar);
+    }
+
+    // number of bars kept
+    public int size() {
+        return (int) Math.min(count, capacity);
+    }
+
+    // number of bars ever appended
+    public long count() {
+        return count;
+    }
+
+    public int getMaxHistory() {
+        return maxHistory;
+    }
+
+    // View of all bars kept, oldest first.
+    public ChartBar view() {
+        int start = count <= capacity ? 0 : (int) (count % capacity);
+        ChartBar chartBar = new ChartBar();
+        chartBar.datetime = datetime;
+        chartBar.time = time;
+        chartBar.open = open;
+        chartBar.high = high;
+        chartBar.low = low;
+        chartBar.close = close;
+        chartBar.volume = volume;
+        chartBar.offset = start;
+        chartBar.length = size();
+        return chartBar;
+    }
+
+    // View of the last n bars.
+    public ChartBar view(int last) {
+        int size = size();
+        return view().view(size - Math.min(last, size), size);
+    }
+}
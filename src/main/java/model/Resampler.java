@@ -0,0 +1,148 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * 把ChartBar重采样成更粗的周期（N分钟、小时、日、周、月），同时维护多个目标周期
+ * <p>
+ * 每个目标周期是一个TickAggregator，输入的每根bar只遍历一次，依次交给所有目标；bar的时间是区间的开始时间，
+ * open是区间第一根bar的open，close是最后一根的close，high、low取极值，volume求和。
+ * <p>
+ * 批量：resample(chartBar, timeframes...)一次遍历得到每个周期的ChartBar，输入需要有时间轴。
+ * 增量：update(bar)逐根加入已经完成的输入bar，每个周期写进一个LiveChartBar，最后一根是正在形成的bar，
+ * view(i)不复制就能交给策略计算。不是线程安全的。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class Resampler {
+    private final Timeframe[] timeframes;
+    private final LiveChartBar[] chartBars;
+    private final TickAggregator[] aggregators;
+
+    // Incremental resampler keeping at most maxHistory bars of each timeframe.
+    public Resampler(int maxHistory, Timeframe... timeframes) {
+        this.timeframes = timeframes.clone();
+        this.chartBars = new LiveChartBar[timeframes.length];
+        this.aggregators = new TickAggregator[timeframes.length];
+        for (int i = 0; i < timeframes.length; i++) {
+            chartBars[i] = new LiveChartBar(maxHistory);
+            aggregators[i] = TickAggregator.live(timeframes[i], chartBars[i]);
+        }
+    }
+
+    // Adds a completed bar of the input timeframe.
+    public void update(Bar bar) {
+        for (TickAggregator aggregator : aggregators) {
+            aggregator.aggregate(bar.time, bar.open, bar.high, bar.low, bar.close, bar.volume);
+        }
+    }
+
+    // Adds bar i of the chart bar.
+    public void update(ChartBar chartBar, int i) {
+        long time = chartBar.time(i);
+        double open = chartBar.open(i), high = chartBar.high(i), low = chartBar.low(i), close = chartBar.close(i);
+        long volume = chartBar.volume(i);
+        for (TickAggregator aggregator : aggregators) {
+            aggregator.aggregate(time, open, high, low, close, volume);
+        }
+    }
+
+    public int size() {
+        return timeframes.length;
+    }
+
+    public Timeframe getTimeframe(int i) {
+        return timeframes[i];
+    }
+
+    // View of the bars of timeframe i, the last bar may be still forming.
+    public ChartBar view(int i) {
+        return chartBars[i].view();
+    }
+
+    // View of the bars of the timeframe.
+    public ChartBar view(Timeframe timeframe) {
+        for (int i = 0; i < timeframes.length; i++) {
+            if (timeframes[i].equals(timeframe)) {
+                return view(i);
+            }
+        }
+        throw new RuntimeException("timeframe " + timeframe + " not resampled");
+    }
+
+    // Resamples the chart bar to the timeframe.
+    public static ChartBar resample(ChartBar chartBar, Timeframe timeframe) {
+        return resample(chartBar, new Timeframe[]{timeframe})[0];
+    }
+
+    // Resamples the chart bar to every timeframe in one pass.
+    public static ChartBar[] resample(ChartBar chartBar, Timeframe... timeframes) {
+        if (!chartBar.hasTime()) {
+            throw new RuntimeException("no time axis");
+        }
+        Collector[] collectors = new Collector[timeframes.length];
+        TickAggregator[] aggregators = new TickAggregator[timeframes.length];
+        for (int t = 0; t < timeframes.length; t++) {
+            collectors[t] = new Collector();
+            aggregators[t] = new TickAggregator(timeframes[t], collectors[t]);
+        }
+
+        for (int i = 0; i < chartBar.size(); i++) {
+            long time = chartBar.time(i);
+            double open = chartBar.open(i), high = chartBar.high(i), low = chartBar.low(i), close = chartBar.close(i);
+            long volume = chartBar.volume(i);
+            for (TickAggregator aggregator : aggregators) {
+                aggregator.aggregate(time, open, high, low, close, volume);
+            }
+        }
+
+        ChartBar[] result = new ChartBar[timeframes.length];
+        for (int t = 0; t < timeframes.length; t++) {
+            aggregators[t].flush();
+            result[t] = collectors[t].toChartBar();
+        }
+        return result;
+    }
+
+    // completed bars in growing arrays
+    private static final class Collector implements TickAggregator.Listener {
+        private int size;
+        private long[] time = new long[16];
+        private double[] open = new double[16];
+        private double[] high = new double[16];
+        private double[] low = new double[16];
+        private double[] close = new double[16];
+        private long[] volume = new long[16];
+
+        @Override
+        public void onBar(Bar bar) {
+            if (size == time.length) {
+                int length = size * 2;
+                time = Arrays.copyOf(time, length);
+                open = Arrays.copyOf(open, length);
+                high = Arrays.copyOf(high, length);
+                low = Arrays.copyOf(low, length);
+                close = Arrays.copyOf(close, length);
+                volume = Arrays.copyOf(volume, length);
+            }
+            time[size] = bar.time;
+            open[size] = bar.open;
+            high[size] = bar.high;
+            low[size] = bar.low;
+            close[size] = bar.close;
+            volume[size] = bar.volume;
+            size++;
+        }
+
+        ChartBar toChartBar() {
+            ChartBar chartBar = new ChartBar();
+            chartBar.time = Arrays.copyOf(time, size);
+            chartBar.open = Arrays.copyOf(open, size);
+            chartBar.high = Arrays.copyOf(high, size);
+            chartBar.low = Arrays.copyOf(low, size);
+            chartBar.close = Arrays.copyOf(close, size);
+            chartBar.volume = Arrays.copyOf(volume, size);
+            return chartBar;
+        }
+    }
+}
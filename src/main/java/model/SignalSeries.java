@@ -0,0 +1,187 @@
+package model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 策略输出的信号序列，每根bar一个字节，取值是Action.value()：SELL = -1，HOLD = 0，BUY = 1
+ * <p>
+ * 比Action[]（每根bar一个引用）小4到8倍。组合函数all、any、majority、separate都是对字节的算术运算，
+ * 循环里没有分支，JIT可以向量化。toActions()和asList()给需要Action的旧代码用。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public final class SignalSeries {
+    public static final byte SELL = -1;
+    public static final byte HOLD = 0;
+    public static final byte BUY = 1;
+
+    private static final Action[] ACTIONS = {Action.SELL, Action.HOLD, Action.BUY};
+
+    private final byte[] values;
+
+    // Wraps the values without copying.
+    public SignalSeries(byte[] values) {
+        this.values = values;
+    }
+
+    public static SignalSeries from(Action[] actions) {
+        byte[] values = new byte[actions.length];
+        for (int i = 0; i < actions.length; i++) {
+            values[i] = (byte) actions[i].value();
+        }
+        return new SignalSeries(values);
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public byte value(int i) {
+        return values[i];
+    }
+
+    public Action action(int i) {
+        return ACTIONS[values[i] + 1];
+    }
+
+    // the backing values, not copied
+    public byte[] values() {
+        return values;
+    }
+
+    public Action[] toActions() {
+        Action[] actions = new Action[values.length];
+        for (int i = 0; i < values.length; i++) {
+            actions[i] = ACTIONS[values[i] + 1];
+        }
+        return actions;
+    }
+
+    // Read-only Action view, converts on access.
+    public List<Action> asList() {
+        return new AbstractList<Action>() {
+            @Override
+            public Action get(int index) {
+                return action(index);
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    public boolean isAllHold() {
+        int any = 0;
+        for (byte value : values) {
+            any |= value;
+        }
+        return any == 0;
+    }
+
+    // true if every value is the given one
+    public boolean isAll(byte value) {
+        for (byte v : values) {
+            if (v != value) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // BUY or SELL where both agree, HOLD otherwise.
+    // (a + b) / 2 is ±1 only when a == b == ±1.
+    public static SignalSeries all(SignalSeries a, SignalSeries b) {
+        checkSameSize(a, b);
+        byte[] result = new byte[a.values.length];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (byte) ((a.values[i] + b.values[i]) / 2);
+        }
+        return new SignalSeries(result);
+    }
+
+    // BUY or SELL where all agree, HOLD otherwise.
+    public static SignalSeries all(SignalSeries... all) {
+        SignalSeries result = all[0];
+        for (int i = 1; i < all.length; i++) {
+            result = all(result, all[i]);
+        }
+        return result;
+    }
+
+    // BUY where some are BUY and none is SELL, SELL the other way around, HOLD otherwise.
+    public static SignalSeries any(SignalSeries... all) {
+        checkSameSize(all);
+        byte[] max = all[0].values.clone();
+        byte[] min = all[0].values.clone();
+        for (int k = 1; k < all.length; k++) {
+            byte[] values = all[k].values;
+            for (int i = 0; i < max.length; i++) {
+                max[i] = (byte) Math.max(max[i], values[i]);
+                min[i] = (byte) Math.min(min[i], values[i]);
+            }
+        }
+        for (int i = 0; i < max.length; i++) {
+            max[i] = (byte) (Math.max(max[i], 0) + Math.min(min[i], 0));
+        }
+        return new SignalSeries(max);
+    }
+
+    // BUY where more than half are BUY, SELL where more than half are SELL, HOLD otherwise.
+    public static SignalSeries majority(SignalSeries... all) {
+        checkSameSize(all);
+        int n = all.length;
+        int[] buys = new int[all[0].values.length];
+        int[] sells = new int[buys.length];
+        for (SignalSeries series : all) {
+            byte[] values = series.values;
+            for (int i = 0; i < buys.length; i++) {
+                buys[i] += Math.max(values[i], 0);
+                sells[i] -= Math.min(values[i], 0);
+            }
+        }
+        byte[] result = new byte[buys.length];
+        for (int i = 0; i < result.length; i++) {
+            // (n - 2 * count) >>> 31 is 1 when count > n / 2
+            result[i] = (byte) (((n - 2 * buys[i]) >>> 31) - ((n - 2 * sells[i]) >>> 31));
+        }
+        return new SignalSeries(result);
+    }
+
+    // BUY where buy is BUY and sell is HOLD, SELL where sell is SELL and buy is HOLD, HOLD otherwise.
+    public static SignalSeries separate(SignalSeries buy, SignalSeries sell) {
+        checkSameSize(buy, sell);
+        byte[] result = new byte[buy.values.length];
+        for (int i = 0; i < result.length; i++) {
+            int b = buy.values[i], s = sell.values[i];
+            result[i] = (byte) (Math.max(b, 0) * (1 - Math.abs(s)) + Math.min(s, 0) * (1 - Math.abs(b)));
+        }
+        return new SignalSeries(result);
+    }
+
+    private static void checkSameSize(SignalSeries... all) {
+        for (SignalSeries series : all) {
+            if (series.values.length != all[0].values.length) {
+                throw new RuntimeException("not all same size");
+            }
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof SignalSeries && Arrays.equals(values, ((SignalSeries) o).values);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+}
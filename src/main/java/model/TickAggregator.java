@@ -0,0 +1,156 @@
+package model;
+
+/**
+ * 把逐笔成交(time, price, size)聚合成时间bar；aggregate也可以把细周期的bar聚合成粗周期的bar（见Resampler）
+ * <p>
+ * 正在形成的bar只保存在几个基本类型字段里，每笔成交O(1)、不分配内存；bar完成时（下一个区间的第一笔成交到来、
+ * advance到区间结束或者flush）创建一个Bar交给listener.onBar。没有成交的区间不产生bar。
+ * 时间早于当前bar的成交（乱序到达）不计入，个数见getLateTicks()。
+ * <p>
+ * listener.onUpdate在每笔成交后收到正在形成的bar，可以直接喂给流式指标，或者用live(timeframe, liveChartBar)
+ * 把bar写进LiveChartBar：新bar append，之后的成交updateLast。不是线程安全的。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class TickAggregator {
+    private final Timeframe timeframe;
+    private final Listener listener;
+    // the forming bar, reused for onUpdate
+    private final Bar forming = new Bar();
+
+    private boolean hasBar;
+    // interval of the forming bar, or of the last completed bar when there is no forming bar
+    private long start = Long.MIN_VALUE;
+    private long end = Long.MIN_VALUE;
+    private double open;
+    private double high;
+    private double low;
+    private double close;
+    private long volume;
+    private long lateTicks;
+
+    public interface Listener {
+        // A bar is completed, the bar is not reused and can be kept.
+        void onBar(Bar bar);
+
+        // The forming bar after a tick, first is true for the first tick of the bar.
+        // The bar is reused and only valid during the call.
+        default void onUpdate(Bar bar, boolean first) {
+        }
+    }
+
+    public TickAggregator(Timeframe timeframe, Listener listener) {
+        this.timeframe = timeframe;
+        this.listener = listener;
+    }
+
+    // Aggregator writing the bars into the live chart bar, the last bar of it is the forming bar.
+    public static TickAggregator live(Timeframe timeframe, LiveChartBar liveChartBar) {
+        return new TickAggregator(timeframe, new Listener() {
+            @Override
+            public void onBar(Bar bar) {
+            }
+
+            @Override
+            public void onUpdate(Bar bar, boolean first) {
+                if (first) {
+                    liveChartBar.append(bar);
+                } else {
+                    liveChartBar.updateLast(bar);
+                }
+            }
+        });
+    }
+
+    public void onTick(long time, double price, long size) {
+        aggregate(time, price, price, price, price, size);
+    }
+
+    // Adds a bar (or a tick when all prices are the same) at the time to the forming bar.
+    public void aggregate(long time, double open, double high, double low, double close, long volume) {
+        if (time < (hasBar ? start : end)) {
+            lateTicks++;
+            return;
+        }
+
+        boolean first = !hasBar || time >= end;
+        if (first) {
+            if (hasBar) {
+                complete();
+            }
+            hasBar = true;
+            start = timeframe.start(time);
+            end = timeframe.next(start);
+            this.open = open;
+            this.high = high;
+            this.low = low;
+            this.close = close;
+            this.volume = volume;
+        } else {
+            if (high > this.high) {
+                this.high = high;
+            }
+            if (low < this.low) {
+                this.low = low;
+            }
+            this.close = close;
+            this.volume += volume;
+        }
+
+        fill(forming);
+        listener.onUpdate(forming, first);
+    }
+
+    // Completes the forming bar if its interval ended before the time, e.g. on a timer without ticks.
+    public void advance(long time) {
+        if (hasBar && time >= end) {
+            complete();
+        }
+    }
+
+    // Completes the forming bar, e.g. at the end of the session.
+    public void flush() {
+        if (hasBar) {
+            complete();
+        }
+    }
+
+    private void complete() {
+        hasBar = false;
+        Bar bar = new Bar();
+        fill(bar);
+        listener.onBar(bar);
+    }
+
+    private void fill(Bar bar) {
+        bar.time = start;
+        bar.open = open;
+        bar.high = high;
+        bar.low = low;
+        bar.close = close;
+        bar.volume = volume;
+    }
+
+    public Timeframe getTimeframe() {
+        return timeframe;
+    }
+
+    // Whether there is a forming bar.
+    public boolean hasForming() {
+        return hasBar;
+    }
+
+    // Copies the forming bar into bar, returns false when there is no forming bar.
+    public boolean forming(Bar bar) {
+        if (!hasBar) {
+            return false;
+        }
+        fill(bar);
+        return true;
+    }
+
+    // number of ticks dropped because they are earlier than the forming bar
+    public long getLateTicks() {
+        return lateTicks;
+    }
+}
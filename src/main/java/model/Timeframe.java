@@ -0,0 +1,157 @@
+package model;
+
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+
+/**
+ * bar的周期：固定长度的时间区间（1秒到若干天、若干周），或者若干个自然月
+ * <p>
+ * 区间按epoch对齐：[start, start + millis)，start是millis的整数倍；周线从周一开始，月线从1号开始，
+ * 月数按1970年1月对齐（3个月是季度）。日线、周线、月线按zone（固定时区，没有夏令时）的零点对齐。
+ * 不可修改，可以在线程之间共享。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public final class Timeframe {
+    public static final long SECOND_MILLIS = 1000L;
+    public static final long MINUTE_MILLIS = 60 * SECOND_MILLIS;
+    public static final long HOUR_MILLIS = 60 * MINUTE_MILLIS;
+    public static final long DAY_MILLIS = 24 * HOUR_MILLIS;
+
+    public static final long WEEK_MILLIS = 7 * DAY_MILLIS;
+    // 1970-01-01 is a Thursday, weeks start at the Monday 1970-01-05
+    private static final long MONDAY = 4 * DAY_MILLIS;
+
+    public static final Timeframe SECOND = new Timeframe(SECOND_MILLIS, 0, 0, 0);
+    public static final Timeframe MINUTE = new Timeframe(MINUTE_MILLIS, 0, 0, 0);
+    public static final Timeframe HOUR = new Timeframe(HOUR_MILLIS, 0, 0, 0);
+    public static final Timeframe DAY = new Timeframe(DAY_MILLIS, 0, 0, 0);
+    public static final Timeframe WEEK = new Timeframe(WEEK_MILLIS, 0, MONDAY, 0);
+    public static final Timeframe MONTH = new Timeframe(0, 1, 0, 0);
+
+    // length of a fixed timeframe, 0 for months
+    private final long millis;
+    private final int months;
+    // a bar starts at anchor + a multiple of millis
+    private final long anchor;
+    // offset of the zone, the bars are aligned in the zone
+    private final long offset;
+
+    private Timeframe(long millis, int months, long anchor, long offset) {
+        if (millis < 0 || months < 0 || (millis == 0) == (months == 0)) {
+            throw new RuntimeException("timeframe must be positive");
+        }
+        this.millis = millis;
+        this.months = months;
+        this.anchor = anchor;
+        this.offset = offset;
+    }
+
+    public static Timeframe ofMillis(long millis) {
+        return new Timeframe(millis, 0, 0, 0);
+    }
+
+    public static Timeframe ofSeconds(int seconds) {
+        return new Timeframe(seconds * SECOND_MILLIS, 0, 0, 0);
+    }
+
+    public static Timeframe ofMinutes(int minutes) {
+        return new Timeframe(minutes * MINUTE_MILLIS, 0, 0, 0);
+    }
+
+    public static Timeframe ofHours(int hours) {
+        return new Timeframe(hours * HOUR_MILLIS, 0, 0, 0);
+    }
+
+    public static Timeframe ofDays(int days) {
+        return new Timeframe(days * DAY_MILLIS, 0, 0, 0);
+    }
+
+    // weeks starting on Monday
+    public static Timeframe ofWeeks(int weeks) {
+        return new Timeframe(weeks * WEEK_MILLIS, 0, MONDAY, 0);
+    }
+
+    // calendar months starting on the 1st
+    public static Timeframe ofMonths(int months) {
+        return new Timeframe(0, months, 0, 0);
+    }
+
+    // Same timeframe with the bars aligned in the zone, e.g. daily bars starting at the midnight of UTC+8.
+    public Timeframe withZone(ZoneOffset zone) {
+        return new Timeframe(millis, months, anchor, zone.getTotalSeconds() * SECOND_MILLIS);
+    }
+
+    // length of the timeframe, 0 for months
+    public long getMillis() {
+        return millis;
+    }
+
+    public int getMonths() {
+        return months;
+    }
+
+    // start of the bar containing the time
+    public long start(long time) {
+        if (months == 0) {
+            return Math.floorDiv(time + offset - anchor, millis) * millis + anchor - offset;
+        }
+        LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(time + offset, DAY_MILLIS));
+        long month = Math.floorDiv((date.getYear() - 1970) * 12L + date.getMonthValue() - 1, months) * months;
+        return startOfMonth(month);
+    }
+
+    // start of the bar after the bar starting at start
+    public long next(long start) {
+        if (months == 0) {
+            return start + millis;
+        }
+        LocalDate date = LocalDate.ofEpochDay(Math.floorDiv(start + offset, DAY_MILLIS));
+        return startOfMonth((date.getYear() - 1970) * 12L + date.getMonthValue() - 1 + months);
+    }
+
+    // start of the month counted from 1970-01 in the zone
+    private long startOfMonth(long month) {
+        LocalDate first = LocalDate.of(1970, 1, 1).plusMonths(month);
+        return first.toEpochDay() * DAY_MILLIS - offset;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Timeframe)) {
+            return false;
+        }
+        Timeframe that = (Timeframe) o;
+        return millis == that.millis && months == that.months && anchor == that.anchor && offset == that.offset;
+    }
+
+    @Override
+    public int hashCode() {
+        return ((Long.hashCode(millis) * 31 + months) * 31 + Long.hashCode(anchor)) * 31 + Long.hashCode(offset);
+    }
+
+    // 1s, 5m, 1h, 1d, 1w, 1M, or millis
+    @Override
+    public String toString() {
+        String name;
+        if (months > 0) {
+            name = months + "M";
+        } else if (anchor == MONDAY) {
+            name = millis / WEEK_MILLIS + "w";
+        } else if (millis % DAY_MILLIS == 0) {
+            name = millis / DAY_MILLIS + "d";
+        } else if (millis % HOUR_MILLIS == 0) {
+            name = millis / HOUR_MILLIS + "h";
+        } else if (millis % MINUTE_MILLIS == 0) {
+            name = millis / MINUTE_MILLIS + "m";
+        } else if (millis % SECOND_MILLIS == 0) {
+            name = millis / SECOND_MILLIS + "s";
+        } else {
+            name = millis + "ms";
+        }
+        return offset == 0 ? name : name + ZoneOffset.ofTotalSeconds((int) (offset / SECOND_MILLIS));
+    }
+}
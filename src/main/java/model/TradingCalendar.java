@@ -0,0 +1,52 @@
+package model;
+
+import java.util.Arrays;
+
+/**
+ * 多个标的共用的交易日历（bar时间的字典）
+ * <p>
+ * 严格递增的epoch毫秒时间。ChartBar可以只保存每根bar在日历里的序号（int，见ChartBar.encode），
+ * 同一市场的标的共用一个TradingCalendar实例。创建后不可修改。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public final class TradingCalendar {
+    private final long[] times;
+
+    public TradingCalendar(long[] times) {
+        for (int i = 1; i < times.length; i++) {
+            if (times[i] <= times[i - 1]) {
+                throw new RuntimeException("times not increasing at " + i);
+            }
+        }
+        this.times = times.clone();
+    }
+
+    public int size() {
+        return times.length;
+    }
+
+    public long time(int i) {
+        return times[i];
+    }
+
+    // Index of the time, or -(insertion point) - 1 if absent, like Arrays.binarySearch.
+    public int indexOf(long time) {
+        return Arrays.binarySearch(times, time);
+    }
+
+    // Indexes of the given increasing times in this calendar, every time must be in the calendar.
+    public int[] encode(long[] time) {
+        int[] codes = new int[time.length];
+        int from = 0;
+        for (int i = 0; i < time.length; i++) {
+            int code = Arrays.binarySearch(times, from, times.length, time[i]);
+            if (code < 0) {
+                throw new RuntimeException("time " + time[i] + " not in calendar");
+            }
+            codes[i] = code;
+            from = code + 1;
+        }
+        return codes;
+    }
+}
@@ -2,9 +2,9 @@ package strategy;
 
 import model.Action;
 import model.ChartBar;
+import model.SignalSeries;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Description: 复合策略,多个策略的组合
@@ -12,6 +12,7 @@ import java.util.List;
  * // provides a Strategy that will return a BUY or SELL action
  * // if all strategies are returning the same action, otherwise it
  * // will return a HOLD action.
+ * 指定ForkJoinPool时成员策略并行计算，合并结果确定全是HOLD后取消还没开始的成员。
  *
  * @author jinfeng.hu  @Date 2022-10-06
  **/
@@ -21,43 +22,54 @@ public class AllStrategy implements Strategy {
         return new AllStrategy(all);
     }
 
+    // 一组策略，在pool里并行计算
+    public static Strategy create(ForkJoinPool pool, Strategy... all) {
+        return new AllStrategy(pool, all);
+    }
+
     private Strategy[] all;
+    private ForkJoinPool pool;
 
     public AllStrategy(Strategy... all) {
         this.all = all;
     }
 
+    public AllStrategy(ForkJoinPool pool, Strategy... all) {
+        this.all = all;
+        this.pool = pool;
+    }
+
     @Override
     public Action[] run(final ChartBar chartBar) {
+        return run(IndicatorContext.of(chartBar));
+    }
+
+    // 成员策略共享context里的指标
+    @Override
+    public Action[] run(final IndicatorContext context) {
+        SignalSeries signals = signals(context);
+        return null == signals ? null : signals.toActions();
+    }
+
+    @Override
+    public SignalSeries signals(final IndicatorContext context) {
         if (null == all || all.length == 0) {
             return null;
         }
-        List<Action[]> actions = new ArrayList<>(all.length);
+        if (null != pool && all.length > 1) {
+            return ParallelMembers.run(pool, context, all, SignalSeries::all,
+                    (member, signals) -> signals.isAllHold());
+        }
+        SignalSeries result = null;
         for (Strategy is : all) {
-            Action[] ac = is.run(chartBar);
+            SignalSeries signals = is.signals(context);
             // 优化计算 - 如果全部是HOLD就返回，不跑后面的Strategy
-            if (isAllHold(ac)) {
-                return ac;
-            }
-            actions.add(ac);
-        }
-        for (int i = 1; i < actions.size(); i++) {
-            for (int j = 0; j < actions.get(0).length; j++) {
-                if (actions.get(0)[j] != actions.get(i)[j]) {
-                    actions.get(0)[j] = Action.HOLD;
-                }
+            if (signals.isAllHold()) {
+                return signals;
             }
+            result = null == result ? signals : SignalSeries.all(result, signals);
         }
 
-        return actions.get(0);
-    }
-
-    private boolean isAllHold(final Action[] actions) {
-        for (Action ac : actions) {
-            if (ac != Action.HOLD) {
-                return false;
-            }
-        }
-        return true;
+        return result;
     }
 }
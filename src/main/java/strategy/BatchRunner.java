@@ -0,0 +1,117 @@
+package strategy;
+
+import model.ChartBar;
+import model.SignalSeries;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 多标的、多策略的批量计算
+ * <p>
+ * 把(标的, 策略)组合按标的优先排成一列，切成chunkSize大小的任务交给ForkJoinPool。
+ * 同一个任务里同一个标的的策略共享一个IndicatorContext。
+ * 结果算出后立即交给ResultConsumer，不在内存里保存，ResultConsumer会被多个线程同时调用。
+ * chunkSize取策略数量的整数倍时，每个标的的指标只计算一次。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class BatchRunner implements AutoCloseable {
+    // receives the signals of one strategy on one chart bar
+    @FunctionalInterface
+    public interface ResultConsumer {
+        void accept(int chartBar, int strategy, SignalSeries signals);
+    }
+
+    private final ForkJoinPool pool;
+    private final boolean ownPool;
+    private final int chunkSize;
+
+    // parallelism threads, chunkSize (chart bar, strategy) pairs in each task.
+    public BatchRunner(int parallelism, int chunkSize) {
+        this(new ForkJoinPool(parallelism), true, chunkSize);
+    }
+
+    // Runs in the given pool, the pool is not shut down by close.
+    public BatchRunner(ForkJoinPool pool, int chunkSize) {
+        this(pool, false, chunkSize);
+    }
+
+    private BatchRunner(ForkJoinPool pool, boolean ownPool, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new RuntimeException("chunk size must be positive");
+        }
+        this.pool = pool;
+        this.ownPool = ownPool;
+        this.chunkSize = chunkSize;
+    }
+
+    // Runs every strategy on every chart bar, returns when all results are consumed.
+    // The first exception thrown by a strategy or the consumer is rethrown.
+    public void run(List<ChartBar> chartBars, List<Strategy> strategies, ResultConsumer consumer) {
+        ChartBar[] bars = chartBars.toArray(new ChartBar[0]);
+        Strategy[] all = strategies.toArray(new Strategy[0]);
+        if (bars.length == 0 || all.length == 0) {
+            return;
+        }
+        pool.invoke(new Task(bars, all, consumer, 0, (long) bars.length * all.length));
+    }
+
+    public void run(List<ChartBar> chartBars, ResultConsumer consumer, Strategy... strategies) {
+        run(chartBars, Arrays.asList(strategies), consumer);
+    }
+
+    @Override
+    public void close() {
+        if (ownPool) {
+            pool.shutdown();
+        }
+    }
+
+    private final class Task extends RecursiveAction {
+        private final ChartBar[] bars;
+        private final Strategy[] all;
+        private final ResultConsumer consumer;
+        private final long from;
+        private final long to;
+
+        Task(ChartBar[] bars, Strategy[] all, ResultConsumer consumer, long from, long to) {
+            this.bars = bars;
+            this.all = all;
+            this.consumer = consumer;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunkSize) {
+                runChunk();
+                return;
+            }
+            // 切在chunkSize的整数倍上，除最后一个外每个任务都是完整的chunk
+            long middle = from + (to - from) / chunkSize / 2 * chunkSize;
+            if (middle == from) {
+                middle += chunkSize;
+            }
+            invokeAll(new Task(bars, all, consumer, from, middle),
+                    new Task(bars, all, consumer, middle, to));
+        }
+
+        private void runChunk() {
+            IndicatorContext context = null;
+            int current = -1;
+            for (long i = from; i < to; i++) {
+                int bar = (int) (i / all.length);
+                int strategy = (int) (i % all.length);
+                if (bar != current) {
+                    current = bar;
+                    context = IndicatorContext.of(bars[bar]);
+                }
+                consumer.accept(bar, strategy, all[strategy].signals(context));
+            }
+        }
+    }
+}
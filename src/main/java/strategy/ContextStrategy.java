@@ -0,0 +1,30 @@
+package strategy;
+
+import model.Action;
+import model.ChartBar;
+import model.SignalSeries;
+
+/**
+ * 从IndicatorContext取指标的策略
+ * <p>
+ * 放在AllStrategy、SeparateStrategy里时与其它策略共享同一个IndicatorContext，
+ * 单独运行时每次使用新的IndicatorContext。
+ * 策略输出SignalSeries，run返回的Action[]由它转换而来。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public interface ContextStrategy extends Strategy {
+    // run strategy with the shared indicators
+    @Override
+    SignalSeries signals(final IndicatorContext context);
+
+    @Override
+    default Action[] run(final IndicatorContext context) {
+        return signals(context).toActions();
+    }
+
+    @Override
+    default Action[] run(final ChartBar chartBar) {
+        return run(IndicatorContext.of(chartBar));
+    }
+}
@@ -0,0 +1,197 @@
+package strategy;
+
+import base.Pair;
+import base.Triple;
+import indicator.PrefixSums;
+import indicator.TrendIndicators;
+import indicator.Vec;
+import indicator.Workspace;
+import model.ChartBar;
+import model.Column;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.function.Supplier;
+
+import static indicator.MomentumIndicators.RsiPeriod;
+import static indicator.TrendIndicators.Ema;
+import static indicator.TrendIndicators.Rsv;
+import static indicator.TrendIndicators.Vwma;
+import static indicator.VolatilityIndicators.ProjectionOscillator;
+import static indicator.VolatilityIndicators.Std;
+
+/**
+ * 一次计算中共享的指标结果
+ * <p>
+ * 绑定一个ChartBar，按(指标, 参数, 输入列)缓存指标结果，组合策略里的多个策略
+ * 用到同一个指标时只计算一次，比如MacdStrategy的Ema(12)、Ema(26)，BollingerBands和Vwma的sma(20)。
+ * 返回的数组是共享的，不能修改；ChartBar的数据改变后要用新的IndicatorContext。
+ * ChartBar是视图时，指标用带区间的重载只计算视图里的bar，结果的长度是视图的size()。
+ * 可以在多个线程里使用，同一个指标只有一个线程计算，其它线程等待结果。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class IndicatorContext {
+    private final ChartBar chartBar;
+    private final ConcurrentMap<List<Object>, FutureTask<Object>> results = new ConcurrentHashMap<>();
+
+    public IndicatorContext(ChartBar chartBar) {
+        this.chartBar = chartBar;
+    }
+
+    public static IndicatorContext of(ChartBar chartBar) {
+        return new IndicatorContext(chartBar);
+    }
+
+    public ChartBar getChartBar() {
+        return chartBar;
+    }
+
+    // Result of the indicator, computed once for each name and params.
+    // The params must identify all inputs of the indicator except the chart bar itself.
+    @SuppressWarnings("unchecked")
+    public <T> T get(Supplier<T> indicator, String name, Object... params) {
+        List<Object> key = new ArrayList<>(params.length + 1);
+        key.add(name);
+        key.addAll(Arrays.asList(params));
+
+        FutureTask<Object> task = results.get(key);
+        if (task == null) {
+            FutureTask<Object> created = new FutureTask<>(indicator::get);
+            task = results.putIfAbsent(key, created);
+            if (task == null) {
+                task = created;
+                task.run();
+            }
+        }
+
+        try {
+            return (T) task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+    }
+
+    // Simple moving average of the column.
+    public double[] sma(int period, Column column) {
+        return get(() -> TrendIndicators.sma(period, column.of(chartBar), chartBar.offset, chartBar.end(),
+                new double[chartBar.size()]), "sma", period, column);
+    }
+
+    // Compensated prefix sums of the column, for sma and Std of many periods.
+    // The results differ from sma and std in the last bits, so the strategies keep using those.
+    public PrefixSums prefixSums(Column column) {
+        return get(() -> PrefixSums.of(column.of(chartBar), chartBar.offset, chartBar.end(), true),
+                "PrefixSums", column);
+    }
+
+    // Exponential moving average of the column.
+    public double[] ema(int period, Column column) {
+        return get(() -> Ema(period, column.of(chartBar), chartBar.offset, chartBar.end(),
+                new double[chartBar.size()]), "Ema", period, column);
+    }
+
+    // Standard deviation of the column.
+    public double[] std(int period, Column column) {
+        return get(() -> Std(period, column.of(chartBar), chartBar.offset, chartBar.end(), new double[chartBar.size()]),
+                "Std", period, column);
+    }
+
+    // Macd of the closing, shares Ema(12) and Ema(26).
+    //
+    // Returns macd, signal.
+    public Pair<double[], double[]> macd() {
+        return get(() -> {
+            double[] macd = Vec.of(ema(12, Column.CLOSE)).sub(ema(26, Column.CLOSE)).toArray();
+            return Pair.of(macd, Ema(9, macd));
+        }, "Macd", Column.CLOSE);
+    }
+
+    // Rsi of the closing with the given period.
+    //
+    // Returns rs, rsi.
+    public Pair<double[], double[]> rsi(int period) {
+        return get(() -> {
+            double[] rs = new double[chartBar.size()];
+            double[] rsi = new double[chartBar.size()];
+            RsiPeriod(period, chartBar.close, chartBar.offset, chartBar.end(), rs, rsi, new Workspace());
+            return Pair.of(rs, rsi);
+        }, "Rsi", period, Column.CLOSE);
+    }
+
+    // Bollinger bands of the closing, shares sma(20) and Std(20).
+    //
+    // Returns middleBand, upperBand, lowerBand.
+    public Triple<double[], double[], double[]> bollingerBands() {
+        return get(() -> {
+            double[] middleBand = sma(20, Column.CLOSE);
+            Vec std2 = Vec.of(std(20, Column.CLOSE)).multiplyBy(2);
+            double[] upperBand = Vec.of(middleBand).add(std2).toArray();
+            double[] lowerBand = Vec.of(middleBand).sub(std2).toArray();
+            return Triple.of(middleBand, upperBand, lowerBand);
+        }, "BollingerBands", Column.CLOSE);
+    }
+
+    // Closing * volume and volume of the chart bar, shared by the Vwma of all periods.
+    //
+    // Returns priceVolume, floatVolume.
+    public Pair<double[], double[]> priceVolume() {
+        return get(() -> TrendIndicators.PriceVolume(chartBar.close, chartBar.volume, chartBar.offset, chartBar.end()),
+                "PriceVolume", Column.CLOSE);
+    }
+
+    // Vwma of the closing, shares priceVolume() with the other periods and is not cached.
+    public double[] vwma(int period) {
+        Pair<double[], double[]> priceVolume = priceVolume();
+        return Vwma(period, priceVolume.getLeft(), priceVolume.getRight(), chartBar.size(),
+                new double[chartBar.size()], new Workspace());
+    }
+
+    // Raw stochastic value of Kdj, shared by all kPeriod and dPeriod.
+    public double[] rsv(int rPeriod) {
+        return get(() -> Rsv(rPeriod, chartBar.high, chartBar.low, chartBar.close, chartBar.offset, chartBar.end(),
+                new double[chartBar.size()], new Workspace()), "Rsv", rPeriod);
+    }
+
+    // Kdj of the chart bar, shares rsv(rPeriod) and K = sma(kPeriod, rsv) with the other dPeriod.
+    // Only the shared stages are cached, d and j are computed for each call and not kept in the context.
+    //
+    // Returns k, d, j.
+    public Triple<double[], double[], double[]> kdj(int rPeriod, int kPeriod, int dPeriod) {
+        int n = chartBar.size();
+        double[] k = get(() -> TrendIndicators.sma(kPeriod, rsv(rPeriod), 0, n, new double[n]),
+                "KdjK", rPeriod, kPeriod);
+        double[] d = TrendIndicators.sma(dPeriod, k, 0, n, new double[n]);
+        double[] j = Vec.of(k).multiplyBy(3).sub(Vec.of(d).multiplyBy(2)).toArray();
+        return Triple.of(k, d, j);
+    }
+
+    // Projection oscillator of the chart bar, shares PO with the other smooth periods.
+    // Only PO is cached, spo is computed for each call and not kept in the context.
+    //
+    // Returns po, spo.
+    public Pair<double[], double[]> projectionOscillator(int period, int smooth) {
+        double[] po = get(() -> ProjectionOscillator(period, chartBar.high, chartBar.low, chartBar.close,
+                chartBar.offset, chartBar.end(), new double[chartBar.size()], new Workspace()),
+                "ProjectionOscillatorPo", period);
+        return Pair.of(po, Ema(smooth, po, 0, po.length, new double[po.length]));
+    }
+
+    // keys of the cached results
+    Set<List<Object>> keys() {
+        return new HashSet<>(results.keySet());
+    }
+}
@@ -0,0 +1,414 @@
+package strategy;
+
+import base.Pair;
+import base.Quintuple;
+import base.Triple;
+import indicator.Kernels;
+import indicator.TrendIndicators;
+import indicator.VolatilityIndicators;
+import indicator.Workspace;
+import model.ChartBar;
+import model.Column;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import static indicator.MomentumIndicators.RsiPeriod;
+
+/**
+ * 声明式的指标依赖图：先声明需要的指标，再一次计算
+ * <p>
+ * 每个节点是一个逐bar的序列（double[]，长度是ChartBar的size()），由名字、参数和输入节点确定。
+ * 声明时相同的节点只创建一次，比如Macd、PercentagePriceOscillator、AbsolutePriceOscillator共用Ema(12)、Ema(26)，
+ * IchimokuCloud和DonchianChannel共用Max/Min。节点只能依赖已经声明的节点，所以声明顺序就是拓扑顺序。
+ * <p>
+ * plan(outputs)只保留outputs依赖的节点，声明了但不需要的节点不计算；run(executor, outputs)按依赖用CompletableFuture
+ * 并行计算互不依赖的分支，run(outputs)在当前线程按顺序计算。Result只保存outputs的结果。
+ * run(outputs)记录每个节点在plan里还有几个节点要用它，最后一个用到它的节点算完后就释放，只有outputs的结果保留到最后。
+ * 组合节点由基本节点组成，结果与indicator里对应的指标逐位一致。声明不是线程安全的，run可以在多个线程里调用。
+ * <p>
+ * 与IndicatorContext的关系：IndicatorContext是策略用的按需缓存，get到哪个指标算哪个，结果保留到context不再使用；
+ * IndicatorGraph先声明再计算，只算outputs需要的节点，中间结果用完就释放，适合一次算出一组指标。
+ * 两者的键都是(名字, 参数, 输入)，基本节点的名字与IndicatorContext.get用的名字相同（sma、Ema、Std、Rsi），
+ * 调用的是同一个indicator函数，所以同一个指标在两边的结果逐位一致，IndicatorGraphTests里有对照。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class IndicatorGraph {
+    private final ChartBar chartBar;
+    private final Map<List<Object>, Node> nodes = new HashMap<>();
+    // nodes in declaration order, a topological order
+    private final List<Node> order = new ArrayList<>();
+
+    // Computes the node from the results of its inputs into result, the inputs must not be modified.
+    public interface Operator {
+        void compute(double[][] inputs, double[] result);
+    }
+
+    public static final class Node {
+        private final int id;
+        private final String name;
+        private final Object[] params;
+        private final Node[] inputs;
+        private final Operator operator;
+
+        private Node(int id, String name, Object[] params, Node[] inputs, Operator operator) {
+            this.id = id;
+            this.name = name;
+            this.params = params;
+            this.inputs = inputs;
+            this.operator = operator;
+        }
+
+        public int getId() {
+            return id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        // name(params, inputs)
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder(name).append('(');
+            for (int i = 0; i < params.length + inputs.length; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                sb.append(i < params.length ? String.valueOf(params[i]) : inputs[i - params.length].toString());
+            }
+            return sb.append(')').toString();
+        }
+    }
+
+    // Results of the outputs of a run.
+    public static final class Result {
+        private final Map<Node, double[]> values;
+        private final int computed;
+
+        private Result(Map<Node, double[]> values, int computed) {
+            this.values = values;
+            this.computed = computed;
+        }
+
+        // result of the output node, shared and must not be modified
+        public double[] get(Node node) {
+            double[] value = values.get(node);
+            if (value == null) {
+                throw new RuntimeException(node + " is not an output");
+            }
+            return value;
+        }
+
+        // number of nodes computed
+        public int computed() {
+            return computed;
+        }
+    }
+
+    public IndicatorGraph(ChartBar chartBar) {
+        this.chartBar = chartBar;
+    }
+
+    public ChartBar getChartBar() {
+        return chartBar;
+    }
+
+    // number of distinct nodes declared
+    public int size() {
+        return order.size();
+    }
+
+    // Node computed by the operator, identified by the name, params and inputs like IndicatorContext.get.
+    public Node node(String name, Object[] params, Operator operator, Node... inputs) {
+        List<Object> key = new ArrayList<>(params.length + inputs.length + 1);
+        key.add(name);
+        key.addAll(Arrays.asList(params));
+        for (Node input : inputs) {
+            check(input);
+            key.add(input.id);
+        }
+
+        Node node = nodes.get(key);
+        if (node == null) {
+            node = new Node(order.size(), name, params.clone(), inputs.clone(), operator);
+            nodes.put(key, node);
+            order.add(node);
+        }
+        return node;
+    }
+
+    // The price column of the chart bar.
+    public Node column(Column column) {
+        return node(column.name().toLowerCase(), new Object[0], (inputs, result) -> {
+            System.arraycopy(column.of(chartBar), chartBar.offset, result, 0, result.length);
+        });
+    }
+
+    public Node close() {
+        return column(Column.CLOSE);
+    }
+
+    public Node high() {
+        return column(Column.HIGH);
+    }
+
+    public Node low() {
+        return column(Column.LOW);
+    }
+
+    public Node volume() {
+        return node("volume", new Object[0], (inputs, result) -> {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = chartBar.volume(i);
+            }
+        });
+    }
+
+    public Node sma(int period, Node values) {
+        return node("sma", new Object[]{period},
+                (inputs, result) -> TrendIndicators.sma(period, inputs[0], 0, result.length, result), values);
+    }
+
+    public Node ema(int period, Node values) {
+        return node("Ema", new Object[]{period},
+                (inputs, result) -> TrendIndicators.Ema(period, inputs[0], 0, result.length, result), values);
+    }
+
+    public Node rma(int period, Node values) {
+        return node("Rma", new Object[]{period},
+                (inputs, result) -> TrendIndicators.Rma(period, inputs[0], 0, result.length, result), values);
+    }
+
+    public Node sum(int period, Node values) {
+        return node("Sum", new Object[]{period},
+                (inputs, result) -> TrendIndicators.Sum(period, inputs[0], 0, result.length, result), values);
+    }
+
+    public Node max(int period, Node values) {
+        return node("Max", new Object[]{period},
+                (inputs, result) -> TrendIndicators.Max(period, inputs[0], 0, result.length, result), values);
+    }
+
+    public Node min(int period, Node values) {
+        return node("Min", new Object[]{period},
+                (inputs, result) -> TrendIndicators.Min(period, inputs[0], 0, result.length, result), values);
+    }
+
+    public Node std(int period, Node values) {
+        return node("Std", new Object[]{period}, (inputs, result) ->
+                VolatilityIndicators.Std(period, inputs[0], 0, result.length, result), values);
+    }
+
+    // Rsi of the values with the given period.
+    public Node rsi(int period, Node values) {
+        return node("Rsi", new Object[]{period}, (inputs, result) ->
+                RsiPeriod(period, inputs[0], 0, result.length, new double[result.length], result, new Workspace()), values);
+    }
+
+    public Node add(Node a, Node b) {
+        return node("add", new Object[0], (inputs, result) ->
+                Kernels.add(inputs[0], 0, inputs[1], 0, result, 0, result.length), a, b);
+    }
+
+    public Node sub(Node a, Node b) {
+        return node("sub", new Object[0], (inputs, result) ->
+                Kernels.sub(inputs[0], 0, inputs[1], 0, result, 0, result.length), a, b);
+    }
+
+    public Node mul(Node a, Node b) {
+        return node("mul", new Object[0], (inputs, result) ->
+                Kernels.mul(inputs[0], 0, inputs[1], 0, result, 0, result.length), a, b);
+    }
+
+    public Node div(Node a, Node b) {
+        return node("div", new Object[0], (inputs, result) ->
+                Kernels.div(inputs[0], 0, inputs[1], 0, result, 0, result.length), a, b);
+    }
+
+    public Node multiplyBy(Node values, double multiplier) {
+        return node("multiplyBy", new Object[]{multiplier}, (inputs, result) ->
+                Kernels.multiplyBy(inputs[0], 0, multiplier, result, 0, result.length), values);
+    }
+
+    // Divides by divider, multiplies by 1 / divider like Vec.divideBy.
+    public Node divideBy(Node values, double divider) {
+        return multiplyBy(values, 1 / divider);
+    }
+
+    // Shift right for period and fills with 0.
+    public Node shift(int period, Node values) {
+        return node("shift", new Object[]{period}, (inputs, result) -> {
+            int shift = Math.min(period, result.length);
+            Arrays.fill(result, 0, shift, 0);
+            System.arraycopy(inputs[0], 0, result, shift, result.length - shift);
+        }, values);
+    }
+
+    // Macd of the closing, like TrendIndicators.Macd.
+    //
+    // Returns macd, signal.
+    public Pair<Node, Node> macd() {
+        Node macd = absolutePriceOscillator(12, 26, close());
+        return Pair.of(macd, ema(9, macd));
+    }
+
+    // AbsolutePriceOscillator, Ema(fastPeriod) - Ema(slowPeriod).
+    public Node absolutePriceOscillator(int fastPeriod, int slowPeriod, Node values) {
+        return sub(ema(fastPeriod, values), ema(slowPeriod, values));
+    }
+
+    // PercentagePriceOscillator, like MomentumIndicators.PercentagePriceOscillator.
+    //
+    // Returns ppo, signal, histogram.
+    public Triple<Node, Node, Node> percentagePriceOscillator(int fastPeriod, int slowPeriod, int signalPeriod, Node values) {
+        Node slow = ema(slowPeriod, values);
+        Node ppo = multiplyBy(div(absolutePriceOscillator(fastPeriod, slowPeriod, values), slow), 100);
+        Node signal = ema(signalPeriod, ppo);
+        return Triple.of(ppo, signal, sub(ppo, signal));
+    }
+
+    // Typical price (high + low + closing) / 3, without the 20-Period SMA of TrendIndicators.TypicalPrice.
+    public Node typicalPrice() {
+        return node("TypicalPrice", new Object[0], (inputs, result) -> {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = (inputs[0][i] + inputs[1][i] + inputs[2][i]) / 3;
+            }
+        }, high(), low(), close());
+    }
+
+    // (Max(period, high) + Min(period, low)) / 2, the Max and Min are shared with the other midpoints.
+    public Node midpoint(int period) {
+        return divideBy(add(max(period, high()), min(period, low())), 2);
+    }
+
+    // IchimokuCloud, like MomentumIndicators.IchimokuCloud.
+    //
+    // Returns conversionLine, baseLine, leadingSpanA, leadingSpanB, laggingLine
+    public Quintuple<Node, Node, Node, Node, Node> ichimokuCloud() {
+        Node conversionLine = midpoint(9);
+        Node baseLine = midpoint(26);
+        Node leadingSpanA = divideBy(add(conversionLine, baseLine), 2);
+        return Quintuple.of(conversionLine, baseLine, leadingSpanA, midpoint(52), shift(26, close()));
+    }
+
+    // Nodes needed by the outputs in topological order, the other nodes are not computed.
+    public List<Node> plan(Node... outputs) {
+        boolean[] needed = new boolean[order.size()];
+        for (Node output : outputs) {
+            check(output);
+            needed[output.id] = true;
+        }
+        // 输入节点的id总是比节点小，从后往前一遍就能标出所有依赖
+        for (int id = order.size() - 1; id >= 0; id--) {
+            if (needed[id]) {
+                for (Node input : order.get(id).inputs) {
+                    needed[input.id] = true;
+                }
+            }
+        }
+
+        List<Node> plan = new ArrayList<>();
+        for (int id = 0; id < order.size(); id++) {
+            if (needed[id]) {
+                plan.add(order.get(id));
+            }
+        }
+        return plan;
+    }
+
+    // Computes the outputs in the current thread, an intermediate result is released after its last consumer.
+    public Result run(Node... outputs) {
+        List<Node> plan = plan(outputs);
+        // 还没计算的消费者个数，outputs多算一个，永远不会减到0
+        int[] consumers = new int[order.size()];
+        for (Node node : plan) {
+            for (Node input : node.inputs) {
+                consumers[input.id]++;
+            }
+        }
+        for (Node output : outputs) {
+            consumers[output.id]++;
+        }
+
+        double[][] values = new double[order.size()][];
+        for (Node node : plan) {
+            values[node.id] = compute(node, inputs(node, values));
+            for (Node input : node.inputs) {
+                if (--consumers[input.id] == 0) {
+                    values[input.id] = null;
+                }
+            }
+        }
+        return result(outputs, values, plan.size());
+    }
+
+    // Computes the outputs on the executor, a node starts when all its inputs are done.
+    public Result run(Executor executor, Node... outputs) {
+        List<Node> plan = plan(outputs);
+        @SuppressWarnings("unchecked")
+        CompletableFuture<double[]>[] futures = new CompletableFuture[order.size()];
+        for (Node node : plan) {
+            CompletableFuture<?>[] dependencies = new CompletableFuture[node.inputs.length];
+            for (int i = 0; i < dependencies.length; i++) {
+                dependencies[i] = futures[node.inputs[i].id];
+            }
+            futures[node.id] = CompletableFuture.allOf(dependencies).thenApplyAsync(ignored -> {
+                double[][] inputs = new double[node.inputs.length][];
+                for (int i = 0; i < inputs.length; i++) {
+                    inputs[i] = futures[node.inputs[i].id].join();
+                }
+                return compute(node, inputs);
+            }, executor);
+        }
+
+        double[][] values = new double[order.size()][];
+        try {
+            for (Node output : outputs) {
+                values[output.id] = futures[output.id].join();
+            }
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new RuntimeException(e.getCause());
+        }
+        return result(outputs, values, plan.size());
+    }
+
+    private void check(Node node) {
+        if (node.id >= order.size() || order.get(node.id) != node) {
+            throw new RuntimeException(node + " belongs to another graph");
+        }
+    }
+
+    private static double[][] inputs(Node node, double[][] values) {
+        double[][] inputs = new double[node.inputs.length][];
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = values[node.inputs[i].id];
+        }
+        return inputs;
+    }
+
+    private double[] compute(Node node, double[][] inputs) {
+        double[] result = new double[chartBar.size()];
+        node.operator.compute(inputs, result);
+        return result;
+    }
+
+    private static Result result(Node[] outputs, double[][] values, int computed) {
+        Map<Node, double[]> results = new IdentityHashMap<>();
+        for (Node output : outputs) {
+            results.put(output, values[output.id]);
+        }
+        return new Result(results, computed);
+    }
+}
@@ -1,7 +1,10 @@
 package strategy;
 
+import indicator.Workspace;
 import model.Action;
 import model.ChartBar;
+import model.Column;
+import model.SignalSeries;
 
 import static indicator.MomentumIndicators.*;
 
@@ -12,39 +15,51 @@ public class MomentumStrategies {
 
     // Awesome oscillator strategy function.
     public static Action[] AwesomeOscillatorStrategy(final ChartBar asset) {
-        Action[] actions = new Action[asset.getDatetime().length];
+        return AwesomeOscillatorStrategy(IndicatorContext.of(asset)).toActions();
+    }
+
+    // Awesome oscillator strategy with the shared indicators.
+    public static SignalSeries AwesomeOscillatorStrategy(final IndicatorContext context) {
+        ChartBar asset = context.getChartBar();
+        byte[] actions = new byte[asset.size()];
 
-        double[] ao = AwesomeOscillator(asset.low, asset.high);
+        double[] ao = context.get(() -> AwesomeOscillator(asset.low, asset.high, asset.offset, asset.end(),
+                new double[asset.size()], new Workspace()), "AwesomeOscillator");
 
         for (int i = 0; i < actions.length; i++) {
             if (ao[i] > 0) {
-                actions[i] = Action.BUY;
+                actions[i] = SignalSeries.BUY;
             } else if (ao[i] < 0) {
-                actions[i] = Action.SELL;
+                actions[i] = SignalSeries.SELL;
             } else {
-                actions[i] = Action.HOLD;
+                actions[i] = SignalSeries.HOLD;
             }
         }
 
-        return actions;
+        return new SignalSeries(actions);
     }
 
     // RSI strategy. Sells above sell at, buys below buy at.
     public static Action[] RsiStrategy(final ChartBar asset, double sellAt, double buyAt) {
-        Action[] actions = new Action[asset.getDatetime().length];
+        return RsiStrategy(IndicatorContext.of(asset), sellAt, buyAt).toActions();
+    }
 
-        double[] rsi = Rsi(asset.close).getRight();
+    // RSI strategy with the shared Rsi(14).
+    public static SignalSeries RsiStrategy(final IndicatorContext context, double sellAt, double buyAt) {
+        byte[] actions = new byte[context.getChartBar().size()];
+
+        double[] rsi = context.rsi(14).getRight();
         for (int i = 0; i < actions.length; i++) {
             if (rsi[i] <= buyAt) {
-                actions[i] = Action.BUY;
+                actions[i] = SignalSeries.BUY;
             } else if (rsi[i] >= sellAt) {
-                actions[i] = Action.SELL;
+                actions[i] = SignalSeries.SELL;
             } else {
-                actions[i] = Action.HOLD;
+                actions[i] = SignalSeries.HOLD;
             }
         }
 
-        return actions;
+        return new SignalSeries(actions);
     }
 
     // Default RSI strategy function. It buys
@@ -53,47 +68,64 @@ public class MomentumStrategies {
         return RsiStrategy(asset, 70, 30);
     }
 
+    // Default RSI strategy with the shared indicators.
+    public static SignalSeries DefaultRsiStrategy(final IndicatorContext context) {
+        return RsiStrategy(context, 70, 30);
+    }
+
     // Make RSI strategy function.
-    public static Strategy MakeRsiStrategy(double sellAt, double buyAt) {
-        return asset -> RsiStrategy(asset, sellAt, buyAt);
+    public static ContextStrategy MakeRsiStrategy(double sellAt, double buyAt) {
+        return context -> RsiStrategy(context, sellAt, buyAt);
     }
 
     // RSI 2 strategy. When 2-period RSI moves below 10, it is considered deeply oversold,
     // and the other way around when moves above 90.
     public static Action[] Rsi2Strategy(final ChartBar asset) {
-        Action[] actions = new Action[asset.getDatetime().length];
+        return Rsi2Strategy(IndicatorContext.of(asset)).toActions();
+    }
+
+    // RSI 2 strategy with the shared Rsi(2).
+    public static SignalSeries Rsi2Strategy(final IndicatorContext context) {
+        byte[] actions = new byte[context.getChartBar().size()];
 
-        double[] rsi = Rsi2(asset.close).getRight();
+        double[] rsi = context.rsi(2).getRight();
 
         for (int i = 0; i < actions.length; i++) {
             if (rsi[i] < 10) {
-                actions[i] = Action.BUY;
+                actions[i] = SignalSeries.BUY;
             } else if (rsi[i] > 90) {
-                actions[i] = Action.SELL;
+                actions[i] = SignalSeries.SELL;
             } else {
-                actions[i] = Action.HOLD;
+                actions[i] = SignalSeries.HOLD;
             }
         }
 
-        return actions;
+        return new SignalSeries(actions);
     }
 
     // Williams R strategy function.
     public static Action[] WilliamsRStrategy(final ChartBar asset) {
-        Action[] actions = new Action[asset.getDatetime().length];
+        return WilliamsRStrategy(IndicatorContext.of(asset)).toActions();
+    }
+
+    // Williams R strategy with the shared indicators.
+    public static SignalSeries WilliamsRStrategy(final IndicatorContext context) {
+        ChartBar asset = context.getChartBar();
+        byte[] actions = new byte[asset.size()];
 
-        double[] wr = WilliamsR(asset.low, asset.high, asset.close);
+        double[] wr = context.get(() -> WilliamsR(asset.low, asset.high, asset.close, asset.offset, asset.end(),
+                new double[asset.size()], new Workspace()), "WilliamsR");
 
         for (int i = 0; i < actions.length; i++) {
             if (wr[i] < -20) {
-                actions[i] = Action.SELL;
+                actions[i] = SignalSeries.SELL;
             } else if (wr[i] > -80) {
-                actions[i] = Action.BUY;
+                actions[i] = SignalSeries.BUY;
             } else {
-                actions[i] = Action.HOLD;
+                actions[i] = SignalSeries.HOLD;
             }
         }
 
-        return actions;
+        return new SignalSeries(actions);
     }
 }
@@ -0,0 +1,116 @@
+package strategy;
+
+import model.SignalSeries;
+
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.BinaryOperator;
+
+/**
+ * 在ForkJoinPool上并行计算组合策略的成员策略
+ * <p>
+ * 成员策略共享同一个IndicatorContext，结果按成员顺序用combiner合并。
+ * 一旦能确定合并结果全是HOLD（某个成员的结果单独决定，或者已合并的部分全是HOLD），
+ * 就取消还没开始的成员，已经在计算的成员不会被中断。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+final class ParallelMembers {
+    // tells whether the signals of the member alone make the combined result all HOLD
+    @FunctionalInterface
+    interface HoldDecider {
+        boolean allHold(int member, SignalSeries signals);
+    }
+
+    private ParallelMembers() {
+    }
+
+    static SignalSeries run(ForkJoinPool pool, IndicatorContext context, Strategy[] members,
+                            BinaryOperator<SignalSeries> combiner, HoldDecider decider) {
+        Combine combine = new Combine(context, members, combiner, decider);
+        // 已经在这个pool里时直接计算，join时帮忙执行成员任务，不会占满线程
+        if (ForkJoinTask.getPool() == pool) {
+            return combine.compute();
+        }
+        return pool.invoke(combine);
+    }
+
+    private static final class Combine extends RecursiveTask<SignalSeries> {
+        private final IndicatorContext context;
+        private final Strategy[] members;
+        private final BinaryOperator<SignalSeries> combiner;
+        private final HoldDecider decider;
+        private final Member[] tasks;
+        private volatile boolean allHold;
+
+        Combine(IndicatorContext context, Strategy[] members, BinaryOperator<SignalSeries> combiner,
+                HoldDecider decider) {
+            this.context = context;
+            this.members = members;
+            this.combiner = combiner;
+            this.decider = decider;
+            this.tasks = new Member[members.length];
+        }
+
+        @Override
+        protected SignalSeries compute() {
+            for (int i = 0; i < members.length; i++) {
+                tasks[i] = new Member(i);
+            }
+            // 倒序fork，当前线程join时先拿到第一个成员
+            for (int i = tasks.length - 1; i >= 0; i--) {
+                tasks[i].fork();
+            }
+
+            SignalSeries result = null;
+            try {
+                for (Member task : tasks) {
+                    if (allHold) {
+                        break;
+                    }
+                    SignalSeries signals;
+                    try {
+                        signals = task.join();
+                    } catch (CancellationException e) {
+                        // cancelled only after the result is known to be all HOLD
+                        break;
+                    }
+                    result = null == result ? signals : combiner.apply(result, signals);
+                    if (result.isAllHold()) {
+                        allHold = true;
+                    }
+                }
+            } finally {
+                cancelAll();
+            }
+
+            return allHold ? new SignalSeries(new byte[context.getChartBar().size()]) : result;
+        }
+
+        private void cancelAll() {
+            for (Member task : tasks) {
+                task.cancel(false);
+            }
+        }
+
+        private final class Member extends RecursiveTask<SignalSeries> {
+            private final int index;
+
+            Member(int index) {
+                this.index = index;
+            }
+
+            @Override
+            protected SignalSeries compute() {
+                SignalSeries signals = members[index].signals(context);
+                if (decider.allHold(index, signals)) {
+                    allHold = true;
+                    cancelAll();
+                }
+                return signals;
+            }
+        }
+    }
+}
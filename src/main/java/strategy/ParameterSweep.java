@@ -0,0 +1,175 @@
+package strategy;
+
+import model.ChartBar;
+import model.SignalSeries;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+/**
+ * 参数网格扫描
+ * <p>
+ * 网格里每组参数用factory生成一个策略，所有策略共享同一个IndicatorContext，在ForkJoinPool上并行计算。
+ * 中间结果按参数缓存在context里：MakeRsiStrategy的所有阈值共用一个Rsi(14)，
+ * MakeKdjStrategy同一个rPeriod共用Max/Min得到的rsv，同一个(rPeriod, kPeriod)共用K，
+ * MakeProjectionOscillatorStrategy同一个period共用PO，MakeVwmaStrategy所有period共用closing * volume和volume，每个period的sma与其它策略共用。
+ * context只缓存共用的中间结果，每组参数自己的结果（Kdj的d、j，PO的spo）不缓存，扫描时不会一直占着内存。
+ * 结果是按行排列的字节矩阵，每组参数一行，每根bar一列。矩阵是一个byte[]，参数组数 × bar数不能超过Integer.MAX_VALUE，
+ * 超过时run直接抛异常，更大的网格要分成几块分别扫描。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class ParameterSweep implements AutoCloseable {
+    // signals of every parameter in the grid, rows * size is at most Integer.MAX_VALUE
+    public static final class Result<P> {
+        private final List<P> grid;
+        private final int size;
+        private final byte[] values;
+
+        Result(List<P> grid, int size) {
+            this.grid = grid;
+            this.size = size;
+            try {
+                this.values = new byte[Math.multiplyExact(grid.size(), size)];
+            } catch (ArithmeticException e) {
+                throw new RuntimeException(grid.size() + " parameters * " + size + " bars is too large, split the grid");
+            }
+        }
+
+        // number of parameters
+        public int rows() {
+            return grid.size();
+        }
+
+        // number of bars
+        public int size() {
+            return size;
+        }
+
+        public P params(int row) {
+            return grid.get(row);
+        }
+
+        // row * size fits in int, the constructor checked rows * size
+        public byte value(int row, int bar) {
+            return values[row * size + bar];
+        }
+
+        // copy of the signals of the row
+        public SignalSeries signals(int row) {
+            byte[] signals = new byte[size];
+            System.arraycopy(values, row * size, signals, 0, size);
+            return new SignalSeries(signals);
+        }
+
+        // the row major matrix, not copied
+        public byte[] values() {
+            return values;
+        }
+    }
+
+    private final ForkJoinPool pool;
+    private final boolean ownPool;
+
+    public ParameterSweep(int parallelism) {
+        this(new ForkJoinPool(parallelism), true);
+    }
+
+    // Runs in the given pool, the pool is not shut down by close.
+    public ParameterSweep(ForkJoinPool pool) {
+        this(pool, false);
+    }
+
+    private ParameterSweep(ForkJoinPool pool, boolean ownPool) {
+        this.pool = pool;
+        this.ownPool = ownPool;
+    }
+
+    // Runs the strategy of every parameter in the grid on the chart bar.
+    public <P> Result<P> run(ChartBar chartBar, List<P> grid, Function<P, ? extends Strategy> factory) {
+        return run(IndicatorContext.of(chartBar), grid, factory);
+    }
+
+    // Runs with the indicators in the context, so several sweeps on the same chart bar share them too.
+    public <P> Result<P> run(IndicatorContext context, List<P> grid, Function<P, ? extends Strategy> factory) {
+        Result<P> result = new Result<>(Collections.unmodifiableList(new ArrayList<>(grid)),
+                context.getChartBar().size());
+        if (result.rows() > 0) {
+            pool.invoke(new Task<>(context, result, factory, 0, result.rows()));
+        }
+        return result;
+    }
+
+    @Override
+    public void close() {
+        if (ownPool) {
+            pool.shutdown();
+        }
+    }
+
+    // Cartesian product of the axes, the last axis changes fastest.
+    public static List<int[]> grid(int[]... axes) {
+        int rows = 1;
+        for (int[] axis : axes) {
+            rows = Math.multiplyExact(rows, axis.length);
+        }
+        List<int[]> grid = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            int[] params = new int[axes.length];
+            for (int i = axes.length - 1, r = row; i >= 0; r /= axes[i].length, i--) {
+                params[i] = axes[i][r % axes[i].length];
+            }
+            grid.add(params);
+        }
+        return grid;
+    }
+
+    // Cartesian product of the axes, the last axis changes fastest.
+    public static List<double[]> grid(double[]... axes) {
+        int rows = 1;
+        for (double[] axis : axes) {
+            rows = Math.multiplyExact(rows, axis.length);
+        }
+        List<double[]> grid = new ArrayList<>(rows);
+        for (int row = 0; row < rows; row++) {
+            double[] params = new double[axes.length];
+            for (int i = axes.length - 1, r = row; i >= 0; r /= axes[i].length, i--) {
+                params[i] = axes[i][r % axes[i].length];
+            }
+            grid.add(params);
+        }
+        return grid;
+    }
+
+    private static final class Task<P> extends RecursiveAction {
+        private final IndicatorContext context;
+        private final Result<P> result;
+        private final Function<P, ? extends Strategy> factory;
+        private final int from;
+        private final int to;
+
+        Task(IndicatorContext context, Result<P> result, Function<P, ? extends Strategy> factory, int from, int to) {
+            this.context = context;
+            this.result = result;
+            this.factory = factory;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                SignalSeries signals = factory.apply(result.params(from)).signals(context);
+                System.arraycopy(signals.values(), 0, result.values, from * result.size, result.size);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new Task<>(context, result, factory, from, middle),
+                    new Task<>(context, result, factory, middle, to));
+        }
+    }
+}
@@ -2,6 +2,9 @@ package strategy;
 
 import model.Action;
 import model.ChartBar;
+import model.SignalSeries;
+
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * The SeparateStrategies function takes a buy strategy and a sell strategy.
@@ -13,37 +16,47 @@ import model.ChartBar;
  * and the buy strategy returns a HOLD action.
  * <p>
  * It returns HOLD otherwise.
+ * <p>
+ * 指定ForkJoinPool时买入、卖出策略并行计算；买入策略全是SELL或卖出策略全是BUY时结果全是HOLD，取消另一个。
  *
  * @author jinfeng.hu  @Date 2022/10/14
  **/
 public class SeparateStrategy implements Strategy {
     Strategy buyStrategy;
     Strategy sellStrategy;
+    ForkJoinPool pool;
 
     public SeparateStrategy(Strategy buyStrategy, Strategy sellStrategy) {
         this.buyStrategy = buyStrategy;
         this.sellStrategy = sellStrategy;
     }
 
+    public SeparateStrategy(ForkJoinPool pool, Strategy buyStrategy, Strategy sellStrategy) {
+        this(buyStrategy, sellStrategy);
+        this.pool = pool;
+    }
+
     @Override
     public Action[] run(ChartBar asset) {
+        return run(IndicatorContext.of(asset));
+    }
+
+    // buy strategy and sell strategy share the indicators in the context
+    @Override
+    public Action[] run(IndicatorContext context) {
+        SignalSeries signals = signals(context);
+        return null == signals ? null : signals.toActions();
+    }
+
+    @Override
+    public SignalSeries signals(IndicatorContext context) {
         if (null == buyStrategy || null == sellStrategy) {
             return null;
         }
-        Action[] actions = new Action[asset.getDatetime().length];
-        Action[] buyActions = buyStrategy.run(asset);
-        Action[] sellActions = sellStrategy.run(asset);
-
-        for (int i = 0; i < actions.length; i++) {
-            if (buyActions[i] == Action.BUY && sellActions[i] == Action.HOLD) {
-                actions[i] = Action.BUY;
-            } else if (sellActions[i] == Action.SELL && buyActions[i] == Action.HOLD) {
-                actions[i] = Action.SELL;
-            } else {
-                actions[i] = Action.HOLD;
-            }
+        if (null != pool) {
+            return ParallelMembers.run(pool, context, new Strategy[]{buyStrategy, sellStrategy}, SignalSeries::separate,
+                    (member, signals) -> signals.isAll(member == 0 ? SignalSeries.SELL : SignalSeries.BUY));
         }
-
-        return actions;
+        return SignalSeries.separate(buyStrategy.signals(context), sellStrategy.signals(context));
     }
 }
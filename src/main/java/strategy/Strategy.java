@@ -2,13 +2,28 @@ package strategy;
 
 import model.Action;
 import model.ChartBar;
+import model.SignalSeries;
 
 /**
  * 策略接口 - 这个接口的设计适合回测，但不适合实时交易的时间序列滚动处理
+ * 实时交易使用StreamingStrategy
+ * 组合策略通过run(IndicatorContext)让成员策略共享指标结果，见IndicatorContext
  *
  * @author jinfeng.hu  @Date 2022-10-06
  **/
 public interface Strategy {
     // run strategy
     Action[] run(final ChartBar chartBar);
+
+    // run strategy with the indicators shared in the context,
+    // strategies that do not use the context run on its chart bar.
+    default Action[] run(final IndicatorContext context) {
+        return run(context.getChartBar());
+    }
+
+    // run strategy as a signal series, see SignalSeries.
+    // Built-in strategies produce the signal series directly, others are converted from run.
+    default SignalSeries signals(final IndicatorContext context) {
+        return SignalSeries.from(run(context));
+    }
 }
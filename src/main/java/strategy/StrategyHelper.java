@@ -2,6 +2,7 @@ package strategy;
 
 import model.Action;
 import model.ChartBar;
+import model.SignalSeries;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -12,10 +13,23 @@ import java.util.List;
 public class StrategyHelper {
 
     // takes one or more Strategy and returns the actions for each.
+    // The strategies share one IndicatorContext.
     public static List<Action[]> run(final ChartBar chartBar, Strategy... all) {
+        IndicatorContext context = IndicatorContext.of(chartBar);
         List<Action[]> ret = new ArrayList<>(all.length);
         for (Strategy strategy : all) {
-            ret.add(strategy.run(chartBar));
+            ret.add(strategy.run(context));
+        }
+        return ret;
+    }
+
+    // takes one or more Strategy and returns the signals for each.
+    // The strategies share one IndicatorContext.
+    public static List<SignalSeries> signals(final ChartBar chartBar, Strategy... all) {
+        IndicatorContext context = IndicatorContext.of(chartBar);
+        List<SignalSeries> ret = new ArrayList<>(all.length);
+        for (Strategy strategy : all) {
+            ret.add(strategy.signals(context));
         }
         return ret;
     }
@@ -0,0 +1,18 @@
+package strategy;
+
+import model.Action;
+import model.Bar;
+
+/**
+ * 流式策略接口 - 适合实时交易，每来一根bar给出当前bar的信号
+ * <p>
+ * 实现类保存自己的指标状态（见indicator.stream），每次onBar是O(1)且不分配内存。
+ * 对同一段数据，第i次onBar的返回值与Strategy.run(前i+1根bar)的最后一个值一致。
+ * 实现类有状态，不是线程安全的，每个标的使用自己的实例。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public interface StreamingStrategy {
+    // on next bar
+    Action onBar(final Bar bar);
+}
@@ -2,8 +2,11 @@ package strategy;
 
 import base.Pair;
 import base.Triple;
+import indicator.Workspace;
 import model.Action;
 import model.ChartBar;
+import model.Column;
+import model.SignalSeries;
 
 import static indicator.TrendIndicators.*;
 
@@ -14,44 +17,58 @@ public class TrendStrategies {
 
     // Chande forecast oscillator strategy.
     public static Action[] ChandeForecastOscillatorStrategy(final ChartBar asset) {
-        Action[] actions = new Action[asset.getDatetime().length];
+        return ChandeForecastOscillatorStrategy(IndicatorContext.of(asset)).toActions();
+    }
+
+    // Chande forecast oscillator strategy with the shared indicators.
+    public static SignalSeries ChandeForecastOscillatorStrategy(final IndicatorContext context) {
+        ChartBar asset = context.getChartBar();
+        byte[] actions = new byte[asset.size()];
 
-        double[] cfo = ChandeForecastOscillator(asset.getClose());
+        double[] cfo = context.get(() -> ChandeForecastOscillator(asset.close, asset.offset, asset.end(),
+                new double[asset.size()], new Workspace()), "ChandeForecastOscillator", Column.CLOSE);
         for (int i = 0; i < actions.length; i++) {
             if (cfo[i] < 0) {
-                actions[i] = Action.BUY;
+                actions[i] = SignalSeries.BUY;
             } else if (cfo[i] > 0) {
-                actions[i] = Action.SELL;
+                actions[i] = SignalSeries.SELL;
             } else {
-                actions[i] = Action.HOLD;
+                actions[i] = SignalSeries.HOLD;
             }
         }
 
-        return actions;
+        return new SignalSeries(actions);
     }
 
     // Moving chande forecast oscillator strategy function.
     public static Action[] MovingChandeForecastOscillatorStrategy(int period, final ChartBar asset) {
-        Action[] actions = new Action[asset.getDatetime().length];
+        return MovingChandeForecastOscillatorStrategy(period, IndicatorContext.of(asset)).toActions();
+    }
+
+    // Moving chande forecast oscillator strategy with the shared indicators.
+    public static SignalSeries MovingChandeForecastOscillatorStrategy(int period, final IndicatorContext context) {
+        ChartBar asset = context.getChartBar();
+        byte[] actions = new byte[asset.size()];
 
-        double[] cfo = MovingChandeForecastOscillator(period, asset.close);
+        double[] cfo = context.get(() -> MovingChandeForecastOscillator(period, asset.close, asset.offset, asset.end(),
+                new double[asset.size()], new Workspace()), "MovingChandeForecastOscillator", period, Column.CLOSE);
 
         for (int i = 0; i < actions.length; i++) {
             if (cfo[i] < 0) {
-                actions[i] = Action.BUY;
+                actions[i] = SignalSeries.BUY;
             } else if (cfo[i] > 0) {
-                actions[i] = Action.SELL;
+                actions[i] = SignalSeries.SELL;
             } else {
-                actions[i] = Action.HOLD;
+                actions[i] = SignalSeries.HOLD;
             }
         }
 
-        return actions;
+        return new SignalSeries(actions);
     }
 
     // Make moving chande forecast oscillator strategy.
-    public static Strategy MakeMovingChandeForecastOscillatorStrategy(int period) {
-        return asset -> MovingChandeForecastOscillatorStrategy(period, asset);
+    public static ContextStrategy MakeMovingChandeForecastOscillatorStrategy(int period) {
+        return context -> MovingChandeForecastOscillatorStrategy(period, context);
     }
 
     // The KdjStrategy function uses the k, d, j values that are generated by
@@ -62,26 +79,32 @@ public class TrendStrategies {
     //
     // Returns actions.
     public static Action[] KdjStrategy(int rPeriod, int kPeriod, int dPeriod, final ChartBar asset) {
-        Action[] actions = new Action[asset.getDatetime().length];
-        Triple<double[], double[], double[]> triple = Kdj(rPeriod, kPeriod, dPeriod, asset.high, asset.low, asset.close);
+        return KdjStrategy(rPeriod, kPeriod, dPeriod, IndicatorContext.of(asset)).toActions();
+    }
+
+    // KDJ strategy with the shared indicators.
+    public static SignalSeries KdjStrategy(int rPeriod, int kPeriod, int dPeriod, final IndicatorContext context) {
+        ChartBar asset = context.getChartBar();
+        byte[] actions = new byte[asset.size()];
+        Triple<double[], double[], double[]> triple = context.kdj(rPeriod, kPeriod, dPeriod);
         double[] k = triple.getLeft(), d = triple.getMiddle(), j = triple.getRight();
 
         for (int i = 0; i < actions.length; i++) {
             if ((k[i] > d[i]) && (k[i] > j[i]) && (k[i] <= 20)) {
-                actions[i] = Action.BUY;
+                actions[i] = SignalSeries.BUY;
             } else if ((k[i] < d[i]) && (k[i] < j[i]) && (k[i] >= 80)) {
-                actions[i] = Action.SELL;
+                actions[i] = SignalSeries.SELL;
             } else {
-                actions[i] = Action.HOLD;
+                actions[i] = SignalSeries.HOLD;
             }
         }
 
-        return actions;
+        return new SignalSeries(actions);
     }
 
     // Make KDJ strategy function.
-    public static Strategy MakeKdjStrategy(int rPeriod, int kPeriod, int dPeriod) {
-        return asset -> KdjStrategy(rPeriod, kPeriod, dPeriod, asset);
+    public static ContextStrategy MakeKdjStrategy(int rPeriod, int kPeriod, int dPeriod) {
+        return context -> KdjStrategy(rPeriod, kPeriod, dPeriod, context);
     }
 
     // Default KDJ strategy function.
@@ -89,43 +112,53 @@ public class TrendStrategies {
         return KdjStrategy(9, 3, 3, asset);
     }
 
+    // Default KDJ strategy with the shared indicators.
+    public static SignalSeries DefaultKdjStrategy(final IndicatorContext context) {
+        return KdjStrategy(9, 3, 3, context);
+    }
+
     // MACD strategy.
     public static Action[] MacdStrategy(final ChartBar asset) {
-        Action[] actions = new Action[asset.getDatetime().length];
-        Pair<double[], double[]> pair = Macd(asset.close);
+        return MacdStrategy(IndicatorContext.of(asset)).toActions();
+    }
+
+    // MACD strategy with the shared Ema(12) and Ema(26).
+    public static SignalSeries MacdStrategy(final IndicatorContext context) {
+        byte[] actions = new byte[context.getChartBar().size()];
+        Pair<double[], double[]> pair = context.macd();
         double[] macd = pair.getLeft();
         double[] signal = pair.getRight();
 
         for (int i = 0; i < actions.length; i++) {
             if (macd[i] > signal[i]) {
-                actions[i] = Action.BUY;
+                actions[i] = SignalSeries.BUY;
             } else if (macd[i] < signal[i]) {
-                actions[i] = Action.SELL;
+                actions[i] = SignalSeries.SELL;
             } else {
-                actions[i] = Action.HOLD;
+                actions[i] = SignalSeries.HOLD;
             }
         }
 
-        return actions;
+        return new SignalSeries(actions);
     }
 
     // Trend strategy. Buy when trending up for count times,
     // sell when trending down for count times.
     public static Action[] TrendStrategy(final ChartBar asset, int count) {
-        Action[] actions = new Action[asset.getDatetime().length];
+        Action[] actions = new Action[asset.size()];
 
         if (actions.length == 0) {
             return actions;
         }
 
-        double lastClosing = asset.close[0];
+        double lastClosing = asset.close(0);
         int trendCount = 1;
         boolean trendUp = false;
 
         actions[0] = Action.HOLD;
 
         for (int i = 1; i < actions.length; i++) {
-            double closing = asset.close[i];
+            double closing = asset.close(i);
 
             if (trendUp && (lastClosing <= closing)) {
                 trendCount++;
@@ -163,31 +196,42 @@ public class TrendStrategies {
     //
     // Returns actions
     public static Action[] VwmaStrategy(final ChartBar asset, int period) {
-        Action[] actions = new Action[asset.getDatetime().length];
+        return VwmaStrategy(IndicatorContext.of(asset), period).toActions();
+    }
+
+    // VWMA strategy with the shared sma and closing * volume.
+    public static SignalSeries VwmaStrategy(final IndicatorContext context, int period) {
+        ChartBar asset = context.getChartBar();
+        byte[] actions = new byte[asset.size()];
 
-        double[] sma = sma(period, asset.close);
-        double[] vwma = Vwma(period, asset.close, asset.volume);
+        double[] sma = context.sma(period, Column.CLOSE);
+        double[] vwma = context.vwma(period);
 
         for (int i = 0; i < actions.length; i++) {
             if (vwma[i] > sma[i]) {
-                actions[i] = Action.BUY;
+                actions[i] = SignalSeries.BUY;
             } else if (vwma[i] < sma[i]) {
-                actions[i] = Action.SELL;
+                actions[i] = SignalSeries.SELL;
             } else {
-                actions[i] = Action.HOLD;
+                actions[i] = SignalSeries.HOLD;
             }
         }
 
-        return actions;
+        return new SignalSeries(actions);
     }
 
     // Makes a VWMA strategy for the given period.
-    public static Strategy MakeVwmaStrategy(int period) {
-        return asset -> VwmaStrategy(asset, period);
+    public static ContextStrategy MakeVwmaStrategy(int period) {
+        return context -> VwmaStrategy(context, period);
     }
 
     // Default VWMA strategy function.
     public static Action[] DefaultVwmaStrategy(final ChartBar asset) {
         return VwmaStrategy(asset, 20);
     }
+
+    // Default VWMA strategy with the shared indicators.
+    public static SignalSeries DefaultVwmaStrategy(final IndicatorContext context) {
+        return VwmaStrategy(context, 20);
+    }
 }
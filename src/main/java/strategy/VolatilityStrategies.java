@@ -4,9 +4,7 @@ import base.Pair;
 import base.Triple;
 import model.Action;
 import model.ChartBar;
-
-import static indicator.VolatilityIndicators.BollingerBands;
-import static indicator.VolatilityIndicators.ProjectionOscillator;
+import model.SignalSeries;
 
 /**
  * @author jinfeng.hu  @Date 2022/10/8
@@ -15,53 +13,60 @@ public class VolatilityStrategies {
 
     // Bollinger bands strategy public static Action[]tion.
     public static Action[] BollingerBandsStrategy(final ChartBar asset) {
-        Action[] actions = new Action[asset.getDatetime().length];
-        Triple<double[], double[], double[]> triple = BollingerBands(asset.close);
+        return BollingerBandsStrategy(IndicatorContext.of(asset)).toActions();
+    }
+
+    // Bollinger bands strategy with the shared sma(20).
+    public static SignalSeries BollingerBandsStrategy(final IndicatorContext context) {
+        ChartBar asset = context.getChartBar();
+        byte[] actions = new byte[asset.size()];
+        Triple<double[], double[], double[]> triple = context.bollingerBands();
         double[] upperBand = triple.getMiddle();
         double[] lowerBand = triple.getRight();
 
         for (int i = 0; i < actions.length; i++) {
-            if (asset.close[i] > upperBand[i]) {
-                actions[i] = Action.SELL;
-            } else if (asset.close[i] < lowerBand[i]) {
-                actions[i] = Action.BUY;
+            if (asset.close(i) > upperBand[i]) {
+                actions[i] = SignalSeries.SELL;
+            } else if (asset.close(i) < lowerBand[i]) {
+                actions[i] = SignalSeries.BUY;
             } else {
-                actions[i] = Action.HOLD;
+                actions[i] = SignalSeries.HOLD;
             }
         }
 
-        return actions;
+        return new SignalSeries(actions);
     }
 
     // Projection oscillator strategy public static Action[]tion.
     public static Action[] ProjectionOscillatorStrategy(int period, int smooth, final ChartBar asset) {
-        Action[] actions = new Action[asset.getDatetime().length];
+        return ProjectionOscillatorStrategy(period, smooth, IndicatorContext.of(asset)).toActions();
+    }
+
+    // Projection oscillator strategy with the shared indicators.
+    public static SignalSeries ProjectionOscillatorStrategy(int period, int smooth, final IndicatorContext context) {
+        ChartBar asset = context.getChartBar();
+        byte[] actions = new byte[asset.size()];
 
-        Pair<double[], double[]> pair = ProjectionOscillator(
-                period,
-                smooth,
-                asset.high,
-                asset.low,
-                asset.close);
+        Pair<double[], double[]> pair = context.projectionOscillator(period, smooth);
         double[] po = pair.getLeft();
         double[] spo = pair.getRight();
 
         for (int i = 0; i < actions.length; i++) {
             if (po[i] > spo[i]) {
-                actions[i] = Action.BUY;
+                actions[i] = SignalSeries.BUY;
             } else if (po[i] < spo[i]) {
-                actions[i] = Action.SELL;
+                actions[i] = SignalSeries.SELL;
             } else {
-                actions[i] = Action.HOLD;
+                actions[i] = SignalSeries.HOLD;
             }
         }
 
-        return actions;
+        return new SignalSeries(actions);
     }
 
     // Make projection oscillator strategy.
-    public static Strategy MakeProjectionOscillatorStrategy(int period, int smooth) {
-        return asset -> ProjectionOscillatorStrategy(period, smooth, asset);
+    public static ContextStrategy MakeProjectionOscillatorStrategy(int period, int smooth) {
+        return context -> ProjectionOscillatorStrategy(period, smooth, context);
     }
 
 }
@@ -1,7 +1,10 @@
 package strategy;
 
+import indicator.Workspace;
 import model.Action;
 import model.ChartBar;
+import model.Column;
+import model.SignalSeries;
 
 import static indicator.TrendIndicators.Ema;
 import static indicator.VolumeIndicators.*;
@@ -13,123 +16,167 @@ public class VolumeStrategies {
 
     // Money flow index strategy.
     public static Action[] MoneyFlowIndexStrategy(final ChartBar asset) {
-        Action[] actions = new Action[asset.getDatetime().length];
+        return MoneyFlowIndexStrategy(IndicatorContext.of(asset)).toActions();
+    }
+
+    // Money flow index strategy with the shared indicators.
+    public static SignalSeries MoneyFlowIndexStrategy(final IndicatorContext context) {
+        ChartBar asset = context.getChartBar();
+        byte[] actions = new byte[asset.size()];
 
-        double[] moneyFlowIndex = DefaultMoneyFlowIndex(
+        double[] moneyFlowIndex = context.get(() -> MoneyFlowIndex(
+                14,
                 asset.high,
                 asset.low,
                 asset.close,
-                asset.volume);
+                asset.volume,
+                asset.offset, asset.end(), new double[asset.size()], new Workspace()), "MoneyFlowIndex", 14);
 
         for (int i = 0; i < actions.length; i++) {
             if (moneyFlowIndex[i] >= 80) {
-                actions[i] = Action.SELL;
+                actions[i] = SignalSeries.SELL;
             } else {
-                actions[i] = Action.BUY;
+                actions[i] = SignalSeries.BUY;
             }
         }
 
-        return actions;
+        return new SignalSeries(actions);
     }
 
     // Force index strategy public static Action[]tion.
     public static Action[] ForceIndexStrategy(final ChartBar asset) {
-        Action[] actions = new Action[asset.getDatetime().length];
+        return ForceIndexStrategy(IndicatorContext.of(asset)).toActions();
+    }
 
-        double[] forceIndex = DefaultForceIndex(asset.close, asset.volume);
+    // Force index strategy with the shared indicators.
+    public static SignalSeries ForceIndexStrategy(final IndicatorContext context) {
+        ChartBar asset = context.getChartBar();
+        byte[] actions = new byte[asset.size()];
+
+        double[] forceIndex = context.get(() -> ForceIndex(13, asset.close, asset.volume, asset.offset, asset.end(),
+                new double[asset.size()], new Workspace()), "ForceIndex", 13);
 
         for (int i = 0; i < actions.length; i++) {
             if (forceIndex[i] > 0) {
-                actions[i] = Action.BUY;
+                actions[i] = SignalSeries.BUY;
             } else if (forceIndex[i] < 0) {
-                actions[i] = Action.SELL;
+                actions[i] = SignalSeries.SELL;
             } else {
-                actions[i] = Action.HOLD;
+                actions[i] = SignalSeries.HOLD;
             }
         }
 
-        return actions;
+        return new SignalSeries(actions);
     }
 
     // Ease of movement strategy.
     public static Action[] EaseOfMovementStrategy(final ChartBar asset) {
-        Action[] actions = new Action[asset.getDatetime().length];
+        return EaseOfMovementStrategy(IndicatorContext.of(asset)).toActions();
+    }
+
+    // Ease of movement strategy with the shared indicators.
+    public static SignalSeries EaseOfMovementStrategy(final IndicatorContext context) {
+        ChartBar asset = context.getChartBar();
+        byte[] actions = new byte[asset.size()];
 
-        double[] emv = DefaultEaseOfMovement(asset.high, asset.low, asset.volume);
+        double[] emv = context.get(() -> EaseOfMovement(14, asset.high, asset.low, asset.volume,
+                asset.offset, asset.end(), new double[asset.size()], new Workspace()), "EaseOfMovement", 14);
 
         for (int i = 0; i < actions.length; i++) {
             if (emv[i] > 0) {
-                actions[i] = Action.BUY;
+                actions[i] = SignalSeries.BUY;
             } else if (emv[i] < 0) {
-                actions[i] = Action.SELL;
+                actions[i] = SignalSeries.SELL;
             } else {
-                actions[i] = Action.HOLD;
+                actions[i] = SignalSeries.HOLD;
             }
         }
 
-        return actions;
+        return new SignalSeries(actions);
     }
 
     // Volume weighted average price strategy public static Action[]tion.
     public static Action[] VolumeWeightedAveragePriceStrategy(final ChartBar asset) {
-        Action[] actions = new Action[asset.getDatetime().length];
+        return VolumeWeightedAveragePriceStrategy(IndicatorContext.of(asset)).toActions();
+    }
+
+    // Volume weighted average price strategy with the shared indicators.
+    public static SignalSeries VolumeWeightedAveragePriceStrategy(final IndicatorContext context) {
+        ChartBar asset = context.getChartBar();
+        byte[] actions = new byte[asset.size()];
 
-        double[] vwap = DefaultVolumeWeightedAveragePrice(asset.close, asset.volume);
+        // VWAP is the Vwma of the closing
+        double[] vwap = context.get(() -> VolumeWeightedAveragePrice(14, asset.close, asset.volume,
+                asset.offset, asset.end(), new double[asset.size()], new Workspace()), "Vwma", 14, Column.CLOSE);
 
         for (int i = 0; i < actions.length; i++) {
-            if (vwap[i] > asset.close[i]) {
-                actions[i] = Action.BUY;
-            } else if (vwap[i] < asset.close[i]) {
-                actions[i] = Action.SELL;
+            if (vwap[i] > asset.close(i)) {
+                actions[i] = SignalSeries.BUY;
+            } else if (vwap[i] < asset.close(i)) {
+                actions[i] = SignalSeries.SELL;
             } else {
-                actions[i] = Action.HOLD;
+                actions[i] = SignalSeries.HOLD;
             }
         }
 
-        return actions;
+        return new SignalSeries(actions);
     }
 
     // Negative volume index strategy.
     public static Action[] NegativeVolumeIndexStrategy(final ChartBar asset) {
-        Action[] actions = new Action[asset.getDatetime().length];
+        return NegativeVolumeIndexStrategy(IndicatorContext.of(asset)).toActions();
+    }
 
-        double[] nvi = NegativeVolumeIndex(asset.close, asset.volume);
-        double[] nvi255 = Ema(255, nvi);
+    // Negative volume index strategy with the shared indicators.
+    public static SignalSeries NegativeVolumeIndexStrategy(final IndicatorContext context) {
+        ChartBar asset = context.getChartBar();
+        byte[] actions = new byte[asset.size()];
+
+        double[] nvi = context.get(() -> NegativeVolumeIndex(asset.close, asset.volume, asset.offset, asset.end(),
+                new double[asset.size()]), "NegativeVolumeIndex");
+        double[] nvi255 = context.get(() -> Ema(255, nvi), "NegativeVolumeIndexEma", 255);
 
         for (int i = 0; i < actions.length; i++) {
             if (nvi[i] < nvi255[i]) {
-                actions[i] = Action.BUY;
+                actions[i] = SignalSeries.BUY;
             } else if (nvi[i] > nvi255[i]) {
-                actions[i] = Action.SELL;
+                actions[i] = SignalSeries.SELL;
             } else {
-                actions[i] = Action.HOLD;
+                actions[i] = SignalSeries.HOLD;
             }
         }
 
-        return actions;
+        return new SignalSeries(actions);
     }
 
     // Chaikin money flow strategy.
     public static Action[] ChaikinMoneyFlowStrategy(final ChartBar asset) {
-        Action[] actions = new Action[asset.getDatetime().length];
+        return ChaikinMoneyFlowStrategy(IndicatorContext.of(asset)).toActions();
+    }
+
+    // Chaikin money flow strategy with the shared indicators.
+    public static SignalSeries ChaikinMoneyFlowStrategy(final IndicatorContext context) {
+        ChartBar asset = context.getChartBar();
+        byte[] actions = new byte[asset.size()];
 
-        double[] cmf = ChaikinMoneyFlow(
+        double[] cmf = context.get(() -> ChaikinMoneyFlow(
                 asset.high,
                 asset.low,
                 asset.close,
-                asset.volume);
+                asset.volume,
+                asset.offset, asset.end(), new double[asset.size()], new Workspace()), "ChaikinMoneyFlow");
 
         for (int i = 0; i < actions.length; i++) {
             if (cmf[i] < 0) {
-                actions[i] = Action.BUY;
+                actions[i] = SignalSeries.BUY;
             } else if (cmf[i] > 0) {
-                actions[i] = Action.SELL;
+                actions[i] = SignalSeries.SELL;
             } else {
-                actions[i] = Action.HOLD;
+                actions[i] = SignalSeries.HOLD;
             }
         }
 
-        return actions;
+        return new SignalSeries(actions);
     }
 
 }
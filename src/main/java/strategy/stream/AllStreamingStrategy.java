@@ -0,0 +1,41 @@
+package strategy.stream;
+
+import model.Action;
+import model.Bar;
+import strategy.StreamingStrategy;
+
+/**
+ * Description: 复合流式策略,多个流式策略的组合，与AllStrategy一致
+ * <p>
+ * 如果全部策略返回相同的BUY或SELL就返回它，否则返回HOLD。
+ * 每个策略都要处理每一根bar以保持状态，所以不能像AllStrategy那样提前结束。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class AllStreamingStrategy implements StreamingStrategy {
+    // 一组策略
+    public static StreamingStrategy create(StreamingStrategy... all) {
+        return new AllStreamingStrategy(all);
+    }
+
+    private final StreamingStrategy[] all;
+
+    public AllStreamingStrategy(StreamingStrategy... all) {
+        this.all = all;
+    }
+
+    @Override
+    public Action onBar(final Bar bar) {
+        if (null == all || all.length == 0) {
+            return Action.HOLD;
+        }
+        Action action = all[0].onBar(bar);
+        for (int i = 1; i < all.length; i++) {
+            if (all[i].onBar(bar) != action) {
+                action = Action.HOLD;
+            }
+        }
+
+        return action;
+    }
+}
@@ -0,0 +1,76 @@
+package strategy.stream;
+
+import indicator.stream.AwesomeOscillator;
+import indicator.stream.Rsi;
+import indicator.stream.WilliamsR;
+import model.Action;
+import strategy.StreamingStrategy;
+
+/**
+ * 流式版本的MomentumStrategies，每次调用返回一个新的有状态策略
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class MomentumStreamingStrategies {
+
+    // Awesome oscillator strategy.
+    public static StreamingStrategy AwesomeOscillatorStrategy() {
+        AwesomeOscillator ao = new AwesomeOscillator();
+        return bar -> {
+            double value = ao.update(bar.low, bar.high);
+            if (value > 0) {
+                return Action.BUY;
+            } else if (value < 0) {
+                return Action.SELL;
+            }
+            return Action.HOLD;
+        };
+    }
+
+    // RSI strategy. Sells above sell at, buys below buy at.
+    public static StreamingStrategy RsiStrategy(double sellAt, double buyAt) {
+        Rsi rsi = new Rsi();
+        return bar -> {
+            double value = rsi.update(bar.close);
+            if (value <= buyAt) {
+                return Action.BUY;
+            } else if (value >= sellAt) {
+                return Action.SELL;
+            }
+            return Action.HOLD;
+        };
+    }
+
+    // Default RSI strategy. It buys below 30 and sells above 70.
+    public static StreamingStrategy DefaultRsiStrategy() {
+        return RsiStrategy(70, 30);
+    }
+
+    // RSI 2 strategy. Buys below 10, sells above 90.
+    public static StreamingStrategy Rsi2Strategy() {
+        Rsi rsi = new Rsi(2);
+        return bar -> {
+            double value = rsi.update(bar.close);
+            if (value < 10) {
+                return Action.BUY;
+            } else if (value > 90) {
+                return Action.SELL;
+            }
+            return Action.HOLD;
+        };
+    }
+
+    // Williams R strategy.
+    public static StreamingStrategy WilliamsRStrategy() {
+        WilliamsR wr = new WilliamsR();
+        return bar -> {
+            double value = wr.update(bar.low, bar.high, bar.close);
+            if (value < -20) {
+                return Action.SELL;
+            } else if (value > -80) {
+                return Action.BUY;
+            }
+            return Action.HOLD;
+        };
+    }
+}
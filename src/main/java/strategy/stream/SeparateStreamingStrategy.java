@@ -0,0 +1,42 @@
+package strategy.stream;
+
+import model.Action;
+import model.Bar;
+import strategy.StreamingStrategy;
+
+/**
+ * 流式的SeparateStrategy - 一个买入策略和一个卖出策略
+ * <p>
+ * It returns a BUY action if the buy strategy returns a BUY action and
+ * the the sell strategy returns a HOLD action.
+ * <p>
+ * It returns a SELL action if the sell strategy returns a SELL action
+ * and the buy strategy returns a HOLD action.
+ * <p>
+ * It returns HOLD otherwise.
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class SeparateStreamingStrategy implements StreamingStrategy {
+    private final StreamingStrategy buyStrategy;
+    private final StreamingStrategy sellStrategy;
+
+    public SeparateStreamingStrategy(StreamingStrategy buyStrategy, StreamingStrategy sellStrategy) {
+        this.buyStrategy = buyStrategy;
+        this.sellStrategy = sellStrategy;
+    }
+
+    @Override
+    public Action onBar(final Bar bar) {
+        Action buy = buyStrategy.onBar(bar);
+        Action sell = sellStrategy.onBar(bar);
+
+        if (buy == Action.BUY && sell == Action.HOLD) {
+            return Action.BUY;
+        } else if (sell == Action.SELL && buy == Action.HOLD) {
+            return Action.SELL;
+        }
+
+        return Action.HOLD;
+    }
+}
@@ -0,0 +1,141 @@
+package strategy.stream;
+
+import indicator.stream.ChandeForecastOscillator;
+import indicator.stream.Kdj;
+import indicator.stream.Macd;
+import indicator.stream.MovingChandeForecastOscillator;
+import indicator.stream.Sma;
+import indicator.stream.Vwma;
+import model.Action;
+import model.Bar;
+import strategy.StreamingStrategy;
+
+/**
+ * 流式版本的TrendStrategies，每次调用返回一个新的有状态策略
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class TrendStreamingStrategies {
+
+    // Chande forecast oscillator strategy.
+    public static StreamingStrategy ChandeForecastOscillatorStrategy() {
+        ChandeForecastOscillator cfo = new ChandeForecastOscillator();
+        return bar -> {
+            double value = cfo.update(bar.close);
+            if (value < 0) {
+                return Action.BUY;
+            } else if (value > 0) {
+                return Action.SELL;
+            }
+            return Action.HOLD;
+        };
+    }
+
+    // Moving chande forecast oscillator strategy.
+    public static StreamingStrategy MovingChandeForecastOscillatorStrategy(int period) {
+        MovingChandeForecastOscillator cfo = new MovingChandeForecastOscillator(period);
+        return bar -> {
+            double value = cfo.update(bar.close);
+            if (value < 0) {
+                return Action.BUY;
+            } else if (value > 0) {
+                return Action.SELL;
+            }
+            return Action.HOLD;
+        };
+    }
+
+    // KDJ strategy. BUY when k crosses above d and j, and below 20%.
+    // SELL when k crosses below d and j, and above 80%.
+    public static StreamingStrategy KdjStrategy(int rPeriod, int kPeriod, int dPeriod) {
+        Kdj kdj = new Kdj(rPeriod, kPeriod, dPeriod);
+        return bar -> {
+            double k = kdj.update(bar.high, bar.low, bar.close);
+            double d = kdj.getD(), j = kdj.getJ();
+            if ((k > d) && (k > j) && (k <= 20)) {
+                return Action.BUY;
+            } else if ((k < d) && (k < j) && (k >= 80)) {
+                return Action.SELL;
+            }
+            return Action.HOLD;
+        };
+    }
+
+    // Default KDJ strategy.
+    public static StreamingStrategy DefaultKdjStrategy() {
+        return KdjStrategy(9, 3, 3);
+    }
+
+    // MACD strategy.
+    public static StreamingStrategy MacdStrategy() {
+        Macd macd = new Macd();
+        return bar -> {
+            double value = macd.update(bar.close);
+            double signal = macd.getSignal();
+            if (value > signal) {
+                return Action.BUY;
+            } else if (value < signal) {
+                return Action.SELL;
+            }
+            return Action.HOLD;
+        };
+    }
+
+    // Trend strategy. Buy when trending up for count times,
+    // sell when trending down for count times.
+    public static StreamingStrategy TrendStrategy(int count) {
+        return new StreamingStrategy() {
+            private boolean first = true;
+            private double lastClosing;
+            private int trendCount = 1;
+            private boolean trendUp = false;
+
+            @Override
+            public Action onBar(final Bar bar) {
+                double closing = bar.close;
+                if (first) {
+                    first = false;
+                    lastClosing = closing;
+                    return Action.HOLD;
+                }
+
+                if (trendUp && (lastClosing <= closing)) {
+                    trendCount++;
+                } else if (!trendUp && (lastClosing >= closing)) {
+                    trendCount++;
+                } else {
+                    trendUp = !trendUp;
+                    trendCount = 1;
+                }
+
+                lastClosing = closing;
+
+                if (trendCount >= count) {
+                    return trendUp ? Action.BUY : Action.SELL;
+                }
+                return Action.HOLD;
+            }
+        };
+    }
+
+    // VWMA strategy. BUY when VWMA is above SMA, SELL when VWMA is below SMA.
+    public static StreamingStrategy VwmaStrategy(int period) {
+        Sma sma = new Sma(period);
+        Vwma vwma = new Vwma(period);
+        return bar -> {
+            double s = sma.update(bar.close);
+            double v = vwma.update(bar.close, bar.volume);
+            if (v > s) {
+                return Action.BUY;
+            } else if (v < s) {
+                return Action.SELL;
+            }
+            return Action.HOLD;
+        };
+    }
+
+    // Default VWMA strategy.
+    public static StreamingStrategy DefaultVwmaStrategy() {
+        return VwmaStrategy(20);
+    }
+}
@@ -0,0 +1,44 @@
+package strategy.stream;
+
+import indicator.stream.BollingerBands;
+import indicator.stream.ProjectionOscillator;
+import model.Action;
+import strategy.StreamingStrategy;
+
+/**
+ * 流式版本的VolatilityStrategies，每次调用返回一个新的有状态策略
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class VolatilityStreamingStrategies {
+
+    // Bollinger bands strategy.
+    public static StreamingStrategy BollingerBandsStrategy() {
+        BollingerBands bands = new BollingerBands();
+        return bar -> {
+            bands.update(bar.close);
+            if (bar.close > bands.getUpperBand()) {
+                return Action.SELL;
+            } else if (bar.close < bands.getLowerBand()) {
+                return Action.BUY;
+            }
+            return Action.HOLD;
+        };
+    }
+
+    // Projection oscillator strategy.
+    public static StreamingStrategy ProjectionOscillatorStrategy(int period, int smooth) {
+        ProjectionOscillator oscillator = new ProjectionOscillator(period, smooth);
+        return bar -> {
+            double po = oscillator.update(bar.high, bar.low, bar.close);
+            double spo = oscillator.getSpo();
+            if (po > spo) {
+                return Action.BUY;
+            } else if (po < spo) {
+                return Action.SELL;
+            }
+            return Action.HOLD;
+        };
+    }
+
+}
@@ -0,0 +1,98 @@
+package strategy.stream;
+
+import indicator.stream.ChaikinMoneyFlow;
+import indicator.stream.EaseOfMovement;
+import indicator.stream.Ema;
+import indicator.stream.ForceIndex;
+import indicator.stream.MoneyFlowIndex;
+import indicator.stream.NegativeVolumeIndex;
+import indicator.stream.VolumeWeightedAveragePrice;
+import model.Action;
+import strategy.StreamingStrategy;
+
+/**
+ * 流式版本的VolumeStrategies，每次调用返回一个新的有状态策略
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class VolumeStreamingStrategies {
+
+    // Money flow index strategy.
+    public static StreamingStrategy MoneyFlowIndexStrategy() {
+        MoneyFlowIndex mfi = new MoneyFlowIndex();
+        return bar -> mfi.update(bar.high, bar.low, bar.close, bar.volume) >= 80 ? Action.SELL : Action.BUY;
+    }
+
+    // Force index strategy.
+    public static StreamingStrategy ForceIndexStrategy() {
+        ForceIndex fi = new ForceIndex();
+        return bar -> {
+            double value = fi.update(bar.close, bar.volume);
+            if (value > 0) {
+                return Action.BUY;
+            } else if (value < 0) {
+                return Action.SELL;
+            }
+            return Action.HOLD;
+        };
+    }
+
+    // Ease of movement strategy.
+    public static StreamingStrategy EaseOfMovementStrategy() {
+        EaseOfMovement emv = new EaseOfMovement();
+        return bar -> {
+            double value = emv.update(bar.high, bar.low, bar.volume);
+            if (value > 0) {
+                return Action.BUY;
+            } else if (value < 0) {
+                return Action.SELL;
+            }
+            return Action.HOLD;
+        };
+    }
+
+    // Volume weighted average price strategy.
+    public static StreamingStrategy VolumeWeightedAveragePriceStrategy() {
+        VolumeWeightedAveragePrice vwap = new VolumeWeightedAveragePrice();
+        return bar -> {
+            double value = vwap.update(bar.close, bar.volume);
+            if (value > bar.close) {
+                return Action.BUY;
+            } else if (value < bar.close) {
+                return Action.SELL;
+            }
+            return Action.HOLD;
+        };
+    }
+
+    // Negative volume index strategy.
+    public static StreamingStrategy NegativeVolumeIndexStrategy() {
+        NegativeVolumeIndex nvi = new NegativeVolumeIndex();
+        Ema ema255 = new Ema(255);
+        return bar -> {
+            double value = nvi.update(bar.close, bar.volume);
+            double nvi255 = ema255.update(value);
+            if (value < nvi255) {
+                return Action.BUY;
+            } else if (value > nvi255) {
+                return Action.SELL;
+            }
+            return Action.HOLD;
+        };
+    }
+
+    // Chaikin money flow strategy.
+    public static StreamingStrategy ChaikinMoneyFlowStrategy() {
+        ChaikinMoneyFlow cmf = new ChaikinMoneyFlow();
+        return bar -> {
+            double value = cmf.update(bar.high, bar.low, bar.close, bar.volume);
+            if (value < 0) {
+                return Action.BUY;
+            } else if (value > 0) {
+                return Action.SELL;
+            }
+            return Action.HOLD;
+        };
+    }
+
+}
@@ -0,0 +1,28 @@
+package indicator;
+
+/**
+ * Java 17及以上的Kernels实现选择：启动时加了--add-modules jdk.incubator.vector并且没有-Dindicator.simd=false时用VectorKernels
+ * <p>
+ * VectorKernels通过反射加载，模块不存在时不会碰到jdk.incubator.vector的类，退回标量实现。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+final class KernelsProvider {
+    private static final String MODULE = "jdk.incubator.vector";
+
+    private KernelsProvider() {
+    }
+
+    static ScalarKernels get() {
+        if (Boolean.parseBoolean(System.getProperty("indicator.simd", "true"))
+                && ModuleLayer.boot().findModule(MODULE).isPresent()) {
+            try {
+                return (ScalarKernels) Class.forName("indicator.VectorKernels")
+                        .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                // 模块存在但不能用，退回标量实现
+            }
+        }
+        return new ScalarKernels();
+    }
+}
@@ -0,0 +1,171 @@
+package indicator;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * 用jdk.incubator.vector实现的逐元素运算，每次处理一个SPECIES_PREFERRED向量，不满一个向量的尾部交给标量实现
+ * <p>
+ * 加减乘除、sqrt、abs、max都是IEEE的精确舍入，比较和blend保持标量分支对NaN、-0.0的结果，
+ * 所以与ScalarKernels逐位一致。pow只有指数是2时向量化（x * x），其它指数用Math.pow。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+final class VectorKernels extends ScalarKernels {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+    private static final int LANES = SPECIES.length();
+
+    @Override
+    void add(double[] a, int ai, double[] b, int bi, double[] result, int ri, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, ai + i)
+                    .add(DoubleVector.fromArray(SPECIES, b, bi + i))
+                    .intoArray(result, ri + i);
+        }
+        super.add(a, ai + i, b, bi + i, result, ri + i, n - i);
+    }
+
+    @Override
+    void sub(double[] a, int ai, double[] b, int bi, double[] result, int ri, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, ai + i)
+                    .sub(DoubleVector.fromArray(SPECIES, b, bi + i))
+                    .intoArray(result, ri + i);
+        }
+        super.sub(a, ai + i, b, bi + i, result, ri + i, n - i);
+    }
+
+    @Override
+    void mul(double[] a, int ai, double[] b, int bi, double[] result, int ri, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, ai + i)
+                    .mul(DoubleVector.fromArray(SPECIES, b, bi + i))
+                    .intoArray(result, ri + i);
+        }
+        super.mul(a, ai + i, b, bi + i, result, ri + i, n - i);
+    }
+
+    @Override
+    void div(double[] a, int ai, double[] b, int bi, double[] result, int ri, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, ai + i)
+                    .div(DoubleVector.fromArray(SPECIES, b, bi + i))
+                    .intoArray(result, ri + i);
+        }
+        super.div(a, ai + i, b, bi + i, result, ri + i, n - i);
+    }
+
+    @Override
+    void addBy(double[] a, int ai, double s, double[] result, int ri, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, ai + i).add(s).intoArray(result, ri + i);
+        }
+        super.addBy(a, ai + i, s, result, ri + i, n - i);
+    }
+
+    @Override
+    void multiplyBy(double[] a, int ai, double s, double[] result, int ri, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, ai + i).mul(s).intoArray(result, ri + i);
+        }
+        super.multiplyBy(a, ai + i, s, result, ri + i, n - i);
+    }
+
+    @Override
+    void pow(double[] a, int ai, double exponent, double[] result, int ri, int n) {
+        if (exponent != 2) {
+            // 向量的POW不保证与Math.pow逐位一致
+            super.pow(a, ai, exponent, result, ri, n);
+            return;
+        }
+        // Math.pow(x, 2)就是x * x
+        mul(a, ai, a, ai, result, ri, n);
+    }
+
+    @Override
+    void sqrt(double[] a, int ai, double[] result, int ri, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, ai + i).lanewise(VectorOperators.SQRT).intoArray(result, ri + i);
+        }
+        super.sqrt(a, ai + i, result, ri + i, n - i);
+    }
+
+    @Override
+    void abs(double[] a, int ai, double[] result, int ri, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, ai + i).abs().intoArray(result, ri + i);
+        }
+        super.abs(a, ai + i, result, ri + i, n - i);
+    }
+
+    @Override
+    void sign(double[] a, int ai, double[] result, int ri, int n) {
+        DoubleVector one = DoubleVector.broadcast(SPECIES, 1);
+        DoubleVector minusOne = DoubleVector.broadcast(SPECIES, -1);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            // NaN不满足>= 0，与标量一样是-1
+            VectorMask<Double> nonNegative = DoubleVector.fromArray(SPECIES, a, ai + i).compare(VectorOperators.GE, 0);
+            minusOne.blend(one, nonNegative).intoArray(result, ri + i);
+        }
+        super.sign(a, ai + i, result, ri + i, n - i);
+    }
+
+    @Override
+    void positives(double[] a, int ai, double[] result, int ri, int n) {
+        DoubleVector zero = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            // 不用max(v, 0)：NaN、-0.0要与标量分支一样得到0
+            DoubleVector v = DoubleVector.fromArray(SPECIES, a, ai + i);
+            zero.blend(v, v.compare(VectorOperators.GT, 0)).intoArray(result, ri + i);
+        }
+        super.positives(a, ai + i, result, ri + i, n - i);
+    }
+
+    @Override
+    void negatives(double[] a, int ai, double[] result, int ri, int n) {
+        DoubleVector zero = DoubleVector.zero(SPECIES);
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            DoubleVector v = DoubleVector.fromArray(SPECIES, a, ai + i);
+            zero.blend(v, v.compare(VectorOperators.LT, 0)).intoArray(result, ri + i);
+        }
+        super.negatives(a, ai + i, result, ri + i, n - i);
+    }
+
+    @Override
+    void trueRange(double[] high, double[] low, double[] closing, int from, double[] result, int ri, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            DoubleVector h = DoubleVector.fromArray(SPECIES, high, from + i);
+            DoubleVector l = DoubleVector.fromArray(SPECIES, low, from + i);
+            DoubleVector c = DoubleVector.fromArray(SPECIES, closing, from + i);
+            // lanewise max与Math.max对NaN、±0.0的处理相同
+            h.sub(l).max(h.sub(c).max(c.sub(l))).intoArray(result, ri + i);
+        }
+        super.trueRange(high, low, closing, from + i, result, ri + i, n - i);
+    }
+
+    @Override
+    void bandWidth(double[] upper, double[] lower, double[] middle, int from, double[] result, int ri, int n) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(n); i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, upper, from + i)
+                    .sub(DoubleVector.fromArray(SPECIES, lower, from + i))
+                    .div(DoubleVector.fromArray(SPECIES, middle, from + i))
+                    .intoArray(result, ri + i);
+        }
+        super.bandWidth(upper, lower, middle, from + i, result, ri + i, n - i);
+    }
+}
@@ -0,0 +1,83 @@
+package backtest;
+
+import model.Action;
+import model.ChartBar;
+import model.ChartBarFixtures;
+import model.SignalSeries;
+import org.junit.Assert;
+import org.junit.Test;
+import strategy.IndicatorContext;
+import strategy.TrendStrategies;
+
+/**
+ * 回测
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class BacktestTests {
+
+    private static ChartBar chartBar(double[] open, double[] close) {
+        ChartBar chartBar = new ChartBar(open.length);
+        for (int i = 0; i < open.length; i++) {
+            chartBar.datetime[i] = String.valueOf(i);
+            chartBar.open[i] = open[i];
+            chartBar.close[i] = close[i];
+            chartBar.high[i] = Math.max(open[i], close[i]);
+            chartBar.low[i] = Math.min(open[i], close[i]);
+        }
+        return chartBar;
+    }
+
+    @Test
+    public void testRun() {
+        ChartBar chartBar = chartBar(new double[]{10, 11, 12, 10}, new double[]{10, 12, 9, 11});
+        Action[] actions = {Action.BUY, Action.HOLD, Action.SELL, Action.SELL};
+
+        // 第0根bar的BUY在第1根bar开盘11买入，第2根bar的SELL在第3根bar开盘10卖出
+        BacktestResult result = new Backtest().run(chartBar, actions);
+        Assert.assertArrayEquals(new double[]{1, 12.0 / 11, 9.0 / 11, 10.0 / 11}, result.getEquity(), 1e-12);
+        Assert.assertEquals(2, result.getTrades().size());
+        Assert.assertEquals("1", result.getTrades().get(0).getDatetime());
+        Assert.assertEquals(11, result.getTrades().get(0).getPrice(), 0);
+        Assert.assertEquals(Action.BUY, result.getTrades().get(0).getAction());
+        Assert.assertEquals(Action.SELL, result.getTrades().get(1).getAction());
+
+        Metrics metrics = result.getMetrics();
+        Assert.assertEquals(10.0 / 11 - 1, metrics.getTotalReturn(), 1e-12);
+        Assert.assertEquals(0.25, metrics.getMaxDrawdown(), 1e-12);
+        Assert.assertEquals(2, metrics.getTurnover(), 0);
+        Assert.assertEquals(2, metrics.getTrades());
+
+        Metrics withCommission = new Backtest(0.001, false, Backtest.TRADING_DAYS).metrics(chartBar, SignalSeries.from(actions));
+        Assert.assertEquals(10.0 / 11 * 0.999 * 0.999 - 1, withCommission.getTotalReturn(), 1e-12);
+
+        // 做空时SELL持有空头，从多头到空头仓位变化是2
+        Metrics withShort = new Backtest(0, true, Backtest.TRADING_DAYS).metrics(chartBar, SignalSeries.from(actions));
+        Assert.assertEquals(3, withShort.getTurnover(), 0);
+        Assert.assertEquals(12.0 / 11 * 0.75 * (1 + (10.0 / 9 - 1)) * (1 - (11.0 / 10 - 1)) - 1, withShort.getTotalReturn(), 1e-12);
+    }
+
+    @Test
+    public void testMetrics() {
+        int size = 1000;
+        ChartBar chartBar = ChartBarFixtures.randomChartBar(20221017, size);
+        SignalSeries signals = TrendStrategies.MacdStrategy(IndicatorContext.of(chartBar));
+
+        Backtest backtest = new Backtest(0.0005, true, Backtest.TRADING_DAYS);
+        BacktestResult result = backtest.run(chartBar, signals);
+        Assert.assertEquals(result.getMetrics(), backtest.metrics(chartBar, signals));
+        Assert.assertEquals(result.getMetrics().getTrades(), result.getTrades().size());
+        Assert.assertEquals(result.getEquity()[size - 1] - 1, result.getMetrics().getTotalReturn(), 0);
+
+        // 信号在更大的数组里，比如ParameterSweep的结果矩阵
+        byte[] matrix = new byte[size * 2];
+        System.arraycopy(signals.values(), 0, matrix, size, size);
+        Assert.assertEquals(result.getMetrics(), backtest.metrics(chartBar, matrix, size));
+        try {
+            backtest.metrics(chartBar, matrix, -size);
+            Assert.fail();
+        } catch (RuntimeException e) {
+            Assert.assertEquals("negative offset " + -size, e.getMessage());
+        }
+    }
+}
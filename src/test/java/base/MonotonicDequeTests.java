@@ -0,0 +1,74 @@
+package base;
+
+import indicator.TrendIndicators;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class MonotonicDequeTests {
+    private static final Random RANDOM = new Random(20221007);
+
+    @Test
+    public void testMaxMin() {
+        double[] values = new double[500];
+        for (int i = 0; i < values.length; i++) {
+            // 有重复值和单调段
+            values[i] = i % 50 < 20 ? i : RANDOM.nextInt(30);
+        }
+
+        for (int period : new int[]{1, 2, 9, 26, 52, 600}) {
+            double[] max = TrendIndicators.Max(period, values);
+            double[] min = TrendIndicators.Min(period, values);
+            MonotonicDeque maxDeque = MonotonicDeque.max(period);
+            MonotonicDeque minDeque = MonotonicDeque.min(period);
+
+            for (int i = 0; i < values.length; i++) {
+                maxDeque.push(values[i]);
+                minDeque.push(values[i]);
+
+                double expectMax = values[i], expectMin = values[i];
+                int expectMaxIndex = i, expectMinIndex = i;
+                for (int j = i; j >= 0 && j > i - period; j--) {
+                    if (values[j] > expectMax) {
+                        expectMax = values[j];
+                        expectMaxIndex = j;
+                    }
+                    if (values[j] < expectMin) {
+                        expectMin = values[j];
+                        expectMinIndex = j;
+                    }
+                }
+
+                Assert.assertEquals(expectMax, max[i], 0);
+                Assert.assertEquals(expectMin, min[i], 0);
+                Assert.assertEquals(expectMaxIndex, maxDeque.index());
+                Assert.assertEquals(expectMinIndex, minDeque.index());
+            }
+        }
+    }
+
+    @Test
+    public void testSameAsTree() {
+        double[] values = new double[300];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.round(RANDOM.nextDouble() * 100000) / 1000.0;
+        }
+
+        int period = 14;
+        double[] max = TrendIndicators.Max(period, values);
+        double[] buffer = new double[period];
+        Tree bst = Tree.New();
+        for (int i = 0; i < values.length; i++) {
+            bst.insert(values[i]);
+            if (i >= period) {
+                bst.remove(buffer[i % period]);
+            }
+            buffer[i % period] = values[i];
+            Assert.assertEquals(bst.max().doubleValue(), max[i], 0);
+        }
+    }
+}
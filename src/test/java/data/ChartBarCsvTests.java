@@ -0,0 +1,94 @@
+package data;
+
+import model.ChartBar;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * CSV与ChartBar.row()的格式一致，解析与Double.parseDouble一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class ChartBarCsvTests {
+
+    private static String format(double value) {
+        byte[] bytes = new byte[400];
+        int length = ChartBarCsv.putFixed(bytes, 0, value, 3);
+        return new String(bytes, 0, length, StandardCharsets.US_ASCII);
+    }
+
+    private static double parse(String s) {
+        byte[] bytes = s.getBytes(StandardCharsets.US_ASCII);
+        return ChartBarCsv.parseDouble(bytes, 0, bytes.length);
+    }
+
+    @Test
+    public void testNumbers() {
+        double[] values = {0, -0.0, 1.0005, 2.0004999999999997, -0.0001, 0.0005, 1e20, -1e300, Double.MAX_VALUE,
+                Double.MIN_VALUE, Double.NaN, Double.NEGATIVE_INFINITY, 123456789.1235, 99.9995};
+        for (double value : values) {
+            Assert.assertEquals(String.format("%.3f", value), format(value));
+        }
+
+        Random random = new Random(20221010);
+        for (int i = 0; i < 50000; i++) {
+            double value = i % 2 == 0
+                    ? random.nextInt(10000000) / 10000.0
+                    : random.nextGaussian() * Math.pow(10, random.nextInt(20) - 6);
+            Assert.assertEquals(String.format("%.3f", value), format(value));
+
+            String s = Double.toString(value);
+            Assert.assertEquals(Double.parseDouble(s), parse(s), 0);
+            String fixed = String.format("%.4f", value);
+            Assert.assertEquals(Double.parseDouble(fixed), parse(fixed), 0);
+        }
+        Assert.assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(parse("-0")));
+        Assert.assertEquals(1.5e-7, parse("15E-8"), 0);
+    }
+
+    @Test
+    public void testReadAndWrite() throws IOException {
+        int size = 5000;
+        Random random = new Random(20221011);
+        ChartBar chartBar = new ChartBar(size);
+        for (int i = 0; i < size; i++) {
+            chartBar.datetime[i] = "2022-10-" + String.format("%05d", i);
+            chartBar.open[i] = random.nextInt(1000000) / 1000.0;
+            chartBar.high[i] = random.nextInt(1000000) / 1000.0;
+            chartBar.low[i] = -random.nextInt(1000000) / 1000.0;
+            chartBar.close[i] = random.nextInt(1000000) / 1000.0;
+            chartBar.volume[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ChartBarCsv.write(Channels.newChannel(out), chartBar);
+
+        StringBuilder expected = new StringBuilder(chartBar.title()).append('\n');
+        for (int i = 0; i < size; i++) {
+            expected.append(chartBar.row(i)).append('\n');
+        }
+        Assert.assertEquals(expected.toString(), new String(out.toByteArray(), StandardCharsets.US_ASCII));
+
+        ChartBar read = ChartBarCsv.read(Channels.newChannel(new ByteArrayInputStream(out.toByteArray())));
+        Assert.assertEquals(chartBar, read);
+
+        // 没有标题、CRLF、最后一行没有换行
+        byte[] crlf = "2022-10-07,1,2,0.5,1.5,100\r\n2022-10-08,1.5,2.5,1,2,200".getBytes(StandardCharsets.US_ASCII);
+        ChartBar small = ChartBarCsv.read(Channels.newChannel(new ByteArrayInputStream(crlf)));
+        Assert.assertArrayEquals(new String[]{"2022-10-07", "2022-10-08"}, small.datetime);
+        Assert.assertArrayEquals(new long[]{100, 200}, small.volume);
+        Assert.assertArrayEquals(new double[]{1.5, 2}, small.close, 0);
+
+        // 最后一行以\r结束、没有\n
+        byte[] cr = "2022-10-07,1,2,0.5,1.5,100\r\n2022-10-08,1.5,2.5,1,2,200\r".getBytes(StandardCharsets.US_ASCII);
+        ChartBar last = ChartBarCsv.read(Channels.newChannel(new ByteArrayInputStream(cr)));
+        Assert.assertEquals(small, last);
+    }
+}
@@ -0,0 +1,78 @@
+package data;
+
+import model.ChartBar;
+import model.Column;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 写入后映射读取，数据不变
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class MappedChartBarTests {
+    private static final DateTimeFormatter FORMATTER =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss").withZone(ZoneOffset.UTC);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testWriteAndMap() throws IOException {
+        int size = 20000;
+        Random random = new Random(20221007);
+        long[] time = new long[size];
+        ChartBar chartBar = new ChartBar(size);
+        for (int i = 0; i < size; i++) {
+            time[i] = 1665100800000L + i * 60000L;
+            chartBar.datetime[i] = FORMATTER.format(Instant.ofEpochMilli(time[i]));
+            chartBar.open[i] = random.nextGaussian();
+            chartBar.high[i] = random.nextGaussian();
+            chartBar.low[i] = random.nextGaussian();
+            chartBar.close[i] = random.nextGaussian();
+            chartBar.volume[i] = random.nextLong();
+        }
+
+        Path path = folder.newFile("bars.bin").toPath();
+        ChartBarFile.write(path, time, chartBar);
+        Assert.assertEquals(ChartBarFile.HEADER_SIZE + 6L * 8 * size, Files.size(path));
+
+        MappedChartBar mapped = MappedChartBar.open(path);
+        Assert.assertEquals(size, mapped.size());
+        Assert.assertEquals(chartBar, mapped.toChartBar(FORMATTER));
+        Assert.assertEquals(time[123], mapped.time(123));
+        Assert.assertEquals(chartBar.close[size - 1], mapped.close(size - 1), 0);
+        Assert.assertArrayEquals(Arrays.copyOfRange(chartBar.high, 100, 200), mapped.copy(Column.HIGH, 100, 200), 0);
+        Assert.assertArrayEquals(Arrays.copyOfRange(chartBar.volume, 5, 6), mapped.copyVolume(5, 6));
+        Assert.assertEquals(chartBar.low[7], mapped.column(Column.LOW).get(7), 0);
+
+        ChartBar slice = mapped.toChartBar(10, 20);
+        Assert.assertNull(slice.datetime);
+        Assert.assertEquals(chartBar.datetime[15], slice.datetime(5));
+        Assert.assertEquals(17, mapped.indexOf(time[17]));
+        Assert.assertEquals(-19, mapped.indexOf(time[17] + 1));
+    }
+
+    @Test
+    public void testBadFile() throws IOException {
+        Path path = folder.newFile("bad.bin").toPath();
+        Files.write(path, new byte[100]);
+        try {
+            MappedChartBar.open(path);
+            Assert.fail();
+        } catch (RuntimeException e) {
+            Assert.assertEquals("not a chart bar file", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package indicator;
+
+import model.ChartBarFixtures;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 多周期Ema/Rma与逐个计算逐位一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class EmaBankTests {
+    private static final int[] PERIODS = {3, 9, 10, 12, 13, 26, 90, 255};
+
+    private final double[] values = ChartBarFixtures.randomWalk(20221018, 1000, 100);
+
+    @Test
+    public void testEma() {
+        int from = 17, to = 900, n = to - from, m = PERIODS.length;
+        double[][] results = new double[m][n];
+        EmaBank.Ema(PERIODS, values, from, to, results);
+        double[] interleaved = EmaBank.EmaInterleaved(PERIODS, values, from, to, new double[n * m]);
+        indicator.stream.EmaBank stream = indicator.stream.EmaBank.ema(PERIODS);
+        double[][] streamed = new double[m][n];
+        for (int i = 0; i < n; i++) {
+            double[] value = stream.update(values[from + i]);
+            for (int p = 0; p < m; p++) {
+                streamed[p][i] = value[p];
+                Assert.assertEquals(results[p][i], interleaved[i * m + p], 0);
+            }
+        }
+
+        for (int p = 0; p < m; p++) {
+            double[] expected = TrendIndicators.Ema(PERIODS[p], values, from, to, new double[n]);
+            Assert.assertArrayEquals(expected, results[p], 0);
+            Assert.assertArrayEquals(expected, streamed[p], 0);
+        }
+
+        double[] fast = new double[n], slow = new double[n];
+        EmaBank.Ema(12, 26, values, from, to, fast, slow);
+        Assert.assertArrayEquals(results[3], fast, 0);
+        Assert.assertArrayEquals(results[5], slow, 0);
+    }
+
+    @Test
+    public void testRma() {
+        int from = 5, to = 1000, n = to - from, m = PERIODS.length;
+        double[][] results = new double[m][n];
+        EmaBank.Rma(PERIODS, values, from, to, results);
+        double[] interleaved = EmaBank.RmaInterleaved(PERIODS, values, from, to, new double[n * m]);
+        indicator.stream.EmaBank stream = indicator.stream.EmaBank.rma(PERIODS);
+        for (int i = 0; i < n; i++) {
+            double[] value = stream.update(values[from + i]);
+            for (int p = 0; p < m; p++) {
+                Assert.assertEquals(results[p][i], interleaved[i * m + p], 0);
+                Assert.assertEquals(results[p][i], value[p], 0);
+            }
+        }
+
+        for (int p = 0; p < m; p++) {
+            Assert.assertArrayEquals(TrendIndicators.Rma(PERIODS[p], values, from, to, new double[n]), results[p], 0);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package indicator;
+
+import base.Pair;
+import model.ChartBar;
+import model.Column;
+import model.FloatChartBar;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * float版本的指标与double版本的差在文档给出的误差范围内
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class FloatIndicatorsTests {
+    private static final double U = Math.pow(2, -24);
+
+    private final ChartBar chartBar = new ChartBar(5000);
+    private final FloatChartBar floatChartBar;
+    // max |price|
+    private double m;
+
+    public FloatIndicatorsTests() {
+        Random random = new Random(20221026);
+        double price = 1000;
+        for (int i = 0; i < chartBar.size(); i++) {
+            double open = price;
+            price = Math.max(1, price + 5 * random.nextGaussian());
+            chartBar.open[i] = open;
+            chartBar.close[i] = price;
+            chartBar.high[i] = Math.max(open, price) + Math.abs(random.nextGaussian());
+            chartBar.low[i] = Math.min(open, price) - Math.abs(random.nextGaussian());
+            chartBar.volume[i] = 1000 + random.nextInt(1_000_000);
+            m = Math.max(m, chartBar.high[i]);
+        }
+        floatChartBar = FloatChartBar.of(chartBar);
+    }
+
+    private static void assertClose(double[] expected, float[] actual, double delta) {
+        Assert.assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals("index " + i, expected[i], actual[i], delta);
+        }
+    }
+
+    @Test
+    public void testChartBar() {
+        Assert.assertEquals(chartBar.size(), floatChartBar.size());
+        ChartBar back = floatChartBar.toChartBar();
+        for (int i = 0; i < chartBar.size(); i++) {
+            Assert.assertEquals(chartBar.close(i), back.close(i), U * m);
+            // 2^24以内的成交量是精确的
+            Assert.assertEquals(chartBar.volume(i), back.volume(i));
+        }
+        Assert.assertSame(floatChartBar.close, Column.CLOSE.of(floatChartBar));
+    }
+
+    @Test
+    public void testIndicators() {
+        double[] closing = chartBar.close;
+        float[] floatClosing = floatChartBar.close;
+        int n = closing.length;
+
+        for (int period : new int[]{2, 14, 50}) {
+            assertClose(TrendIndicators.sma(period, closing), FloatIndicators.sma(period, floatClosing), 2 * U * m);
+            assertClose(TrendIndicators.Ema(period, closing), FloatIndicators.Ema(period, floatClosing), 2 * U * m);
+            assertClose(TrendIndicators.Rma(period, closing), FloatIndicators.Rma(period, floatClosing), 2 * U * m);
+            assertClose(TrendIndicators.Sum(period, closing), FloatIndicators.Sum(period, floatClosing), 2 * U * period * m);
+            assertClose(TrendIndicators.Max(period, closing), FloatIndicators.Max(period, floatClosing), U * m);
+            assertClose(TrendIndicators.Min(period, closing), FloatIndicators.Min(period, floatClosing), U * m);
+            assertClose(VolatilityIndicators.Std(period, closing), FloatIndicators.Std(period, floatClosing), 3 * U * m);
+
+            Pair<double[], double[]> atr = VolatilityIndicators.Atr(period, chartBar.high, chartBar.low, closing);
+            Pair<float[], float[]> floatAtr = FloatIndicators.Atr(period, floatChartBar.high, floatChartBar.low, floatClosing);
+            assertClose(atr.getLeft(), floatAtr.getLeft(), 4 * U * m);
+            assertClose(atr.getRight(), floatAtr.getRight(), 4 * U * m);
+
+            double[] rs = new double[n], rsi = new double[n];
+            MomentumIndicators.RsiPeriod(period, closing, 0, n, rs, rsi, new Workspace());
+            Pair<float[], float[]> floatRsi = FloatIndicators.RsiPeriod(period, floatClosing);
+            double[] meanGains = new double[n], meanLosses = new double[n];
+            TrendIndicators.Rma(period, Helper.keepPositives(Helper.diff(closing, 1)), 0, n, meanGains);
+            TrendIndicators.Rma(period, Helper.abs(Helper.keepNegatives(Helper.diff(closing, 1))), 0, n, meanLosses);
+            for (int i = period; i < n; i++) {
+                double bound = 100 * 4 * U * m / (meanGains[i] + meanLosses[i]) + 100 * U;
+                Assert.assertEquals("index " + i, rsi[i], floatRsi.getRight()[i], bound);
+            }
+        }
+    }
+
+    @Test
+    public void testRange() {
+        float[] closing = floatChartBar.close;
+        int from = 100, to = 3000, n = to - from;
+        float[] expected = FloatIndicators.Ema(20, Arrays.copyOfRange(closing, from, to));
+        Assert.assertArrayEquals(expected, FloatIndicators.Ema(20, closing, from, to, new float[n]), 0);
+        float[] rs = new float[n], rsi = new float[n];
+        FloatIndicators.RsiPeriod(14, closing, from, to, rs, rsi);
+        Assert.assertArrayEquals(FloatIndicators.RsiPeriod(14, Arrays.copyOfRange(closing, from, to)).getRight(), rsi, 0);
+    }
+}
@@ -0,0 +1,120 @@
+package indicator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Kernels与逐个元素的标量计算逐位一致，包括NaN、±0.0、无穷和不满一个向量的尾部
+ * <p>
+ * 目录里的classes只有标量实现；用multi-release jar加--add-modules jdk.incubator.vector运行时测的是向量实现，
+ * 见pom.xml里multi-release profile的vector-kernels执行。系统属性indicator.vectorized声明期望的实现。
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class KernelsTests {
+    private static final double[] SPECIALS = {Double.NaN, 0.0, -0.0, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+            Double.MIN_VALUE, -Double.MIN_VALUE, Double.MAX_VALUE, 1, -1};
+
+    private static double[] values(Random random, int size) {
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = i % 7 == 0 ? SPECIALS[random.nextInt(SPECIALS.length)] : 100 * random.nextGaussian();
+        }
+        return values;
+    }
+
+    private static void assertBits(double[] expected, double[] actual) {
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertEquals("index " + i, Double.doubleToLongBits(expected[i]), Double.doubleToLongBits(actual[i]));
+        }
+    }
+
+    @Test
+    public void testKernel() {
+        Assert.assertEquals(Boolean.getBoolean("indicator.vectorized"), Kernels.isVectorized());
+    }
+
+    @Test
+    public void testKernels() {
+        Random random = new Random(20221024);
+        double[] a = values(random, 1000), b = values(random, 1000), c = values(random, 1000);
+        // 从奇数下标开始、长度不是向量长度的倍数
+        int ai = 3, bi = 5, n = 987;
+        double[] expected = new double[n], actual = new double[n];
+
+        for (int i = 0; i < n; i++) {
+            expected[i] = a[ai + i] + b[bi + i];
+        }
+        Kernels.add(a, ai, b, bi, actual, 0, n);
+        assertBits(expected, actual);
+
+        for (int i = 0; i < n; i++) {
+            expected[i] = a[ai + i] - b[bi + i];
+        }
+        Kernels.sub(a, ai, b, bi, actual, 0, n);
+        assertBits(expected, actual);
+
+        for (int i = 0; i < n; i++) {
+            expected[i] = a[ai + i] * b[bi + i];
+        }
+        Kernels.mul(a, ai, b, bi, actual, 0, n);
+        assertBits(expected, actual);
+
+        for (int i = 0; i < n; i++) {
+            expected[i] = a[ai + i] / b[bi + i];
+        }
+        Kernels.div(a, ai, b, bi, actual, 0, n);
+        assertBits(expected, actual);
+
+        for (double exponent : new double[]{2, 0.5, 3}) {
+            for (int i = 0; i < n; i++) {
+                expected[i] = Math.pow(a[ai + i], exponent);
+            }
+            Kernels.pow(a, ai, exponent, actual, 0, n);
+            assertBits(expected, actual);
+        }
+
+        for (int i = 0; i < n; i++) {
+            expected[i] = Math.max(a[ai + i] - b[ai + i], Math.max(a[ai + i] - c[ai + i], c[ai + i] - b[ai + i]));
+        }
+        Kernels.trueRange(a, b, c, ai, actual, 0, n);
+        assertBits(expected, actual);
+
+        for (int i = 0; i < n; i++) {
+            expected[i] = (a[ai + i] - b[ai + i]) / c[ai + i];
+        }
+        Kernels.bandWidth(a, b, c, ai, actual, 0, n);
+        assertBits(expected, actual);
+    }
+
+    @Test
+    public void testHelper() {
+        double[] values = values(new Random(20221025), 1001);
+        double[] sign = new double[values.length], positives = new double[values.length], negatives = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            sign[i] = values[i] >= 0 ? 1 : -1;
+            positives[i] = values[i] > 0 ? values[i] : 0;
+            negatives[i] = values[i] < 0 ? values[i] : 0;
+        }
+        assertBits(sign, Helper.extractSign(values));
+        assertBits(positives, Helper.keepPositives(values));
+        assertBits(negatives, Helper.keepNegatives(values));
+
+        double[] abs = new double[values.length], sqrt = new double[values.length], scaled = new double[values.length];
+        for (int i = 0; i < values.length; i++) {
+            abs[i] = Math.abs(values[i]);
+            sqrt[i] = Math.sqrt(values[i]);
+            scaled[i] = values[i] * 1.5;
+        }
+        assertBits(abs, Helper.abs(values));
+        assertBits(sqrt, Helper.sqrt(values));
+        assertBits(scaled, Helper.multiplyBy(values, 1.5));
+
+        // 原地：结果写回输入
+        double[] inPlace = values.clone();
+        Kernels.abs(inPlace, 0, inPlace, 0, inPlace.length);
+        assertBits(abs, inPlace);
+    }
+}
@@ -0,0 +1,64 @@
+package indicator;
+
+import model.ChartBarFixtures;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 前缀和的窗口统计与逐个计算一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class PrefixSumsTests {
+
+    // population std of each full window, mean first and then the squared deviations
+    private static double[] std(int period, double[] values, int from, int to) {
+        double[] std = new double[to - from];
+        for (int i = period - 1; i < std.length; i++) {
+            double mean = 0, variance = 0;
+            for (int j = i - period + 1; j <= i; j++) {
+                mean += values[from + j];
+            }
+            mean /= period;
+            for (int j = i - period + 1; j <= i; j++) {
+                variance += (values[from + j] - mean) * (values[from + j] - mean);
+            }
+            std[i] = Math.sqrt(variance / period);
+        }
+        return std;
+    }
+
+    @Test
+    public void testWindows() {
+        double[] values = ChartBarFixtures.randomWalk(20221019, 2000, 100);
+        int from = 13, to = 1900, n = to - from;
+        for (boolean compensated : new boolean[]{false, true}) {
+            PrefixSums prefix = PrefixSums.of(values, from, to, compensated);
+            Assert.assertEquals(n, prefix.size());
+            for (int period : new int[]{1, 5, 20, 50, 250}) {
+                Assert.assertArrayEquals(TrendIndicators.Sum(period, values, from, to, new double[n]),
+                        prefix.sum(period, new double[n]), 1e-8);
+                Assert.assertArrayEquals(TrendIndicators.sma(period, values, from, to, new double[n]),
+                        prefix.sma(period, new double[n]), 1e-10);
+                if (period > 1) {
+                    // period为1时std是0，sqrt会把方差的舍入误差放大到1e-6量级，不比较
+                    Assert.assertArrayEquals(std(period, values, from, to), prefix.std(period, new double[n]), 1e-9);
+                    Assert.assertArrayEquals(VolatilityIndicators.Std(period, values, from, to, new double[n], new Workspace()),
+                            prefix.std(period, new double[n]), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testCompensated() {
+        // 一百万个值的前缀和在1e10量级，相减后窗口和仍然精确
+        int n = 1_000_000;
+        double[] values = ChartBarFixtures.randomWalk(20221020, n, 10000);
+        PrefixSums prefix = PrefixSums.of(values, 0, n, true);
+        double[] sma = TrendIndicators.sma(20, values);
+        for (int i = n - 1000; i < n; i++) {
+            Assert.assertEquals(sma[i], prefix.mean(i, 20), 1e-9);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package indicator;
+
+import base.Pair;
+import base.Triple;
+import indicator.stream.ZScore;
+import model.ChartBarFixtures;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 滑动窗口的矩与逐个窗口两遍计算一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class RollingMomentsTests {
+
+    // mean, variance, skewness, kurtosis of values[i - period + 1, i], two passes
+    private static double[] moments(double[] values, int i, int period) {
+        int n = Math.min(period, i + 1);
+        double mean = 0;
+        for (int j = i - n + 1; j <= i; j++) {
+            mean += values[j];
+        }
+        mean /= n;
+        double m2 = 0, m3 = 0, m4 = 0;
+        for (int j = i - n + 1; j <= i; j++) {
+            double d = values[j] - mean;
+            m2 += d * d;
+            m3 += d * d * d;
+            m4 += d * d * d * d;
+        }
+        return new double[]{mean, m2 / n, m2 == 0 ? 0 : Math.sqrt(n) * m3 / Math.pow(m2, 1.5), m2 == 0 ? 0 : n * m4 / (m2 * m2) - 3};
+    }
+
+    @Test
+    public void testMoments() {
+        double[] values = ChartBarFixtures.randomWalk(20221021, 3000, 100, 1);
+        int period = 30, n = values.length;
+        double[] mean = new double[n], variance = new double[n], skewness = new double[n], kurtosis = new double[n];
+        VolatilityIndicators.RollingMoments(period, values, 0, n, mean, variance, skewness, kurtosis);
+        for (int i = 0; i < n; i++) {
+            double[] expected = moments(values, i, period);
+            Assert.assertEquals(expected[0], mean[i], 1e-9);
+            Assert.assertEquals(expected[1], variance[i], 1e-9);
+            Assert.assertEquals(expected[2], skewness[i], 1e-6);
+            Assert.assertEquals(expected[3], kurtosis[i], 1e-6);
+        }
+    }
+
+    @Test
+    public void testHighPrice() {
+        // 价格在1e6附近、波动很小时sum2 / period - sma²的误差比std本身还大
+        double[] values = ChartBarFixtures.randomWalk(20221022, 100_000, 1e6, 0.01);
+        int period = 20, n = values.length;
+        double[] std = VolatilityIndicators.Std(period, values);
+        double[] naive = VolatilityIndicators.StdFromSma(period, values, TrendIndicators.sma(period, values));
+        double stdError = 0, naiveError = 0;
+        for (int i = n - 1000; i < n; i++) {
+            double expected = Math.sqrt(moments(values, i, period)[1]);
+            stdError = Math.max(stdError, Math.abs(std[i] - expected));
+            naiveError = Math.max(naiveError, Double.isNaN(naive[i]) ? Double.MAX_VALUE : Math.abs(naive[i] - expected));
+        }
+        Assert.assertTrue("std error " + stdError, stdError < 1e-8);
+        Assert.assertTrue("naive error " + naiveError, naiveError > 1e-6);
+    }
+
+    @Test
+    public void testIndicators() {
+        double[] values = ChartBarFixtures.randomWalk(20221023, 1000, 100, 1);
+        int n = values.length;
+
+        double[] zScore = VolatilityIndicators.ZScore(20, values);
+        ZScore stream = new ZScore(20);
+        for (int i = 0; i < n; i++) {
+            Assert.assertEquals(Double.doubleToLongBits(zScore[i]), Double.doubleToLongBits(stream.update(values[i])));
+            if (i >= 19) {
+                double[] expected = moments(values, i, 20);
+                Assert.assertEquals((values[i] - expected[0]) / Math.sqrt(expected[1]), zScore[i], 1e-9);
+            }
+        }
+
+        Triple<double[], double[], double[]> bands = VolatilityIndicators.BollingerBands(values);
+        Pair<double[], double[]> expected = VolatilityIndicators.BollingerBandWidth(bands.getLeft(), bands.getMiddle(), bands.getRight());
+        double[] bandWidth = new double[n], bandWidthEma90 = new double[n];
+        VolatilityIndicators.BollingerBandWidth(values, 0, n, bandWidth, bandWidthEma90, new Workspace());
+        Assert.assertArrayEquals(expected.getLeft(), bandWidth, 0);
+        Assert.assertArrayEquals(expected.getRight(), bandWidthEma90, 0);
+    }
+}
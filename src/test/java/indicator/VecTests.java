@@ -0,0 +1,82 @@
+package indicator;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static indicator.Helper.*;
+
+/**
+ * Vec与Helper逐位一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class VecTests {
+    // 跨多个块，最后一块不满
+    private static final int SIZE = Vec.CHUNK * 2 + 300;
+
+    private final double[] a = new double[SIZE];
+    private final double[] b = new double[SIZE];
+    private final long[] volume = new long[SIZE];
+
+    public VecTests() {
+        Random random = new Random(20221009);
+        for (int i = 0; i < SIZE; i++) {
+            a[i] = random.nextGaussian() * 10;
+            b[i] = i % 100 == 0 ? 0 : random.nextGaussian() * 10;
+            volume[i] = random.nextInt(3000000);
+        }
+    }
+
+    private static void assertBits(double[] expected, double[] actual) {
+        Assert.assertEquals(expected.length, actual.length);
+        for (int i = 0; i < expected.length; i++) {
+            if (Double.compare(expected[i], actual[i]) != 0) {
+                Assert.fail("differs at " + i + ": " + expected[i] + " != " + actual[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testOperations() {
+        assertBits(add(a, b), Vec.of(a).add(b).toArray());
+        assertBits(subtract(a, b), Vec.of(a).sub(b).toArray());
+        assertBits(multiply(a, b), Vec.of(a).mul(b).toArray());
+        assertBits(divide(a, b), Vec.of(a).div(b).toArray());
+        assertBits(addBy(a, 3), Vec.of(a).addBy(3).toArray());
+        assertBits(multiplyBy(a, -4), Vec.of(a).multiplyBy(-4).toArray());
+        assertBits(divideBy(a, 3), Vec.of(a).divideBy(3).toArray());
+        assertBits(pow(a, -1), Vec.of(a).pow(-1).toArray());
+        assertBits(sqrt(a), Vec.of(a).sqrt().toArray());
+        assertBits(abs(a), Vec.of(a).abs().toArray());
+        assertBits(extractSign(b), Vec.of(b).sign().toArray());
+        assertBits(keepPositives(a), Vec.of(a).positives().toArray());
+        assertBits(keepNegatives(a), Vec.of(a).negatives().toArray());
+        assertBits(asDouble(volume), Vec.of(volume).toArray());
+        assertBits(shiftRightAndFillBy(5, 7, a), Vec.of(a).shift(5, 7).toArray());
+        assertBits(diff(a, 1), Vec.of(a).diff(1).toArray());
+        assertBits(shiftRight(SIZE + 1, a), Vec.of(a).shift(SIZE + 1).toArray());
+    }
+
+    @Test
+    public void testExpression() {
+        // 同一个节点出现多次，并且右移跨过块边界
+        double[] raw = multiply(add(a, b), asDouble(volume));
+        double[] expected = multiply(extractSign(diff(raw, Vec.CHUNK + 3)), raw);
+
+        Vec rawVec = Vec.of(a).add(b).mul(Vec.of(volume));
+        Vec actual = rawVec.diff(Vec.CHUNK + 3).sign().mul(rawVec);
+        assertBits(expected, actual.toArray());
+
+        double[] out = new double[SIZE + 10];
+        Assert.assertSame(out, actual.into(out));
+        assertBits(expected, Arrays.copyOf(out, SIZE));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void testSameSize() {
+        Vec.of(a).add(new double[SIZE - 1]);
+    }
+}
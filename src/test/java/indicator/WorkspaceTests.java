@@ -0,0 +1,87 @@
+package indicator;
+
+import base.Triple;
+import model.ChartBar;
+import model.ChartBarFixtures;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/**
+ * 带区间和输出数组的重载与原来的版本逐位一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class WorkspaceTests {
+    private static final int SIZE = 3000;
+    private static final int FROM = 321;
+    private static final int TO = 2789;
+
+    private final double[] high;
+    private final double[] low;
+    private final double[] closing;
+    private final long[] volume;
+
+    public WorkspaceTests() {
+        ChartBar chartBar = ChartBarFixtures.randomChartBar(20221007, SIZE);
+        high = chartBar.high;
+        low = chartBar.low;
+        closing = chartBar.close;
+        volume = chartBar.volume;
+    }
+
+    private static double[] range(double[] values) {
+        return Arrays.copyOfRange(values, FROM, TO);
+    }
+
+    private static long[] range(long[] values) {
+        return Arrays.copyOfRange(values, FROM, TO);
+    }
+
+    @Test
+    public void testTake() {
+        Workspace workspace = new Workspace();
+        int mark = workspace.mark();
+        double[] a = workspace.take(10);
+        double[] b = workspace.take(20);
+        Assert.assertNotSame(a, b);
+        Assert.assertTrue(b.length >= 20);
+        workspace.release(mark);
+
+        Assert.assertSame(a, workspace.take(5));
+        Assert.assertSame(b, workspace.take(20));
+        workspace.reset();
+        Assert.assertEquals(0, workspace.mark());
+    }
+
+    @Test
+    public void testRange() {
+        Workspace workspace = new Workspace();
+        int n = TO - FROM;
+        double[] out = new double[n];
+        // 第二次计算用的是第一次留下的脏缓冲区
+        for (int t = 0; t < 2; t++) {
+            TrendIndicators.Tema(20, closing, FROM, TO, out, workspace);
+            Assert.assertArrayEquals(TrendIndicators.Tema(20, range(closing)), out, 0);
+
+            TrendIndicators.CommunityChannelIndex(20, high, low, closing, FROM, TO, out, workspace);
+            Assert.assertArrayEquals(TrendIndicators.CommunityChannelIndex(20, range(high), range(low), range(closing)), out, 0);
+
+            MomentumIndicators.WilliamsR(low, high, closing, FROM, TO, out, workspace);
+            Assert.assertArrayEquals(MomentumIndicators.WilliamsR(range(low), range(high), range(closing)), out, 0);
+
+            VolumeIndicators.MoneyFlowIndex(14, high, low, closing, volume, FROM, TO, out, workspace);
+            Assert.assertArrayEquals(VolumeIndicators.MoneyFlowIndex(14, range(high), range(low), range(closing), range(volume)), out, 0);
+
+            double[] upper = new double[n], lower = new double[n];
+            VolatilityIndicators.BollingerBands(closing, FROM, TO, upper, out, lower, workspace);
+            Triple<double[], double[], double[]> bb = VolatilityIndicators.BollingerBands(range(closing));
+            Assert.assertArrayEquals(bb.left, upper, 0);
+            Assert.assertArrayEquals(bb.middle, out, 0);
+            Assert.assertArrayEquals(bb.right, lower, 0);
+
+            Assert.assertEquals(0, workspace.mark());
+        }
+    }
+}
@@ -0,0 +1,320 @@
+package indicator.stream;
+
+import base.Pair;
+import base.Quintuple;
+import base.Triple;
+import indicator.MomentumIndicators;
+import indicator.Regression;
+import indicator.TrendEnum;
+import indicator.TrendIndicators;
+import indicator.VolatilityIndicators;
+import indicator.VolumeIndicators;
+import model.ChartBar;
+import model.ChartBarFixtures;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+/**
+ * 流式指标与批量指标逐位一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class StreamTests {
+    private static final int SIZE = 300;
+
+    private final double[] open;
+    private final double[] high;
+    private final double[] low;
+    private final double[] close;
+    private final long[] volume;
+
+    public StreamTests() {
+        ChartBar chartBar = ChartBarFixtures.randomChartBar(20221008, SIZE);
+        open = chartBar.open;
+        high = chartBar.high;
+        low = chartBar.low;
+        close = chartBar.close;
+        volume = chartBar.volume;
+    }
+
+    private static void assertBits(String name, double[] batch, double[] stream) {
+        for (int i = 0; i < batch.length; i++) {
+            if (Double.compare(batch[i], stream[i]) != 0) {
+                Assert.fail(name + " differs at " + i + ": " + batch[i] + " != " + stream[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testTrend() {
+        double[][] s = new double[13][SIZE];
+        Ema ema = new Ema(12);
+        Sma sma = new Sma(20);
+        Rma rma = new Rma(14);
+        Sum sum = new Sum(10);
+        Max max = new Max(9);
+        Min min = new Min(9);
+        AbsolutePriceOscillator apo = new AbsolutePriceOscillator();
+        Aroon aroon = new Aroon();
+        BalanceOfPower bop = new BalanceOfPower();
+        CommunityChannelIndex cci = new CommunityChannelIndex();
+        Dema dema = new Dema(10);
+        Macd macd = new Macd();
+        for (int i = 0; i < SIZE; i++) {
+            s[0][i] = ema.update(close[i]);
+            s[1][i] = sma.update(close[i]);
+            s[2][i] = rma.update(close[i]);
+            s[3][i] = sum.update(close[i]);
+            s[4][i] = max.update(high[i]);
+            s[5][i] = min.update(low[i]);
+            s[6][i] = apo.update(close[i]);
+            s[7][i] = aroon.update(high[i], low[i]);
+            s[8][i] = aroon.getAroonDown();
+            s[9][i] = bop.update(open[i], high[i], low[i], close[i]);
+            s[10][i] = cci.update(high[i], low[i], close[i]);
+            s[11][i] = dema.update(close[i]);
+            macd.update(close[i]);
+            s[12][i] = macd.getSignal();
+        }
+        assertBits("Ema", TrendIndicators.Ema(12, close), s[0]);
+        assertBits("sma", TrendIndicators.sma(20, close), s[1]);
+        assertBits("Rma", TrendIndicators.Rma(14, close), s[2]);
+        assertBits("Sum", TrendIndicators.Sum(10, close), s[3]);
+        assertBits("Max", TrendIndicators.Max(9, high), s[4]);
+        assertBits("Min", TrendIndicators.Min(9, low), s[5]);
+        assertBits("APO", TrendIndicators.DefaultAbsolutePriceOscillator(close), s[6]);
+        Pair<double[], double[]> aroons = TrendIndicators.Aroon(high, low);
+        assertBits("AroonUp", aroons.getLeft(), s[7]);
+        assertBits("AroonDown", aroons.getRight(), s[8]);
+        assertBits("BOP", TrendIndicators.BalanceOfPower(open, high, low, close), s[9]);
+        assertBits("CCI", TrendIndicators.DefaultCommunityChannelIndex(high, low, close), s[10]);
+        assertBits("Dema", TrendIndicators.Dema(10, close), s[11]);
+        assertBits("MacdSignal", TrendIndicators.Macd(close).getRight(), s[12]);
+    }
+
+    @Test
+    public void testTrend2() {
+        double[][] s = new double[14][SIZE];
+        TrendEnum[] trends = new TrendEnum[SIZE];
+        Macd macd = new Macd();
+        MassIndex mi = new MassIndex();
+        MovingChandeForecastOscillator mcfo = new MovingChandeForecastOscillator(10);
+        ParabolicSar psar = new ParabolicSar();
+        Qstick qs = new Qstick(10);
+        Kdj kdj = new Kdj();
+        Tema tema = new Tema(10);
+        Trima trima = new Trima(10);
+        Trima trima2 = new Trima(9);
+        Trix trix = new Trix(10);
+        TypicalPrice tp = new TypicalPrice();
+        Vwma vwma = new Vwma();
+        for (int i = 0; i < SIZE; i++) {
+            s[0][i] = macd.update(close[i]);
+            s[1][i] = mi.update(high[i], low[i]);
+            s[2][i] = mcfo.update(close[i]);
+            s[3][i] = psar.update(high[i], low[i], close[i]);
+            trends[i] = psar.getTrend();
+            s[4][i] = qs.update(open[i], close[i]);
+            s[5][i] = kdj.update(high[i], low[i], close[i]);
+            s[6][i] = kdj.getJ();
+            s[7][i] = tema.update(close[i]);
+            s[8][i] = trima.update(close[i]);
+            s[9][i] = trima2.update(close[i]);
+            s[10][i] = trix.update(close[i]);
+            s[11][i] = tp.update(low[i], high[i], close[i]);
+            s[12][i] = tp.getSma20();
+            s[13][i] = vwma.update(close[i], volume[i]);
+        }
+        assertBits("Macd", TrendIndicators.Macd(close).getLeft(), s[0]);
+        assertBits("MassIndex", TrendIndicators.MassIndex(high, low), s[1]);
+        assertBits("MovingCFO", TrendIndicators.MovingChandeForecastOscillator(10, close), s[2]);
+        Pair<double[], TrendEnum[]> sar = TrendIndicators.ParabolicSar(high, low, close);
+        assertBits("Psar", sar.getLeft(), s[3]);
+        Assert.assertArrayEquals(sar.getRight(), trends);
+        assertBits("Qstick", TrendIndicators.Qstick(10, open, close), s[4]);
+        Triple<double[], double[], double[]> k = TrendIndicators.DefaultKdj(high, low, close);
+        assertBits("K", k.getLeft(), s[5]);
+        assertBits("J", k.getRight(), s[6]);
+        assertBits("Tema", TrendIndicators.Tema(10, close), s[7]);
+        assertBits("Trima", TrendIndicators.Trima(10, close), s[8]);
+        assertBits("Trima9", TrendIndicators.Trima(9, close), s[9]);
+        assertBits("Trix", TrendIndicators.Trix(10, close), s[10]);
+        Pair<double[], double[]> typical = TrendIndicators.TypicalPrice(low, high, close);
+        assertBits("TypicalPrice", typical.getLeft(), s[11]);
+        assertBits("TypicalPriceSma", typical.getRight(), s[12]);
+        assertBits("Vwma", TrendIndicators.DefaultVwma(close, volume), s[13]);
+    }
+
+    @Test
+    public void testChandeForecastOscillator() {
+        ChandeForecastOscillator cfo = new ChandeForecastOscillator();
+        for (int i = 0; i < SIZE; i++) {
+            double value = cfo.update(close[i]);
+            // 与用截止到当前的历史跑批量计算的最后一个值一致
+            double[] batch = TrendIndicators.ChandeForecastOscillator(Arrays.copyOf(close, i + 1));
+            assertBits("CFO", new double[]{batch[i]}, new double[]{value});
+        }
+    }
+
+    @Test
+    public void testRing() {
+        // 环形缓冲区的游标转过多圈后仍与批量一致，包括period为1
+        for (int period : new int[]{1, 7, 20}) {
+            Sma sma = new Sma(period);
+            StdFromSma std = new StdFromSma(period);
+            MovingLeastSquare mls = new MovingLeastSquare(period);
+            double[] batchSma = TrendIndicators.sma(period, close);
+            double[] batchStd = VolatilityIndicators.StdFromSma(period, close, batchSma);
+            Pair<double[], double[]> batchMls = Regression.MovingLeastSquare(period, open, close);
+            double[][] s = new double[4][SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                s[0][i] = sma.update(close[i]);
+                s[1][i] = std.update(close[i], s[0][i]);
+                s[2][i] = mls.update(open[i], close[i]);
+                s[3][i] = mls.getB();
+            }
+            Assert.assertEquals(SIZE, sma.count());
+            assertBits("Sma(" + period + ")", batchSma, s[0]);
+            assertBits("StdFromSma(" + period + ")", batchStd, s[1]);
+            assertBits("MovingLeastSquare m(" + period + ")", batchMls.getLeft(), s[2]);
+            assertBits("MovingLeastSquare b(" + period + ")", batchMls.getRight(), s[3]);
+        }
+    }
+
+    @Test
+    public void testMomentum() {
+        double[][] s = new double[13][SIZE];
+        AwesomeOscillator ao = new AwesomeOscillator();
+        ChaikinOscillator co = new ChaikinOscillator();
+        IchimokuCloud ic = new IchimokuCloud();
+        PercentagePriceOscillator ppo = new PercentagePriceOscillator();
+        PercentageVolumeOscillator pvo = new PercentageVolumeOscillator();
+        Rsi rsi = new Rsi();
+        Rsi rsi2 = new Rsi(2);
+        StochasticOscillator so = new StochasticOscillator();
+        WilliamsR wr = new WilliamsR();
+        for (int i = 0; i < SIZE; i++) {
+            s[0][i] = ao.update(low[i], high[i]);
+            s[1][i] = co.update(low[i], high[i], close[i], volume[i]);
+            s[2][i] = ic.update(high[i], low[i], close[i]);
+            s[3][i] = ic.getLeadingSpanB();
+            s[4][i] = ic.getLaggingLine();
+            s[5][i] = ppo.update(close[i]);
+            s[6][i] = ppo.getHistogram();
+            s[7][i] = pvo.update(volume[i]);
+            s[8][i] = rsi.update(close[i]);
+            s[9][i] = rsi2.update(close[i]);
+            s[10][i] = so.update(high[i], low[i], close[i]);
+            s[11][i] = so.getD();
+            s[12][i] = wr.update(low[i], high[i], close[i]);
+        }
+        assertBits("AO", MomentumIndicators.AwesomeOscillator(low, high), s[0]);
+        assertBits("CO", MomentumIndicators.DefaultChaikinOscillator(low, high, close, volume).getLeft(), s[1]);
+        Quintuple<double[], double[], double[], double[], double[]> cloud = MomentumIndicators.IchimokuCloud(high, low, close);
+        assertBits("Conversion", cloud.first(), s[2]);
+        assertBits("SpanB", cloud.forth(), s[3]);
+        assertBits("Lagging", cloud.last(), s[4]);
+        Triple<double[], double[], double[]> ppos = MomentumIndicators.DefaultPercentagePriceOscillator(close);
+        assertBits("PPO", ppos.getLeft(), s[5]);
+        assertBits("Histogram", ppos.getRight(), s[6]);
+        assertBits("PVO", MomentumIndicators.DefaultPercentageVolumeOscillator(volume).getLeft(), s[7]);
+        assertBits("RSI", MomentumIndicators.Rsi(close).getRight(), s[8]);
+        assertBits("RSI2", MomentumIndicators.Rsi2(close).getRight(), s[9]);
+        Pair<double[], double[]> stochastic = MomentumIndicators.StochasticOscillator(high, low, close);
+        assertBits("K", stochastic.getLeft(), s[10]);
+        assertBits("D", stochastic.getRight(), s[11]);
+        assertBits("WR", MomentumIndicators.WilliamsR(low, high, close), s[12]);
+    }
+
+    @Test
+    public void testVolatility() {
+        double[][] s = new double[14][SIZE];
+        AccelerationBands ab = new AccelerationBands();
+        Atr atr = new Atr(14);
+        BollingerBands bb = new BollingerBands();
+        BollingerBandWidth bbw = new BollingerBandWidth();
+        ChandelierExit ce = new ChandelierExit();
+        Std std = new Std(10);
+        ProjectionOscillator po = new ProjectionOscillator(14, 3);
+        UlcerIndex ui = new UlcerIndex();
+        DonchianChannel dc = new DonchianChannel(20);
+        KeltnerChannel kc = new KeltnerChannel();
+        for (int i = 0; i < SIZE; i++) {
+            s[0][i] = ab.update(high[i], low[i], close[i]);
+            s[1][i] = ab.getLowerBand();
+            s[2][i] = atr.update(high[i], low[i], close[i]);
+            s[3][i] = bb.update(close[i]);
+            s[4][i] = bb.getLowerBand();
+            s[5][i] = bbw.update(bb.getMiddleBand(), bb.getUpperBand(), bb.getLowerBand());
+            s[6][i] = bbw.getBandWidthEma90();
+            s[7][i] = ce.update(high[i], low[i], close[i]);
+            s[8][i] = std.update(close[i]);
+            s[9][i] = po.update(high[i], low[i], close[i]);
+            s[10][i] = po.getSpo();
+            s[11][i] = ui.update(close[i]);
+            s[12][i] = dc.update(close[i]) + dc.getMiddleChannel();
+            s[13][i] = kc.update(high[i], low[i], close[i]) + kc.getLowerBand();
+        }
+        assertBits("AB upper", VolatilityIndicators.AccelerationBands(high, low, close).getLeft(), s[0]);
+        assertBits("AB lower", VolatilityIndicators.AccelerationBands(high, low, close).getRight(), s[1]);
+        assertBits("Atr", VolatilityIndicators.Atr(14, high, low, close).getRight(), s[2]);
+        Triple<double[], double[], double[]> bands = VolatilityIndicators.BollingerBands(close);
+        assertBits("BB middle", bands.getLeft(), s[3]);
+        assertBits("BB lower", bands.getRight(), s[4]);
+        Pair<double[], double[]> width = VolatilityIndicators.BollingerBandWidth(bands.getLeft(), bands.getMiddle(), bands.getRight());
+        assertBits("BBW", width.getLeft(), s[5]);
+        assertBits("BBW ema", width.getRight(), s[6]);
+        assertBits("CE", VolatilityIndicators.ChandelierExit(high, low, close).getLeft(), s[7]);
+        assertBits("Std", VolatilityIndicators.Std(10, close), s[8]);
+        Pair<double[], double[]> pos = VolatilityIndicators.ProjectionOscillator(14, 3, high, low, close);
+        assertBits("PO", pos.getLeft(), s[9]);
+        assertBits("SPO", pos.getRight(), s[10]);
+        assertBits("UI", VolatilityIndicators.DefaultUlcerIndex(close), s[11]);
+        Triple<double[], double[], double[]> dc3 = VolatilityIndicators.DonchianChannel(20, close);
+        Triple<double[], double[], double[]> kc3 = VolatilityIndicators.DefaultKeltnerChannel(high, low, close);
+        double[] dcs = new double[SIZE], kcs = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            dcs[i] = dc3.getLeft()[i] + dc3.getMiddle()[i];
+            kcs[i] = kc3.getLeft()[i] + kc3.getRight()[i];
+        }
+        assertBits("DC", dcs, s[12]);
+        assertBits("KC", kcs, s[13]);
+    }
+
+    @Test
+    public void testVolume() {
+        double[][] s = new double[10][SIZE];
+        long[] obvs = new long[SIZE];
+        AccumulationDistribution ad = new AccumulationDistribution();
+        Obv obv = new Obv();
+        MoneyFlowIndex mfi = new MoneyFlowIndex();
+        ForceIndex fi = new ForceIndex();
+        EaseOfMovement emv = new EaseOfMovement();
+        VolumePriceTrend vpt = new VolumePriceTrend();
+        VolumeWeightedAveragePrice vwap = new VolumeWeightedAveragePrice();
+        NegativeVolumeIndex nvi = new NegativeVolumeIndex();
+        ChaikinMoneyFlow cmf = new ChaikinMoneyFlow();
+        for (int i = 0; i < SIZE; i++) {
+            s[0][i] = ad.update(high[i], low[i], close[i], volume[i]);
+            obvs[i] = obv.update(close[i], volume[i]);
+            s[1][i] = mfi.update(high[i], low[i], close[i], volume[i]);
+            s[2][i] = fi.update(close[i], volume[i]);
+            s[3][i] = emv.update(high[i], low[i], volume[i]);
+            s[4][i] = vpt.update(close[i], volume[i]);
+            s[5][i] = vwap.update(close[i], volume[i]);
+            s[6][i] = nvi.update(close[i], volume[i]);
+            s[7][i] = cmf.update(high[i], low[i], close[i], volume[i]);
+        }
+        assertBits("AD", VolumeIndicators.AccumulationDistribution(high, low, close, volume), s[0]);
+        Assert.assertArrayEquals(VolumeIndicators.Obv(close, volume), obvs);
+        assertBits("MFI", VolumeIndicators.DefaultMoneyFlowIndex(high, low, close, volume), s[1]);
+        assertBits("FI", VolumeIndicators.DefaultForceIndex(close, volume), s[2]);
+        assertBits("EMV", VolumeIndicators.DefaultEaseOfMovement(high, low, volume), s[3]);
+        assertBits("VPT", VolumeIndicators.VolumePriceTrend(close, volume), s[4]);
+        assertBits("VWAP", VolumeIndicators.DefaultVolumeWeightedAveragePrice(close, volume), s[5]);
+        assertBits("NVI", VolumeIndicators.NegativeVolumeIndex(close, volume), s[6]);
+        assertBits("CMF", VolumeIndicators.ChaikinMoneyFlow(high, low, close, volume), s[7]);
+    }
+}
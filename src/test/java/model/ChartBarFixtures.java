@@ -0,0 +1,64 @@
+package model;
+
+import java.util.Random;
+
+/**
+ * 测试用的随机行情：价格是从100开始的随机游走
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public final class ChartBarFixtures {
+
+    private ChartBarFixtures() {
+    }
+
+    public static ChartBar randomChartBar(long seed, int size) {
+        return randomChartBar(new Random(seed), size);
+    }
+
+    // Random bars drawn from the random, the datetime of bar i is "i".
+    public static ChartBar randomChartBar(Random random, int size) {
+        ChartBar chartBar = new ChartBar(size);
+        for (int i = 0; i < size; i++) {
+            chartBar.datetime[i] = String.valueOf(i);
+        }
+        return fill(random, chartBar);
+    }
+
+    // Random bars on the given epoch millis time axis, without datetime.
+    public static ChartBar randomChartBar(long seed, long[] time) {
+        ChartBar chartBar = ChartBar.withTime(time.length);
+        System.arraycopy(time, 0, chartBar.time, 0, time.length);
+        return fill(new Random(seed), chartBar);
+    }
+
+    private static ChartBar fill(Random random, ChartBar chartBar) {
+        double price = 100;
+        for (int i = 0; i < chartBar.size(); i++) {
+            price = Math.max(1, price + random.nextGaussian());
+            chartBar.open[i] = price;
+            chartBar.close[i] = price + random.nextGaussian();
+            chartBar.high[i] = Math.max(chartBar.open[i], chartBar.close[i]) + random.nextDouble();
+            chartBar.low[i] = Math.min(chartBar.open[i], chartBar.close[i]) - random.nextDouble();
+            chartBar.volume[i] = 1000 + random.nextInt(100000);
+        }
+        return chartBar;
+    }
+
+    // Random walk of one series starting at start, never below 1.
+    public static double[] randomWalk(long seed, int size, double start) {
+        return randomWalk(seed, size, start, 1);
+    }
+
+    // Random walk with gaussian steps scaled by step, never below 1.
+    public static double[] randomWalk(long seed, int size, double start, double step) {
+        Random random = new Random(seed);
+        double[] values = new double[size];
+        double price = start;
+        for (int i = 0; i < size; i++) {
+            price = Math.max(1, price + step * random.nextGaussian());
+            values[i] = price;
+        }
+        return values;
+    }
+}
@@ -0,0 +1,108 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * ChartBar的时间轴
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class ChartBarTests {
+    private static final long DAY = 24 * 3600 * 1000L;
+    // 2022-10-03 00:00:00 UTC
+    private static final long START = 1664755200000L;
+
+    private static ChartBar chartBar(long... time) {
+        ChartBar chartBar = ChartBar.withTime(time.length);
+        for (int i = 0; i < time.length; i++) {
+            chartBar.time[i] = time[i];
+            chartBar.close[i] = i;
+        }
+        return chartBar;
+    }
+
+    @Test
+    public void testIndexOf() {
+        ChartBar chartBar = chartBar(START, START + DAY, START + 2 * DAY, START + 5 * DAY);
+        Assert.assertEquals(4, chartBar.size());
+        Assert.assertEquals(2, chartBar.indexOf(START + 2 * DAY));
+        Assert.assertEquals(-4, chartBar.indexOf(START + 3 * DAY));
+        Assert.assertEquals(-1, chartBar.indexOf(START - 1));
+        Assert.assertEquals("2022-10-04 00:00:00", chartBar.datetime(1));
+
+        ChartBar between = chartBar.between(START + DAY, START + 5 * DAY);
+        Assert.assertArrayEquals(new double[]{1, 2}, between.close, 0);
+        Assert.assertArrayEquals(new long[]{START + DAY, START + 2 * DAY}, between.time);
+        Assert.assertEquals(0, chartBar.between(START + 3 * DAY, START + 4 * DAY).size());
+        Assert.assertEquals(0, chartBar.between(START + 3 * DAY, START).size());
+    }
+
+    @Test
+    public void testView() {
+        ChartBar chartBar = chartBar(START, START + DAY, START + 2 * DAY, START + 5 * DAY, START + 6 * DAY);
+        ChartBar view = chartBar.viewBetween(START + DAY, START + 6 * DAY);
+        Assert.assertSame(chartBar.close, view.close);
+        Assert.assertEquals(3, view.size());
+        Assert.assertEquals(1, view.offset);
+        Assert.assertEquals(4, view.end());
+        Assert.assertEquals(3, view.close(2), 0);
+        Assert.assertEquals(2, view.indexOf(START + 5 * DAY));
+
+        ChartBar inner = view.view(1, 3);
+        Assert.assertEquals(START + 2 * DAY, inner.time(0));
+        Assert.assertEquals(chartBar.slice(2, 4), inner.slice(0, 2));
+        Assert.assertEquals(view.row(1), inner.row(0));
+    }
+
+    @Test
+    public void testLive() {
+        LiveChartBar live = new LiveChartBar(100);
+        Bar bar = new Bar();
+        for (int i = 0; i < 1000; i++) {
+            bar.time = START + i * DAY;
+            bar.close = i;
+            live.append(bar);
+
+            ChartBar view = live.view();
+            int size = Math.min(i + 1, 100);
+            Assert.assertEquals(size, view.size());
+            for (int j = 0; j < size; j++) {
+                Assert.assertEquals(i + 1 - size + j, view.close(j), 0);
+            }
+            Assert.assertEquals(START + i * DAY, view.time(size - 1));
+        }
+
+        bar.close = -1;
+        live.updateLast(bar);
+        ChartBar last = live.view(3);
+        Assert.assertArrayEquals(new double[]{997, 998, -1}, last.slice(0, 3).close, 0);
+        Assert.assertEquals(1, last.indexOf(START + 998 * DAY));
+        Assert.assertEquals(-4, last.indexOf(START + 1000 * DAY));
+        Assert.assertEquals("2025-06-28 00:00:00", last.datetime(2));
+    }
+
+    @Test
+    public void testCalendar() {
+        long[] days = new long[10];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = START + i * DAY;
+        }
+        TradingCalendar calendar = new TradingCalendar(days);
+
+        // 停牌的标的缺几天
+        ChartBar encoded = chartBar(START + DAY, START + 2 * DAY, START + 6 * DAY).encode(calendar);
+        Assert.assertNull(encoded.time);
+        Assert.assertArrayEquals(new int[]{1, 2, 6}, encoded.calendarIndex);
+        Assert.assertEquals(START + 6 * DAY, encoded.time(2));
+        Assert.assertEquals(-3, encoded.indexOf(START + 4 * DAY));
+        Assert.assertArrayEquals(new double[]{2}, encoded.between(START + 3 * DAY, START + 7 * DAY).close, 0);
+
+        try {
+            chartBar(START + DAY / 2).encode(calendar);
+            Assert.fail();
+        } catch (RuntimeException e) {
+            Assert.assertTrue(e.getMessage().contains("not in calendar"));
+        }
+    }
+}
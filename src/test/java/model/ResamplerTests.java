@@ -0,0 +1,140 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 重采样与按日历分组计算一致，批量与增量一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class ResamplerTests {
+    // 2022-10-03 00:00:00 UTC, Monday
+    private static final long START = 1664755200000L;
+
+    // daily bars on weekdays
+    private static ChartBar daily(int size) {
+        long[] times = new long[size];
+        long time = START;
+        for (int i = 0; i < size; i++) {
+            while (LocalDate.ofEpochDay(time / Timeframe.DAY_MILLIS).getDayOfWeek().getValue() > 5) {
+                time += Timeframe.DAY_MILLIS;
+            }
+            times[i] = time;
+            time += Timeframe.DAY_MILLIS;
+        }
+        return ChartBarFixtures.randomChartBar(20221028, times);
+    }
+
+    // start of the group of the day, by the calendar
+    private static long group(LocalDate date, boolean weekly) {
+        LocalDate start = weekly ? date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)) : date.withDayOfMonth(1);
+        return start.toEpochDay() * Timeframe.DAY_MILLIS;
+    }
+
+    private static void assertSameBars(ChartBar expected, ChartBar actual) {
+        Assert.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(expected.time(i), actual.time(i));
+            Assert.assertEquals(expected.open(i), actual.open(i), 0);
+            Assert.assertEquals(expected.high(i), actual.high(i), 0);
+            Assert.assertEquals(expected.low(i), actual.low(i), 0);
+            Assert.assertEquals(expected.close(i), actual.close(i), 0);
+            Assert.assertEquals(expected.volume(i), actual.volume(i));
+        }
+    }
+
+    @Test
+    public void testTimeframe() {
+        long time = START + 5 * Timeframe.DAY_MILLIS + 3 * Timeframe.HOUR_MILLIS;
+        Assert.assertEquals(START, Timeframe.WEEK.start(time));
+        Assert.assertEquals(START + Timeframe.WEEK_MILLIS, Timeframe.WEEK.next(START));
+        // 2022-10-01
+        long october = START - 2 * Timeframe.DAY_MILLIS;
+        Assert.assertEquals(october, Timeframe.MONTH.start(time));
+        Assert.assertEquals(october + 31 * Timeframe.DAY_MILLIS, Timeframe.MONTH.next(october));
+        Assert.assertEquals(LocalDate.of(2022, 10, 1).toEpochDay() * Timeframe.DAY_MILLIS, Timeframe.ofMonths(3).start(time));
+        Assert.assertEquals(LocalDate.of(2023, 1, 1).toEpochDay() * Timeframe.DAY_MILLIS,
+                Timeframe.ofMonths(3).next(Timeframe.ofMonths(3).start(time)));
+        Assert.assertEquals("1w", Timeframe.WEEK.toString());
+        Assert.assertEquals("3M", Timeframe.ofMonths(3).toString());
+
+        // UTC+8的月初是UTC上个月最后一天16点
+        Timeframe month8 = Timeframe.MONTH.withZone(ZoneOffset.ofHours(8));
+        Assert.assertEquals(october - 8 * Timeframe.HOUR_MILLIS, month8.start(time));
+        Assert.assertEquals(LocalDate.of(1969, 12, 1).toEpochDay() * Timeframe.DAY_MILLIS, Timeframe.MONTH.start(-1));
+    }
+
+    @Test
+    public void testResample() {
+        ChartBar daily = daily(600);
+        ChartBar[] resampled = Resampler.resample(daily, Timeframe.WEEK, Timeframe.MONTH);
+
+        for (int t = 0; t < 2; t++) {
+            boolean weekly = t == 0;
+            ChartBar expected = ChartBar.withTime(daily.size());
+            int size = 0;
+            for (int i = 0; i < daily.size(); i++) {
+                long group = group(LocalDate.ofEpochDay(daily.time(i) / Timeframe.DAY_MILLIS), weekly);
+                if (size == 0 || expected.time[size - 1] != group) {
+                    expected.time[size] = group;
+                    expected.open[size] = daily.open(i);
+                    expected.high[size] = daily.high(i);
+                    expected.low[size] = daily.low(i);
+                    size++;
+                }
+                int j = size - 1;
+                expected.high[j] = Math.max(expected.high[j], daily.high(i));
+                expected.low[j] = Math.min(expected.low[j], daily.low(i));
+                expected.close[j] = daily.close(i);
+                expected.volume[j] += daily.volume(i);
+            }
+            assertSameBars(expected.view(0, size), resampled[t]);
+        }
+    }
+
+    @Test
+    public void testIncremental() {
+        ChartBar daily = daily(300);
+        Resampler resampler = new Resampler(1000, Timeframe.WEEK, Timeframe.MONTH);
+        Bar bar = new Bar();
+        for (int i = 0; i < daily.size(); i++) {
+            if (i % 2 == 0) {
+                resampler.update(daily, i);
+            } else {
+                bar.time = daily.time(i);
+                bar.open = daily.open(i);
+                bar.high = daily.high(i);
+                bar.low = daily.low(i);
+                bar.close = daily.close(i);
+                bar.volume = daily.volume(i);
+                resampler.update(bar);
+            }
+
+            // 正在形成的周线与已有日线的批量重采样相同
+            if (i % 50 == 0) {
+                assertSameBars(Resampler.resample(daily.view(0, i + 1), Timeframe.WEEK), resampler.view(0));
+            }
+        }
+        assertSameBars(Resampler.resample(daily, Timeframe.WEEK), resampler.view(Timeframe.WEEK));
+        assertSameBars(Resampler.resample(daily, Timeframe.MONTH), resampler.view(Timeframe.MONTH));
+
+        // 小时线重采样成4小时线
+        ChartBar hourly = ChartBar.withTime(100);
+        for (int i = 0; i < 100; i++) {
+            hourly.time[i] = START + i * Timeframe.HOUR_MILLIS;
+            hourly.open[i] = hourly.high[i] = hourly.low[i] = hourly.close[i] = i;
+            hourly.volume[i] = 1;
+        }
+        ChartBar fourHours = Resampler.resample(hourly, Timeframe.ofHours(4));
+        Assert.assertEquals(25, fourHours.size());
+        Assert.assertEquals(4, fourHours.volume(24));
+        Assert.assertEquals(96, fourHours.open(24), 0);
+        Assert.assertEquals(99, fourHours.close(24), 0);
+    }
+}
@@ -0,0 +1,83 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * 组合函数与逐个比较Action的结果一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class SignalSeriesTests {
+    private static final int SIZE = 1000;
+    private final Random random = new Random(7);
+
+    private Action[] randomActions() {
+        Action[] actions = new Action[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            actions[i] = Action.values()[random.nextInt(3)];
+        }
+        return actions;
+    }
+
+    @Test
+    public void testAdapter() {
+        Action[] actions = randomActions();
+        SignalSeries signals = SignalSeries.from(actions);
+        Assert.assertArrayEquals(actions, signals.toActions());
+        Assert.assertArrayEquals(actions, signals.asList().toArray());
+        Assert.assertTrue(new SignalSeries(new byte[SIZE]).isAllHold());
+        Assert.assertFalse(signals.isAllHold());
+    }
+
+    @Test
+    public void testCombine() {
+        for (int n = 1; n <= 5; n++) {
+            Action[][] all = new Action[n][];
+            SignalSeries[] signals = new SignalSeries[n];
+            for (int k = 0; k < n; k++) {
+                all[k] = randomActions();
+                signals[k] = SignalSeries.from(all[k]);
+            }
+
+            Action[] allExpected = new Action[SIZE];
+            Action[] anyExpected = new Action[SIZE];
+            Action[] majorityExpected = new Action[SIZE];
+            for (int i = 0; i < SIZE; i++) {
+                int buys = 0, sells = 0;
+                boolean same = true;
+                for (int k = 0; k < n; k++) {
+                    buys += all[k][i] == Action.BUY ? 1 : 0;
+                    sells += all[k][i] == Action.SELL ? 1 : 0;
+                    same &= all[k][i] == all[0][i];
+                }
+                allExpected[i] = same ? all[0][i] : Action.HOLD;
+                anyExpected[i] = buys > 0 && sells == 0 ? Action.BUY : sells > 0 && buys == 0 ? Action.SELL : Action.HOLD;
+                majorityExpected[i] = buys * 2 > n ? Action.BUY : sells * 2 > n ? Action.SELL : Action.HOLD;
+            }
+            Assert.assertArrayEquals(allExpected, SignalSeries.all(signals).toActions());
+            Assert.assertArrayEquals(anyExpected, SignalSeries.any(signals).toActions());
+            Assert.assertArrayEquals(majorityExpected, SignalSeries.majority(signals).toActions());
+        }
+    }
+
+    @Test
+    public void testSeparate() {
+        Action[] buy = randomActions();
+        Action[] sell = randomActions();
+        Action[] expected = new Action[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            if (buy[i] == Action.BUY && sell[i] == Action.HOLD) {
+                expected[i] = Action.BUY;
+            } else if (sell[i] == Action.SELL && buy[i] == Action.HOLD) {
+                expected[i] = Action.SELL;
+            } else {
+                expected[i] = Action.HOLD;
+            }
+        }
+        Assert.assertArrayEquals(expected,
+                SignalSeries.separate(SignalSeries.from(buy), SignalSeries.from(sell)).toActions());
+    }
+}
@@ -0,0 +1,125 @@
+package model;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 逐笔成交聚合成bar
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class TickAggregatorTests {
+    // 2022-10-03 00:00:00 UTC
+    private static final long START = 1664755200000L;
+
+    @Test
+    public void testTimeframe() {
+        Timeframe fiveMinutes = Timeframe.ofMinutes(5);
+        Assert.assertEquals(START, fiveMinutes.start(START + 299_999));
+        Assert.assertEquals(START + 300_000, fiveMinutes.start(START + 300_000));
+        Assert.assertEquals(START - 300_000, fiveMinutes.start(START - 1));
+        Assert.assertEquals("5m", fiveMinutes.toString());
+        Assert.assertEquals(Timeframe.DAY, Timeframe.ofHours(24));
+
+        // UTC+8的零点是UTC前一天16点
+        Timeframe day8 = Timeframe.DAY.withZone(ZoneOffset.ofHours(8));
+        Assert.assertEquals(START - 8 * Timeframe.HOUR_MILLIS, day8.start(START + Timeframe.HOUR_MILLIS));
+        Assert.assertEquals(START + 16 * Timeframe.HOUR_MILLIS, day8.start(START + 16 * Timeframe.HOUR_MILLIS));
+    }
+
+    @Test
+    public void testAggregate() {
+        Random random = new Random(20221027);
+        int n = 100_000;
+        long[] time = new long[n];
+        double[] price = new double[n];
+        long[] size = new long[n];
+        long t = START;
+        double p = 100;
+        for (int i = 0; i < n; i++) {
+            // 偶尔出现没有成交的区间
+            t += random.nextInt(10) == 0 ? random.nextInt(200_000) : random.nextInt(500);
+            p += 0.01 * random.nextGaussian();
+            time[i] = t;
+            price[i] = p;
+            size[i] = 1 + random.nextInt(100);
+        }
+
+        Timeframe timeframe = Timeframe.MINUTE;
+        List<Bar> bars = new ArrayList<>();
+        TickAggregator aggregator = new TickAggregator(timeframe, bars::add);
+        for (int i = 0; i < n; i++) {
+            aggregator.onTick(time[i], price[i], size[i]);
+        }
+        Assert.assertTrue(aggregator.hasForming());
+        aggregator.flush();
+        Assert.assertFalse(aggregator.hasForming());
+
+        // 逐个区间分组计算
+        List<Bar> expected = new ArrayList<>();
+        for (int i = 0; i < n; ) {
+            long start = timeframe.start(time[i]);
+            Bar bar = new Bar();
+            bar.time = start;
+            bar.open = bar.high = bar.low = price[i];
+            for (; i < n && timeframe.start(time[i]) == start; i++) {
+                bar.high = Math.max(bar.high, price[i]);
+                bar.low = Math.min(bar.low, price[i]);
+                bar.close = price[i];
+                bar.volume += size[i];
+            }
+            expected.add(bar);
+        }
+        Assert.assertEquals(expected, bars);
+    }
+
+    @Test
+    public void testLive() {
+        LiveChartBar live = new LiveChartBar(100);
+        TickAggregator aggregator = TickAggregator.live(Timeframe.ofSeconds(10), live);
+        aggregator.onTick(START + 1000, 10, 1);
+        aggregator.onTick(START + 2000, 12, 2);
+        Assert.assertEquals(1, live.size());
+        Assert.assertEquals(12, live.view().close(0), 0);
+        Assert.assertEquals(3, live.view().volume(0));
+
+        aggregator.onTick(START + 10_000, 11, 5);
+        aggregator.onTick(START + 11_000, 9, 5);
+        ChartBar view = live.view();
+        Assert.assertEquals(2, view.size());
+        Assert.assertEquals(START + 10_000, view.time(1));
+        Assert.assertEquals(9, view.low(1), 0);
+        Assert.assertEquals(11, view.high(1), 0);
+        Assert.assertEquals(12, view.high(0), 0);
+
+        Bar forming = new Bar();
+        Assert.assertTrue(aggregator.forming(forming));
+        Assert.assertEquals(10, forming.volume);
+    }
+
+    @Test
+    public void testLateAndAdvance() {
+        List<Bar> bars = new ArrayList<>();
+        TickAggregator aggregator = new TickAggregator(Timeframe.MINUTE, bars::add);
+        aggregator.onTick(START + 30_000, 10, 1);
+        aggregator.onTick(START + 20_000, 11, 1);
+        aggregator.advance(START + 59_999);
+        Assert.assertEquals(0, bars.size());
+        aggregator.advance(START + 60_000);
+        Assert.assertEquals(1, bars.size());
+        Assert.assertEquals(11, bars.get(0).close, 0);
+
+        // 已经完成的区间里的成交是迟到的
+        aggregator.onTick(START + 50_000, 12, 1);
+        Assert.assertEquals(1, aggregator.getLateTicks());
+        aggregator.onTick(START + 60_000, 13, 1);
+        aggregator.flush();
+        Assert.assertEquals(2, bars.size());
+        Assert.assertEquals(START + 60_000, bars.get(1).time);
+    }
+}
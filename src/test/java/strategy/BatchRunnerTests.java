@@ -0,0 +1,49 @@
+package strategy;
+
+import model.ChartBar;
+import model.ChartBarFixtures;
+import model.SignalSeries;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 批量计算与逐个计算一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class BatchRunnerTests {
+
+    @Test
+    public void testRun() {
+        Random random = new Random(20221014);
+        List<ChartBar> chartBars = new ArrayList<>();
+        for (int i = 0; i < 37; i++) {
+            chartBars.add(ChartBarFixtures.randomChartBar(random, 100 + random.nextInt(200)));
+        }
+        List<Strategy> strategies = Arrays.asList(
+                TrendStrategies::MacdStrategy,
+                TrendStrategies.MakeVwmaStrategy(20),
+                VolatilityStrategies::BollingerBandsStrategy,
+                AllStrategy.create(MomentumStrategies::DefaultRsiStrategy, VolumeStrategies::ForceIndexStrategy));
+
+        // chunk不是策略数量的整数倍，同一个标的会分到不同的任务
+        try (BatchRunner runner = new BatchRunner(4, 3)) {
+            AtomicReferenceArray<SignalSeries> results = new AtomicReferenceArray<>(chartBars.size() * strategies.size());
+            runner.run(chartBars, strategies, (bar, strategy, signals) ->
+                    Assert.assertNull(results.getAndSet(bar * strategies.size() + strategy, signals)));
+
+            for (int bar = 0; bar < chartBars.size(); bar++) {
+                for (int strategy = 0; strategy < strategies.size(); strategy++) {
+                    Assert.assertArrayEquals(strategies.get(strategy).run(chartBars.get(bar)),
+                            results.get(bar * strategies.size() + strategy).toActions());
+                }
+            }
+        }
+    }
+}
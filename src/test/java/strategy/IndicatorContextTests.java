@@ -0,0 +1,93 @@
+package strategy;
+
+import model.Action;
+import model.ChartBar;
+import model.ChartBarFixtures;
+import model.Column;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static indicator.TrendIndicators.Macd;
+import static indicator.VolatilityIndicators.BollingerBands;
+
+/**
+ * 组合策略共享指标结果
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class IndicatorContextTests {
+    private static final int SIZE = 500;
+
+    private final ChartBar chartBar = ChartBarFixtures.randomChartBar(20221010, SIZE);
+
+    @Test
+    public void testShared() {
+        AtomicInteger count = new AtomicInteger();
+        ContextStrategy counting = context -> {
+            context.get(() -> count.incrementAndGet(), "count");
+            return TrendStrategies.MacdStrategy(context);
+        };
+
+        IndicatorContext context = IndicatorContext.of(chartBar);
+        Action[] actions = new SeparateStrategy(counting, AllStrategy.create(counting, counting)).run(context);
+        Assert.assertEquals(1, count.get());
+        Assert.assertEquals(SIZE, actions.length);
+
+        // MacdStrategy和BollingerBandsStrategy放进context的中间结果
+        VolatilityStrategies.BollingerBandsStrategy(context);
+        Assert.assertSame(context.ema(12, Column.CLOSE), context.ema(12, Column.CLOSE));
+        Assert.assertSame(context.sma(20, Column.CLOSE), context.bollingerBands().getLeft());
+        Assert.assertArrayEquals(Macd(chartBar.close).getRight(), context.macd().getRight(), 0);
+        Assert.assertArrayEquals(BollingerBands(chartBar.close).getMiddle(), context.bollingerBands().getMiddle(), 0);
+    }
+
+    @Test
+    public void testView() {
+        List<Strategy> strategies = Arrays.asList(
+                TrendStrategies::ChandeForecastOscillatorStrategy,
+                TrendStrategies.MakeMovingChandeForecastOscillatorStrategy(10),
+                TrendStrategies.MakeKdjStrategy(9, 3, 3),
+                TrendStrategies::MacdStrategy,
+                TrendStrategies.MakeTrendStrategy(3),
+                TrendStrategies.MakeVwmaStrategy(20),
+                MomentumStrategies::AwesomeOscillatorStrategy,
+                MomentumStrategies::DefaultRsiStrategy,
+                MomentumStrategies::Rsi2Strategy,
+                MomentumStrategies::WilliamsRStrategy,
+                VolatilityStrategies::BollingerBandsStrategy,
+                VolatilityStrategies.MakeProjectionOscillatorStrategy(14, 3),
+                VolumeStrategies::MoneyFlowIndexStrategy,
+                VolumeStrategies::ForceIndexStrategy,
+                VolumeStrategies::EaseOfMovementStrategy,
+                VolumeStrategies::VolumeWeightedAveragePriceStrategy,
+                VolumeStrategies::NegativeVolumeIndexStrategy,
+                VolumeStrategies::ChaikinMoneyFlowStrategy);
+
+        ChartBar view = chartBar.view(37, 421);
+        Assert.assertSame(chartBar.close, view.close);
+        ChartBar copy = chartBar.slice(37, 421);
+        IndicatorContext context = IndicatorContext.of(view);
+        for (Strategy strategy : strategies) {
+            Assert.assertArrayEquals(strategy.run(copy), strategy.run(context));
+        }
+    }
+
+    @Test
+    public void testException() {
+        IndicatorContext context = IndicatorContext.of(chartBar);
+        for (int i = 0; i < 2; i++) {
+            try {
+                context.get(() -> {
+                    throw new RuntimeException("bad indicator");
+                }, "bad");
+                Assert.fail();
+            } catch (RuntimeException e) {
+                Assert.assertEquals("bad indicator", e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package strategy;
+
+import base.Pair;
+import base.Quintuple;
+import base.Triple;
+import indicator.MomentumIndicators;
+import indicator.TrendIndicators;
+import model.ChartBar;
+import model.ChartBarFixtures;
+import model.Column;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+/**
+ * 指标依赖图去重、只计算需要的节点，结果与指标逐位一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class IndicatorGraphTests {
+    private static final int SIZE = 1000;
+
+    private final ChartBar chartBar = ChartBarFixtures.randomChartBar(20221029, LongStream.range(0, SIZE).toArray());
+
+    @Test
+    public void testPlan() {
+        IndicatorGraph graph = new IndicatorGraph(chartBar);
+        Pair<IndicatorGraph.Node, IndicatorGraph.Node> macd = graph.macd();
+        IndicatorGraph.Node apo = graph.absolutePriceOscillator(12, 26, graph.close());
+        Triple<IndicatorGraph.Node, IndicatorGraph.Node, IndicatorGraph.Node> ppo = graph.percentagePriceOscillator(12, 26, 9, graph.close());
+        IndicatorGraph.Node unused = graph.sma(200, graph.close());
+
+        // Macd就是Apo(12, 26)，Ema(12)、Ema(26)只声明一次
+        Assert.assertSame(macd.getLeft(), apo);
+        Assert.assertSame(graph.ema(12, graph.close()), graph.ema(12, graph.close()));
+        // close, Ema12, Ema26, sub, Ema9(macd), div, multiplyBy, Ema9(ppo), sub, sma200
+        Assert.assertEquals(10, graph.size());
+
+        List<IndicatorGraph.Node> plan = graph.plan(macd.getRight(), ppo.getRight());
+        Assert.assertFalse(plan.contains(unused));
+        Assert.assertEquals(9, plan.size());
+        for (int i = 0; i < plan.size(); i++) {
+            for (int j = i + 1; j < plan.size(); j++) {
+                Assert.assertTrue(plan.get(j).getId() > plan.get(i).getId());
+            }
+        }
+        Assert.assertEquals("Ema(12, close())", graph.ema(12, graph.close()).toString());
+    }
+
+    @Test
+    public void testRun() {
+        IndicatorGraph graph = new IndicatorGraph(chartBar);
+        Pair<IndicatorGraph.Node, IndicatorGraph.Node> macd = graph.macd();
+        Triple<IndicatorGraph.Node, IndicatorGraph.Node, IndicatorGraph.Node> ppo = graph.percentagePriceOscillator(12, 26, 9, graph.close());
+        Quintuple<IndicatorGraph.Node, IndicatorGraph.Node, IndicatorGraph.Node, IndicatorGraph.Node, IndicatorGraph.Node> ichimoku = graph.ichimokuCloud();
+        IndicatorGraph.Node typicalPrice = graph.typicalPrice();
+        IndicatorGraph.Node rsi = graph.rsi(14, graph.close());
+        IndicatorGraph.Node[] outputs = {macd.getLeft(), macd.getRight(), ppo.getLeft(), ppo.getMiddle(), ppo.getRight(),
+                ichimoku.first(), ichimoku.second(), ichimoku.third(), ichimoku.forth(), ichimoku.fifth(), typicalPrice, rsi};
+
+        IndicatorGraph.Result sequential = graph.run(outputs);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        IndicatorGraph.Result parallel;
+        try {
+            parallel = graph.run(executor, outputs);
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertEquals(graph.size(), sequential.computed());
+        for (IndicatorGraph.Node output : outputs) {
+            Assert.assertArrayEquals(output.toString(), sequential.get(output), parallel.get(output), 0);
+        }
+
+        double[] close = chartBar.close;
+        Pair<double[], double[]> expectedMacd = TrendIndicators.Macd(close);
+        Assert.assertArrayEquals(expectedMacd.getLeft(), sequential.get(macd.getLeft()), 0);
+        Assert.assertArrayEquals(expectedMacd.getRight(), sequential.get(macd.getRight()), 0);
+        Triple<double[], double[], double[]> expectedPpo = MomentumIndicators.PercentagePriceOscillator(12, 26, 9, close);
+        Assert.assertArrayEquals(expectedPpo.getLeft(), sequential.get(ppo.getLeft()), 0);
+        Assert.assertArrayEquals(expectedPpo.getMiddle(), sequential.get(ppo.getMiddle()), 0);
+        Assert.assertArrayEquals(expectedPpo.getRight(), sequential.get(ppo.getRight()), 0);
+        Quintuple<double[], double[], double[], double[], double[]> expectedIchimoku =
+                MomentumIndicators.IchimokuCloud(chartBar.high, chartBar.low, close);
+        Assert.assertArrayEquals(expectedIchimoku.first(), sequential.get(ichimoku.first()), 0);
+        Assert.assertArrayEquals(expectedIchimoku.second(), sequential.get(ichimoku.second()), 0);
+        Assert.assertArrayEquals(expectedIchimoku.third(), sequential.get(ichimoku.third()), 0);
+        Assert.assertArrayEquals(expectedIchimoku.forth(), sequential.get(ichimoku.forth()), 0);
+        Assert.assertArrayEquals(expectedIchimoku.fifth(), sequential.get(ichimoku.fifth()), 0);
+        Assert.assertArrayEquals(TrendIndicators.TypicalPrice(chartBar.low, chartBar.high, close).getLeft(),
+                sequential.get(typicalPrice), 0);
+        Assert.assertArrayEquals(MomentumIndicators.RsiPeriod(14, close).getRight(), sequential.get(rsi), 0);
+    }
+
+    @Test
+    public void testContext() {
+        IndicatorGraph graph = new IndicatorGraph(chartBar);
+        // Ema(12)既是输出，又是Macd的输入，用完后不能被释放
+        IndicatorGraph.Node ema = graph.ema(12, graph.close());
+        Pair<IndicatorGraph.Node, IndicatorGraph.Node> macd = graph.macd();
+        IndicatorGraph.Node sma = graph.sma(20, graph.close());
+        IndicatorGraph.Node std = graph.std(20, graph.close());
+        IndicatorGraph.Node rsi = graph.rsi(14, graph.close());
+        IndicatorGraph.Result result = graph.run(ema, macd.getLeft(), macd.getRight(), sma, std, rsi);
+
+        IndicatorContext context = IndicatorContext.of(chartBar);
+        Assert.assertArrayEquals(context.ema(12, Column.CLOSE), result.get(ema), 0);
+        Assert.assertArrayEquals(context.macd().getLeft(), result.get(macd.getLeft()), 0);
+        Assert.assertArrayEquals(context.macd().getRight(), result.get(macd.getRight()), 0);
+        Assert.assertArrayEquals(context.sma(20, Column.CLOSE), result.get(sma), 0);
+        Assert.assertArrayEquals(context.std(20, Column.CLOSE), result.get(std), 0);
+        Assert.assertArrayEquals(context.rsi(14).getRight(), result.get(rsi), 0);
+    }
+
+    @Test
+    public void testView() {
+        ChartBar view = chartBar.view(100, 600);
+        IndicatorGraph graph = new IndicatorGraph(view);
+        IndicatorGraph.Node ema = graph.ema(20, graph.close());
+        Assert.assertArrayEquals(TrendIndicators.Ema(20, chartBar.close, 100, 600, new double[500]), graph.run(ema).get(ema), 0);
+
+        IndicatorGraph.Node failing = graph.node("failing", new Object[0], (inputs, result) -> {
+            throw new RuntimeException("failing");
+        }, ema);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            graph.run(executor, failing);
+            Assert.fail();
+        } catch (RuntimeException e) {
+            Assert.assertEquals("failing", e.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package strategy;
+
+import model.ChartBar;
+import model.ChartBarFixtures;
+import model.SignalSeries;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 成员策略在ForkJoinPool上并行计算，结果与顺序计算一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class ParallelMembersTests {
+    private static final int SIZE = 500;
+
+    private final ChartBar chartBar = ChartBarFixtures.randomChartBar(20221010, SIZE);
+
+    @Test
+    public void testParallel() {
+        Strategy rsi = MomentumStrategies.MakeRsiStrategy(60, 40);
+        Strategy macd = (ContextStrategy) TrendStrategies::MacdStrategy;
+        Strategy bb = (ContextStrategy) VolatilityStrategies::BollingerBandsStrategy;
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Assert.assertArrayEquals(AllStrategy.create(rsi, macd, bb).run(chartBar),
+                    AllStrategy.create(pool, rsi, macd, bb).run(chartBar));
+            Assert.assertArrayEquals(AllStrategy.create(rsi, rsi).run(chartBar),
+                    AllStrategy.create(pool, rsi, rsi).run(chartBar));
+            Assert.assertArrayEquals(new SeparateStrategy(macd, rsi).run(chartBar),
+                    new SeparateStrategy(pool, macd, rsi).run(chartBar));
+        } finally {
+            pool.shutdown();
+        }
+
+        // 一个线程时成员按顺序执行，第一个成员全是HOLD，后面的成员被取消
+        AtomicInteger count = new AtomicInteger();
+        ContextStrategy hold = context -> new SignalSeries(new byte[context.getChartBar().size()]);
+        ContextStrategy counting = context -> {
+            count.incrementAndGet();
+            return TrendStrategies.MacdStrategy(context);
+        };
+        pool = new ForkJoinPool(1);
+        try {
+            Assert.assertTrue(AllStrategy.create(pool, hold, counting, counting).signals(IndicatorContext.of(chartBar)).isAllHold());
+            Assert.assertEquals(0, count.get());
+            // 买入策略全是SELL时结果全是HOLD，卖出策略被取消
+            ContextStrategy allSell = context -> {
+                byte[] values = new byte[context.getChartBar().size()];
+                Arrays.fill(values, SignalSeries.SELL);
+                return new SignalSeries(values);
+            };
+            Assert.assertTrue(new SeparateStrategy(pool, allSell, counting).signals(IndicatorContext.of(chartBar)).isAllHold());
+            Assert.assertEquals(0, count.get());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
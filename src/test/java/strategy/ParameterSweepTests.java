@@ -0,0 +1,129 @@
+package strategy;
+
+import indicator.TrendIndicators;
+import model.ChartBar;
+import model.ChartBarFixtures;
+import model.SignalSeries;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static indicator.TrendIndicators.Kdj;
+import static indicator.TrendIndicators.Vwma;
+import static indicator.VolatilityIndicators.ProjectionOscillator;
+
+/**
+ * 参数扫描与逐个运行策略的结果一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class ParameterSweepTests {
+    private static final int SIZE = 400;
+
+    private final ChartBar chartBar = ChartBarFixtures.randomChartBar(20221016, SIZE);
+
+    @Test
+    public void testGrid() {
+        List<int[]> grid = ParameterSweep.grid(new int[]{1, 2}, new int[]{3, 4, 5});
+        Assert.assertEquals(6, grid.size());
+        Assert.assertArrayEquals(new int[]{1, 3}, grid.get(0));
+        Assert.assertArrayEquals(new int[]{1, 5}, grid.get(2));
+        Assert.assertArrayEquals(new int[]{2, 4}, grid.get(4));
+    }
+
+    @Test
+    public void testTooLarge() {
+        // 3 * 2^30字节放不进一个byte[]，不能溢出成负数或错位
+        try {
+            new ParameterSweep.Result<>(ParameterSweep.grid(new int[]{1, 2, 3}), 1 << 30);
+            Assert.fail();
+        } catch (RuntimeException e) {
+            Assert.assertEquals("3 parameters * 1073741824 bars is too large, split the grid", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testShared() {
+        // 拆开共享的rsv、K、PO后与原来的指标一致
+        IndicatorContext context = IndicatorContext.of(chartBar);
+        context.kdj(9, 3, 4);
+        Assert.assertArrayEquals(Kdj(9, 3, 3, chartBar.high, chartBar.low, chartBar.close).getRight(),
+                context.kdj(9, 3, 3).getRight(), 0);
+        Assert.assertSame(context.kdj(9, 3, 3).getLeft(), context.kdj(9, 3, 4).getLeft());
+        Assert.assertArrayEquals(Kdj(9, 3, 4, chartBar.high, chartBar.low, chartBar.close).getMiddle(),
+                context.kdj(9, 3, 4).getMiddle(), 0);
+        Assert.assertArrayEquals(ProjectionOscillator(14, 3, chartBar.high, chartBar.low, chartBar.close).getRight(),
+                context.projectionOscillator(14, 3).getRight(), 0);
+        Assert.assertSame(context.projectionOscillator(14, 3).getLeft(), context.projectionOscillator(14, 5).getLeft());
+        Assert.assertArrayEquals(Vwma(20, chartBar.close, chartBar.volume), context.vwma(20), 0);
+    }
+
+    @Test
+    public void testSweep() {
+        try (ParameterSweep sweep = new ParameterSweep(4)) {
+            ParameterSweep.Result<int[]> kdj = sweep.run(chartBar,
+                    ParameterSweep.grid(new int[]{5, 9, 14}, new int[]{3, 5}, new int[]{3, 4}),
+                    p -> TrendStrategies.MakeKdjStrategy(p[0], p[1], p[2]));
+            Assert.assertEquals(12, kdj.rows());
+            for (int row = 0; row < kdj.rows(); row++) {
+                int[] p = kdj.params(row);
+                Assert.assertArrayEquals(TrendStrategies.KdjStrategy(p[0], p[1], p[2], chartBar),
+                        kdj.signals(row).toActions());
+            }
+
+            ParameterSweep.Result<double[]> rsi = sweep.run(chartBar,
+                    ParameterSweep.grid(new double[]{60, 70, 80}, new double[]{20, 30, 40}),
+                    p -> MomentumStrategies.MakeRsiStrategy(p[0], p[1]));
+            for (int row = 0; row < rsi.rows(); row++) {
+                double[] p = rsi.params(row);
+                Assert.assertArrayEquals(MomentumStrategies.RsiStrategy(chartBar, p[0], p[1]),
+                        rsi.signals(row).toActions());
+            }
+
+            ParameterSweep.Result<int[]> vwma = sweep.run(chartBar, ParameterSweep.grid(new int[]{5, 10, 20, 50}),
+                    p -> TrendStrategies.MakeVwmaStrategy(p[0]));
+            for (int row = 0; row < vwma.rows(); row++) {
+                int[] p = vwma.params(row);
+                byte[] expected = new byte[SIZE];
+                double[] sma = TrendIndicators.sma(p[0], chartBar.close);
+                double[] expectedVwma = Vwma(p[0], chartBar.close, chartBar.volume);
+                for (int i = 0; i < SIZE; i++) {
+                    expected[i] = expectedVwma[i] > sma[i] ? SignalSeries.BUY
+                            : expectedVwma[i] < sma[i] ? SignalSeries.SELL : SignalSeries.HOLD;
+                }
+                Assert.assertArrayEquals(expected, vwma.signals(row).values());
+            }
+
+            ParameterSweep.Result<int[]> po = sweep.run(chartBar.view(50, 350),
+                    ParameterSweep.grid(new int[]{10, 14}, new int[]{3, 5}),
+                    p -> VolatilityStrategies.MakeProjectionOscillatorStrategy(p[0], p[1]));
+            for (int row = 0; row < po.rows(); row++) {
+                int[] p = po.params(row);
+                Assert.assertArrayEquals(VolatilityStrategies.ProjectionOscillatorStrategy(p[0], p[1], chartBar.slice(50, 350)),
+                        po.signals(row).toActions());
+            }
+        }
+    }
+
+    @Test
+    public void testSharedKeys() {
+        // 扫描后context里只有各组参数共用的中间结果，没有每组参数自己的d、j、spo
+        IndicatorContext context = IndicatorContext.of(chartBar);
+        try (ParameterSweep sweep = new ParameterSweep(4)) {
+            sweep.run(context, ParameterSweep.grid(new int[]{5, 9}, new int[]{3, 5}, new int[]{3, 4}),
+                    p -> TrendStrategies.MakeKdjStrategy(p[0], p[1], p[2]));
+            sweep.run(context, ParameterSweep.grid(new int[]{10, 14}, new int[]{3, 5}),
+                    p -> VolatilityStrategies.MakeProjectionOscillatorStrategy(p[0], p[1]));
+        }
+        Set<List<Object>> expected = new HashSet<>(Arrays.asList(
+                Arrays.<Object>asList("Rsv", 5), Arrays.<Object>asList("Rsv", 9),
+                Arrays.<Object>asList("KdjK", 5, 3), Arrays.<Object>asList("KdjK", 5, 5),
+                Arrays.<Object>asList("KdjK", 9, 3), Arrays.<Object>asList("KdjK", 9, 5),
+                Arrays.<Object>asList("ProjectionOscillatorPo", 10), Arrays.<Object>asList("ProjectionOscillatorPo", 14)));
+        Assert.assertEquals(expected, context.keys());
+    }
+}
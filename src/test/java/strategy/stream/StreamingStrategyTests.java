@@ -0,0 +1,94 @@
+package strategy.stream;
+
+import model.Action;
+import model.Bar;
+import model.ChartBar;
+import model.ChartBarFixtures;
+import org.junit.Assert;
+import org.junit.Test;
+import strategy.AllStrategy;
+import strategy.MomentumStrategies;
+import strategy.SeparateStrategy;
+import strategy.Strategy;
+import strategy.StreamingStrategy;
+import strategy.TrendStrategies;
+import strategy.VolatilityStrategies;
+import strategy.VolumeStrategies;
+
+import java.util.Arrays;
+
+/**
+ * 流式策略与批量策略一致
+ *
+ * @author jinfeng.hu  @Date 2026-10-17
+ **/
+public class StreamingStrategyTests {
+    private static final int SIZE = 300;
+
+    private static ChartBar chartBar(int size) {
+        return ChartBarFixtures.randomChartBar(20221014, size);
+    }
+
+    private static Bar bar(ChartBar chartBar, int i) {
+        Bar bar = new Bar();
+        bar.datetime = chartBar.datetime[i];
+        bar.open = chartBar.open[i];
+        bar.high = chartBar.high[i];
+        bar.low = chartBar.low[i];
+        bar.close = chartBar.close[i];
+        bar.volume = chartBar.volume[i];
+        return bar;
+    }
+
+    private static void assertSame(Strategy strategy, StreamingStrategy streaming) {
+        ChartBar chartBar = chartBar(SIZE);
+        Action[] actions = strategy.run(chartBar);
+        for (int i = 0; i < SIZE; i++) {
+            Assert.assertEquals("at " + i, actions[i], streaming.onBar(bar(chartBar, i)));
+        }
+    }
+
+    @Test
+    public void testStrategies() {
+        assertSame(TrendStrategies.MakeMovingChandeForecastOscillatorStrategy(10),
+                TrendStreamingStrategies.MovingChandeForecastOscillatorStrategy(10));
+        assertSame(TrendStrategies::DefaultKdjStrategy, TrendStreamingStrategies.DefaultKdjStrategy());
+        assertSame(TrendStrategies::MacdStrategy, TrendStreamingStrategies.MacdStrategy());
+        assertSame(TrendStrategies.MakeTrendStrategy(3), TrendStreamingStrategies.TrendStrategy(3));
+        assertSame(TrendStrategies::DefaultVwmaStrategy, TrendStreamingStrategies.DefaultVwmaStrategy());
+        assertSame(MomentumStrategies::AwesomeOscillatorStrategy, MomentumStreamingStrategies.AwesomeOscillatorStrategy());
+        assertSame(MomentumStrategies::DefaultRsiStrategy, MomentumStreamingStrategies.DefaultRsiStrategy());
+        assertSame(MomentumStrategies::Rsi2Strategy, MomentumStreamingStrategies.Rsi2Strategy());
+        assertSame(MomentumStrategies::WilliamsRStrategy, MomentumStreamingStrategies.WilliamsRStrategy());
+        assertSame(VolatilityStrategies::BollingerBandsStrategy, VolatilityStreamingStrategies.BollingerBandsStrategy());
+        assertSame(VolatilityStrategies.MakeProjectionOscillatorStrategy(14, 3),
+                VolatilityStreamingStrategies.ProjectionOscillatorStrategy(14, 3));
+        assertSame(VolumeStrategies::MoneyFlowIndexStrategy, VolumeStreamingStrategies.MoneyFlowIndexStrategy());
+        assertSame(VolumeStrategies::ForceIndexStrategy, VolumeStreamingStrategies.ForceIndexStrategy());
+        assertSame(VolumeStrategies::EaseOfMovementStrategy, VolumeStreamingStrategies.EaseOfMovementStrategy());
+        assertSame(VolumeStrategies::VolumeWeightedAveragePriceStrategy, VolumeStreamingStrategies.VolumeWeightedAveragePriceStrategy());
+        assertSame(VolumeStrategies::NegativeVolumeIndexStrategy, VolumeStreamingStrategies.NegativeVolumeIndexStrategy());
+        assertSame(VolumeStrategies::ChaikinMoneyFlowStrategy, VolumeStreamingStrategies.ChaikinMoneyFlowStrategy());
+    }
+
+    @Test
+    public void testComposite() {
+        assertSame(AllStrategy.create(TrendStrategies::MacdStrategy, MomentumStrategies::AwesomeOscillatorStrategy),
+                AllStreamingStrategy.create(TrendStreamingStrategies.MacdStrategy(), MomentumStreamingStrategies.AwesomeOscillatorStrategy()));
+        assertSame(new SeparateStrategy(TrendStrategies::MacdStrategy, MomentumStrategies::WilliamsRStrategy),
+                new SeparateStreamingStrategy(TrendStreamingStrategies.MacdStrategy(), MomentumStreamingStrategies.WilliamsRStrategy()));
+    }
+
+    @Test
+    public void testChandeForecastOscillatorStrategy() {
+        ChartBar chartBar = chartBar(60);
+        StreamingStrategy streaming = TrendStreamingStrategies.ChandeForecastOscillatorStrategy();
+        for (int i = 0; i < 60; i++) {
+            ChartBar history = new ChartBar();
+            history.datetime = Arrays.copyOf(chartBar.datetime, i + 1);
+            history.close = Arrays.copyOf(chartBar.close, i + 1);
+            Action[] actions = TrendStrategies.ChandeForecastOscillatorStrategy(history);
+            Assert.assertEquals(actions[i], streaming.onBar(bar(chartBar, i)));
+        }
+    }
+}